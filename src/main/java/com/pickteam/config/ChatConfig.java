@@ -0,0 +1,166 @@
+package com.pickteam.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 채팅 설정 구성 클래스
+ * - application.properties의 채팅 관련 설정값들을 매핑
+ * - 채팅방 멤버십 캐시 무효화 설정 관리
+ * - 메시지 지연 저장(write-behind) 설정 관리
+ * - 읽음 위치 일괄 저장 설정 관리
+ * - 메시지 검색 색인 설정 관리
+ * - 화상회의 채팅 기록 버퍼 설정 관리
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.chat")
+public class ChatConfig {
+
+    /** 채팅방 멤버십 캐시 설정 */
+    private MembershipCache membershipCache = new MembershipCache();
+
+    /** 메시지 지연 저장 설정 */
+    private WriteBehind writeBehind = new WriteBehind();
+
+    /** 읽음 위치 일괄 저장 설정 */
+    private ReadReceipt readReceipt = new ReadReceipt();
+
+    /** 메시지 검색 설정 */
+    private Search search = new Search();
+
+    /** 화상회의 채팅 기록 버퍼 설정 */
+    private VideoChatLog videoChatLog = new VideoChatLog();
+
+    /**
+     * 채팅방 멤버십 캐시 설정 내부 클래스
+     * - 다중 인스턴스에서는 멤버 변경 시 Redis 채널로 다른 노드의 캐시를 무효화한다.
+     */
+    @Getter
+    @Setter
+    public static class MembershipCache {
+        /** 노드 간 무효화 사용 여부 */
+        private boolean invalidationEnabled = false;
+
+        /** 무효화 메시지를 주고받을 Redis 채널 이름 */
+        private String invalidationChannel = "chat:membership:invalidate";
+    }
+
+    /**
+     * 메시지 지연 저장 설정 내부 클래스
+     * - SYNC가 아니면 메시지 ID를 애플리케이션에서 발급하고 즉시 알림을 보낸 뒤,
+     *   저장은 별도 스레드가 JDBC 배치 insert로 모아서 처리한다.
+     */
+    @Getter
+    @Setter
+    public static class WriteBehind {
+        /** 저장 방식 (전달 보장 수준) */
+        private WriteMode mode = WriteMode.SYNC;
+
+        /**
+         * 메시지 ID 발급용 노드 번호 (0~1023, 인스턴스마다 달라야 한다)
+         * 비어 있으면 단일 인스턴스에서만 0을 사용하고, 다중 인스턴스에서는 기동을 거부한다.
+         */
+        private Integer nodeId;
+
+        /** 다중 인스턴스 운영 여부 (true면 지연 저장 사용 시 nodeId를 반드시 지정해야 한다) */
+        private boolean clustered = false;
+
+        /** 배치 insert 한 번에 저장할 최대 메시지 수 */
+        private int batchSize = 500;
+
+        /** 배치 저장 주기 */
+        private Duration flushInterval = Duration.ofMillis(50);
+
+        /** 저장 대기 버퍼 크기 (가득 차면 전송 요청을 거절한다) */
+        private int bufferCapacity = 50_000;
+
+        /** 버퍼가 가득 찼을 때 빈 자리를 기다리는 최대 시간 */
+        private Duration offerTimeout = Duration.ofMillis(200);
+
+        /** REDIS_STREAM 모드에서 사용할 스트림 키 접두사 (실제 키: {prefix}:{nodeId}) */
+        private String streamKeyPrefix = "chat:message-stream";
+
+        /** 저장할 수 없는 메시지를 보관할 스트림 키 접두사 (실제 키: {prefix}:{nodeId}) */
+        private String deadLetterKeyPrefix = "chat:message-dead-letter";
+    }
+
+    /**
+     * 읽음 위치 일괄 저장 설정 내부 클래스
+     * - last-read-refresh 요청마다 저장하지 않고 (채팅방, 사용자)별 가장 큰 메시지 ID만 메모리에 모아
+     *   주기적으로 배치 UPDATE 한다.
+     */
+    @Getter
+    @Setter
+    public static class ReadReceipt {
+        /** 일괄 저장 사용 여부 (false면 요청마다 바로 저장, 켜면 비정상 종료 시 저장 주기만큼의 읽음 위치를 잃을 수 있다) */
+        private boolean enabled = false;
+
+        /** 읽음 위치 변경을 채팅방 멤버에게 SSE로 알릴지 여부 */
+        private boolean broadcast = false;
+
+        /** 배치 UPDATE 한 번에 저장할 최대 행 수 */
+        private int batchSize = 500;
+    }
+
+    /**
+     * 메시지 검색 설정 내부 클래스
+     * - 로컬 디스크의 Lucene 색인에 메시지를 n-gram으로 색인하고, 전송/삭제 시 증분 반영한다.
+     * - 다중 인스턴스에서는 색인 변경을 Redis 채널로 전파해 모든 노드의 색인을 맞춘다.
+     */
+    @Getter
+    @Setter
+    public static class Search {
+        /** 검색 사용 여부 */
+        private boolean enabled = false;
+
+        /** 색인 디렉터리 */
+        private String indexPath = "data/chat-search-index";
+
+        /** 한 번의 검색에서 페이지를 넘길 수 있는 최대 결과 수 */
+        private int maxResults = 1000;
+
+        /** 색인 변경을 다른 노드에 전파할지 여부 */
+        private boolean clusterSync = false;
+
+        /** 색인 변경을 주고받을 Redis 채널 이름 */
+        private String channel = "chat:search:index";
+
+        /** 재색인 시 한 번에 읽어 올 메시지 수 */
+        private int rebuildBatchSize = 1000;
+    }
+
+    /**
+     * 화상회의 채팅 기록 버퍼 설정 내부 클래스
+     * - 채널별로 최근 메시지만 고정 크기 링에 보관하고, 대화가 없는 채널의 링은 제거한다.
+     */
+    @Getter
+    @Setter
+    public static class VideoChatLog {
+        /** 채널당 보관할 최대 메시지 수 */
+        private int capacityPerRoom = 200;
+
+        /** 마지막 메시지 이후 이 시간이 지나면 채널 기록 제거 */
+        private Duration idleTtl = Duration.ofMinutes(30);
+
+        /** init 요청 시 한 번에 내려줄 기본 메시지 수 */
+        private int defaultPageSize = 50;
+    }
+
+    /**
+     * 메시지 저장 방식
+     */
+    public enum WriteMode {
+        /** 요청 트랜잭션 안에서 바로 insert (기존 방식) */
+        SYNC,
+        /** 메모리 버퍼에만 보관 후 배치 저장 - 가장 빠르지만 비정상 종료 시 미저장 메시지 유실 */
+        MEMORY,
+        /** Redis 스트림에 먼저 기록 후 배치 저장 - 재시작 시 미저장 메시지를 복구 (최소 1회 저장) */
+        REDIS_STREAM
+    }
+}
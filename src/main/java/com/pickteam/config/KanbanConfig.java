@@ -0,0 +1,51 @@
+package com.pickteam.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 칸반 설정 구성 클래스
+ * - application.properties의 칸반 관련 설정값들을 매핑
+ * - 카드/리스트 정렬 키(LexoRank) 이동 및 재배치 설정 관리
+ * - 일괄 변경(이동/담당자) 요청 크기 제한
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.kanban")
+public class KanbanConfig {
+
+    /** 정렬 키 설정 */
+    private Rank rank = new Rank();
+
+    /** 일괄 변경 설정 */
+    private Bulk bulk = new Bulk();
+
+    /**
+     * 정렬 키 설정 내부 클래스
+     * - 카드 이동은 이웃 키 사이의 새 키 하나만 쓴다 (같은 리스트 안의 이동/추가/재배치는 리스트 행 잠금으로 직렬화).
+     * - 키가 max-length보다 길어지면 그 요청 안에서 리스트(보드)의 키를 고르게 다시 배치한다.
+     */
+    @Getter
+    @Setter
+    public static class Rank {
+        /** 이 길이를 넘는 키가 있으면 재배치 대상 */
+        private int maxLength = 16;
+
+        /** 정렬 키가 없는 기존 카드/리스트의 키 채우기 주기 (밀리초) */
+        private long rebalanceIntervalMs = 60_000;
+    }
+
+    /**
+     * 일괄 변경 설정 내부 클래스
+     * - 한 요청의 작업은 하나의 트랜잭션에서 적용되고 보드의 리스트를 모두 잠그므로 요청 크기를 제한한다.
+     */
+    @Getter
+    @Setter
+    public static class Bulk {
+        /** 한 요청에 담을 수 있는 최대 작업 수 */
+        private int maxOperations = 500;
+    }
+}
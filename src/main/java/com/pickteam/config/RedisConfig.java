@@ -6,6 +6,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -14,6 +15,7 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
  * - RedisTemplate 설정
  * - JSON 직렬화/역직렬화 설정
  * - RestTemplateConfig에서 정의한 ObjectMapper 사용
+ * - Pub/Sub 리스너 컨테이너 설정
  */
 @Configuration
 public class RedisConfig {
@@ -51,4 +53,19 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    /**
+     * Redis Pub/Sub 리스너 컨테이너
+     * - 노드 간 메시지 전파(SSE 클러스터 팬아웃 등)에 사용
+     * - 각 구독자는 필요한 채널을 직접 등록한다
+     *
+     * @param connectionFactory Redis 연결 팩토리
+     * @return 리스너 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
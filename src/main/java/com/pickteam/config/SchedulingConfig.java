@@ -0,0 +1,16 @@
+package com.pickteam.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * - @Scheduled 작업 활성화 (SSE 하트비트 등)
+ * - 계정 개인정보 삭제 스케줄은 app.account.cleanup-enabled=true 로 별도 허용해야 실행된다
+ */
+@Configuration
+@EnableScheduling
+@Profile("!test") // 테스트에서는 이 설정을 제외
+public class SchedulingConfig {
+}
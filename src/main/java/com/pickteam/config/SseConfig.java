@@ -0,0 +1,138 @@
+package com.pickteam.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * SSE 설정 구성 클래스
+ * - application.properties의 SSE 관련 설정값들을 매핑
+ * - 다중 인스턴스(클러스터) 팬아웃 설정 관리
+ * - 비동기 전송(디스패처) 큐 설정 관리
+ * - 재연결 시 누락 이벤트 재전송(replay) 설정 관리
+ * - 하트비트 및 끊긴 연결 정리 설정 관리
+ * - 사용자별 이벤트 묶음 전송(coalescing) 설정 관리
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.sse")
+public class SseConfig {
+
+    /** 클러스터 팬아웃 설정 */
+    private Cluster cluster = new Cluster();
+
+    /** 비동기 전송 설정 */
+    private Dispatch dispatch = new Dispatch();
+
+    /** 재연결 재전송 설정 */
+    private Replay replay = new Replay();
+
+    /** 하트비트 설정 */
+    private Heartbeat heartbeat = new Heartbeat();
+
+    /** 이벤트 묶음 전송 설정 */
+    private Coalesce coalesce = new Coalesce();
+
+    /**
+     * 클러스터 팬아웃 설정 내부 클래스
+     * - 활성화 시 모든 SSE 이벤트를 Redis 채널로 발행하고
+     *   각 노드는 자신에게 연결된 emitter에만 전달한다.
+     */
+    @Getter
+    @Setter
+    public static class Cluster {
+        /** 클러스터 팬아웃 사용 여부 (단일 인스턴스 운영 시 false) */
+        private boolean enabled = false;
+
+        /** SSE 이벤트를 주고받을 Redis Pub/Sub 채널 이름 */
+        private String channel = "sse:broadcast";
+    }
+
+    /**
+     * 비동기 전송 설정 내부 클래스
+     * - 요청 스레드는 세션별 큐에 적재만 하고, 실제 전송은 디스패처 스레드가 담당한다.
+     */
+    @Getter
+    @Setter
+    public static class Dispatch {
+        /** 디스패처 스레드 수 */
+        private int threads = 4;
+
+        /** 세션별 전송 대기 큐 크기 */
+        private int queueCapacity = 256;
+
+        /** 큐가 가득 찼을 때의 처리 정책 */
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+    }
+
+    /**
+     * 재연결 재전송 설정 내부 클래스
+     * - 사용자별로 최근 이벤트를 메모리에 보관하고 Last-Event-ID 이후 이벤트만 다시 보낸다.
+     * - 보관 범위를 벗어난 경우 RESYNC_REQUIRED 이벤트로 전체 재조회를 요청한다.
+     */
+    @Getter
+    @Setter
+    public static class Replay {
+        /** 재전송 사용 여부 */
+        private boolean enabled = true;
+
+        /** 사용자별 보관 이벤트 수 */
+        private int capacityPerAccount = 100;
+
+        /** 이벤트 보관 시간 */
+        private Duration ttl = Duration.ofMinutes(5);
+    }
+
+    /**
+     * 하트비트 설정 내부 클래스
+     * - 일정 시간 전송이 없던 연결에 주석 프레임을 보내 끊긴 소켓을 전송 실패로 드러낸다.
+     * - 대기 이벤트가 있는데도 오래 전송되지 않는 연결은 정체로 보고 정리한다.
+     */
+    @Getter
+    @Setter
+    public static class Heartbeat {
+        /** 하트비트 사용 여부 */
+        private boolean enabled = true;
+
+        /** 이 시간 동안 전송이 없으면 하트비트 전송 */
+        private Duration interval = Duration.ofSeconds(20);
+
+        /** 대기 이벤트가 이 시간 이상 전송되지 않으면 정체된 연결로 보고 정리 */
+        private Duration staleTimeout = Duration.ofSeconds(60);
+
+        /** 한 번의 점검에서 보낼 최대 하트비트 수 (남은 연결은 다음 점검에서 처리) */
+        private int batchSize = 1000;
+    }
+
+    /**
+     * 이벤트 묶음 전송 설정 내부 클래스
+     * - 세션의 첫 이벤트 적재 후 window 동안 모인 이벤트를 하나의 batch 이벤트(배열)로 전송한다.
+     * - 채팅 폭주 시 프레임 수(직렬화/flush 횟수)를 줄이는 대신 최대 window만큼 지연이 생긴다.
+     */
+    @Getter
+    @Setter
+    public static class Coalesce {
+        /** 묶음 전송 사용 여부 */
+        private boolean enabled = false;
+
+        /** 이벤트를 모으는 시간 */
+        private Duration window = Duration.ofMillis(50);
+
+        /** batch 이벤트 하나에 담을 최대 이벤트 수 */
+        private int maxBatchSize = 100;
+    }
+
+    /**
+     * 세션 큐 초과 시 처리 정책
+     */
+    public enum OverflowPolicy {
+        /** 가장 오래된 이벤트를 버리고 새 이벤트를 적재 */
+        DROP_OLDEST,
+        /** 느린 클라이언트로 보고 연결을 끊음 (클라이언트 재연결 유도) */
+        DISCONNECT
+    }
+}
@@ -0,0 +1,89 @@
+package com.pickteam.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 화상회의 설정 구성 클래스
+ * - application.properties의 화상회의 관련 설정값들을 매핑
+ * - 화면 공유 중재 설정 관리
+ * - LiveKit 입장 토큰 캐시 설정 관리
+ * - 접속자 레지스트리(LiveKit 웹훅) 설정 관리
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.video")
+public class VideoConferenceConfig {
+
+    /** 화면 공유 중재 설정 */
+    private ScreenShare screenShare = new ScreenShare();
+
+    /** LiveKit 입장 토큰 설정 */
+    private Token token = new Token();
+
+    /** 접속자 레지스트리 설정 */
+    private Participants participants = new Participants();
+
+    /**
+     * 화면 공유 중재 설정 내부 클래스
+     * - 발표자가 중단 요청을 stopTimeout 안에 확인하지 않으면 강제로 다음 대기자에게 넘긴다.
+     * - 다중 인스턴스에서는 채널별 상태를 Redis에 두고 Lua 스크립트로 원자적으로 전이한다.
+     */
+    @Getter
+    @Setter
+    public static class ScreenShare {
+        /** Redis 공유 상태 사용 여부 (단일 인스턴스 운영 시 false) */
+        private boolean clusterEnabled = false;
+
+        /** 중단 요청 후 발표자의 확인을 기다리는 최대 시간 */
+        private Duration stopTimeout = Duration.ofSeconds(10);
+
+        /** Redis 상태 키 유지 시간 (노드가 비정상 종료해도 남은 상태가 영구히 남지 않도록) */
+        private Duration stateTtl = Duration.ofHours(12);
+    }
+
+    /**
+     * LiveKit 입장 토큰 설정 내부 클래스
+     * - 재입장이 몰려도 서명을 반복하지 않도록 (계정, 채널)별로 서명된 토큰을 잠시 재사용한다.
+     * - 캐시된 토큰을 받은 클라이언트도 충분한 유효 시간이 남도록 cacheTtl은 ttl보다 짧아야 한다.
+     */
+    @Getter
+    @Setter
+    public static class Token {
+        /** 토큰 유효 시간 */
+        private Duration ttl = Duration.ofHours(1);
+
+        /** 서명된 토큰 재사용 시간 (ttl 이상이면 ttl의 절반으로 제한) */
+        private Duration cacheTtl = Duration.ofMinutes(10);
+
+        /** 캐시 최대 항목 수 */
+        private long cacheMaximumSize = 10_000;
+    }
+
+    /**
+     * 접속자 레지스트리 설정 내부 클래스
+     * - 다중 인스턴스에서는 채널별 접속자 목록을 Redis에 두어 어느 노드에서 조회해도 같은 목록을 돌려준다.
+     * - LiveKit 퇴장 이벤트 후 reconcileDelay 동안 재접속하지 않으면 화면 공유 상태와 이벤트 순서 기록을 정리한다.
+     * - LiveKit은 웹훅을 재전송할 수 있으므로 이벤트 ID를 webhookDedupTtl 동안 기억해 중복을 무시한다.
+     */
+    @Getter
+    @Setter
+    public static class Participants {
+        /** Redis 공유 상태 사용 여부 (단일 인스턴스 운영 시 false) */
+        private boolean clusterEnabled = false;
+
+        /** Redis 상태 키 유지 시간 (퇴장 웹훅이 누락되어도 남은 접속자가 영구히 남지 않도록) */
+        private Duration stateTtl = Duration.ofHours(12);
+
+        /** 퇴장 후 정리까지 기다리는 시간 (네트워크 순단 후 재접속 허용) */
+        private Duration reconcileDelay = Duration.ofSeconds(30);
+
+        /** 처리한 웹훅 이벤트 ID 보관 시간 */
+        private Duration webhookDedupTtl = Duration.ofMinutes(10);
+    }
+}
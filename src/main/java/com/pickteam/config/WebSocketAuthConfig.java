@@ -0,0 +1,32 @@
+package com.pickteam.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * WebSocket(STOMP) 채널 접근 권한 캐시 설정 구성 클래스
+ * - (계정, 화상회의 채널) → 참여 여부를 로컬 캐시에 보관해 SEND/SUBSCRIBE마다 DB를 조회하지 않는다
+ * - 참여자 변경 시 로컬 캐시를 무효화하고, 다중 인스턴스에서는 Redis 채널로 다른 노드의 캐시도 무효화한다
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.websocket.auth")
+public class WebSocketAuthConfig {
+
+    /** 캐시 최대 항목 수 */
+    private long cacheMaximumSize = 100_000;
+
+    /** 캐시 항목 유지 시간 (무효화 메시지를 놓쳐도 이 시간 뒤에는 DB 상태를 다시 읽는다) */
+    private Duration cacheTtl = Duration.ofMinutes(5);
+
+    /** 노드 간 무효화 사용 여부 */
+    private boolean invalidationEnabled = false;
+
+    /** 무효화 메시지를 주고받을 Redis 채널 이름 */
+    private String invalidationChannel = "ws:auth:invalidate";
+}
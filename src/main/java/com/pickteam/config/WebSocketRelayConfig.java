@@ -0,0 +1,24 @@
+package com.pickteam.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * STOMP 브로커 중계 설정 구성 클래스
+ * - 단일 노드용 SimpleBroker는 같은 노드에 연결된 구독자에게만 메시지를 전달한다
+ * - 활성화 시 서버에서 보낸 /sub, /user 메시지를 Redis 채널로 중계해 모든 노드의 구독자에게 전달한다
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.websocket.relay")
+public class WebSocketRelayConfig {
+
+    /** Redis 중계 사용 여부 (단일 인스턴스 운영 시 false) */
+    private boolean enabled = false;
+
+    /** STOMP 메시지를 주고받을 Redis Pub/Sub 채널 이름 */
+    private String channel = "ws:broker:relay";
+}
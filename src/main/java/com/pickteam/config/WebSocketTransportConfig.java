@@ -0,0 +1,71 @@
+package com.pickteam.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * WebSocket(STOMP) 전송 설정 구성 클래스
+ * - 클라이언트 수신/송신 채널 스레드 풀 크기와 대기 큐 상한 관리
+ * - 세션별 송신 시간/버퍼 상한 관리: 느린 클라이언트는 상한을 넘으면 연결을 끊어 다른 세션의 송신 스레드를 붙잡지 않게 한다
+ * - 메시지 크기 상한 관리
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.websocket.transport")
+public class WebSocketTransportConfig {
+
+    private static final int PROCESSORS = Runtime.getRuntime().availableProcessors();
+
+    /** 클라이언트 → 서버 메시지 처리 채널 (인증 인터셉터, @MessageMapping 실행) */
+    private ChannelExecutor inbound = new ChannelExecutor(PROCESSORS * 2, PROCESSORS * 4, 10_000);
+
+    /** 서버 → 클라이언트 메시지 송신 채널 (소켓 쓰기) */
+    private ChannelExecutor outbound = new ChannelExecutor(PROCESSORS * 2, PROCESSORS * 8, 10_000);
+
+    /** 한 세션에 대한 송신이 이 시간을 넘기면 연결 종료 */
+    private Duration sendTimeLimit = Duration.ofSeconds(5);
+
+    /** 송신 중일 때 세션별로 쌓아 둘 수 있는 최대 버퍼 크기 (넘으면 연결 종료) */
+    private DataSize sendBufferSizeLimit = DataSize.ofKilobytes(256);
+
+    /** 수신 STOMP 메시지 최대 크기 */
+    private DataSize messageSizeLimit = DataSize.ofKilobytes(64);
+
+    /** 연결 후 첫 메시지(CONNECT)를 기다리는 최대 시간 */
+    private Duration timeToFirstMessage = Duration.ofSeconds(30);
+
+    /**
+     * 채널 스레드 풀 설정 내부 클래스
+     * - 대기 큐가 가득 찬 뒤에만 maxPoolSize까지 스레드를 늘린다 (ThreadPoolExecutor 규칙)
+     */
+    @Getter
+    @Setter
+    public static class ChannelExecutor {
+        /** 기본 스레드 수 */
+        private int corePoolSize;
+
+        /** 최대 스레드 수 */
+        private int maxPoolSize;
+
+        /** 대기 큐 크기 (무제한 큐로 메모리가 늘어나는 것을 막는다) */
+        private int queueCapacity;
+
+        /** 기본 스레드 수를 넘는 유휴 스레드 유지 시간 */
+        private Duration keepAlive = Duration.ofSeconds(60);
+
+        public ChannelExecutor() {
+        }
+
+        public ChannelExecutor(int corePoolSize, int maxPoolSize, int queueCapacity) {
+            this.corePoolSize = corePoolSize;
+            this.maxPoolSize = maxPoolSize;
+            this.queueCapacity = queueCapacity;
+        }
+    }
+}
@@ -1,11 +1,10 @@
 package com.pickteam.config.websocket;
 
-import com.pickteam.domain.videochat.VideoMember;
 import com.pickteam.exception.VideoConferenceException;
 import com.pickteam.exception.WebSocketChatErrorCode;
 import com.pickteam.exception.WebSocketChatException;
-import com.pickteam.repository.VideoMemberRepository;
 import com.pickteam.security.UserPrincipal;
+import com.pickteam.service.VideoChannelAccessCache;
 import com.pickteam.service.VideoConferenceService;
 import com.pickteam.service.VideoConferenceServiceImpl;
 import lombok.RequiredArgsConstructor;
@@ -27,17 +26,20 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @RequiredArgsConstructor
 @Component
 public class AuthChannelInterceptor implements ChannelInterceptor {
 
 
-    private Map<String, Long> sessionChannelAccessCache = new ConcurrentHashMap<>();
+    // 목적지 마지막 경로 조각의 채널 ID (/pub/chat/{id}, /sub/video/{id} 등)
+    private static final Pattern CHANNEL_ID = Pattern.compile("/(\\d{1,18})$");
 
 
     private final VideoConferenceService videoConferenceService;
-    private final VideoMemberRepository videoMemberRepository;
+    private final VideoChannelAccessCache videoChannelAccessCache;
 
 
     @Override
@@ -49,40 +51,43 @@ public class AuthChannelInterceptor implements ChannelInterceptor {
 
             String sessionId = accessor.getSessionId();
 
-            String[] dest = accessor.getDestination().split("/");
-            String destChannelId = dest[dest.length - 1];
-            if (!destChannelId.chars().allMatch(Character::isDigit)) {
+            Long channelId = parseChannelId(accessor.getDestination());
+            if (channelId == null) {
                 throw new WebSocketChatException(WebSocketChatErrorCode.INVALID_CHANNEL);
             }
-            if (sessionChannelAccessCache.containsKey(sessionId)) {
-                Long authorizedChannelId = sessionChannelAccessCache.get(sessionId);
-                if (authorizedChannelId.equals(Long.parseLong(destChannelId))) {
-                    return message;
-                }
+            if (videoChannelAccessCache.isAuthorizedInSession(sessionId, channelId)) {
+                return message;
             }
             UserPrincipal userPrincipal = ((UserPrincipal) ((Authentication) accessor.getUser()).getPrincipal());
 
-            VideoMember vm = videoMemberRepository.findByAccountIdAndVideoChannelId(userPrincipal.getId(), Long.parseLong(destChannelId));
+            Long videoMemberId = videoChannelAccessCache.authorize(sessionId, userPrincipal.getId(), channelId);
 
-            if (vm == null) {
+            if (videoMemberId == null) {
                 throw new WebSocketChatException(WebSocketChatErrorCode.CANNOT_ACCESS_CHANNEL);
             }
             Map<String, Object> attrs = accessor.getSessionAttributes();
             if (attrs != null) {
 
-                attrs.put("videoMemberId", vm.getId());
-                attrs.put("videoChannelId", Long.parseLong(destChannelId));
+                attrs.put("videoMemberId", videoMemberId);
+                attrs.put("videoChannelId", channelId);
             }
-            sessionChannelAccessCache.put(sessionId, Long.parseLong(destChannelId));
         }
         return message;
     }
 
+    static Long parseChannelId(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = CHANNEL_ID.matcher(destination);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : null;
+    }
+
     @EventListener
     public void handleSessionDisconnect(SessionDisconnectEvent event) throws VideoConferenceException {
         StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(
                 event.getMessage(), StompHeaderAccessor.class);
-        sessionChannelAccessCache.remove(accessor.getSessionId());
+        videoChannelAccessCache.sessionClosed(accessor.getSessionId());
         Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
         Long vmId = (Long)sessionAttributes.get("videoMemberId");
         Long vcId = (Long)sessionAttributes.get("videoChannelId");
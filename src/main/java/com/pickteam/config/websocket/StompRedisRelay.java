@@ -0,0 +1,165 @@
+package com.pickteam.config.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pickteam.config.WebSocketRelayConfig;
+import com.pickteam.dto.websocket.StompRelayMessage;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * STOMP 브로커 Redis 중계
+ * - brokerChannel 인터셉터로 서버가 보낸 메시지(SimpMessagingTemplate, @SendTo)를 Redis 채널에 발행한다
+ * - 다른 노드는 받은 메시지를 자기 brokerChannel에 다시 넣어 로컬 SimpleBroker/사용자 목적지 처리기로 전달한다
+ * - /user/{사용자}/... 메시지는 각 노드가 자기에게 연결된 세션으로만 해석하므로 사용자가 어느 노드에 있어도 전달된다
+ * - 세션 단위로 이미 해석된 메시지와 중계받은 메시지는 다시 발행하지 않는다
+ * - 세션 ID가 지정된 /user 메시지는 그 세션이 연결된 발행 노드에서만 전달한다
+ */
+@Slf4j
+@Component
+public class StompRedisRelay implements ChannelInterceptor, MessageListener {
+
+    /** 다른 노드에서 중계받은 메시지 표시 헤더 */
+    static final String RELAYED_HEADER = "pickteamRelayed";
+
+    private static final String BROKER_PREFIX = "/sub/";
+    private static final String USER_PREFIX = "/user/";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final WebSocketRelayConfig relayConfig;
+    private final MessageChannel brokerChannel;
+
+    /** 이 JVM 인스턴스의 식별자 (자기 메시지 필터링용) */
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // brokerChannel은 WebSocketConfig가 이 인터셉터를 등록하면서 만들어지므로 지연 주입한다
+    public StompRedisRelay(StringRedisTemplate redisTemplate,
+                           RedisMessageListenerContainer listenerContainer,
+                           ObjectMapper objectMapper,
+                           WebSocketRelayConfig relayConfig,
+                           @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.relayConfig = relayConfig;
+        this.brokerChannel = brokerChannel;
+    }
+
+    public boolean isEnabled() {
+        return relayConfig.isEnabled();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (!isEnabled()) {
+            return;
+        }
+        listenerContainer.addMessageListener(this, new ChannelTopic(relayConfig.getChannel()));
+        log.info("📡 STOMP 브로커 중계 구독 시작: channel={}, nodeId={}", relayConfig.getChannel(), nodeId);
+    }
+
+    /**
+     * brokerChannel로 들어온 서버 메시지를 다른 노드로 발행 (로컬 전달은 그대로 진행)
+     */
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (isEnabled() && shouldRelay(message)) {
+            publish(message);
+        }
+        return message;
+    }
+
+    private boolean shouldRelay(Message<?> message) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE
+                || accessor.getHeader(RELAYED_HEADER) != null
+                // 사용자 목적지 처리기가 세션별로 해석한 메시지 (원본 /user 메시지가 이미 중계됨)
+                || accessor.getHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION) != null
+                || !(message.getPayload() instanceof byte[])) {
+            return false;
+        }
+        String destination = accessor.getDestination();
+        if (destination == null) {
+            return false;
+        }
+        if (destination.startsWith(USER_PREFIX)) {
+            // 특정 세션에만 보내는 메시지 (예: 채팅 초기 페이지) - 세션은 보낸 노드에 연결되어 있으므로 중계하지 않는다
+            // (다른 노드는 그 세션을 모르므로 사용자의 모든 세션으로 전달해 버린다)
+            return accessor.getSessionId() == null;
+        }
+        return destination.startsWith(BROKER_PREFIX);
+    }
+
+    private void publish(Message<?> message) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        MimeType contentType = accessor.getContentType();
+        StompRelayMessage relayMessage = StompRelayMessage.builder()
+                .originNodeId(nodeId)
+                .destination(accessor.getDestination())
+                .contentType(contentType != null ? contentType.toString() : null)
+                .payload((byte[]) message.getPayload())
+                .build();
+        try {
+            redisTemplate.convertAndSend(relayConfig.getChannel(), objectMapper.writeValueAsString(relayMessage));
+        } catch (JsonProcessingException e) {
+            log.warn("⚠️ STOMP 중계 메시지 직렬화 실패: destination={}", relayMessage.getDestination(), e);
+        } catch (RuntimeException e) {
+            // Redis 장애 시에도 로컬 구독자 전달은 막지 않는다
+            log.warn("⚠️ STOMP 중계 발행 실패: destination={}, error={}", relayMessage.getDestination(), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드가 발행한 메시지를 로컬 brokerChannel로 전달
+     */
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+        StompRelayMessage relayMessage;
+        try {
+            relayMessage = objectMapper.readValue(message.getBody(), StompRelayMessage.class);
+        } catch (IOException e) {
+            log.warn("⚠️ STOMP 중계 메시지 역직렬화 실패", e);
+            return;
+        }
+
+        // 자신이 발행한 메시지는 이미 로컬 전달이 끝났으므로 무시
+        if (nodeId.equals(relayMessage.getOriginNodeId())) {
+            return;
+        }
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setDestination(relayMessage.getDestination());
+        if (relayMessage.getContentType() != null) {
+            accessor.setContentType(MimeType.valueOf(relayMessage.getContentType()));
+        }
+        accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+
+        try {
+            brokerChannel.send(MessageBuilder.createMessage(relayMessage.getPayload(), accessor.getMessageHeaders()));
+        } catch (RuntimeException e) {
+            log.warn("⚠️ STOMP 중계 메시지 전달 실패: destination={}, error={}",
+                    relayMessage.getDestination(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.pickteam.config.websocket;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+import org.springframework.web.socket.messaging.StompSubProtocolHandler;
+import org.springframework.web.socket.messaging.SubProtocolWebSocketHandler;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * STOMP 채널 지표
+ * - 수신/송신 채널 스레드 풀의 대기 큐 깊이와 활성 스레드 수를 조회한다
+ * - 송신 큐가 계속 쌓이면 느린 클라이언트가 송신 스레드를 붙잡고 있다는 신호다
+ */
+@Component
+public class WebSocketChannelMetrics {
+
+    private final Executor inboundExecutor;
+    private final Executor outboundExecutor;
+    private final WebSocketMessageBrokerStats brokerStats;
+
+    public WebSocketChannelMetrics(@Qualifier("clientInboundChannelExecutor") Executor inboundExecutor,
+                                   @Qualifier("clientOutboundChannelExecutor") Executor outboundExecutor,
+                                   WebSocketMessageBrokerStats brokerStats) {
+        this.inboundExecutor = inboundExecutor;
+        this.outboundExecutor = outboundExecutor;
+        this.brokerStats = brokerStats;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("inbound", executorStats(inboundExecutor));
+        stats.put("outbound", executorStats(outboundExecutor));
+        stats.put("sessions", sessionStats(brokerStats.getWebSocketSessionStats()));
+        stats.put("stompSubProtocol", stompStats(brokerStats.getStompSubProtocolStats()));
+        return stats;
+    }
+
+    static Map<String, Object> sessionStats(SubProtocolWebSocketHandler.Stats sessions) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        if (sessions == null) {
+            return stats;
+        }
+        stats.put("total", sessions.getTotalSessions());
+        stats.put("webSocket", sessions.getWebSocketSessions());
+        stats.put("httpStreaming", sessions.getHttpStreamingSessions());
+        stats.put("httpPolling", sessions.getHttpPollingSessions());
+        stats.put("limitExceeded", sessions.getLimitExceededSessions());
+        stats.put("noMessagesReceived", sessions.getNoMessagesReceivedSessions());
+        stats.put("transportError", sessions.getTransportErrorSessions());
+        return stats;
+    }
+
+    static Map<String, Object> stompStats(StompSubProtocolHandler.Stats stomp) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        if (stomp == null) {
+            return stats;
+        }
+        stats.put("connect", stomp.getTotalConnect());
+        stats.put("connected", stomp.getTotalConnected());
+        stats.put("disconnect", stomp.getTotalDisconnect());
+        return stats;
+    }
+
+    static Map<String, Object> executorStats(Executor executor) {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        if (!(executor instanceof ThreadPoolTaskExecutor taskExecutor)) {
+            stats.put("type", executor.getClass().getSimpleName());
+            return stats;
+        }
+        ThreadPoolExecutor pool = taskExecutor.getThreadPoolExecutor();
+        stats.put("poolSize", pool.getPoolSize());
+        stats.put("activeThreads", pool.getActiveCount());
+        stats.put("maxPoolSize", pool.getMaximumPoolSize());
+        stats.put("queueDepth", pool.getQueue().size());
+        stats.put("queueRemainingCapacity", pool.getQueue().remainingCapacity());
+        stats.put("completedTasks", pool.getCompletedTaskCount());
+        return stats;
+    }
+}
@@ -1,9 +1,11 @@
 package com.pickteam.config.websocket;
 
+import com.pickteam.config.WebSocketTransportConfig;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
@@ -21,6 +23,12 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Autowired
     AuthHandshakeInterceptor authHandshakeInterceptor;
 
+    @Autowired
+    StompRedisRelay stompRedisRelay;
+
+    @Autowired
+    WebSocketTransportConfig transportConfig;
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws").addInterceptors(authHandshakeInterceptor).setHandshakeHandler(authHandler).setAllowedOriginPatterns("*");//.withSockJS();
@@ -32,11 +40,40 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.setUserDestinationPrefix("/user");
         registry.enableSimpleBroker("/sub");
 
+        // 다중 인스턴스: 서버가 보낸 메시지를 Redis로 중계해 다른 노드의 구독자에게도 전달
+        if (stompRedisRelay.isEnabled()) {
+            registry.configureBrokerChannel().interceptors(stompRedisRelay);
+        }
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(authChannelInterceptor);
+        applyExecutor(registration, transportConfig.getInbound());
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        applyExecutor(registration, transportConfig.getOutbound());
+    }
+
+    /**
+     * 세션별 송신 상한 - 느린 클라이언트가 상한을 넘기면 해당 세션만 끊어 다른 세션 송신이 밀리지 않게 한다
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit((int) transportConfig.getSendTimeLimit().toMillis())
+                .setSendBufferSizeLimit((int) transportConfig.getSendBufferSizeLimit().toBytes())
+                .setMessageSizeLimit((int) transportConfig.getMessageSizeLimit().toBytes())
+                .setTimeToFirstMessage((int) transportConfig.getTimeToFirstMessage().toMillis());
+    }
+
+    private void applyExecutor(ChannelRegistration registration, WebSocketTransportConfig.ChannelExecutor executor) {
+        registration.taskExecutor()
+                .corePoolSize(executor.getCorePoolSize())
+                .maxPoolSize(Math.max(executor.getCorePoolSize(), executor.getMaxPoolSize()))
+                .queueCapacity(executor.getQueueCapacity())
+                .keepAliveSeconds((int) executor.getKeepAlive().toSeconds());
     }
 
 }
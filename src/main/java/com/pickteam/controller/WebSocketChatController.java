@@ -3,31 +3,34 @@ package com.pickteam.controller;
 
 import com.pickteam.dto.WebSocketChatDTO;
 import com.pickteam.security.UserPrincipal;
+import com.pickteam.service.VideoChatLogBuffer;
+import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.stereotype.Controller;
 
 import java.security.Principal;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Controller
+@RequiredArgsConstructor
 public class WebSocketChatController {
-    private Map<Long, List<WebSocketChatDTO>> chatLogs = new ConcurrentHashMap<>();
+    private final VideoChatLogBuffer chatLogBuffer;
+    private final SimpMessageSendingOperations messagingTemplate;
 
     @MessageMapping("/chat/{roomId}")
     @SendTo("/sub/chat/{roomId}")
-    public WebSocketChatDTO send(WebSocketChatDTO msg, Principal principal,@DestinationVariable Long roomId) {
+    public WebSocketChatDTO send(WebSocketChatDTO msg, Principal principal, @DestinationVariable Long roomId,
+                                 SimpMessageHeaderAccessor headerAccessor) {
         if ("init".equals(msg.getType())) {
-            System.out.println("여기 오니??");
-            WebSocketChatDTO chat = new WebSocketChatDTO();
-            chat.setLogs(chatLogs.get(roomId) == null ? new ArrayList<>() : chatLogs.get(roomId));
-            chat.setType("init");
-            return chat;
+            // before/size로 이전 기록을 나눠 조회 - 요청한 세션에만 전송 (/user/sub/chat/{roomId})
+            sendToSession(principal, headerAccessor.getSessionId(), "/sub/chat/" + roomId,
+                    chatLogBuffer.page(roomId, msg.getBefore(), msg.getSize()));
+            return null;
         }
         UserPrincipal principalUser = (UserPrincipal) ((UsernamePasswordAuthenticationToken) principal).getPrincipal();
 
@@ -35,10 +38,13 @@ public class WebSocketChatController {
         msg.setSenderEmail(principalUser.getEmail());
         msg.setSenderName(principalUser.getName());
 
-        if (!chatLogs.containsKey(roomId)) {
-            chatLogs.put(roomId, new ArrayList<>());
-        }
-        chatLogs.get(roomId).add(msg);
-        return msg;
+        return chatLogBuffer.append(roomId, msg);
+    }
+
+    private void sendToSession(Principal principal, String sessionId, String destination, Object payload) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setLeaveMutable(true);
+        messagingTemplate.convertAndSendToUser(principal.getName(), destination, payload, headers.getMessageHeaders());
     }
 }
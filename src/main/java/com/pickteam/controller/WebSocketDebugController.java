@@ -0,0 +1,66 @@
+package com.pickteam.controller;
+
+import com.pickteam.config.websocket.WebSocketChannelMetrics;
+import com.pickteam.service.LiveKitWebhookHandler;
+import com.pickteam.service.ScreenShareArbiter;
+import com.pickteam.service.VideoChannelAccessCache;
+import com.pickteam.service.VideoConferenceTokenCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/websocket")
+@RequiredArgsConstructor
+public class WebSocketDebugController {
+
+    private final WebSocketChannelMetrics channelMetrics;
+    private final VideoChannelAccessCache videoChannelAccessCache;
+    private final ScreenShareArbiter screenShareArbiter;
+    private final VideoConferenceTokenCache videoConferenceTokenCache;
+    private final LiveKitWebhookHandler liveKitWebhookHandler;
+
+    /**
+     * STOMP 채널 지표 API (수신/송신 대기 큐 깊이, 활성 스레드 수, 세션 통계)
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<Map<String, Object>> getChannelMetrics() {
+        return ResponseEntity.ok(channelMetrics.getStats());
+    }
+
+    /**
+     * 화상회의 채널 접근 권한 캐시 지표 API (세션/공용 캐시 적중, DB 조회, 무효화 횟수)
+     */
+    @GetMapping("/auth-cache/metrics")
+    public ResponseEntity<Map<String, Object>> getAuthCacheMetrics() {
+        return ResponseEntity.ok(videoChannelAccessCache.getStats());
+    }
+
+    /**
+     * 화면 공유 중재 지표 API (승인, 중단 요청, 시간 초과로 인한 강제 중단 횟수)
+     */
+    @GetMapping("/screen-share/metrics")
+    public ResponseEntity<Map<String, Object>> getScreenShareMetrics() {
+        return ResponseEntity.ok(screenShareArbiter.getStats());
+    }
+
+    /**
+     * LiveKit 입장 토큰 캐시 지표 API (재사용/새 서명 횟수)
+     */
+    @GetMapping("/video-token/metrics")
+    public ResponseEntity<Map<String, Object>> getVideoTokenMetrics() {
+        return ResponseEntity.ok(videoConferenceTokenCache.getStats());
+    }
+
+    /**
+     * 화상회의 접속자 레지스트리 지표 API (웹훅 수신/중복, 입장/퇴장, DB 정리 현황)
+     */
+    @GetMapping("/video-participants/metrics")
+    public ResponseEntity<Map<String, Object>> getVideoParticipantMetrics() {
+        return ResponseEntity.ok(liveKitWebhookHandler.getStats());
+    }
+}
@@ -0,0 +1,36 @@
+package com.pickteam.controller.chat;
+
+import com.pickteam.service.chat.ChatMessageWriteBehindWriter;
+import com.pickteam.service.chat.ChatReadReceiptAggregator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/chat")
+@RequiredArgsConstructor
+public class ChatDebugController {
+
+    private final ChatMessageWriteBehindWriter messageWriter;
+    private final ChatReadReceiptAggregator readReceiptAggregator;
+
+    /**
+     * 메시지 지연 저장 지표 API (대기 메시지 수, 배치 저장 횟수, 초당 저장 처리량)
+     */
+    @GetMapping("/write-behind/metrics")
+    public ResponseEntity<Map<String, Object>> getWriteBehindStats() {
+        return ResponseEntity.ok(messageWriter.getStats());
+    }
+
+    /**
+     * 읽음 위치 일괄 저장 지표 API (읽음 요청 수 대비 실제 UPDATE 행 수)
+     */
+    @GetMapping("/read-receipts/metrics")
+    public ResponseEntity<Map<String, Object>> getReadReceiptStats() {
+        return ResponseEntity.ok(readReceiptAggregator.getStats());
+    }
+}
@@ -6,8 +6,10 @@ import com.pickteam.dto.ApiResponse;
 import com.pickteam.dto.chat.*;
 import com.pickteam.security.UserPrincipal;
 import com.pickteam.service.chat.ChatMemberService;
+import com.pickteam.service.chat.ChatMessageSearchService;
 import com.pickteam.service.chat.ChatMessageService;
 import com.pickteam.service.chat.ChatRoomService;
+import com.pickteam.service.chat.ChatUnreadCountService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -19,6 +21,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/workspaces/{workspaceId}/chat-rooms")
@@ -28,6 +31,8 @@ public class ChatRoomController {
     private final ChatRoomService chatRoomService;
     private final ChatMessageService chatMessageService;
     private final ChatMemberService chatMemberService;
+    private final ChatUnreadCountService chatUnreadCountService;
+    private final ChatMessageSearchService chatMessageSearchService;
 
 
     /**
@@ -117,6 +122,58 @@ public class ChatRoomController {
     }
 
 
+    /**
+     * 커서(메시지 ID) 기준으로 메시지를 조회합니다. 전체 개수는 계산하지 않습니다.
+     * before/after를 모두 생략하면 최신 메시지를 조회합니다.
+     *
+     * @param chatRoomId 채팅방 ID
+     * @param before     이 메시지 ID보다 오래된 메시지 조회 (이전 응답의 prevCursor)
+     * @param after      이 메시지 ID보다 최신 메시지 조회 (이전 응답의 nextCursor)
+     * @param size       조회할 메시지 수 (최대 100)
+     * @return ID 오름차순 메시지 목록과 커서
+     */
+    @GetMapping("/{chatRoomId}/messages/cursor")
+    public ResponseEntity<ChatMessageCursorResponse> getMessagesByCursor(
+            @PathVariable Long chatRoomId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        ChatMessageCursorResponse messages = chatMessageService.getMessagesByCursor(chatRoomId, before, after, size);
+        return ResponseEntity.ok(messages);
+    }
+
+
+    /**
+     * 참여 중인 채팅방의 메시지를 검색합니다.
+     *
+     * @param workspaceId 워크스페이스 ID
+     * @param account     인증된 사용자 정보
+     * @param keyword     검색어
+     * @param chatRoomId  특정 채팅방으로 제한 (생략하면 참여 중인 모든 채팅방)
+     * @param senderId    보낸 사람으로 제한
+     * @param sort        정렬 (RELEVANCE: 관련도순, RECENT: 최신순)
+     * @param page        페이지 번호 (0부터)
+     * @param size        페이지 크기 (최대 100)
+     * @return 검색된 메시지 목록
+     */
+    @GetMapping("/messages/search")
+    public ResponseEntity<ApiResponse<ChatMessageSearchResponse>> searchMessages(
+            @PathVariable Long workspaceId,
+            @AuthenticationPrincipal UserPrincipal account,
+            @RequestParam String keyword,
+            @RequestParam(required = false) Long chatRoomId,
+            @RequestParam(required = false) Long senderId,
+            @RequestParam(defaultValue = "RELEVANCE") ChatMessageSearchService.SortOrder sort,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        ChatMessageSearchResponse response = chatMessageSearchService.search(
+                workspaceId, account.getId(), keyword, chatRoomId, senderId, sort, page, size);
+        return ResponseEntity.ok(ApiResponse.success("메시지 검색 성공", response));
+    }
+
+
     /**
      * 새 메시지를 전송합니다.
      *
@@ -228,7 +285,7 @@ public class ChatRoomController {
     }
 
     /**
-     * 내가 참여한 채팅방 목록을 조회합니다.
+     * 내가 참여한 채팅방 목록을 조회합니다. 채팅방별 안 읽은 메시지 수를 함께 반환합니다.
      *
      * @param accountId 사용자 ID
      * @return 참여 중인 채팅방 목록
@@ -238,8 +295,15 @@ public class ChatRoomController {
             @PathVariable Long accountId
     ) {
         List<ChatRoom> chatRooms = chatMemberService.getChatRoomsByMember(accountId);
+        Map<Long, Long> unreadCounts = chatUnreadCountService.getUnreadCounts(
+                accountId, chatRooms.stream().map(ChatRoom::getId).toList());
+
         List<ChatRoomResponse> response = chatRooms.stream()
-                .map(ChatRoomResponse::from)
+                .map(chatRoom -> {
+                    ChatRoomResponse room = ChatRoomResponse.from(chatRoom);
+                    room.setUnreadCount(unreadCounts.getOrDefault(chatRoom.getId(), 0L));
+                    return room;
+                })
                 .toList();
 
         return ResponseEntity.ok(ApiResponse.success("참여 중인 채팅방 조회 성공", response));
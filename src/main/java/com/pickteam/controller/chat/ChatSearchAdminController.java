@@ -0,0 +1,39 @@
+package com.pickteam.controller.chat;
+
+import com.pickteam.dto.ApiResponse;
+import com.pickteam.service.chat.ChatMessageSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/chat-search")
+@RequiredArgsConstructor
+public class ChatSearchAdminController {
+
+    private final ChatMessageSearchService chatMessageSearchService;
+
+    /**
+     * 채팅 메시지 검색 색인을 DB 기준으로 다시 만듭니다. (백그라운드 실행)
+     *
+     * @return 재색인 시작 여부 (이미 진행 중이면 false)
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<Boolean>> rebuild() {
+        boolean started = chatMessageSearchService.rebuild();
+        return ResponseEntity.ok(ApiResponse.success(started ? "재색인 시작" : "재색인이 이미 진행 중입니다", started));
+    }
+
+    /**
+     * 검색 색인 상태 (색인된 메시지 수, 재색인 진행 여부)
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        return ResponseEntity.ok(chatMessageSearchService.getStats());
+    }
+}
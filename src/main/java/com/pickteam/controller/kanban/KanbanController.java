@@ -39,6 +39,26 @@ public class KanbanController {
         return ResponseEntity.ok(ApiResponse.success("칸반 보드를 조회했습니다.", kanban));
     }
 
+    // 칸반 보드 요약 조회 - 카드 목록만 (상세는 /tasks/{taskId}, 댓글은 /tasks/{taskId}/comments)
+    @GetMapping("/team/{teamId}/summary")
+    public ResponseEntity<ApiResponse<KanbanSummaryDto>> getKanbanSummaryByTeamId(
+            @PathVariable Long teamId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        KanbanSummaryDto kanban = kanbanService.getKanbanSummaryByTeamId(teamId);
+        return ResponseEntity.ok(ApiResponse.success("칸반 보드 요약을 조회했습니다.", kanban));
+    }
+
+    // 칸반 태스크 상세 조회 - /tasks/{taskId} GET
+    @GetMapping("/tasks/{taskId}")
+    public ResponseEntity<ApiResponse<KanbanTaskDto>> getTask(
+            @PathVariable Long taskId,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        KanbanTaskDto task = kanbanService.getKanbanTask(taskId);
+        return ResponseEntity.ok(ApiResponse.success("칸반 태스크를 조회했습니다.", task));
+    }
+
     @PostMapping("/tasks")
     public ResponseEntity<ApiResponse<KanbanTaskDto>> createTask(
             @Valid @RequestBody KanbanTaskCreateRequest request,
@@ -58,6 +78,28 @@ public class KanbanController {
         return ResponseEntity.ok(ApiResponse.success("칸반 태스크가 수정되었습니다.", task));
     }
 
+    // 카드 이동 (드래그 앤 드롭) - /tasks/{taskId}/move PUT
+    @PutMapping("/tasks/{taskId}/move")
+    public ResponseEntity<ApiResponse<KanbanTaskDto>> moveTask(
+            @PathVariable Long taskId,
+            @Valid @RequestBody KanbanTaskMoveRequest request,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        KanbanTaskDto task = kanbanService.moveKanbanTask(taskId, request);
+        return ResponseEntity.ok(ApiResponse.success("칸반 태스크가 이동되었습니다.", task));
+    }
+
+    // 일괄 변경 (카드/리스트 이동, 담당자 변경) - /{kanbanId}/bulk POST
+    @PostMapping("/{kanbanId}/bulk")
+    public ResponseEntity<ApiResponse<KanbanBulkResultDto>> applyBulk(
+            @PathVariable Long kanbanId,
+            @Valid @RequestBody KanbanBulkRequest request,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        KanbanBulkResultDto result = kanbanService.applyBulk(kanbanId, request);
+        return ResponseEntity.ok(ApiResponse.success("칸반 일괄 변경이 적용되었습니다.", result));
+    }
+
     @DeleteMapping("/tasks/{taskId}")
     public ResponseEntity<ApiResponse<Void>> deleteTask(
             @PathVariable Long taskId,
@@ -135,6 +177,17 @@ public class KanbanController {
         return ResponseEntity.ok(ApiResponse.success("리스트가 수정되었습니다.", kanbanList));
     }
     
+    // 리스트 이동 (드래그 앤 드롭) - /lists/{listId}/move PUT
+    @PutMapping("/lists/{listId}/move")
+    public ResponseEntity<ApiResponse<KanbanListDto>> moveList(
+            @PathVariable Long listId,
+            @Valid @RequestBody KanbanListMoveRequest request,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        KanbanListDto list = kanbanService.moveKanbanList(listId, request);
+        return ResponseEntity.ok(ApiResponse.success("칸반 리스트가 이동되었습니다.", list));
+    }
+
     // 칸반 리스트 삭제 - /lists/{listId} DELETE
     @DeleteMapping("/lists/{listId}")
     public ResponseEntity<ApiResponse<Void>> deleteList(
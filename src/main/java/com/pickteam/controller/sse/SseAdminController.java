@@ -0,0 +1,26 @@
+package com.pickteam.controller.sse;
+
+import com.pickteam.service.sse.SseService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/sse")
+@RequiredArgsConstructor
+public class SseAdminController {
+
+    private final SseService sseService;
+
+    /**
+     * SSE 연결 지표 API (활성 emitter/사용자 수, 분당 정리 수)
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<Map<String, Object>> getConnectionGauges() {
+        return ResponseEntity.ok(sseService.getConnectionGauges());
+    }
+}
@@ -1,6 +1,8 @@
 package com.pickteam.controller.sse;
 
-import com.pickteam.domain.user.Account;
+import com.pickteam.dto.ApiResponse;
+import com.pickteam.dto.sse.SseTicketResponse;
+import com.pickteam.exception.auth.UnauthorizedException;
 import com.pickteam.repository.sse.SseSessionRepository;
 import com.pickteam.security.UserPrincipal;
 import com.pickteam.service.sse.SseService;
@@ -10,12 +12,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.Optional;
-
 @RestController
 @RequestMapping("/api/sse")
 @RequiredArgsConstructor
@@ -26,33 +28,49 @@ public class SseController {
     private final SseSessionRepository sseSessionRepository;
 
     /**
-     * Step 1: 사용자 인증 후 SSE 연결 준비 등록
+     * Step 1: 사용자 인증 후 일회용 구독 티켓 발급
      */
     @PostMapping("/register")
-    public ResponseEntity<Void> register(@AuthenticationPrincipal UserPrincipal account) {
+    public ResponseEntity<ApiResponse<SseTicketResponse>> register(@AuthenticationPrincipal UserPrincipal account) {
         Long accountId = account.getId();
-        sseSessionRepository.savePrepared(accountId);
-        log.info("🔐 SSE 등록 완료: accountId={}", accountId);
-        return ResponseEntity.ok().build();
+        String ticket = sseSessionRepository.issueTicket(accountId);
+        log.info("🔐 SSE 티켓 발급 완료: accountId={}", accountId);
+        return ResponseEntity.ok(ApiResponse.success("SSE 티켓 발급 성공",
+                new SseTicketResponse(ticket, SseSessionRepository.TICKET_TTL.toSeconds())));
     }
 
     /**
-     * Step 2: 실제 SSE 연결 (토큰 없이 호출됨)
+     * Step 2: 실제 SSE 연결 (EventSource는 헤더를 보낼 수 없으므로 티켓으로 인증)
+     * 재연결 시 Last-Event-ID 헤더(또는 lastEventId 파라미터) 이후 누락된 이벤트만 재전송한다.
+     * 새 티켓으로 EventSource를 다시 만들면 브라우저가 헤더를 보내지 않으므로 파라미터도 지원한다.
      */
     @GetMapping("/subscribe")
-    public SseEmitter subscribe() {
+    public SseEmitter subscribe(@RequestParam String ticket,
+                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+                                @RequestParam(value = "lastEventId", required = false) String lastEventIdParam) {
         log.debug("🔍 SSE subscribe 요청 시작");
+
+        Long accountId = sseSessionRepository.redeemTicket(ticket)
+                .orElseThrow(() -> {
+                    log.warn("❌ 유효하지 않은 SSE 티켓으로 구독 시도");
+                    return new UnauthorizedException("유효하지 않거나 만료된 SSE 티켓입니다.");
+                });
+
+        Long lastEventId = parseLastEventId(lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam);
+        log.info("🔗 SSE 연결 시작: accountId={}, lastEventId={}", accountId, lastEventId);
         
-        Optional<Long> accountIdOpt = sseSessionRepository.resolveAnyPrepared();
-        if (accountIdOpt.isEmpty()) {
-            log.warn("❌ 등록된 SSE 사용자가 없습니다. 현재 준비된 세션 수: {}", 
-                    sseSessionRepository.countPreparedSessions());
-            throw new IllegalStateException("❌ 등록된 SSE 사용자가 없습니다.");
+        return sseService.connect(accountId, lastEventId);
+    }
+
+    private Long parseLastEventId(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            log.debug("잘못된 Last-Event-ID 무시: {}", value);
+            return null;
         }
-        
-        Long accountId = accountIdOpt.get();
-        log.info("🔗 SSE 연결 시작: accountId={}", accountId);
-        
-        return sseService.connect(accountId);
     }
-}
\ No newline at end of file
+}
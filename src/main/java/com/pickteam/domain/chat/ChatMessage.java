@@ -10,6 +10,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = {
+        // 채팅방별 커서 페이징 (chat_room_id = ? AND id < ? ORDER BY id DESC)
+        @Index(name = "idx_chat_message_room_id", columnList = "chat_room_id, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -4,5 +4,7 @@ public enum SseEventType {
     NEW_CHAT_MESSAGE,
     CHAT_MESSAGE_DELETED,
     CHAT_MEMBER_JOINED,
-    CHAT_MEMBER_LEFT
+    CHAT_MEMBER_LEFT,
+    CHAT_READ_POSITION,
+    RESYNC_REQUIRED
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(uniqueConstraints = {@UniqueConstraint(name = "uk_kanban_list_rank", columnNames = {"kanban_id", "list_rank"})})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -25,6 +26,10 @@ public class KanbanList extends BaseSoftDeleteSupportEntity {
     @Column(name = "list_order")
     private Integer order;
 
+    // 보드 안 정렬 키 (LexoRank, 삭제되면 비운다)
+    @Column(name = "list_rank", length = 64)
+    private String rank;
+
     @ManyToOne(optional = false)
     private Kanban kanban;
 
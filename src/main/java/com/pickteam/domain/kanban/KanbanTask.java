@@ -8,6 +8,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(uniqueConstraints = {@UniqueConstraint(name = "uk_kanban_task_rank", columnNames = {"kanban_list_id", "task_rank"})})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -28,6 +29,10 @@ public class KanbanTask extends BaseSoftDeleteSupportEntity {
     
     @Column(name = "task_order")
     private Integer order;
+
+    // 리스트 안 정렬 키 (LexoRank, 삭제되면 비운다)
+    @Column(name = "task_rank", length = 64)
+    private String rank;
     
     @Column(name = "is_approved")
     @Builder.Default
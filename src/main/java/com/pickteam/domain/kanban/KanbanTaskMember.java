@@ -8,6 +8,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(indexes = {@Index(name = "idx_kanban_task_member_task_account", columnList = "kanban_task_id, account_id")})
 @Getter
 @Setter
 @NoArgsConstructor
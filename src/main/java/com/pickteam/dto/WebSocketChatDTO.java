@@ -25,4 +25,16 @@ public class WebSocketChatDTO {
         this.type = type;
     }
     private List<WebSocketChatDTO> logs = new ArrayList<>();
+
+    /** 채널 내 메시지 순번 (채널 기록 버퍼가 부여) */
+    private Long seq;
+
+    /** init 요청: 이 순번보다 이전 기록 조회 (생략하면 최신 기록) / init 응답: 다음 요청에 넘길 커서 */
+    private Long before;
+
+    /** init 요청: 조회할 기록 수 */
+    private Integer size;
+
+    /** init 응답: 더 이전 기록이 남아 있는지 여부 */
+    private Boolean hasMore;
 }
@@ -0,0 +1,27 @@
+package com.pickteam.dto.chat;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 커서 기반 메시지 목록 응답
+ * - messages는 항상 ID 오름차순(오래된 메시지 → 최신 메시지)으로 내려간다
+ * - prevCursor를 before로 넘기면 더 오래된 메시지를, nextCursor를 after로 넘기면 더 최신 메시지를 조회한다
+ * - 전체 개수(COUNT)는 계산하지 않는다
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageCursorResponse {
+    private List<ChatMessageResponse> messages;
+    private int size;
+    /** 이전(더 오래된) 메시지 조회용 커서 - 결과 중 가장 작은 메시지 ID */
+    private Long prevCursor;
+    /** 다음(더 최신) 메시지 조회용 커서 - 결과 중 가장 큰 메시지 ID */
+    private Long nextCursor;
+    private boolean hasPrevious;
+    private boolean hasNext;
+}
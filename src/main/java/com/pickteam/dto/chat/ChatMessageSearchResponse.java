@@ -0,0 +1,23 @@
+package com.pickteam.dto.chat;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 채팅 메시지 검색 응답
+ * - messages는 요청한 정렬(관련도순/최신순) 그대로 내려간다
+ * - totalHits는 조건에 일치한 전체 메시지 수이며, 페이지는 설정된 최대 결과 수까지만 넘길 수 있다
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageSearchResponse {
+    private List<ChatMessageResponse> messages;
+    private int page;
+    private int size;
+    private long totalHits;
+    private boolean hasNext;
+}
@@ -0,0 +1,20 @@
+package com.pickteam.dto.chat;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ChatReadPositionNotificationDto {
+    private Long chatRoomId;
+    private Long accountId;
+    private Long lastReadMessageId;
+
+    public static ChatReadPositionNotificationDto of(Long chatRoomId, Long accountId, Long lastReadMessageId) {
+        return ChatReadPositionNotificationDto.builder()
+                .chatRoomId(chatRoomId)
+                .accountId(accountId)
+                .lastReadMessageId(lastReadMessageId)
+                .build();
+    }
+}
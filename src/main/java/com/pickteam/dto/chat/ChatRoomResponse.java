@@ -18,6 +18,7 @@ public class ChatRoomResponse {
     private String workspaceName;
     private LocalDateTime createdAt;
     private int memberCount;
+    private long unreadCount;
 
     public static ChatRoomResponse from(ChatRoom chatRoom) {
         ChatRoomResponse response = new ChatRoomResponse();
@@ -0,0 +1,14 @@
+package com.pickteam.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 채팅방별 안 읽은 메시지 수 (JPQL 생성자 프로젝션)
+ */
+@Getter
+@AllArgsConstructor
+public class ChatRoomUnreadCount {
+    private Long chatRoomId;
+    private Long unreadCount;
+}
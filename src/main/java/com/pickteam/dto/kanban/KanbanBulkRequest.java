@@ -0,0 +1,58 @@
+package com.pickteam.dto.kanban;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 칸반 일괄 변경 요청 - 카드 이동, 리스트 이동, 담당자 변경을 요청 순서대로 한 트랜잭션에서 적용
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KanbanBulkRequest {
+
+    @NotEmpty
+    @Valid
+    private List<Operation> operations;
+
+    public enum OperationType {
+        MOVE_TASK,
+        MOVE_LIST,
+        SET_ASSIGNEES
+    }
+
+    /**
+     * 일괄 변경 작업 하나
+     * - MOVE_TASK: taskId를 kanbanListId 리스트의 prevId 뒤(또는 nextId 앞, 둘 다 없으면 맨 뒤)로 이동
+     * - MOVE_LIST: listId를 prevId 뒤(또는 nextId 앞, 둘 다 없으면 맨 뒤)로 이동
+     * - SET_ASSIGNEES: taskId의 담당자를 assigneeIds로 교체
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Operation {
+        @NotNull
+        private OperationType type;
+
+        private Long taskId;
+
+        private Long listId;
+
+        private Long kanbanListId;
+
+        private Long prevId;
+
+        private Long nextId;
+
+        private List<Long> assigneeIds;
+    }
+}
@@ -0,0 +1,47 @@
+package com.pickteam.dto.kanban;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 칸반 일괄 변경 결과 - 바뀐 카드/리스트의 바뀐 값만 담는다 (전체 DTO 대신 클라이언트 보드에 반영할 차이)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KanbanBulkResultDto {
+
+    private List<TaskChange> tasks;
+
+    private List<ListChange> lists;
+
+    /**
+     * 카드 변경 - 이동하지 않았으면 kanbanListId/rank, 담당자를 바꾸지 않았으면 assigneeIds가 비어 있다
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class TaskChange {
+        private Long taskId;
+        private Long kanbanListId;
+        private String rank;
+        private List<Long> assigneeIds;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ListChange {
+        private Long listId;
+        private String rank;
+    }
+}
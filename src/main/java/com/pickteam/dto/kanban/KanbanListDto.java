@@ -18,6 +18,7 @@ public class KanbanListDto {
     private Long kanbanId;
     private List<KanbanTaskDto> tasks;
     private Integer order;
+    private String rank;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 } 
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.pickteam.dto.kanban;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 리스트 이동 요청 (드래그 앤 드롭)
+ * - 옮긴 자리의 앞 리스트(prevListId) 또는 뒤 리스트(nextListId)를 보내고, 둘 다 없으면 보드 맨 뒤로 옮긴다
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KanbanListMoveRequest {
+    private Long prevListId;
+
+    private Long nextListId;
+}
@@ -0,0 +1,21 @@
+package com.pickteam.dto.kanban;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KanbanListSummaryDto {
+    private Long id;
+    private String kanbanListName;
+    private Long kanbanId;
+    private List<KanbanTaskSummaryDto> tasks;
+    private Integer order;
+    private String rank;
+}
@@ -0,0 +1,14 @@
+package com.pickteam.dto.kanban;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 작업별 담당자 계정 ID (JPQL 생성자 프로젝션)
+ */
+@Getter
+@AllArgsConstructor
+public class KanbanTaskAssigneeId {
+    private Long kanbanTaskId;
+    private Long accountId;
+}
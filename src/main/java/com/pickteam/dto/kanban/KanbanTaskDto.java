@@ -19,6 +19,7 @@ public class KanbanTaskDto {
     private LocalDateTime deadline;
     private Long kanbanListId;
     private Integer order;
+    private String rank;
     private Boolean isApproved;
     private Boolean completionRequested;
     private String completionRequestMessage;
@@ -0,0 +1,15 @@
+package com.pickteam.dto.kanban;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 담당자 행 ID와 작업/계정 ID (JPQL 생성자 프로젝션 - 담당자 교체 시 비교용)
+ */
+@Getter
+@AllArgsConstructor
+public class KanbanTaskMemberRef {
+    private Long id;
+    private Long kanbanTaskId;
+    private Long accountId;
+}
@@ -0,0 +1,25 @@
+package com.pickteam.dto.kanban;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 카드 이동 요청 (드래그 앤 드롭)
+ * - 옮긴 자리의 앞 카드(prevTaskId) 또는 뒤 카드(nextTaskId)를 보내고, 둘 다 없으면 리스트 맨 뒤로 옮긴다
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KanbanTaskMoveRequest {
+    @NotNull
+    private Long kanbanListId;
+
+    private Long prevTaskId;
+
+    private Long nextTaskId;
+}
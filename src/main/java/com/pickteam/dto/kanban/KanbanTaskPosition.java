@@ -0,0 +1,14 @@
+package com.pickteam.dto.kanban;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 작업의 리스트 안 순번 - 정렬 키 순으로 앞에 있는 작업 수 (JPQL 생성자 프로젝션)
+ */
+@Getter
+@AllArgsConstructor
+public class KanbanTaskPosition {
+    private Long kanbanTaskId;
+    private Long position;
+}
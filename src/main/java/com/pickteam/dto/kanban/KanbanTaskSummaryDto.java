@@ -0,0 +1,45 @@
+package com.pickteam.dto.kanban;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 칸반 카드 요약 (보드 요약 조회용)
+ * - 본문/댓글/첨부파일 대신 개수만 담는다 (상세는 작업 단건 조회, 댓글은 페이징 조회로 가져온다)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class KanbanTaskSummaryDto {
+    private Long id;
+    private Long kanbanListId;
+    private String subject;
+    private Integer order;
+    private String rank;
+    private LocalDateTime deadline;
+    private Boolean isApproved;
+    private Boolean completionRequested;
+    private List<Long> assigneeIds = new ArrayList<>();
+    private Long commentCount;
+    private Long attachmentCount;
+
+    // JPQL 생성자 프로젝션용 (담당자 ID는 별도 조회 후 채운다)
+    public KanbanTaskSummaryDto(Long id, Long kanbanListId, String subject, Integer order, String rank, LocalDateTime deadline,
+                                Boolean isApproved, Boolean completionRequested, Long commentCount, Long attachmentCount) {
+        this.id = id;
+        this.kanbanListId = kanbanListId;
+        this.subject = subject;
+        this.order = order;
+        this.rank = rank;
+        this.deadline = deadline;
+        this.isApproved = isApproved;
+        this.completionRequested = completionRequested;
+        this.commentCount = commentCount;
+        this.attachmentCount = attachmentCount;
+    }
+}
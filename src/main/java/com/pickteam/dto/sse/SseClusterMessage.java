@@ -0,0 +1,39 @@
+package com.pickteam.dto.sse;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+/**
+ * 노드 간 SSE 이벤트 전파를 위한 Redis Pub/Sub 메시지
+ * 발행한 노드는 이미 로컬 전송을 마쳤으므로 수신 시 originNodeId로 자기 메시지를 걸러낸다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SseClusterMessage {
+    /** 메시지를 발행한 노드 ID */
+    private String originNodeId;
+
+    /** 발행 노드에서 부여한 이벤트 ID (재연결 재전송 기준) */
+    private Long eventId;
+
+    /** 수신 대상 사용자 ID 목록 (broadcastAll이 true면 무시) */
+    private Set<Long> accountIds;
+
+    /** 연결된 모든 사용자 대상 여부 */
+    private boolean broadcastAll;
+
+    /** SSE 이벤트 이름 */
+    private String eventName;
+
+    /** 직렬화된 이벤트 데이터 (jsonPayload가 false면 문자열 데이터 원문) */
+    private String payload;
+
+    /** payload가 JSON 문서인지 여부 */
+    private boolean jsonPayload;
+}
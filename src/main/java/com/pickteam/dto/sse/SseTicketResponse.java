@@ -0,0 +1,20 @@
+package com.pickteam.dto.sse;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * SSE 구독 티켓 응답 DTO
+ * 클라이언트는 /api/sse/subscribe?ticket={ticket} 으로 한 번만 연결할 수 있다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SseTicketResponse {
+    /** 일회용 구독 티켓 */
+    private String ticket;
+
+    /** 티켓 만료까지 남은 시간(초) */
+    private long expiresInSeconds;
+}
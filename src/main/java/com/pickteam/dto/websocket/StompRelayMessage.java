@@ -0,0 +1,28 @@
+package com.pickteam.dto.websocket;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 노드 간 STOMP 메시지 중계를 위한 Redis Pub/Sub 메시지
+ * 발행한 노드는 이미 로컬 브로커로 전달했으므로 수신 시 originNodeId로 자기 메시지를 걸러낸다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StompRelayMessage {
+    /** 메시지를 발행한 노드 ID */
+    private String originNodeId;
+
+    /** STOMP 목적지 (/sub/... 또는 /user/{사용자}/sub/...) */
+    private String destination;
+
+    /** payload 콘텐츠 타입 (예: application/json) */
+    private String contentType;
+
+    /** 변환이 끝난 메시지 본문 (JSON에서는 base64로 직렬화) */
+    private byte[] payload;
+}
@@ -0,0 +1,137 @@
+package com.pickteam.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 기반 화면 공유 상태 저장소 (다중 인스턴스용)
+ * - 채널별 해시(video:screen-share:{channelId})에 발표자(holder)와 중단 확인 기한(deadline)을 보관한다
+ * - 대기열은 리스트(video:screen-share:{channelId}:queue)로 FIFO 순서를 유지한다
+ * - 기한이 걸린 채널은 정렬 집합(video:screen-share:deadlines)에 기한을 점수로 등록해 만료 검사 대상을 찾는다
+ * - 모든 전이는 Lua 스크립트로 한 번에 처리하며, 결과는 {중단된 발표자, 새 발표자, 중단 요청 대상} ("" = 없음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScreenShareStateRepository {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String KEY_PREFIX = "video:screen-share:";
+    private static final String DEADLINES_KEY = KEY_PREFIX + "deadlines";
+
+    // ARGV: 1=요청자, 2=현재 시각(ms), 3=중단 확인 제한 시간(ms), 4=채널 ID, 5=상태 유지 시간(ms)
+    private static final DefaultRedisScript<List> REQUEST = new DefaultRedisScript<>(
+            "local holder = redis.call('HGET', KEYS[1], 'holder') " +
+            "if not holder then " +
+            "  redis.call('HSET', KEYS[1], 'holder', ARGV[1]) " +
+            "  redis.call('PEXPIRE', KEYS[1], ARGV[5]) " +
+            "  return {'', ARGV[1], ''} " +
+            "end " +
+            "if holder == ARGV[1] then return {'', ARGV[1], ''} end " +
+            "for _, waiting in ipairs(redis.call('LRANGE', KEYS[2], 0, -1)) do " +
+            "  if waiting == ARGV[1] then return {'', '', ''} end " +
+            "end " +
+            "redis.call('RPUSH', KEYS[2], ARGV[1]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[5]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[5]) " +
+            "if redis.call('HEXISTS', KEYS[1], 'deadline') == 1 then return {'', '', ''} end " +
+            "local deadline = tonumber(ARGV[2]) + tonumber(ARGV[3]) " +
+            "redis.call('HSET', KEYS[1], 'deadline', deadline) " +
+            "redis.call('ZADD', KEYS[3], deadline, ARGV[4]) " +
+            "return {'', '', holder}",
+            List.class);
+
+    // ARGV: 1=중단하는 사용자 (만료 검사 시 ""), 2=현재 시각(ms), 3=중단 확인 제한 시간(ms), 4=채널 ID,
+    //       5=상태 유지 시간(ms), 6=모드(release | expire)
+    private static final DefaultRedisScript<List> RELEASE = new DefaultRedisScript<>(
+            "local holder = redis.call('HGET', KEYS[1], 'holder') " +
+            "if ARGV[6] == 'expire' then " +
+            "  local deadline = tonumber(redis.call('HGET', KEYS[1], 'deadline') or '0') " +
+            "  if not holder or deadline == 0 then " +
+            "    redis.call('ZREM', KEYS[3], ARGV[4]) " +
+            "    return {'', '', ''} " +
+            "  end " +
+            "  if deadline > tonumber(ARGV[2]) then return {'', '', ''} end " +
+            "elseif holder ~= ARGV[1] then " +
+            "  redis.call('LREM', KEYS[2], 0, ARGV[1]) " +
+            "  return {'', '', ''} " +
+            "end " +
+            "local nextHolder = redis.call('LPOP', KEYS[2]) " +
+            "redis.call('HDEL', KEYS[1], 'deadline') " +
+            "redis.call('ZREM', KEYS[3], ARGV[4]) " +
+            "if not nextHolder then " +
+            "  redis.call('DEL', KEYS[1]) " +
+            "  return {holder, '', ''} " +
+            "end " +
+            "redis.call('HSET', KEYS[1], 'holder', nextHolder) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[5]) " +
+            "if redis.call('LLEN', KEYS[2]) == 0 then return {holder, nextHolder, ''} end " +
+            "local deadline = tonumber(ARGV[2]) + tonumber(ARGV[3]) " +
+            "redis.call('HSET', KEYS[1], 'deadline', deadline) " +
+            "redis.call('ZADD', KEYS[3], deadline, ARGV[4]) " +
+            "return {holder, nextHolder, nextHolder}",
+            List.class);
+
+    /**
+     * 화면 공유 요청
+     */
+    public List<String> request(Long channelId, String user, long now, long stopTimeoutMs, long stateTtlMs) {
+        return execute(REQUEST, channelId, user, String.valueOf(now), String.valueOf(stopTimeoutMs),
+                String.valueOf(channelId), String.valueOf(stateTtlMs));
+    }
+
+    /**
+     * 화면 공유 중단 확인 또는 채널 퇴장 (발표자가 아니면 대기열에서만 제거)
+     */
+    public List<String> release(Long channelId, String user, long now, long stopTimeoutMs, long stateTtlMs) {
+        return execute(RELEASE, channelId, user, String.valueOf(now), String.valueOf(stopTimeoutMs),
+                String.valueOf(channelId), String.valueOf(stateTtlMs), "release");
+    }
+
+    /**
+     * 중단 확인 기한이 지났으면 발표자를 강제로 중단
+     */
+    public List<String> expire(Long channelId, long now, long stopTimeoutMs, long stateTtlMs) {
+        return execute(RELEASE, channelId, "", String.valueOf(now), String.valueOf(stopTimeoutMs),
+                String.valueOf(channelId), String.valueOf(stateTtlMs), "expire");
+    }
+
+    /**
+     * 중단 확인 기한이 지난 채널 ID 조회
+     */
+    public Set<Long> findOverdueChannelIds(long now) {
+        Set<String> members = redisTemplate.opsForZSet().rangeByScore(DEADLINES_KEY, 0, now);
+        if (members == null) {
+            return Set.of();
+        }
+        return members.stream().map(Long::valueOf).collect(Collectors.toSet());
+    }
+
+    /**
+     * 채널 상태 삭제 (채널 삭제 시)
+     */
+    public void clear(Long channelId) {
+        redisTemplate.delete(List.of(stateKey(channelId), queueKey(channelId)));
+        redisTemplate.opsForZSet().remove(DEADLINES_KEY, String.valueOf(channelId));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> execute(DefaultRedisScript<List> script, Long channelId, Object... args) {
+        return redisTemplate.execute(script,
+                List.of(stateKey(channelId), queueKey(channelId), DEADLINES_KEY), args);
+    }
+
+    private String stateKey(Long channelId) {
+        return KEY_PREFIX + channelId;
+    }
+
+    private String queueKey(Long channelId) {
+        return KEY_PREFIX + channelId + ":queue";
+    }
+}
@@ -19,4 +19,10 @@ public interface VideoMemberRepository extends JpaRepository<VideoMember, Long>
 
     @Query("select vm from VideoMember vm where vm.videoChannel.id=?1")
     List<VideoMember> selectByVideoChannelId(Long videoChannelId);
+
+    @Query("select vm from VideoMember vm join fetch vm.account a where a.email=:email and vm.videoChannel.id=:channelId")
+    VideoMember findByAccountEmailAndVideoChannelId(@Param("email") String email, @Param("channelId") Long channelId);
+
+    @Query("select count(vm) > 0 from VideoMember vm where vm.videoChannel.id=?1")
+    boolean existsByChannelId(Long channelId);
 }
@@ -0,0 +1,133 @@
+package com.pickteam.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 기반 화상회의 접속자 저장소 (다중 인스턴스용)
+ * - 채널별 해시(video:participants:{channelId})에 접속자 identity → 입장 시각(ms)을 보관한다
+ * - 접속자별 마지막으로 반영한 이벤트 시각은 별도 해시(video:participants:{channelId}:events)에 보관한다
+ * - 입장/퇴장은 Lua 스크립트로 순서 검사와 반영을 한 번에 처리하며, 결과는 1=반영, 0=변화 없음, -1=이전 이벤트
+ */
+@Repository
+@RequiredArgsConstructor
+public class VideoParticipantStateRepository {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String KEY_PREFIX = "video:participants:";
+
+    // ARGV: 1=identity, 2=입장 시각(ms), 3=이벤트 시각(ms), 4=상태 유지 시간(ms)
+    private static final DefaultRedisScript<Long> JOIN = new DefaultRedisScript<>(
+            "local last = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '-1') " +
+            "if last > tonumber(ARGV[3]) then return -1 end " +
+            "redis.call('HSET', KEYS[2], ARGV[1], ARGV[3]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[4]) " +
+            "if redis.call('HSETNX', KEYS[1], ARGV[1], ARGV[2]) == 0 then return 0 end " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[4]) " +
+            "return 1",
+            Long.class);
+
+    // ARGV: 1=identity, 2=이벤트 시각(ms, "" = 순서 검사 없이 제거), 3=상태 유지 시간(ms)
+    private static final DefaultRedisScript<Long> LEAVE = new DefaultRedisScript<>(
+            "if ARGV[2] ~= '' then " +
+            "  local last = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '-1') " +
+            "  if last > tonumber(ARGV[2]) then return -1 end " +
+            "  redis.call('HSET', KEYS[2], ARGV[1], ARGV[2]) " +
+            "  redis.call('PEXPIRE', KEYS[2], ARGV[3]) " +
+            "end " +
+            "return redis.call('HDEL', KEYS[1], ARGV[1])",
+            Long.class);
+
+    private static final DefaultRedisScript<List> FINISH = new DefaultRedisScript<>(
+            "local identities = redis.call('HKEYS', KEYS[1]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return identities",
+            List.class);
+
+    // ARGV: 1=identity
+    private static final DefaultRedisScript<Long> FORGET = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then return 0 end " +
+            "return redis.call('HDEL', KEYS[2], ARGV[1])",
+            Long.class);
+
+    /**
+     * 입장 반영 (이미 접속 중이면 0, 더 나중 이벤트를 이미 반영했으면 -1)
+     */
+    public long join(Long channelId, String identity, long joinedAtMillis, long eventAtMillis, long stateTtlMs) {
+        return execute(JOIN, channelId, identity, String.valueOf(joinedAtMillis), String.valueOf(eventAtMillis),
+                String.valueOf(stateTtlMs));
+    }
+
+    /**
+     * 퇴장 반영 (접속 중이 아니었으면 0, 더 나중 이벤트를 이미 반영했으면 -1)
+     *
+     * @param eventAtMillis 이벤트 시각 (null이면 순서 검사 없이 제거)
+     */
+    public long leave(Long channelId, String identity, Long eventAtMillis, long stateTtlMs) {
+        return execute(LEAVE, channelId, identity, eventAtMillis == null ? "" : String.valueOf(eventAtMillis),
+                String.valueOf(stateTtlMs));
+    }
+
+    /**
+     * 회의방 종료 - 접속자 목록을 비우고 종료 시점까지 접속 중이던 identity 반환
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> finish(Long channelId) {
+        List<String> identities = redisTemplate.execute(FINISH, keys(channelId));
+        return identities == null ? List.of() : identities;
+    }
+
+    /**
+     * 접속 중이 아닌 사용자의 이벤트 순서 기록 제거
+     *
+     * @return 제거했으면 true (다시 접속 중이면 false)
+     */
+    public boolean forget(Long channelId, String identity) {
+        return execute(FORGET, channelId, identity) > 0;
+    }
+
+    /**
+     * 채널 접속자 identity → 입장 시각(ms)
+     */
+    public Map<String, Long> findParticipants(Long channelId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(participantsKey(channelId));
+        Map<String, Long> participants = new LinkedHashMap<>();
+        entries.forEach((identity, joinedAt) -> participants.put((String) identity, Long.valueOf((String) joinedAt)));
+        return participants;
+    }
+
+    public boolean contains(Long channelId, String identity) {
+        return redisTemplate.opsForHash().hasKey(participantsKey(channelId), identity);
+    }
+
+    /**
+     * 채널 상태 삭제 (채널 삭제 시)
+     */
+    public void clear(Long channelId) {
+        redisTemplate.delete(keys(channelId));
+    }
+
+    private long execute(DefaultRedisScript<Long> script, Long channelId, Object... args) {
+        Long result = redisTemplate.execute(script, keys(channelId), args);
+        return result == null ? 0 : result;
+    }
+
+    private List<String> keys(Long channelId) {
+        return List.of(participantsKey(channelId), eventsKey(channelId));
+    }
+
+    private String participantsKey(Long channelId) {
+        return KEY_PREFIX + channelId;
+    }
+
+    private String eventsKey(Long channelId) {
+        return KEY_PREFIX + channelId + ":events";
+    }
+}
@@ -1,9 +1,13 @@
 package com.pickteam.repository.chat;
 
 import com.pickteam.domain.chat.ChatMember;
+import com.pickteam.dto.chat.ChatRoomUnreadCount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +20,38 @@ public interface ChatMemberRepository extends JpaRepository<ChatMember, Long> {
     List<ChatMember> findAllByChatRoomIdAndIsDeletedFalse(Long chatRoomId);
 
     List<ChatMember> findAllByAccountIdAndIsDeletedFalse(Long accountId);
+
+    boolean existsByChatRoomIdAndIsDeletedFalse(Long chatRoomId);
+
+    /**
+     * 채팅방 활성 멤버의 계정 ID만 조회 (엔티티/연관관계 로딩 없음)
+     */
+    @Query("SELECT cm.account.id FROM ChatMember cm " +
+           "WHERE cm.chatRoom.id = :chatRoomId AND cm.isDeleted = false")
+    List<Long> findActiveAccountIdsByChatRoomId(@Param("chatRoomId") Long chatRoomId);
+
+    /**
+     * 워크스페이스에서 사용자가 참여 중인 채팅방 ID 조회 (메시지 검색 범위)
+     */
+    @Query("SELECT cm.chatRoom.id FROM ChatMember cm " +
+           "WHERE cm.account.id = :accountId AND cm.isDeleted = false " +
+           "AND cm.chatRoom.workspace.id = :workspaceId AND cm.chatRoom.isDeleted = false")
+    List<Long> findActiveChatRoomIdsByAccountIdAndWorkspaceId(@Param("accountId") Long accountId,
+                                                             @Param("workspaceId") Long workspaceId);
+
+    /**
+     * 사용자의 채팅방별 안 읽은 메시지 수를 한 번에 집계
+     * (마지막으로 읽은 메시지 이후, 본인이 보내지 않은 삭제되지 않은 메시지 수)
+     */
+    @Query("SELECT new com.pickteam.dto.chat.ChatRoomUnreadCount(cm.chatRoom.id, COUNT(m.id)) " +
+           "FROM ChatMember cm " +
+           "LEFT JOIN cm.lastReadMessage lr " +
+           "LEFT JOIN ChatMessage m ON m.chatRoom.id = cm.chatRoom.id " +
+           "    AND m.isDeleted = false AND m.account.id <> :accountId " +
+           "    AND (lr IS NULL OR m.id > lr.id) " +
+           "WHERE cm.account.id = :accountId AND cm.isDeleted = false " +
+           "AND cm.chatRoom.id IN :chatRoomIds " +
+           "GROUP BY cm.chatRoom.id")
+    List<ChatRoomUnreadCount> countUnreadMessages(@Param("accountId") Long accountId,
+                                                  @Param("chatRoomIds") Collection<Long> chatRoomIds);
 }
\ No newline at end of file
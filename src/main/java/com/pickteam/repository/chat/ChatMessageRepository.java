@@ -3,6 +3,8 @@ package com.pickteam.repository.chat;
 import com.pickteam.domain.chat.ChatMessage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -14,6 +16,8 @@ import java.util.Optional;
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
     Page<ChatMessage> findByChatRoomIdOrderByCreatedAtDesc(Long chatRoomId, Pageable pageable);
     
+    Page<ChatMessage> findPageByChatRoomIdAndIdGreaterThanOrderByIdAsc(Long chatRoomId, Long id, Pageable pageable);
+
     Page<ChatMessage> findByChatRoomIdAndCreatedAtAfterOrderByCreatedAtAsc(
             Long chatRoomId, LocalDateTime createdAt, Pageable pageable);
     
@@ -23,4 +27,41 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     Page<ChatMessage> findByChatRoomIdAndCreatedAtLessThanEqual(Long chatRoomId, LocalDateTime createdAt, Pageable pageable);
 
     Optional<ChatMessage> findByIdAndChatRoomIdAndIsDeletedFalse(Long messageId, Long chatRoomId);
-}
\ No newline at end of file
+
+    /**
+     * 메시지가 채팅방에 속하는지 확인 (엔티티를 읽지 않는 읽음 위치 검증용)
+     */
+    boolean existsByIdAndChatRoomIdAndIsDeletedFalse(Long messageId, Long chatRoomId);
+
+    /**
+     * 특정 메시지 이후 다른 사용자가 보낸 메시지 수 (안 읽은 메시지 수 재계산용)
+     */
+    long countByChatRoomIdAndIdGreaterThanAndIsDeletedFalseAndAccountIdNot(Long chatRoomId, Long id, Long accountId);
+
+    // ------------------------- 커서(키셋) 페이징 -------------------------
+    // (chat_room_id, id) 인덱스를 타고 OFFSET/COUNT 없이 size + 1건만 조회한다
+
+    /**
+     * 채팅방의 최신 메시지 (ID 내림차순)
+     */
+    @EntityGraph(attributePaths = {"account", "chatRoom"})
+    Slice<ChatMessage> findByChatRoomIdOrderByIdDesc(Long chatRoomId, Pageable pageable);
+
+    /**
+     * 커서 이전(더 오래된) 메시지 (ID 내림차순)
+     */
+    @EntityGraph(attributePaths = {"account", "chatRoom"})
+    Slice<ChatMessage> findByChatRoomIdAndIdLessThanOrderByIdDesc(Long chatRoomId, Long id, Pageable pageable);
+
+    /**
+     * 커서 이후(더 최근) 메시지 (ID 오름차순)
+     */
+    @EntityGraph(attributePaths = {"account", "chatRoom"})
+    Slice<ChatMessage> findByChatRoomIdAndIdGreaterThanOrderByIdAsc(Long chatRoomId, Long id, Pageable pageable);
+
+    /**
+     * 검색 재색인용 전체 메시지 순회 (삭제되지 않은 메시지, ID 오름차순)
+     */
+    @EntityGraph(attributePaths = {"account", "chatRoom"})
+    Slice<ChatMessage> findByIdGreaterThanAndIsDeletedFalseOrderByIdAsc(Long id, Pageable pageable);
+}
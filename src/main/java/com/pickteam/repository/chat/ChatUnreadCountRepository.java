@@ -0,0 +1,101 @@
+package com.pickteam.repository.chat;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 기반 안 읽은 메시지 수 카운터
+ * - 사용자별 해시(chat:unread:{accountId})에 채팅방 ID → 안 읽은 수를 보관한다
+ * - 필드가 없으면 "모름"으로 보고 DB에서 다시 계산하므로, 증가는 이미 있는 필드에만 적용한다
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatUnreadCountRepository {
+
+    private final StringRedisTemplate redisTemplate;
+
+    private static final String KEY_PREFIX = "chat:unread:";
+
+    /** 카운터 보관 시간 (조회/읽음 처리 시 갱신) */
+    public static final Duration COUNTER_TTL = Duration.ofDays(7);
+
+    // 모든 수신자 해시에 대해 필드가 있을 때만 1 증가 (한 번의 왕복으로 처리)
+    private static final DefaultRedisScript<Long> INCREMENT_IF_PRESENT = new DefaultRedisScript<>(
+            "local field = ARGV[1] " +
+            "local updated = 0 " +
+            "for i = 1, #KEYS do " +
+            "  if redis.call('HEXISTS', KEYS[i], field) == 1 then " +
+            "    redis.call('HINCRBY', KEYS[i], field, 1) " +
+            "    updated = updated + 1 " +
+            "  end " +
+            "end " +
+            "return updated",
+            Long.class);
+
+    /**
+     * 채팅방별 카운터 조회
+     *
+     * @return 카운터가 있는 채팅방만 담긴 맵 (없는 채팅방은 DB 재계산 대상)
+     */
+    public Map<Long, Long> findCounts(Long accountId, List<Long> chatRoomIds) {
+        List<Object> fields = chatRoomIds.stream().map(String::valueOf).collect(Collectors.toList());
+        List<Object> values = redisTemplate.opsForHash().multiGet(key(accountId), fields);
+
+        Map<Long, Long> counts = new HashMap<>();
+        for (int i = 0; i < chatRoomIds.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                counts.put(chatRoomIds.get(i), Long.parseLong(value.toString()));
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 카운터 저장 (DB 재계산 결과 또는 읽음 처리 결과)
+     */
+    public void saveCounts(Long accountId, Map<Long, Long> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        Map<String, String> values = counts.entrySet().stream()
+                .collect(Collectors.toMap(e -> String.valueOf(e.getKey()), e -> String.valueOf(e.getValue())));
+        String key = key(accountId);
+        redisTemplate.opsForHash().putAll(key, values);
+        redisTemplate.expire(key, COUNTER_TTL);
+    }
+
+    /**
+     * 새 메시지 수신자들의 카운터 증가
+     */
+    public void increment(Long chatRoomId, Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = accountIds.stream().map(this::key).collect(Collectors.toList());
+        redisTemplate.execute(INCREMENT_IF_PRESENT, keys, String.valueOf(chatRoomId));
+    }
+
+    /**
+     * 카운터 제거 (다음 조회 시 DB에서 다시 계산)
+     */
+    public void evict(Long chatRoomId, Collection<Long> accountIds) {
+        String field = String.valueOf(chatRoomId);
+        for (Long accountId : accountIds) {
+            redisTemplate.opsForHash().delete(key(accountId), field);
+        }
+    }
+
+    private String key(Long accountId) {
+        return KEY_PREFIX + accountId;
+    }
+}
@@ -1,23 +1,92 @@
 package com.pickteam.repository.kanban;
 
 import com.pickteam.domain.kanban.KanbanList;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface KanbanListRepository extends JpaRepository<KanbanList, Long> {
     
-    @Query("SELECT kl FROM KanbanList kl WHERE kl.kanban.id = :kanbanId AND kl.isDeleted = false ORDER BY kl.order ASC")
-    List<KanbanList> findByKanbanIdOrderByOrder(@Param("kanbanId") Long kanbanId);
+    @Query("SELECT kl FROM KanbanList kl WHERE kl.kanban.id = :kanbanId AND kl.isDeleted = false ORDER BY kl.rank ASC, kl.order ASC")
+    List<KanbanList> findByKanbanIdOrderByRank(@Param("kanbanId") Long kanbanId);
     
     @Query("SELECT MAX(kl.order) FROM KanbanList kl WHERE kl.kanban.id = :kanbanId AND kl.isDeleted = false")
     Integer findMaxOrderByKanbanId(@Param("kanbanId") Long kanbanId);
     
     @Query("SELECT kl FROM KanbanList kl WHERE kl.id = :id AND kl.isDeleted = false")
     Optional<KanbanList> findByIdAndIsDeletedFalse(@Param("id") Long id);
+
+    // 리스트 행 잠금 - 같은 리스트 안의 카드 이동/추가/재배치를 직렬화한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT kl FROM KanbanList kl WHERE kl.id = :id AND kl.isDeleted = false")
+    Optional<KanbanList> findByIdForUpdate(@Param("id") Long id);
+
+    // 일괄 변경용 - 보드의 리스트를 ID 순으로 모두 잠근다 (잠금 순서를 고정해 교착을 피한다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT kl FROM KanbanList kl WHERE kl.kanban.id = :kanbanId AND kl.isDeleted = false ORDER BY kl.id ASC")
+    List<KanbanList> findByKanbanIdForUpdate(@Param("kanbanId") Long kanbanId);
+
+    // 정렬 키 (LexoRank) - 리스트 순서는 rank 기준, rank가 아직 없는 기존 리스트는 앞쪽에서 order 순
+    @Query("SELECT kl.rank FROM KanbanList kl WHERE kl.id = :id AND kl.kanban.id = :kanbanId AND kl.isDeleted = false")
+    Optional<String> findRankByIdAndKanbanId(@Param("id") Long id, @Param("kanbanId") Long kanbanId);
+
+    @Query("SELECT MIN(kl.rank) FROM KanbanList kl " +
+           "WHERE kl.kanban.id = :kanbanId AND kl.isDeleted = false AND kl.id <> :excludeId AND kl.rank > :rank")
+    String findNextRank(@Param("kanbanId") Long kanbanId, @Param("rank") String rank, @Param("excludeId") Long excludeId);
+
+    @Query("SELECT MAX(kl.rank) FROM KanbanList kl " +
+           "WHERE kl.kanban.id = :kanbanId AND kl.isDeleted = false AND kl.id <> :excludeId AND kl.rank < :rank")
+    String findPrevRank(@Param("kanbanId") Long kanbanId, @Param("rank") String rank, @Param("excludeId") Long excludeId);
+
+    @Query("SELECT MAX(kl.rank) FROM KanbanList kl WHERE kl.kanban.id = :kanbanId AND kl.isDeleted = false AND kl.id <> :excludeId")
+    String findMaxRankExcluding(@Param("kanbanId") Long kanbanId, @Param("excludeId") Long excludeId);
+
+    // 보드 안 순번 - 정렬 키 순으로 앞에 있는 리스트 수 (키가 없는 기존 리스트는 앞쪽으로 센다)
+    @Query("SELECT COUNT(kl) FROM KanbanList kl WHERE kl.kanban.id = :kanbanId AND kl.isDeleted = false " +
+           "AND (kl.rank < :rank OR kl.rank IS NULL)")
+    long countPrecedingByKanbanId(@Param("kanbanId") Long kanbanId, @Param("rank") String rank);
+
+    @Query("SELECT COUNT(kl) FROM KanbanList kl WHERE kl.kanban.id = :kanbanId AND kl.isDeleted = false AND kl.id <> :excludeId")
+    long countByKanbanIdExcluding(@Param("kanbanId") Long kanbanId, @Param("excludeId") Long excludeId);
+
+    // 보드 안 순서대로의 정렬 키 (순번 기반 기존 이동 요청 변환용)
+    @Query("SELECT kl.rank FROM KanbanList kl " +
+           "WHERE kl.kanban.id = :kanbanId AND kl.isDeleted = false AND kl.id <> :excludeId " +
+           "ORDER BY kl.rank ASC, kl.order ASC, kl.id ASC")
+    List<String> findRanksInOrder(@Param("kanbanId") Long kanbanId, @Param("excludeId") Long excludeId, Pageable pageable);
+
+    // 리스트 이동 - 정렬 키만 한 행 갱신
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE KanbanList kl SET kl.rank = :rank, kl.updatedAt = :now WHERE kl.id = :id AND kl.isDeleted = false")
+    int moveTo(@Param("id") Long id, @Param("rank") String rank, @Param("now") LocalDateTime now);
+
+    // 재배치용
+    @Query("SELECT kl.id FROM KanbanList kl WHERE kl.kanban.id = :kanbanId AND kl.isDeleted = false " +
+           "ORDER BY kl.rank ASC, kl.order ASC, kl.id ASC")
+    List<Long> findIdsInRankOrder(@Param("kanbanId") Long kanbanId);
+
+    @Modifying
+    @Query("UPDATE KanbanList kl SET kl.rank = NULL WHERE kl.kanban.id = :kanbanId")
+    int clearRanks(@Param("kanbanId") Long kanbanId);
+
+    @Modifying
+    @Query("UPDATE KanbanList kl SET kl.rank = :rank WHERE kl.id = :id")
+    int updateRank(@Param("id") Long id, @Param("rank") String rank);
+
+    @Query("SELECT DISTINCT kl.kanban.id FROM KanbanList kl " +
+           "WHERE kl.rank IS NULL AND kl.isDeleted = false AND kl.kanban.isDeleted = false")
+    List<Long> findKanbanIdsWithUnrankedLists();
+
+    @Query("SELECT CASE WHEN COUNT(kl) > 0 THEN true ELSE false END FROM KanbanList kl WHERE kl.kanban.id = :kanbanId AND kl.rank IS NULL AND kl.isDeleted = false")
+    boolean existsUnrankedByKanbanId(@Param("kanbanId") Long kanbanId);
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package com.pickteam.repository.kanban;
 
 import com.pickteam.domain.kanban.Kanban;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -33,4 +35,9 @@ public interface KanbanRepository extends JpaRepository<Kanban, Long> {
     // 칸반 존재 여부 확인
     @Query("SELECT COUNT(k) > 0 FROM Kanban k WHERE k.team.id = :teamId AND k.isDeleted = false")
     boolean existsByTeamId(@Param("teamId") Long teamId);
+
+    // 보드 행 잠금 - 같은 보드 안의 리스트 이동/추가/재배치를 직렬화한다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT k FROM Kanban k WHERE k.id = :id AND k.isDeleted = false")
+    Optional<Kanban> findByIdForUpdate(@Param("id") Long id);
 }
\ No newline at end of file
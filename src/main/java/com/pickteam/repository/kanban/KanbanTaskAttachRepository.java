@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,4 +14,9 @@ public interface KanbanTaskAttachRepository extends JpaRepository<KanbanTaskAtta
     
     @Query("SELECT kta FROM KanbanTaskAttach kta WHERE kta.kanbanTask.id = :kanbanTaskId AND kta.isDeleted = false")
     List<KanbanTaskAttach> findByKanbanTaskId(@Param("kanbanTaskId") Long kanbanTaskId);
+
+    // 보드 조립용 - 여러 작업의 첨부파일을 파일 정보와 함께 한 번에 조회
+    @Query("SELECT kta FROM KanbanTaskAttach kta JOIN FETCH kta.fileInfo " +
+           "WHERE kta.kanbanTask.id IN :kanbanTaskIds AND kta.isDeleted = false")
+    List<KanbanTaskAttach> findByKanbanTaskIdIn(@Param("kanbanTaskIds") Collection<Long> kanbanTaskIds);
 } 
\ No newline at end of file
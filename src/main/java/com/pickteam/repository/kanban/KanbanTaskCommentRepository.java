@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -18,4 +19,9 @@ public interface KanbanTaskCommentRepository extends JpaRepository<KanbanTaskCom
     
     @Query("SELECT ktc FROM KanbanTaskComment ktc WHERE ktc.kanbanTask.id = :kanbanTaskId AND ktc.isDeleted = false ORDER BY ktc.createdAt DESC")
     Page<KanbanTaskComment> findByKanbanTaskIdPageable(@Param("kanbanTaskId") Long kanbanTaskId, Pageable pageable);
+
+    // 보드 조립용 - 여러 작업의 댓글을 작성자와 함께 한 번에 조회
+    @Query("SELECT ktc FROM KanbanTaskComment ktc JOIN FETCH ktc.account " +
+           "WHERE ktc.kanbanTask.id IN :kanbanTaskIds AND ktc.isDeleted = false ORDER BY ktc.createdAt ASC")
+    List<KanbanTaskComment> findByKanbanTaskIdInOrderByCreatedAt(@Param("kanbanTaskIds") Collection<Long> kanbanTaskIds);
 }
\ No newline at end of file
@@ -1,11 +1,16 @@
 package com.pickteam.repository.kanban;
 
 import com.pickteam.domain.kanban.KanbanTaskMember;
+import com.pickteam.dto.kanban.KanbanTaskAssigneeId;
+import com.pickteam.dto.kanban.KanbanTaskMemberRef;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -18,4 +23,25 @@ public interface KanbanTaskMemberRepository extends JpaRepository<KanbanTaskMemb
     List<KanbanTaskMember> findByAccountId(@Param("accountId") Long accountId);
     
     void deleteByKanbanTaskIdAndAccountId(Long kanbanTaskId, Long accountId);
-} 
\ No newline at end of file
+
+    // 보드 조립용 - 여러 작업의 담당자를 계정과 함께 한 번에 조회
+    @Query("SELECT ktm FROM KanbanTaskMember ktm JOIN FETCH ktm.account " +
+           "WHERE ktm.kanbanTask.id IN :kanbanTaskIds AND ktm.isDeleted = false")
+    List<KanbanTaskMember> findByKanbanTaskIdIn(@Param("kanbanTaskIds") Collection<Long> kanbanTaskIds);
+
+    // 보드 요약용 - 여러 작업의 담당자 계정 ID만 조회
+    @Query("SELECT new com.pickteam.dto.kanban.KanbanTaskAssigneeId(ktm.kanbanTask.id, ktm.account.id) " +
+           "FROM KanbanTaskMember ktm WHERE ktm.kanbanTask.id IN :kanbanTaskIds AND ktm.isDeleted = false")
+    List<KanbanTaskAssigneeId> findAssigneeIdsByKanbanTaskIdIn(@Param("kanbanTaskIds") Collection<Long> kanbanTaskIds);
+
+    // 담당자 교체용 - 현재 담당자 행 ID와 계정 ID만 조회 ((kanban_task_id, account_id) 인덱스)
+    @Query("SELECT new com.pickteam.dto.kanban.KanbanTaskMemberRef(ktm.id, ktm.kanbanTask.id, ktm.account.id) " +
+           "FROM KanbanTaskMember ktm WHERE ktm.kanbanTask.id IN :kanbanTaskIds AND ktm.isDeleted = false")
+    List<KanbanTaskMemberRef> findMemberRefsByKanbanTaskIdIn(@Param("kanbanTaskIds") Collection<Long> kanbanTaskIds);
+
+    // 담당자 교체용 - 빠진 담당자 행을 한 번에 삭제 표시
+    @Modifying
+    @Query("UPDATE KanbanTaskMember ktm SET ktm.isDeleted = true, ktm.deletedAt = :now, ktm.updatedAt = :now " +
+           "WHERE ktm.id IN :ids AND ktm.isDeleted = false")
+    int markDeletedByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
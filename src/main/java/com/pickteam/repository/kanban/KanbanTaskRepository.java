@@ -1,19 +1,26 @@
 package com.pickteam.repository.kanban;
 
+import com.pickteam.domain.kanban.KanbanList;
 import com.pickteam.domain.kanban.KanbanTask;
+import com.pickteam.dto.kanban.KanbanTaskPosition;
+import com.pickteam.dto.kanban.KanbanTaskSummaryDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface KanbanTaskRepository extends JpaRepository<KanbanTask, Long> {
     
-    @Query("SELECT kt FROM KanbanTask kt WHERE kt.kanbanList.id = :kanbanListId AND kt.isDeleted = false ORDER BY kt.order ASC")
-    List<KanbanTask> findByKanbanListIdOrderByOrder(@Param("kanbanListId") Long kanbanListId);
+    @Query("SELECT kt FROM KanbanTask kt WHERE kt.kanbanList.id = :kanbanListId AND kt.isDeleted = false ORDER BY kt.rank ASC, kt.order ASC")
+    List<KanbanTask> findByKanbanListIdOrderByRank(@Param("kanbanListId") Long kanbanListId);
     
     @Query("SELECT MAX(kt.order) FROM KanbanTask kt WHERE kt.kanbanList.id = :kanbanListId AND kt.isDeleted = false")
     Integer findMaxOrderByKanbanListId(@Param("kanbanListId") Long kanbanListId);
@@ -29,6 +36,81 @@ public interface KanbanTaskRepository extends JpaRepository<KanbanTask, Long> {
            "JOIN FETCH kt.kanbanList " +
            "LEFT JOIN FETCH kt.members " +
            "WHERE kt.kanbanList.id = :kanbanListId AND kt.isDeleted = false " +
-           "ORDER BY kt.order ASC")
-    List<KanbanTask> findByKanbanListIdOrderByOrderWithFetch(@Param("kanbanListId") Long kanbanListId);
+           "ORDER BY kt.rank ASC, kt.order ASC")
+    List<KanbanTask> findByKanbanListIdOrderByRankWithFetch(@Param("kanbanListId") Long kanbanListId);
+
+    // 보드 조립용 - 여러 리스트의 작업을 한 번에 조회
+    @Query("SELECT kt FROM KanbanTask kt WHERE kt.kanbanList.id IN :kanbanListIds AND kt.isDeleted = false ORDER BY kt.rank ASC, kt.order ASC")
+    List<KanbanTask> findByKanbanListIdInOrderByRank(@Param("kanbanListIds") Collection<Long> kanbanListIds);
+
+    // 보드 요약용 - 본문/하위 엔티티 없이 카드 표시에 필요한 컬럼과 댓글/첨부파일 개수만 조회
+    @Query("SELECT new com.pickteam.dto.kanban.KanbanTaskSummaryDto(" +
+           "kt.id, kt.kanbanList.id, kt.subject, kt.order, kt.rank, kt.deadline, kt.isApproved, kt.completionRequested, " +
+           "(SELECT COUNT(ktc.id) FROM KanbanTaskComment ktc WHERE ktc.kanbanTask = kt AND ktc.isDeleted = false), " +
+           "(SELECT COUNT(kta.id) FROM KanbanTaskAttach kta WHERE kta.kanbanTask = kt AND kta.isDeleted = false)) " +
+           "FROM KanbanTask kt WHERE kt.kanbanList.id IN :kanbanListIds AND kt.isDeleted = false ORDER BY kt.rank ASC, kt.order ASC")
+    List<KanbanTaskSummaryDto> findSummariesByKanbanListIdIn(@Param("kanbanListIds") Collection<Long> kanbanListIds);
+
+    // 정렬 키 (LexoRank) - 카드 순서는 rank 기준, rank가 아직 없는 기존 카드는 앞쪽에서 order 순
+    @Query("SELECT kt.rank FROM KanbanTask kt WHERE kt.id = :id AND kt.kanbanList.id = :kanbanListId AND kt.isDeleted = false")
+    Optional<String> findRankByIdAndKanbanListId(@Param("id") Long id, @Param("kanbanListId") Long kanbanListId);
+
+    @Query("SELECT MIN(kt.rank) FROM KanbanTask kt " +
+           "WHERE kt.kanbanList.id = :kanbanListId AND kt.isDeleted = false AND kt.id <> :excludeId AND kt.rank > :rank")
+    String findNextRank(@Param("kanbanListId") Long kanbanListId, @Param("rank") String rank, @Param("excludeId") Long excludeId);
+
+    @Query("SELECT MAX(kt.rank) FROM KanbanTask kt " +
+           "WHERE kt.kanbanList.id = :kanbanListId AND kt.isDeleted = false AND kt.id <> :excludeId AND kt.rank < :rank")
+    String findPrevRank(@Param("kanbanListId") Long kanbanListId, @Param("rank") String rank, @Param("excludeId") Long excludeId);
+
+    @Query("SELECT MAX(kt.rank) FROM KanbanTask kt WHERE kt.kanbanList.id = :kanbanListId AND kt.isDeleted = false AND kt.id <> :excludeId")
+    String findMaxRankExcluding(@Param("kanbanListId") Long kanbanListId, @Param("excludeId") Long excludeId);
+
+    // 리스트 안 순번 - 정렬 키 순으로 앞에 있는 카드 수 (키가 없는 기존 카드는 앞쪽으로 센다, 키가 없는 카드는 제외)
+    @Query("SELECT new com.pickteam.dto.kanban.KanbanTaskPosition(kt.id, " +
+           "(SELECT COUNT(o.id) FROM KanbanTask o WHERE o.kanbanList = kt.kanbanList AND o.isDeleted = false " +
+           "AND (o.rank < kt.rank OR o.rank IS NULL))) " +
+           "FROM KanbanTask kt WHERE kt.id IN :ids AND kt.rank IS NOT NULL")
+    List<KanbanTaskPosition> findPositionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT COUNT(kt) FROM KanbanTask kt WHERE kt.kanbanList.id = :kanbanListId AND kt.isDeleted = false AND kt.id <> :excludeId")
+    long countByKanbanListIdExcluding(@Param("kanbanListId") Long kanbanListId, @Param("excludeId") Long excludeId);
+
+    // 리스트 안 순서대로의 정렬 키 (순번 기반 기존 이동 요청 변환용)
+    @Query("SELECT kt.rank FROM KanbanTask kt " +
+           "WHERE kt.kanbanList.id = :kanbanListId AND kt.isDeleted = false AND kt.id <> :excludeId " +
+           "ORDER BY kt.rank ASC, kt.order ASC, kt.id ASC")
+    List<String> findRanksInOrder(@Param("kanbanListId") Long kanbanListId, @Param("excludeId") Long excludeId, Pageable pageable);
+
+    // 카드 이동 - 정렬 키와 리스트만 한 행 갱신
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE KanbanTask kt SET kt.rank = :rank, kt.kanbanList = :kanbanList, kt.updatedAt = :now " +
+           "WHERE kt.id = :id AND kt.isDeleted = false")
+    int moveTo(@Param("id") Long id, @Param("kanbanList") KanbanList kanbanList,
+               @Param("rank") String rank, @Param("now") LocalDateTime now);
+
+    // 재배치용
+    @Query("SELECT kt.id FROM KanbanTask kt WHERE kt.kanbanList.id = :kanbanListId AND kt.isDeleted = false " +
+           "ORDER BY kt.rank ASC, kt.order ASC, kt.id ASC")
+    List<Long> findIdsInRankOrder(@Param("kanbanListId") Long kanbanListId);
+
+    @Modifying
+    @Query("UPDATE KanbanTask kt SET kt.rank = NULL WHERE kt.kanbanList.id = :kanbanListId")
+    int clearRanks(@Param("kanbanListId") Long kanbanListId);
+
+    @Modifying
+    @Query("UPDATE KanbanTask kt SET kt.rank = :rank WHERE kt.id = :id")
+    int updateRank(@Param("id") Long id, @Param("rank") String rank);
+
+    @Query("SELECT DISTINCT kt.kanbanList.id FROM KanbanTask kt " +
+           "WHERE kt.rank IS NULL AND kt.isDeleted = false AND kt.kanbanList.isDeleted = false")
+    List<Long> findKanbanListIdsWithUnrankedTasks();
+
+    @Query("SELECT DISTINCT kt.kanbanList.id FROM KanbanTask kt " +
+           "WHERE kt.kanbanList.kanban.id = :kanbanId AND kt.rank IS NULL AND kt.isDeleted = false AND kt.kanbanList.isDeleted = false")
+    List<Long> findKanbanListIdsWithUnrankedTasksByKanbanId(@Param("kanbanId") Long kanbanId);
+
+    // 일괄 변경용 - 요청에 나온 카드를 한 번에 조회
+    @Query("SELECT kt FROM KanbanTask kt WHERE kt.id IN :ids AND kt.isDeleted = false")
+    List<KanbanTask> findByIdInAndIsDeletedFalse(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
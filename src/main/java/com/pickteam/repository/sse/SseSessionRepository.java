@@ -6,10 +6,12 @@ import org.springframework.stereotype.Repository;
 
 import java.time.Duration;
 import java.util.Optional;
-import java.util.Set;
+import java.util.UUID;
 
 /**
  * Redis 기반 SSE 세션 레포지토리
+ * - 인증된 사용자에게 일회용 구독 티켓을 발급하고, 구독 시 GETDEL로 원자적으로 회수한다
+ * - 티켓 키로 바로 조회하므로 대기 중인 등록 수와 무관하게 O(1)
  */
 @Repository
 @RequiredArgsConstructor
@@ -17,53 +19,44 @@ public class SseSessionRepository {
 
     private final StringRedisTemplate redisTemplate;
 
-    private static final String PREFIX = "sse:prepare:";
+    private static final String TICKET_PREFIX = "sse:ticket:";
 
-    public void savePrepared(Long accountId) {
-        String key = PREFIX + accountId;
-        redisTemplate.opsForValue().set(key, "true", Duration.ofMinutes(2)); // TTL 설정
-    }
+    /** 티켓 유효 시간 */
+    public static final Duration TICKET_TTL = Duration.ofMinutes(2);
 
-    public boolean isPrepared(Long accountId) {
-        String key = PREFIX + accountId;
-        return "true".equals(redisTemplate.opsForValue().get(key));
+    /**
+     * 일회용 구독 티켓 발급
+     *
+     * @param accountId 티켓 소유 사용자 ID
+     * @return 추측 불가능한 티켓 문자열
+     */
+    public String issueTicket(Long accountId) {
+        String ticket = UUID.randomUUID().toString();
+        redisTemplate.opsForValue().set(TICKET_PREFIX + ticket, String.valueOf(accountId), TICKET_TTL);
+        return ticket;
     }
 
-    public void deletePrepared(Long accountId) {
-        String key = PREFIX + accountId;
-        redisTemplate.delete(key);
-    }
+    /**
+     * 티켓 회수 (GETDEL - 같은 티켓은 한 번만 성공)
+     *
+     * @param ticket 발급받은 티켓
+     * @return 티켓 소유 사용자 ID (없거나 만료/사용된 티켓이면 empty)
+     */
+    public Optional<Long> redeemTicket(String ticket) {
+        if (ticket == null || ticket.isBlank()) {
+            return Optional.empty();
+        }
 
-    public Optional<Long> resolveAnyPrepared() {
-        Set<String> keys = redisTemplate.keys(PREFIX + "*");
-        if (keys == null || keys.isEmpty()) {
+        String accountId = redisTemplate.opsForValue().getAndDelete(TICKET_PREFIX + ticket);
+        if (accountId == null) {
             return Optional.empty();
         }
-        
-        // 여러 키가 있을 경우 하나씩 시도하며 동시성 문제 해결
-        for (String key : keys) {
-            try {
-                Long accountId = Long.parseLong(key.replace(PREFIX, ""));
-                
-                // 키가 존재하는지 확인하고 원자적으로 삭제
-                Boolean deleted = redisTemplate.delete(key);
-                if (Boolean.TRUE.equals(deleted)) {
-                    return Optional.of(accountId);
-                }
-            } catch (NumberFormatException e) {
-                // 잘못된 키 형식은 무시
-                continue;
-            }
+
+        try {
+            return Optional.of(Long.parseLong(accountId));
+        } catch (NumberFormatException e) {
+            // 잘못된 값은 무시
+            return Optional.empty();
         }
-        
-        return Optional.empty();
-    }
-    
-    /**
-     * 준비된 세션 수 조회 (디버깅용)
-     */
-    public long countPreparedSessions() {
-        Set<String> keys = redisTemplate.keys(PREFIX + "*");
-        return keys != null ? keys.size() : 0;
     }
-}
\ No newline at end of file
+}
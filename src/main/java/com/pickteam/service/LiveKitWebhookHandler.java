@@ -0,0 +1,118 @@
+package com.pickteam.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pickteam.config.VideoConferenceConfig;
+import io.livekit.server.WebhookReceiver;
+import livekit.LivekitModels;
+import livekit.LivekitWebhook;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LiveKit 웹훅 처리
+ * - 서명/본문 해시를 검증한 뒤 participant_joined / participant_left / room_finished를 접속자 레지스트리에 반영한다
+ * - 회의방 이름은 화상회의 채널 ID, 접속자 identity는 사용자 이메일이다 (입장 토큰 발급 규칙)
+ * - 재전송된 이벤트는 이벤트 ID로 걸러내고, 퇴장 후 정리는 VideoParticipantReconciler가 지연 수행한다
+ */
+@Slf4j
+@Component
+public class LiveKitWebhookHandler {
+
+    static final String PARTICIPANT_JOINED = "participant_joined";
+    static final String PARTICIPANT_LEFT = "participant_left";
+    static final String ROOM_FINISHED = "room_finished";
+
+    private final WebhookReceiver webhookReceiver;
+    private final VideoParticipantRegistry participantRegistry;
+    private final VideoParticipantReconciler participantReconciler;
+
+    // 처리한 이벤트 ID (재전송 중복 제거용)
+    private final Cache<String, Boolean> handledEventIds;
+
+    private final AtomicLong receivedEvents = new AtomicLong();
+    private final AtomicLong duplicateEvents = new AtomicLong();
+
+    public LiveKitWebhookHandler(@Value("${livekit.api.key}") String apiKey,
+                                 @Value("${livekit.api.secret}") String apiSecret,
+                                 VideoConferenceConfig videoConferenceConfig,
+                                 VideoParticipantRegistry participantRegistry,
+                                 VideoParticipantReconciler participantReconciler) {
+        this.webhookReceiver = new WebhookReceiver(apiKey, apiSecret);
+        this.participantRegistry = participantRegistry;
+        this.participantReconciler = participantReconciler;
+        this.handledEventIds = Caffeine.newBuilder()
+                .expireAfterWrite(videoConferenceConfig.getParticipants().getWebhookDedupTtl())
+                .maximumSize(100_000)
+                .build();
+    }
+
+    /**
+     * 웹훅 검증 후 처리
+     *
+     * @throws IllegalArgumentException 서명 또는 본문 해시가 맞지 않는 경우
+     */
+    public void handle(String authHeader, String body) {
+        LivekitWebhook.WebhookEvent event = webhookReceiver.receive(body, authHeader);
+        receivedEvents.incrementAndGet();
+
+        if (!event.getId().isEmpty() && handledEventIds.asMap().putIfAbsent(event.getId(), Boolean.TRUE) != null) {
+            duplicateEvents.incrementAndGet();
+            log.debug("LiveKit 웹훅 중복 수신 무시: id={}", event.getId());
+            return;
+        }
+
+        Long channelId = parseChannelId(event.getRoom().getName());
+        if (channelId == null) {
+            log.debug("화상회의 채널이 아닌 LiveKit 이벤트 무시: event={}, room={}", event.getEvent(), event.getRoom().getName());
+            return;
+        }
+        long eventAtMillis = event.getCreatedAt() > 0
+                ? TimeUnit.SECONDS.toMillis(event.getCreatedAt()) : System.currentTimeMillis();
+        LivekitModels.ParticipantInfo participant = event.getParticipant();
+
+        switch (event.getEvent()) {
+            case PARTICIPANT_JOINED -> {
+                long joinedAtMillis = participant.getJoinedAt() > 0
+                        ? TimeUnit.SECONDS.toMillis(participant.getJoinedAt()) : eventAtMillis;
+                participantRegistry.joined(channelId, participant.getIdentity(), participant.getName(), joinedAtMillis, eventAtMillis);
+            }
+            case PARTICIPANT_LEFT -> {
+                participantRegistry.left(channelId, participant.getIdentity(), eventAtMillis);
+                participantReconciler.scheduleLeave(channelId, participant.getIdentity());
+            }
+            case ROOM_FINISHED -> {
+                List<String> remaining = participantRegistry.roomFinished(channelId);
+                remaining.forEach(identity -> participantReconciler.scheduleLeave(channelId, identity));
+            }
+            default -> log.debug("처리하지 않는 LiveKit 이벤트: event={}, channelId={}", event.getEvent(), channelId);
+        }
+    }
+
+    private Long parseChannelId(String roomName) {
+        if (roomName == null || roomName.isEmpty() || roomName.length() > 18
+                || !roomName.chars().allMatch(Character::isDigit)) {
+            return null;
+        }
+        return Long.parseLong(roomName);
+    }
+
+    /**
+     * 웹훅 처리 통계 (디버깅용)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("receivedEvents", receivedEvents.get());
+        stats.put("duplicateEvents", duplicateEvents.get());
+        stats.putAll(participantRegistry.getStats());
+        stats.putAll(participantReconciler.getStats());
+        return stats;
+    }
+}
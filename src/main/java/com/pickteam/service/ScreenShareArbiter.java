@@ -0,0 +1,292 @@
+package com.pickteam.service;
+
+import com.pickteam.config.VideoConferenceConfig;
+import com.pickteam.dto.VideoConferenceMsgDTO;
+import com.pickteam.repository.ScreenShareStateRepository;
+import com.pickteam.util.VideoConferenceControlMsg;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 화상회의 채널별 화면 공유 중재
+ * - 채널마다 발표자 한 명과 FIFO 대기열을 두고, 공유 요청이 들어오면 현재 발표자에게 중단을 요청한다
+ * - 발표자가 중단을 확인하면(또는 채널을 나가면) 대기열 맨 앞 사용자가 발표자가 된다
+ *   남은 대기자가 있으면 새 발표자에게도 곧바로 중단을 요청해 요청 순서대로 차례가 돌아가게 한다
+ * - 중단 요청 후 stopTimeout 안에 확인이 없으면 강제로 다음 대기자에게 넘긴다
+ * - 단일 인스턴스에서는 ConcurrentHashMap.compute로, 다중 인스턴스에서는 Redis Lua 스크립트로 원자적으로 전이한다
+ */
+@Slf4j
+@Component
+public class ScreenShareArbiter {
+
+    private final VideoConferenceConfig.ScreenShare config;
+    private final ScreenShareStateRepository stateRepository;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // 채널 ID → 화면 공유 상태 (단일 인스턴스 모드)
+    private final Map<Long, RoomState> rooms = new ConcurrentHashMap<>();
+
+    private final AtomicLong grants = new AtomicLong();
+    private final AtomicLong stopRequests = new AtomicLong();
+    private final AtomicLong forcedStops = new AtomicLong();
+
+    public ScreenShareArbiter(VideoConferenceConfig videoConferenceConfig,
+                              ScreenShareStateRepository stateRepository,
+                              @Lazy SimpMessagingTemplate messagingTemplate) {
+        this.config = videoConferenceConfig.getScreenShare();
+        this.stateRepository = stateRepository;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    /**
+     * 화면 공유 요청
+     */
+    public void requestShare(Long channelId, String userEmail) {
+        requestShare(channelId, userEmail, System.currentTimeMillis());
+    }
+
+    void requestShare(Long channelId, String userEmail, long now) {
+        Transition transition;
+        if (config.isClusterEnabled()) {
+            transition = Transition.of(stateRepository.request(channelId, userEmail, now, stopTimeoutMs(), stateTtlMs()));
+        } else {
+            AtomicReference<Transition> result = new AtomicReference<>(Transition.NONE);
+            rooms.compute(channelId, (id, state) -> {
+                RoomState room = state != null ? state : new RoomState();
+                result.set(room.request(userEmail, now, stopTimeoutMs()));
+                return room;
+            });
+            transition = result.get();
+        }
+        notify(channelId, transition, false);
+    }
+
+    /**
+     * 발표자의 화면 공유 중단 확인
+     */
+    public void confirmStop(Long channelId, String userEmail) {
+        release(channelId, userEmail, System.currentTimeMillis());
+    }
+
+    /**
+     * 채널 퇴장 - 발표자면 중단 처리 후 다음 대기자에게 넘기고, 대기 중이면 대기열에서 제거
+     */
+    public void leave(Long channelId, String userEmail) {
+        release(channelId, userEmail, System.currentTimeMillis());
+    }
+
+    void release(Long channelId, String userEmail, long now) {
+        Transition transition;
+        if (config.isClusterEnabled()) {
+            transition = Transition.of(stateRepository.release(channelId, userEmail, now, stopTimeoutMs(), stateTtlMs()));
+        } else {
+            AtomicReference<Transition> result = new AtomicReference<>(Transition.NONE);
+            rooms.computeIfPresent(channelId, (id, room) -> {
+                result.set(room.release(userEmail, now, stopTimeoutMs()));
+                return room.isEmpty() ? null : room;
+            });
+            transition = result.get();
+        }
+        notify(channelId, transition, false);
+    }
+
+    /**
+     * 채널 삭제 시 화면 공유 상태 제거
+     */
+    public void clear(Long channelId) {
+        if (config.isClusterEnabled()) {
+            stateRepository.clear(channelId);
+        } else {
+            rooms.remove(channelId);
+        }
+    }
+
+    /**
+     * 중단 확인 기한이 지난 발표자를 강제로 중단하고 다음 대기자에게 넘김
+     */
+    @Scheduled(fixedDelayString = "${app.video.screen-share.sweep-interval-ms:1000}")
+    public void expireOverdueHolders() {
+        expireOverdueHolders(System.currentTimeMillis());
+    }
+
+    void expireOverdueHolders(long now) {
+        try {
+            if (config.isClusterEnabled()) {
+                for (Long channelId : stateRepository.findOverdueChannelIds(now)) {
+                    notify(channelId, Transition.of(stateRepository.expire(channelId, now, stopTimeoutMs(), stateTtlMs())), true);
+                }
+                return;
+            }
+            for (Long channelId : rooms.keySet()) {
+                AtomicReference<Transition> result = new AtomicReference<>(Transition.NONE);
+                rooms.computeIfPresent(channelId, (id, room) -> {
+                    result.set(room.expire(now, stopTimeoutMs()));
+                    return room.isEmpty() ? null : room;
+                });
+                notify(channelId, result.get(), true);
+            }
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 화면 공유 중단 기한 검사 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전이 결과를 클라이언트에 알림 (중단 → 새 발표자 승인 → 중단 요청 순)
+     */
+    private void notify(Long channelId, Transition transition, boolean forced) {
+        String destination = "/sub/video/" + channelId;
+        if (transition.released != null) {
+            if (forced) {
+                forcedStops.incrementAndGet();
+                log.info("⏱️ 화면 공유 중단 확인 시간 초과로 강제 중단: channelId={}, user={}", channelId, transition.released);
+            }
+            messagingTemplate.convertAndSend(destination,
+                    new VideoConferenceMsgDTO(VideoConferenceControlMsg.STOP_SCREEN_SHARING_CONFIRMED, transition.released, null));
+        }
+        if (transition.granted != null) {
+            grants.incrementAndGet();
+            messagingTemplate.convertAndSendToUser(transition.granted, destination,
+                    new VideoConferenceMsgDTO(VideoConferenceControlMsg.START_SCREEN_SHARING_CONFIRMED, transition.granted, null));
+        }
+        if (transition.stopRequested != null) {
+            stopRequests.incrementAndGet();
+            messagingTemplate.convertAndSendToUser(transition.stopRequested, destination,
+                    new VideoConferenceMsgDTO(VideoConferenceControlMsg.STOP_SCREEN_SHARING, null, null));
+        }
+    }
+
+    /**
+     * 채널의 현재 발표자 (단일 인스턴스 모드, 없으면 null)
+     */
+    String currentHolder(Long channelId) {
+        RoomState room = rooms.get(channelId);
+        return room != null ? room.holder : null;
+    }
+
+    private long stopTimeoutMs() {
+        return config.getStopTimeout().toMillis();
+    }
+
+    private long stateTtlMs() {
+        return config.getStateTtl().toMillis();
+    }
+
+    /**
+     * 화면 공유 중재 통계 (디버깅용)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("clusterEnabled", config.isClusterEnabled());
+        stats.put("activeRooms", rooms.size());
+        stats.put("grants", grants.get());
+        stats.put("stopRequests", stopRequests.get());
+        stats.put("forcedStops", forcedStops.get());
+        return stats;
+    }
+
+    /**
+     * 상태 전이 결과 (null = 해당 알림 없음)
+     */
+    static final class Transition {
+        static final Transition NONE = new Transition(null, null, null);
+
+        /** 중단된 발표자 (채널 전체에 중단 완료 알림) */
+        final String released;
+        /** 새 발표자 (공유 승인 알림) */
+        final String granted;
+        /** 중단을 요청할 발표자 */
+        final String stopRequested;
+
+        Transition(String released, String granted, String stopRequested) {
+            this.released = released;
+            this.granted = granted;
+            this.stopRequested = stopRequested;
+        }
+
+        /**
+         * Lua 스크립트 결과 변환 ({released, granted, stopRequested}, "" = 없음)
+         */
+        static Transition of(List<String> result) {
+            if (result == null || result.size() < 3) {
+                return NONE;
+            }
+            return new Transition(emptyToNull(result.get(0)), emptyToNull(result.get(1)), emptyToNull(result.get(2)));
+        }
+
+        private static String emptyToNull(String value) {
+            return value == null || value.isEmpty() ? null : value;
+        }
+    }
+
+    /**
+     * 채널 하나의 화면 공유 상태 (ConcurrentHashMap.compute 안에서만 변경)
+     * - Redis Lua 스크립트와 같은 규칙으로 전이한다
+     */
+    private static final class RoomState {
+        private String holder;
+        private final Deque<String> waiting = new ArrayDeque<>();
+        // 발표자에게 중단을 요청한 경우 확인 기한 (0 = 요청 없음)
+        private long stopDeadline;
+
+        Transition request(String user, long now, long stopTimeoutMs) {
+            if (holder == null) {
+                holder = user;
+                return new Transition(null, user, null);
+            }
+            if (holder.equals(user)) {
+                return new Transition(null, user, null);
+            }
+            if (waiting.contains(user)) {
+                return Transition.NONE;
+            }
+            waiting.addLast(user);
+            if (stopDeadline != 0) {
+                return Transition.NONE;
+            }
+            stopDeadline = now + stopTimeoutMs;
+            return new Transition(null, null, holder);
+        }
+
+        Transition release(String user, long now, long stopTimeoutMs) {
+            if (!user.equals(holder)) {
+                waiting.remove(user);
+                return Transition.NONE;
+            }
+            return promote(now, stopTimeoutMs);
+        }
+
+        Transition expire(long now, long stopTimeoutMs) {
+            if (holder == null || stopDeadline == 0 || stopDeadline > now) {
+                return Transition.NONE;
+            }
+            return promote(now, stopTimeoutMs);
+        }
+
+        private Transition promote(long now, long stopTimeoutMs) {
+            String released = holder;
+            holder = waiting.pollFirst();
+            stopDeadline = 0;
+            if (holder == null || waiting.isEmpty()) {
+                return new Transition(released, holder, null);
+            }
+            stopDeadline = now + stopTimeoutMs;
+            return new Transition(released, holder, holder);
+        }
+
+        boolean isEmpty() {
+            return holder == null && waiting.isEmpty();
+        }
+    }
+}
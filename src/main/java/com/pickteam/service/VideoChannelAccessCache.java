@@ -0,0 +1,270 @@
+package com.pickteam.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pickteam.config.WebSocketAuthConfig;
+import com.pickteam.domain.videochat.VideoMember;
+import com.pickteam.repository.VideoMemberRepository;
+import com.pickteam.util.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 화상회의 채널 접근 권한 캐시 (STOMP SEND/SUBSCRIBE 인가, 회의 입장 토큰 발급 전 참여 확인용)
+ * - 1단계: 세션별로 이미 허가된 채널 집합 (조회 비용 없음)
+ * - 2단계: 노드 공용 Caffeine 캐시 (계정, 채널) → VideoMember ID (참여하지 않았으면 NOT_MEMBER)
+ * - 둘 다 없을 때만 DB를 조회하며, 참여자 변경 시 커밋 후 두 단계 모두 무효화한다
+ * - 다중 인스턴스에서는 Redis 채널로 다른 노드의 캐시를 무효화한다 ("{nodeId}:{accountId|*}:{channelId}")
+ */
+@Slf4j
+@Component
+public class VideoChannelAccessCache implements MessageListener {
+
+    private static final long NOT_MEMBER = -1L;
+    private static final String ALL_ACCOUNTS = "*";
+
+    private final VideoMemberRepository videoMemberRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final WebSocketAuthConfig authConfig;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Cache<AccessKey, Long> memberships;
+
+    // 세션 ID → 세션에서 허가된 채널
+    private final Map<String, SessionAccess> sessions = new ConcurrentHashMap<>();
+    // 계정 ID → 세션 ID (무효화 시 해당 계정의 세션만 찾기 위한 색인)
+    private final Map<Long, Set<String>> accountSessions = new ConcurrentHashMap<>();
+
+    private final AtomicLong sessionHits = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public VideoChannelAccessCache(VideoMemberRepository videoMemberRepository,
+                                   StringRedisTemplate redisTemplate,
+                                   RedisMessageListenerContainer listenerContainer,
+                                   WebSocketAuthConfig authConfig) {
+        this.videoMemberRepository = videoMemberRepository;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.authConfig = authConfig;
+        this.memberships = Caffeine.newBuilder()
+                .maximumSize(authConfig.getCacheMaximumSize())
+                .expireAfterWrite(authConfig.getCacheTtl())
+                .build();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (!authConfig.isInvalidationEnabled()) {
+            return;
+        }
+        listenerContainer.addMessageListener(this, new ChannelTopic(authConfig.getInvalidationChannel()));
+        log.info("📡 화상회의 채널 권한 캐시 무효화 구독 시작: channel={}", authConfig.getInvalidationChannel());
+    }
+
+    /**
+     * 세션에서 이미 허가된 채널인지 확인 (DB/공용 캐시 조회 없음)
+     */
+    public boolean isAuthorizedInSession(String sessionId, Long channelId) {
+        SessionAccess access = sessions.get(sessionId);
+        if (access != null && access.channels.contains(channelId)) {
+            sessionHits.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 채널 접근 권한 확인 후 세션에 허가 채널로 기록
+     *
+     * @return 참여 중이면 VideoMember ID, 참여하지 않았으면 null
+     */
+    public Long authorize(String sessionId, Long accountId, Long channelId) {
+        long memberId = lookup(accountId, channelId);
+        if (memberId == NOT_MEMBER) {
+            return null;
+        }
+
+        sessions.computeIfAbsent(sessionId, id -> {
+            accountSessions.computeIfAbsent(accountId, a -> ConcurrentHashMap.newKeySet()).add(sessionId);
+            return new SessionAccess(accountId);
+        }).channels.add(channelId);
+        return memberId;
+    }
+
+    /**
+     * 채널 참여 여부 확인 (세션과 무관, 공용 캐시 → DB 순으로 조회)
+     */
+    public boolean isMember(Long accountId, Long channelId) {
+        return lookup(accountId, channelId) != NOT_MEMBER;
+    }
+
+    private long lookup(Long accountId, Long channelId) {
+        AccessKey key = new AccessKey(accountId, channelId);
+        Long memberId = memberships.getIfPresent(key);
+        if (memberId != null) {
+            cacheHits.incrementAndGet();
+            return memberId;
+        }
+        return memberships.get(key, k -> {
+            cacheMisses.incrementAndGet();
+            VideoMember member = videoMemberRepository.findByAccountIdAndVideoChannelId(accountId, channelId);
+            return member != null ? member.getId() : NOT_MEMBER;
+        });
+    }
+
+    /**
+     * 세션 종료 시 세션 허가 정보 제거
+     */
+    public void sessionClosed(String sessionId) {
+        SessionAccess access = sessions.remove(sessionId);
+        if (access == null) {
+            return;
+        }
+        accountSessions.computeIfPresent(access.accountId, (accountId, sessionIds) -> {
+            sessionIds.remove(sessionId);
+            return sessionIds.isEmpty() ? null : sessionIds;
+        });
+    }
+
+    /**
+     * 참여자 입장/퇴장 반영 (커밋 후)
+     */
+    public void memberChanged(Long accountId, Long channelId) {
+        TransactionUtils.afterCommit(() -> {
+            evict(accountId, channelId);
+            publishInvalidation(String.valueOf(accountId), channelId);
+        });
+    }
+
+    /**
+     * 채널 삭제 반영 - 채널의 모든 계정 권한 제거 (커밋 후)
+     */
+    public void channelDeleted(Long channelId) {
+        TransactionUtils.afterCommit(() -> {
+            evictChannel(channelId);
+            publishInvalidation(ALL_ACCOUNTS, channelId);
+        });
+    }
+
+    private void evict(Long accountId, Long channelId) {
+        invalidations.incrementAndGet();
+        memberships.invalidate(new AccessKey(accountId, channelId));
+        Set<String> sessionIds = accountSessions.get(accountId);
+        if (sessionIds == null) {
+            return;
+        }
+        for (String sessionId : sessionIds) {
+            SessionAccess access = sessions.get(sessionId);
+            if (access != null) {
+                access.channels.remove(channelId);
+            }
+        }
+    }
+
+    private void evictChannel(Long channelId) {
+        invalidations.incrementAndGet();
+        memberships.asMap().keySet().removeIf(key -> key.channelId.equals(channelId));
+        sessions.values().forEach(access -> access.channels.remove(channelId));
+    }
+
+    /**
+     * 다른 노드에서 보낸 무효화 메시지 처리 ("{nodeId}:{accountId|*}:{channelId}")
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split(":");
+        if (parts.length != 3 || parts[0].equals(nodeId)) {
+            return;
+        }
+        try {
+            Long channelId = Long.parseLong(parts[2]);
+            if (ALL_ACCOUNTS.equals(parts[1])) {
+                evictChannel(channelId);
+            } else {
+                evict(Long.parseLong(parts[1]), channelId);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("⚠️ 잘못된 화상회의 채널 권한 무효화 메시지: {}", body);
+        }
+    }
+
+    private void publishInvalidation(String account, Long channelId) {
+        if (!authConfig.isInvalidationEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(authConfig.getInvalidationChannel(), nodeId + ":" + account + ":" + channelId);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 화상회의 채널 권한 무효화 발행 실패: channelId={}, error={}", channelId, e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 통계 (디버깅용)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("sessionHits", sessionHits.get());
+        stats.put("cacheHits", cacheHits.get());
+        stats.put("cacheMisses", cacheMisses.get());
+        stats.put("invalidations", invalidations.get());
+        stats.put("cachedEntries", memberships.estimatedSize());
+        stats.put("sessions", sessions.size());
+        return stats;
+    }
+
+    private static final class SessionAccess {
+        private final Long accountId;
+        private final Set<Long> channels = ConcurrentHashMap.newKeySet();
+
+        SessionAccess(Long accountId) {
+            this.accountId = accountId;
+        }
+    }
+
+    private static final class AccessKey {
+        private final Long accountId;
+        private final Long channelId;
+
+        AccessKey(Long accountId, Long channelId) {
+            this.accountId = accountId;
+            this.channelId = channelId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof AccessKey other)) {
+                return false;
+            }
+            return accountId.equals(other.accountId) && channelId.equals(other.channelId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(accountId, channelId);
+        }
+    }
+}
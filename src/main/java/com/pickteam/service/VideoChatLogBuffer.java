@@ -0,0 +1,199 @@
+package com.pickteam.service;
+
+import com.pickteam.config.ChatConfig;
+import com.pickteam.dto.WebSocketChatDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 화상회의 채널 채팅 기록 버퍼
+ * - 채널마다 고정 크기 링(AtomicReferenceArray)에 최근 메시지만 보관한다 (용량을 넘으면 오래된 메시지부터 덮어씀)
+ * - 순번은 AtomicLong으로 발급하고 슬롯은 CAS로 교체하며, 조회 경로에는 잠금이 없다
+ * - 마지막 메시지 이후 idle-ttl이 지난 채널의 링은 주기적으로 제거한다
+ * - 기록과 제거는 모두 맵의 채널 항목 잠금 안에서 처리하므로, 제거되는 링에 메시지가 기록되어 사라지지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VideoChatLogBuffer {
+
+    private final ChatConfig chatConfig;
+
+    private final ConcurrentHashMap<Long, Ring> rooms = new ConcurrentHashMap<>();
+
+    private final AtomicLong evictedRooms = new AtomicLong();
+
+    /**
+     * 메시지 기록
+     *
+     * @return 순번이 부여된 저장본 (브로드캐스트에 그대로 사용)
+     */
+    public WebSocketChatDTO append(Long roomId, WebSocketChatDTO message) {
+        long nowMillis = System.currentTimeMillis();
+        WebSocketChatDTO[] stored = new WebSocketChatDTO[1];
+        // 정리 작업이 링을 지우는 도중에 기록하지 않도록 맵 잠금 안에서 추가한다
+        rooms.compute(roomId, (id, ring) -> {
+            Ring target = ring != null
+                    ? ring
+                    : new Ring(Math.max(1, chatConfig.getVideoChatLog().getCapacityPerRoom()));
+            stored[0] = target.append(message, nowMillis);
+            return target;
+        });
+        return stored[0];
+    }
+
+    /**
+     * 기록 조회 (순번 오름차순)
+     *
+     * @param roomId 채널 ID
+     * @param before 이 순번보다 이전 기록 조회 (null이면 최신 기록)
+     * @param size 조회할 기록 수 (null이면 기본값)
+     * @return type=init 응답 (logs, 다음 커서, 이전 기록 존재 여부)
+     */
+    public WebSocketChatDTO page(Long roomId, Long before, Integer size) {
+        int limit = size == null || size <= 0 ? chatConfig.getVideoChatLog().getDefaultPageSize() : size;
+        Ring ring = rooms.get(roomId);
+
+        WebSocketChatDTO response = new WebSocketChatDTO();
+        response.setType("init");
+        if (ring == null) {
+            response.setHasMore(false);
+            return response;
+        }
+        ring.page(before, Math.min(limit, ring.capacity), response);
+        return response;
+    }
+
+    /**
+     * 대화가 없는 채널 기록 제거
+     */
+    @Scheduled(fixedDelayString = "${app.chat.video-chat-log.sweep-interval-ms:60000}")
+    public void evictIdleRooms() {
+        int evicted = evictIdleRooms(System.currentTimeMillis());
+        if (evicted > 0) {
+            log.debug("🧹 화상회의 채팅 기록 정리: 제거된 채널 수={}, 남은 채널 수={}", evicted, rooms.size());
+        }
+    }
+
+    int evictIdleRooms(long nowMillis) {
+        long cutoff = nowMillis - chatConfig.getVideoChatLog().getIdleTtl().toMillis();
+        int evicted = 0;
+        for (Long roomId : rooms.keySet()) {
+            boolean[] removed = new boolean[1];
+            // 유휴 여부 확인과 제거를 같은 잠금 안에서 처리해 그 사이에 들어온 메시지를 잃지 않는다
+            rooms.computeIfPresent(roomId, (id, ring) -> {
+                if (ring.lastActivityMillis >= cutoff) {
+                    return ring;
+                }
+                removed[0] = true;
+                return null;
+            });
+            if (removed[0]) {
+                evicted++;
+            }
+        }
+        evictedRooms.addAndGet(evicted);
+        return evicted;
+    }
+
+    /**
+     * 버퍼 통계 (디버깅용)
+     */
+    public Map<String, Object> getStats() {
+        long retained = 0;
+        for (Ring ring : rooms.values()) {
+            retained += ring.retained();
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("rooms", rooms.size());
+        stats.put("retainedMessages", retained);
+        stats.put("capacityPerRoom", chatConfig.getVideoChatLog().getCapacityPerRoom());
+        stats.put("evictedRooms", evictedRooms.get());
+        return stats;
+    }
+
+    /**
+     * 채널 하나의 고정 크기 링
+     * - 순번 seq의 메시지는 seq % capacity 슬롯에 들어가며, 슬롯의 순번으로 덮어쓰기 여부를 판단한다
+     */
+    private static final class Ring {
+        private final int capacity;
+        private final AtomicReferenceArray<Slot> slots;
+        private final AtomicLong sequence = new AtomicLong();
+        private volatile long lastActivityMillis = System.currentTimeMillis();
+
+        Ring(int capacity) {
+            this.capacity = capacity;
+            this.slots = new AtomicReferenceArray<>(capacity);
+        }
+
+        WebSocketChatDTO append(WebSocketChatDTO message, long nowMillis) {
+            long seq = sequence.getAndIncrement();
+
+            // 클라이언트가 보낸 logs 등은 버리고 표시에 필요한 필드만 보관
+            WebSocketChatDTO stored = new WebSocketChatDTO(
+                    message.getSenderEmail(), message.getSenderName(), message.getMessage(), message.getType());
+            stored.setSeq(seq);
+
+            Slot next = new Slot(seq, stored);
+            int index = (int) (seq % capacity);
+            Slot current;
+            do {
+                current = slots.get(index);
+                // 한 바퀴 뒤의 메시지가 이미 기록되었다면 더 오래된 이 메시지는 버린다
+                if (current != null && current.seq > seq) {
+                    break;
+                }
+            } while (!slots.compareAndSet(index, current, next));
+
+            lastActivityMillis = nowMillis;
+            return stored;
+        }
+
+        void page(Long before, int limit, WebSocketChatDTO response) {
+            long head = sequence.get();
+            long oldest = Math.max(0, head - capacity);
+            long upper = before == null ? head : Math.min(before, head);
+            long lower = Math.max(oldest, upper - limit);
+
+            List<WebSocketChatDTO> logs = new ArrayList<>((int) Math.max(0, upper - lower));
+            for (long seq = upper - 1; seq >= lower; seq--) {
+                Slot slot = slots.get((int) (seq % capacity));
+                // 이미 덮어써졌거나 아직 기록 중인 슬롯은 건너뛴다
+                if (slot != null && slot.seq == seq) {
+                    logs.add(slot.message);
+                }
+            }
+            Collections.reverse(logs);
+
+            response.setLogs(logs);
+            response.setBefore(logs.isEmpty() ? null : logs.get(0).getSeq());
+            response.setHasMore(lower > oldest);
+        }
+
+        int retained() {
+            return (int) Math.min(sequence.get(), capacity);
+        }
+    }
+
+    private static final class Slot {
+        private final long seq;
+        private final WebSocketChatDTO message;
+
+        Slot(long seq, WebSocketChatDTO message) {
+            this.seq = seq;
+            this.message = message;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.pickteam.service;
 
+import com.pickteam.config.VideoConferenceConfig;
 import com.pickteam.domain.user.Account;
 import com.pickteam.domain.videochat.VideoChannel;
 import com.pickteam.domain.videochat.VideoMember;
@@ -9,12 +10,11 @@ import com.pickteam.exception.VideoConferenceErrorCode;
 import com.pickteam.exception.VideoConferenceException;
 import com.pickteam.repository.VideoChannelRepository;
 import com.pickteam.repository.VideoMemberRepository;
+import com.pickteam.util.TransactionUtils;
 import com.pickteam.util.VideoConferenceControlMsg;
 import io.livekit.server.AccessToken;
 import io.livekit.server.RoomJoin;
 import io.livekit.server.RoomName;
-import io.livekit.server.WebhookReceiver;
-import livekit.LivekitWebhook;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
@@ -44,6 +44,18 @@ public class VideoConferenceServiceImpl implements VideoConferenceService {
 
     private final VideoMemberRepository videoMemberRepository;
 
+    private final VideoChannelAccessCache videoChannelAccessCache;
+
+    private final ScreenShareArbiter screenShareArbiter;
+
+    private final VideoConferenceTokenCache videoConferenceTokenCache;
+
+    private final VideoConferenceConfig videoConferenceConfig;
+
+    private final VideoParticipantRegistry videoParticipantRegistry;
+
+    private final LiveKitWebhookHandler liveKitWebhookHandler;
+
     @Autowired
     private ModelMapper modelMapper;
 
@@ -52,10 +64,6 @@ public class VideoConferenceServiceImpl implements VideoConferenceService {
     @Lazy
     private SimpMessagingTemplate messagingTemplate;
 
-    private Map<Long, String> currentSharingUser = new HashMap<>();
-
-    private Map<Long, String> sharingWaitingUser = new HashMap<>();
-
     @Transactional(readOnly = true)
     @Override
     public List<VideoChannelDTO> selectVideoChannels(Long workspaceId) throws VideoConferenceException {
@@ -108,17 +116,12 @@ public class VideoConferenceServiceImpl implements VideoConferenceService {
 
         this.selectVideoChannel(videoChannelId);
         videoMemberRepository.save(VideoMember.builder().account(Account.builder().id(accountId).build()).videoChannel(VideoChannel.builder().id(videoChannelId).id(videoChannelId).build()).build());
-        videoMemberRepository.flush();
-        List<VideoMember> members = videoMemberRepository.selectAccountsByChannelId(videoChannelId);
-        List<VideoMemberDTO> memberDTOList = members.stream().map(member -> {
-            VideoMemberDTO memberDTO = modelMapper.map(member.getAccount(), VideoMemberDTO.class);
-            memberDTO.setJoinDate(member.getCreatedAt());
-            memberDTO.setId(member.getId());
-            memberDTO.setUserId(member.getAccount().getId());
-            return memberDTO;
-        }).collect(Collectors.toList());
-
-        messagingTemplate.convertAndSend("/sub/video/" + videoChannelId, new VideoConferenceMsgDTO(VideoConferenceControlMsg.GET_PARTICIPANTS_CONFIRMED, null, memberDTOList));
+        videoChannelAccessCache.memberChanged(accountId, videoChannelId);
+        videoConferenceTokenCache.invalidate(accountId, videoChannelId);
+
+        // 접속자 목록은 LiveKit 웹훅의 PARTICIPANT_JOINED/LEFT가 갱신하므로, 여기서는 채널 멤버 변경만 알린다
+        TransactionUtils.afterCommit(() -> messagingTemplate.convertAndSend("/sub/video/" + videoChannelId,
+                new VideoConferenceMsgDTO(VideoConferenceControlMsg.CHANNEL_MEMBERS_CHANGED, null, null)));
     }
 
     @Transactional
@@ -127,6 +130,10 @@ public class VideoConferenceServiceImpl implements VideoConferenceService {
 
         VideoChannel channel = videoChannelRepository.findById(videoChannelId).orElseThrow(() -> new VideoConferenceException(VideoConferenceErrorCode.CHANNEL_NOT_FOUND));
         channel.markDeleted();
+        videoChannelAccessCache.channelDeleted(videoChannelId);
+        videoConferenceTokenCache.invalidateChannel(videoChannelId);
+        screenShareArbiter.clear(videoChannelId);
+        videoParticipantRegistry.clear(videoChannelId);
         messagingTemplate.convertAndSend("/sub/video/" + videoChannelId, new VideoConferenceMsgDTO(VideoConferenceControlMsg.SHOULD_OUT_CHANNEL, null, null));
 
     }
@@ -141,13 +148,15 @@ public class VideoConferenceServiceImpl implements VideoConferenceService {
             throw new VideoConferenceException(VideoConferenceErrorCode.MEMBERS_NOT_FOUND);
         }
 
-        return members.stream().map(member -> {
-            VideoMemberDTO memberDTO = modelMapper.map(member.getAccount(), VideoMemberDTO.class);
-            memberDTO.setJoinDate(member.getCreatedAt());
-            memberDTO.setId(member.getId());
-            memberDTO.setUserId(member.getAccount().getId());
-            return memberDTO;
-        }).collect(Collectors.toList());
+        return members.stream().map(this::toVideoMemberDTO).collect(Collectors.toList());
+    }
+
+    private VideoMemberDTO toVideoMemberDTO(VideoMember member) {
+        VideoMemberDTO memberDTO = modelMapper.map(member.getAccount(), VideoMemberDTO.class);
+        memberDTO.setJoinDate(member.getCreatedAt());
+        memberDTO.setId(member.getId());
+        memberDTO.setUserId(member.getAccount().getId());
+        return memberDTO;
     }
 
     @Transactional
@@ -156,33 +165,29 @@ public class VideoConferenceServiceImpl implements VideoConferenceService {
 
         VideoMember member = videoMemberRepository.findById(memberId).orElseThrow(() -> new VideoConferenceException(VideoConferenceErrorCode.MEMBER_NOT_FOUND));
         videoMemberRepository.delete(member);
-        videoMemberRepository.flush();
-        List<VideoMember> members = videoMemberRepository.selectAccountsByChannelId(channelId);
-        if (members.isEmpty()) {
+        videoChannelAccessCache.memberChanged(member.getAccount().getId(), channelId);
+        videoConferenceTokenCache.invalidate(member.getAccount().getId(), channelId);
+        screenShareArbiter.leave(channelId, member.getAccount().getEmail());
+        if (!videoMemberRepository.existsByChannelId(channelId)) {
             VideoChannel channel = videoChannelRepository.findById(channelId).orElseThrow(() -> new VideoConferenceException(VideoConferenceErrorCode.CHANNEL_NOT_FOUND));
             channel.markDeleted();
+            videoChannelAccessCache.channelDeleted(channelId);
+            videoConferenceTokenCache.invalidateChannel(channelId);
+            screenShareArbiter.clear(channelId);
+            videoParticipantRegistry.clear(channelId);
             return;
         }
         messagingTemplate.convertAndSendToUser(member.getAccount().getEmail(), "/sub/chat/" + channelId, new WebSocketChatDTO(null, null, "disconnect", "controll"));
         messagingTemplate.convertAndSendToUser(member.getAccount().getEmail(), "/sub/video/" + channelId, new VideoConferenceMsgDTO(VideoConferenceControlMsg.SHOULD_OUT_CHANNEL, null, null));
 
-        List<VideoMemberDTO> memberDTOList = members.stream().map(m -> {
-            VideoMemberDTO memberDTO = modelMapper.map(m.getAccount(), VideoMemberDTO.class);
-            memberDTO.setJoinDate(m.getCreatedAt());
-            memberDTO.setId(member.getId());
-            memberDTO.setUserId(m.getAccount().getId());
-            return memberDTO;
-        }).collect(Collectors.toList());
-        messagingTemplate.convertAndSend("/sub/video/" + channelId, new VideoConferenceMsgDTO(VideoConferenceControlMsg.GET_PARTICIPANTS_CONFIRMED, null, memberDTOList));
-
+        // 남은 접속자에게는 전체 목록 대신 퇴장 증분만 전송 (LiveKit 퇴장 웹훅과 중복되어도 한 번만 전송)
+        TransactionUtils.afterCommit(() -> videoParticipantRegistry.removed(channelId, member));
     }
 
 
-    @Transactional(readOnly = true)
     @Override
     public boolean checkUserInVideoChannel(Long accountId, Long videoChannelId) {
-        VideoMember member = videoMemberRepository.findByAccountIdAndVideoChannelId(accountId, videoChannelId);
-        return member != null;
+        return videoChannelAccessCache.isMember(accountId, videoChannelId);
     }
 
 
@@ -192,48 +197,39 @@ public class VideoConferenceServiceImpl implements VideoConferenceService {
         if (!checkUserInVideoChannel(accountId, videoChannelId)) {
             throw new VideoConferenceException(VideoConferenceErrorCode.MEMBER_NOT_FOUND);
         }
+        return videoConferenceTokenCache.getOrSign(accountId, videoChannelId, username, userEmail,
+                () -> signAccessToken(videoChannelId, username, userEmail));
+
+    }
+
+    private String signAccessToken(Long videoChannelId, String username, String userEmail) {
         AccessToken token = new AccessToken(LIVEKIT_API_KEY, LIVEKIT_API_SECRET);
         String metadataJson = String.format("{\"userName\":\"%s\"}", username.replace("\"", "\\\"").replace("\n", "\\n"));
 
         token.setName(username);
         token.setMetadata(metadataJson);
         token.setIdentity(userEmail);
-        token.setTtl(3600);
+        token.setTtl(videoConferenceConfig.getToken().getTtl().toSeconds());
         token.addGrants(new RoomJoin(true), new RoomName(String.valueOf(videoChannelId)));
         return token.toJwt();
-
     }
 
     @Override
     public void handleVideoConferenceEvent(String userEmail, Long roomId, VideoConferenceControlMsg event) {
 
         if (VideoConferenceControlMsg.START_SCREEN_SHARING.equals(event)) {
-            String currentSharingUserEmail = currentSharingUser.get(roomId);
-            if (currentSharingUserEmail != null) {
-                messagingTemplate.convertAndSendToUser(currentSharingUserEmail, "/sub/video/" + roomId, new VideoConferenceMsgDTO(VideoConferenceControlMsg.STOP_SCREEN_SHARING, null, null));
-                sharingWaitingUser.put(roomId, userEmail);
-            } else {
-                messagingTemplate.convertAndSendToUser(userEmail, "/sub/video/" + roomId, new VideoConferenceMsgDTO(VideoConferenceControlMsg.START_SCREEN_SHARING_CONFIRMED, userEmail, null));
-                currentSharingUser.put(roomId, userEmail);
-            }
+            screenShareArbiter.requestShare(roomId, userEmail);
         } else if (VideoConferenceControlMsg.STOP_SCREEN_SHARING_CONFIRM.equals(event)) {
-            currentSharingUser.remove(roomId);
-            messagingTemplate.convertAndSend("/sub/video/" + roomId, new VideoConferenceMsgDTO(VideoConferenceControlMsg.STOP_SCREEN_SHARING_CONFIRMED, userEmail, null));
-            if (sharingWaitingUser.get(roomId) != null) {
-                currentSharingUser.put(roomId, sharingWaitingUser.get(roomId));
-                messagingTemplate.convertAndSendToUser(currentSharingUser.get(roomId), "/sub/video/" + roomId, new VideoConferenceMsgDTO(VideoConferenceControlMsg.START_SCREEN_SHARING_CONFIRMED, currentSharingUser.get(roomId), null));
-                sharingWaitingUser.remove(roomId);
-            }
+            screenShareArbiter.confirmStop(roomId, userEmail);
+        } else if (VideoConferenceControlMsg.GET_PARTICIPANTS.equals(event)) {
+            // 이후 변경은 PARTICIPANT_JOINED / PARTICIPANT_LEFT 증분으로 전달
+            messagingTemplate.convertAndSendToUser(userEmail, "/sub/video/" + roomId, new VideoConferenceMsgDTO(VideoConferenceControlMsg.GET_PARTICIPANTS_CONFIRMED, null, videoParticipantRegistry.snapshot(roomId)));
         }
     }
 
     @Override
     public void handleLiveKitHookEvent(String authHeader, String body) throws Exception {
-        WebhookReceiver webhookReceiver = new WebhookReceiver(LIVEKIT_API_KEY, LIVEKIT_API_SECRET);
-
-        LivekitWebhook.WebhookEvent event = webhookReceiver.receive(body, authHeader);
-
-        log.info(event.toString());
+        liveKitWebhookHandler.handle(authHeader, body);
     }
 
 }
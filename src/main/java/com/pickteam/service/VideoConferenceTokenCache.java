@@ -0,0 +1,126 @@
+package com.pickteam.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.pickteam.config.VideoConferenceConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * LiveKit 입장 토큰 캐시
+ * - (계정, 채널)별로 서명된 토큰을 cacheTtl 동안 재사용해 재입장이 몰려도 HMAC 서명을 반복하지 않는다
+ * - 토큰에 들어가는 이름/이메일이 바뀌었으면 캐시된 토큰을 쓰지 않고 다시 서명한다
+ * - 참여자 변경, 채널 삭제 시 해당 항목을 제거한다 (참여 여부 확인은 캐시 조회 전에 수행)
+ */
+@Slf4j
+@Component
+public class VideoConferenceTokenCache {
+
+    private final Cache<TokenKey, CachedToken> tokens;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public VideoConferenceTokenCache(VideoConferenceConfig videoConferenceConfig) {
+        VideoConferenceConfig.Token config = videoConferenceConfig.getToken();
+        Duration cacheTtl = config.getCacheTtl();
+        if (cacheTtl.compareTo(config.getTtl()) >= 0) {
+            cacheTtl = config.getTtl().dividedBy(2);
+            log.warn("⚠️ 입장 토큰 캐시 시간이 토큰 유효 시간 이상이라 {}로 제한합니다.", cacheTtl);
+        }
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(config.getCacheMaximumSize())
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    /**
+     * 캐시된 토큰 조회, 없거나 이름/이메일이 다르면 새로 서명해 보관
+     */
+    public String getOrSign(Long accountId, Long channelId, String username, String userEmail, Supplier<String> signer) {
+        TokenKey key = new TokenKey(accountId, channelId);
+        CachedToken cached = tokens.getIfPresent(key);
+        if (cached != null && cached.matches(username, userEmail)) {
+            hits.incrementAndGet();
+            return cached.token;
+        }
+        misses.incrementAndGet();
+        String token = signer.get();
+        tokens.put(key, new CachedToken(username, userEmail, token));
+        return token;
+    }
+
+    /**
+     * 참여자 변경 시 토큰 제거
+     */
+    public void invalidate(Long accountId, Long channelId) {
+        tokens.invalidate(new TokenKey(accountId, channelId));
+    }
+
+    /**
+     * 채널 삭제 시 채널의 모든 토큰 제거
+     */
+    public void invalidateChannel(Long channelId) {
+        tokens.asMap().keySet().removeIf(key -> key.channelId.equals(channelId));
+    }
+
+    /**
+     * 토큰 캐시 통계 (디버깅용)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("cachedTokens", tokens.estimatedSize());
+        return stats;
+    }
+
+    private static final class CachedToken {
+        private final String username;
+        private final String userEmail;
+        private final String token;
+
+        CachedToken(String username, String userEmail, String token) {
+            this.username = username;
+            this.userEmail = userEmail;
+            this.token = token;
+        }
+
+        boolean matches(String username, String userEmail) {
+            return Objects.equals(this.username, username) && Objects.equals(this.userEmail, userEmail);
+        }
+    }
+
+    private static final class TokenKey {
+        private final Long accountId;
+        private final Long channelId;
+
+        TokenKey(Long accountId, Long channelId) {
+            this.accountId = accountId;
+            this.channelId = channelId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TokenKey other)) {
+                return false;
+            }
+            return accountId.equals(other.accountId) && channelId.equals(other.channelId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(accountId, channelId);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.pickteam.service;
+
+import com.pickteam.config.VideoConferenceConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * LiveKit 퇴장 후 접속 상태 지연 정리
+ * - 웹훅 처리 스레드에서는 정리 대상만 기록한다
+ * - reconcileDelay가 지나도 다시 접속하지 않은 사용자의 화면 공유 차례(발표/대기)를 넘기고 이벤트 순서 기록을 지운다
+ * - 재접속 여부는 접속자 레지스트리(다중 인스턴스에서는 Redis 공유 상태)로 판단한다
+ * - 채널 참여 정보(VideoMember)는 건드리지 않는다 (채널 탈퇴는 사용자가 명시적으로 요청할 때만)
+ */
+@Slf4j
+@Component
+public class VideoParticipantReconciler {
+
+    private final VideoConferenceConfig.Participants config;
+    private final VideoParticipantRegistry participantRegistry;
+    private final ScreenShareArbiter screenShareArbiter;
+
+    // "{channelId}:{identity}" → 정리 대상
+    private final Map<String, PendingLeave> pending = new ConcurrentHashMap<>();
+
+    private final AtomicLong releasedParticipants = new AtomicLong();
+    private final AtomicLong skippedRejoined = new AtomicLong();
+
+    public VideoParticipantReconciler(VideoConferenceConfig videoConferenceConfig,
+                                      VideoParticipantRegistry participantRegistry,
+                                      ScreenShareArbiter screenShareArbiter) {
+        this.config = videoConferenceConfig.getParticipants();
+        this.participantRegistry = participantRegistry;
+        this.screenShareArbiter = screenShareArbiter;
+    }
+
+    /**
+     * 퇴장한 사용자를 정리 대상으로 등록 (같은 사용자가 다시 퇴장하면 기한을 늦춘다)
+     */
+    public void scheduleLeave(Long channelId, String identity) {
+        scheduleLeave(channelId, identity, System.currentTimeMillis());
+    }
+
+    void scheduleLeave(Long channelId, String identity, long now) {
+        pending.put(channelId + ":" + identity,
+                new PendingLeave(channelId, identity, now + config.getReconcileDelay().toMillis()));
+    }
+
+    @Scheduled(fixedDelayString = "${app.video.participants.reconcile-interval-ms:5000}")
+    public void reconcile() {
+        reconcile(System.currentTimeMillis());
+    }
+
+    void reconcile(long now) {
+        for (Map.Entry<String, PendingLeave> entry : pending.entrySet()) {
+            PendingLeave leave = entry.getValue();
+            // 기한 전이거나 그사이 다시 등록된 항목은 건너뜀
+            if (leave.dueAt > now || !pending.remove(entry.getKey(), leave)) {
+                continue;
+            }
+            if (participantRegistry.contains(leave.channelId, leave.identity)) {
+                skippedRejoined.incrementAndGet();
+                continue;
+            }
+            try {
+                participantRegistry.forget(leave.channelId, leave.identity);
+                screenShareArbiter.leave(leave.channelId, leave.identity);
+                releasedParticipants.incrementAndGet();
+                log.debug("LiveKit 퇴장 후 접속 상태 정리: channelId={}, identity={}", leave.channelId, leave.identity);
+            } catch (RuntimeException e) {
+                log.warn("⚠️ 접속 상태 정리 실패: channelId={}, identity={}, error={}", leave.channelId, leave.identity, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 정리 통계 (디버깅용)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pendingLeaves", pending.size());
+        stats.put("releasedParticipants", releasedParticipants.get());
+        stats.put("skippedRejoined", skippedRejoined.get());
+        return stats;
+    }
+
+    private static final class PendingLeave {
+        private final Long channelId;
+        private final String identity;
+        private final long dueAt;
+
+        PendingLeave(Long channelId, String identity, long dueAt) {
+            this.channelId = channelId;
+            this.identity = identity;
+            this.dueAt = dueAt;
+        }
+    }
+}
@@ -0,0 +1,351 @@
+package com.pickteam.service;
+
+import com.pickteam.config.VideoConferenceConfig;
+import com.pickteam.domain.videochat.VideoMember;
+import com.pickteam.dto.VideoConferenceMsgDTO;
+import com.pickteam.dto.VideoMemberDTO;
+import com.pickteam.repository.VideoMemberRepository;
+import com.pickteam.repository.VideoParticipantStateRepository;
+import com.pickteam.util.VideoConferenceControlMsg;
+import lombok.extern.slf4j.Slf4j;
+import org.modelmapper.ModelMapper;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 화상회의 채널별 접속자 레지스트리
+ * - LiveKit 웹훅(participant_joined / participant_left / room_finished)으로 채널별 접속자 목록을 유지한다
+ * - 변경이 있을 때만 /sub/video/{channelId}로 증분(PARTICIPANT_JOINED / PARTICIPANT_LEFT / ROOM_FINISHED)을 보낸다
+ * - 접속자마다 마지막으로 반영한 이벤트 시각을 기억해, 늦게 도착하거나 재전송된 이전 이벤트는 무시한다
+ * - 단일 인스턴스에서는 메모리에, 다중 인스턴스에서는 Redis 해시에 두어 어느 노드에서 조회해도 같은 목록을 돌려준다
+ * - 접속자 정보(id, userId, 프로필)는 채널 참여 정보(VideoMember)에서 채운다
+ */
+@Slf4j
+@Component
+public class VideoParticipantRegistry {
+
+    private static final long APPLIED = 1;
+    private static final long UNCHANGED = 0;
+    private static final long STALE = -1;
+
+    private final VideoConferenceConfig.Participants config;
+    private final VideoParticipantStateRepository stateRepository;
+    private final VideoMemberRepository videoMemberRepository;
+    private final ModelMapper modelMapper;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // 채널 ID → 접속자 목록 (단일 인스턴스 모드)
+    private final Map<Long, ChannelParticipants> channels = new ConcurrentHashMap<>();
+
+    private final AtomicLong joins = new AtomicLong();
+    private final AtomicLong leaves = new AtomicLong();
+    private final AtomicLong staleEvents = new AtomicLong();
+
+    public VideoParticipantRegistry(VideoConferenceConfig videoConferenceConfig,
+                                    VideoParticipantStateRepository stateRepository,
+                                    VideoMemberRepository videoMemberRepository,
+                                    ModelMapper modelMapper,
+                                    @Lazy SimpMessagingTemplate messagingTemplate) {
+        this.config = videoConferenceConfig.getParticipants();
+        this.stateRepository = stateRepository;
+        this.videoMemberRepository = videoMemberRepository;
+        this.modelMapper = modelMapper;
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    /**
+     * 접속 반영
+     *
+     * @param eventAtMillis 이벤트 발생 시각 (이보다 나중 이벤트를 이미 반영했으면 무시)
+     * @return 새 접속자면 true
+     */
+    public boolean joined(Long channelId, String identity, String name, long joinedAtMillis, long eventAtMillis) {
+        long result = config.isClusterEnabled()
+                ? stateRepository.join(channelId, identity, joinedAtMillis, eventAtMillis, stateTtlMs())
+                : applyLocal(channelId, true, room -> room.join(identity, joinedAtMillis, eventAtMillis));
+        if (!applied(result)) {
+            return false;
+        }
+        joins.incrementAndGet();
+        VideoMemberDTO participant = toDto(channelId, identity, name, joinedAtMillis);
+        send(channelId, new VideoConferenceMsgDTO(VideoConferenceControlMsg.PARTICIPANT_JOINED, identity, List.of(participant)));
+        return true;
+    }
+
+    /**
+     * 퇴장 반영
+     *
+     * @return 접속 중이던 사용자가 빠졌으면 true
+     */
+    public boolean left(Long channelId, String identity, long eventAtMillis) {
+        if (!remove(channelId, identity, eventAtMillis)) {
+            return false;
+        }
+        sendLeft(channelId, identity, toDto(channelId, identity, null, null));
+        return true;
+    }
+
+    /**
+     * 채널 참여 해제로 인한 퇴장 반영 (LiveKit 이벤트 순서와 무관하게 제거)
+     * - 서버 시각을 이벤트 순서에 섞으면 직후 재입장 웹훅을 이전 이벤트로 오인할 수 있어 순서 기록을 남기지 않는다
+     *
+     * @return 접속 중이던 사용자가 빠졌으면 true
+     */
+    public boolean removed(Long channelId, VideoMember member) {
+        String identity = member.getAccount().getEmail();
+        if (!remove(channelId, identity, null)) {
+            return false;
+        }
+        sendLeft(channelId, identity, toDto(member));
+        return true;
+    }
+
+    private boolean remove(Long channelId, String identity, Long eventAtMillis) {
+        long result = config.isClusterEnabled()
+                ? stateRepository.leave(channelId, identity, eventAtMillis, stateTtlMs())
+                : applyLocal(channelId, false, room -> room.leave(identity, eventAtMillis));
+        if (!applied(result)) {
+            return false;
+        }
+        leaves.incrementAndGet();
+        return true;
+    }
+
+    private void sendLeft(Long channelId, String identity, VideoMemberDTO participant) {
+        send(channelId, new VideoConferenceMsgDTO(VideoConferenceControlMsg.PARTICIPANT_LEFT, identity, List.of(participant)));
+    }
+
+    /**
+     * 회의방 종료 반영 - 채널의 접속자 목록 비움 (이벤트 순서 기록은 정리기가 지연 제거)
+     *
+     * @return 종료 시점까지 접속 중이던 사용자 identity
+     */
+    public List<String> roomFinished(Long channelId) {
+        List<String> identities;
+        if (config.isClusterEnabled()) {
+            identities = stateRepository.finish(channelId);
+        } else {
+            AtomicReference<List<String>> result = new AtomicReference<>(List.of());
+            channels.computeIfPresent(channelId, (id, room) -> {
+                result.set(room.finish());
+                return room.isEmpty() ? null : room;
+            });
+            identities = result.get();
+        }
+        leaves.addAndGet(identities.size());
+        send(channelId, new VideoConferenceMsgDTO(VideoConferenceControlMsg.ROOM_FINISHED, null, null));
+        return identities;
+    }
+
+    /**
+     * 퇴장 후 다시 접속하지 않은 사용자의 이벤트 순서 기록 제거
+     *
+     * @return 제거했으면 true (그사이 다시 접속했으면 false)
+     */
+    public boolean forget(Long channelId, String identity) {
+        if (config.isClusterEnabled()) {
+            return stateRepository.forget(channelId, identity);
+        }
+        return applyLocal(channelId, false, room -> room.forget(identity) ? APPLIED : UNCHANGED) == APPLIED;
+    }
+
+    /**
+     * 채널 삭제 시 목록 제거 (알림 없음)
+     */
+    public void clear(Long channelId) {
+        if (config.isClusterEnabled()) {
+            stateRepository.clear(channelId);
+        } else {
+            channels.remove(channelId);
+        }
+    }
+
+    /**
+     * 채널 접속자 전체 목록 (입장 순)
+     */
+    public List<VideoMemberDTO> snapshot(Long channelId) {
+        Map<String, Long> participants = participants(channelId);
+        if (participants.isEmpty()) {
+            return List.of();
+        }
+        Map<String, VideoMember> members = videoMemberRepository.selectAccountsByChannelId(channelId).stream()
+                .collect(Collectors.toMap(member -> member.getAccount().getEmail(), member -> member, (a, b) -> a));
+        return participants.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .map(entry -> {
+                    VideoMember member = members.get(entry.getKey());
+                    return member != null ? toDto(member) : presenceDto(entry.getKey(), null, entry.getValue());
+                })
+                .toList();
+    }
+
+    public boolean contains(Long channelId, String identity) {
+        if (config.isClusterEnabled()) {
+            return stateRepository.contains(channelId, identity);
+        }
+        return participants(channelId).containsKey(identity);
+    }
+
+    // identity → 입장 시각(ms)
+    private Map<String, Long> participants(Long channelId) {
+        if (config.isClusterEnabled()) {
+            return stateRepository.findParticipants(channelId);
+        }
+        AtomicReference<Map<String, Long>> result = new AtomicReference<>(Map.of());
+        channels.computeIfPresent(channelId, (id, room) -> {
+            result.set(new LinkedHashMap<>(room.participants));
+            return room;
+        });
+        return result.get();
+    }
+
+    private long applyLocal(Long channelId, boolean create, ToLongFunction<ChannelParticipants> transition) {
+        AtomicLong result = new AtomicLong(UNCHANGED);
+        BiFunction<Long, ChannelParticipants, ChannelParticipants> apply = (id, state) -> {
+            ChannelParticipants room = state != null ? state : new ChannelParticipants();
+            result.set(transition.applyAsLong(room));
+            return room.isEmpty() ? null : room;
+        };
+        if (create) {
+            channels.compute(channelId, apply);
+        } else {
+            channels.computeIfPresent(channelId, apply);
+        }
+        return result.get();
+    }
+
+    private boolean applied(long result) {
+        if (result == STALE) {
+            staleEvents.incrementAndGet();
+        }
+        return result == APPLIED;
+    }
+
+    private long stateTtlMs() {
+        return config.getStateTtl().toMillis();
+    }
+
+    private void send(Long channelId, VideoConferenceMsgDTO message) {
+        try {
+            messagingTemplate.convertAndSend("/sub/video/" + channelId, message);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 화상회의 접속자 변경 알림 실패: channelId={}, type={}, error={}", channelId, message.getType(), e.getMessage());
+        }
+    }
+
+    /**
+     * 채널 참여 정보로 접속자 정보 구성 (참여 정보가 없으면 LiveKit 정보만 사용)
+     */
+    private VideoMemberDTO toDto(Long channelId, String identity, String name, Long joinedAtMillis) {
+        try {
+            VideoMember member = videoMemberRepository.findByAccountEmailAndVideoChannelId(identity, channelId);
+            if (member != null) {
+                return toDto(member);
+            }
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 화상회의 접속자 정보 조회 실패: channelId={}, identity={}, error={}", channelId, identity, e.getMessage());
+        }
+        return presenceDto(identity, name, joinedAtMillis);
+    }
+
+    private VideoMemberDTO toDto(VideoMember member) {
+        VideoMemberDTO dto = modelMapper.map(member.getAccount(), VideoMemberDTO.class);
+        dto.setJoinDate(member.getCreatedAt());
+        dto.setId(member.getId());
+        dto.setUserId(member.getAccount().getId());
+        return dto;
+    }
+
+    private VideoMemberDTO presenceDto(String identity, String name, Long joinedAtMillis) {
+        VideoMemberDTO dto = new VideoMemberDTO();
+        dto.setEmail(identity);
+        dto.setName(name);
+        if (joinedAtMillis != null) {
+            dto.setJoinDate(LocalDateTime.ofInstant(Instant.ofEpochMilli(joinedAtMillis), ZoneId.systemDefault()));
+        }
+        return dto;
+    }
+
+    /**
+     * 접속자 레지스트리 통계 (디버깅용, 채널/접속자 수는 단일 인스턴스 모드에서만 집계)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("clusterEnabled", config.isClusterEnabled());
+        if (!config.isClusterEnabled()) {
+            int participants = channels.keySet().stream().mapToInt(channelId -> participants(channelId).size()).sum();
+            stats.put("channels", channels.size());
+            stats.put("participants", participants);
+        }
+        stats.put("joins", joins.get());
+        stats.put("leaves", leaves.get());
+        stats.put("staleEvents", staleEvents.get());
+        return stats;
+    }
+
+    /**
+     * 채널 하나의 접속자 목록 (ConcurrentHashMap.compute 안에서만 접근)
+     */
+    private static final class ChannelParticipants {
+        // identity → 입장 시각(ms), 입장 순
+        private final Map<String, Long> participants = new LinkedHashMap<>();
+        // identity → 마지막으로 반영한 이벤트 시각
+        private final Map<String, Long> lastEventAt = new HashMap<>();
+
+        long join(String identity, long joinedAtMillis, long eventAtMillis) {
+            if (!accept(identity, eventAtMillis)) {
+                return STALE;
+            }
+            return participants.putIfAbsent(identity, joinedAtMillis) == null ? APPLIED : UNCHANGED;
+        }
+
+        long leave(String identity, Long eventAtMillis) {
+            if (eventAtMillis != null && !accept(identity, eventAtMillis)) {
+                return STALE;
+            }
+            return participants.remove(identity) != null ? APPLIED : UNCHANGED;
+        }
+
+        List<String> finish() {
+            List<String> identities = new ArrayList<>(participants.keySet());
+            participants.clear();
+            return identities;
+        }
+
+        boolean forget(String identity) {
+            if (participants.containsKey(identity)) {
+                return false;
+            }
+            return lastEventAt.remove(identity) != null;
+        }
+
+        boolean isEmpty() {
+            return participants.isEmpty() && lastEventAt.isEmpty();
+        }
+
+        private boolean accept(String identity, long eventAtMillis) {
+            Long last = lastEventAt.get(identity);
+            if (last != null && last > eventAtMillis) {
+                return false;
+            }
+            lastEventAt.put(identity, eventAtMillis);
+            return true;
+        }
+    }
+}
@@ -15,6 +15,7 @@ import com.pickteam.repository.chat.ChatRoomRepository;
 import com.pickteam.repository.user.AccountRepository;
 import com.pickteam.repository.workspace.WorkspaceRepository;
 import com.pickteam.service.sse.SseService;
+import com.pickteam.util.TransactionUtils;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +23,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,6 +37,9 @@ public class ChatMemberServiceImpl implements ChatMemberService {
     private final AccountRepository accountRepository;
     private final SseService sseService;
     private final ChatRoomService chatRoomService;
+    private final ChatRoomMembershipCache membershipCache;
+    private final ChatUnreadCountService unreadCountService;
+    private final ChatReadReceiptAggregator readReceiptAggregator;
 
     @Override
     @Transactional
@@ -65,8 +70,11 @@ public class ChatMemberServiceImpl implements ChatMemberService {
                 .build();
 
         ChatMember savedChatMember = chatMemberRepository.save(chatMember);
+        membershipCache.memberJoined(chatId, accountId);
+        // 커밋 전에 지우면 동시 조회가 이전 멤버십으로 다시 채울 수 있으므로 커밋 후 무효화
+        TransactionUtils.afterCommit(() -> unreadCountService.invalidate(chatId, Set.of(accountId)));
 
-        notifyChatMemberJoined(chatId, accountId);
+        notifyChatMemberJoined(chatId, account);
 
         return savedChatMember;
     }
@@ -75,27 +83,18 @@ public class ChatMemberServiceImpl implements ChatMemberService {
      * 채팅방 멤버 입장을 다른 멤버들에게 알립니다.
      * 
      * @param chatRoomId 채팅방 ID
-     * @param joinedAccountId 입장한 사용자 ID
+     * @param joinedAccount 입장한 사용자
      */
-    private void notifyChatMemberJoined(Long chatRoomId, Long joinedAccountId) {
-        // 채팅방의 활성 멤버 목록 조회
-        List<ChatMember> activeMembers = chatMemberRepository.findAllByChatRoomIdAndIsDeletedFalse(chatRoomId);
-        
-        // 입장한 사용자 정보 조회
-        Account joinedAccount = accountRepository.findById(joinedAccountId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
-        
+    private void notifyChatMemberJoined(Long chatRoomId, Account joinedAccount) {
+        // 채팅방의 활성 멤버 목록 (캐시는 커밋 후 갱신되므로 입장한 사용자를 직접 포함)
+        Set<Long> recipients = membershipCache.getMemberIdSet(chatRoomId);
+        recipients.add(joinedAccount.getId());
+
         // 알림 DTO 생성
         ChatMemberJoinNotificationDto notificationDto = ChatMemberJoinNotificationDto.from(chatRoomId, joinedAccount);
 
         // 모든 활성 멤버에게 SSE 이벤트 전송
-        activeMembers.forEach(member -> {
-            sseService.sendToUser(
-                member.getAccount().getId(),
-                SseEventType.CHAT_MEMBER_JOINED.name(),
-                notificationDto
-            );
-        });
+        sseService.sendToUsers(recipients, SseEventType.CHAT_MEMBER_JOINED.name(), notificationDto);
     }
 
     @Transactional
@@ -114,12 +113,13 @@ public class ChatMemberServiceImpl implements ChatMemberService {
         // chatRoom에서 사용자 제거 처리 (soft-delete)
         chatMember.markDeleted();
         chatMemberRepository.save(chatMember);
+        membershipCache.memberLeft(chatRoomId, accountId);
+        TransactionUtils.afterCommit(() -> unreadCountService.invalidate(chatRoomId, Set.of(accountId)));
 
-        notifyChatMemberLeft(chatRoomId, accountId);
+        notifyChatMemberLeft(chatRoomId, chatMember.getAccount());
 
         // 남은 활성 멤버가 있는지 확인
-        List<ChatMember> remainingActiveMembers = chatMemberRepository.findAllByChatRoomIdAndIsDeletedFalse(chatRoomId);
-        if (remainingActiveMembers.isEmpty()) {
+        if (!chatMemberRepository.existsByChatRoomIdAndIsDeletedFalse(chatRoomId)) {
             // 활성 멤버가 없으면 채팅방도 soft-delete 처리
             chatRoomService.deleteChatRoom(chatRoomId, workspaceId);
         }
@@ -129,27 +129,20 @@ public class ChatMemberServiceImpl implements ChatMemberService {
      * 채팅방 멤버 퇴장을 다른 멤버들에게 알립니다.
      * 
      * @param chatRoomId 채팅방 ID
-     * @param leftAccountId 퇴장한 사용자 ID
+     * @param leftAccount 퇴장한 사용자
      */
-    private void notifyChatMemberLeft(Long chatRoomId, Long leftAccountId) {
-        // 채팅방의 남은 활성 멤버 목록 조회
-        List<ChatMember> remainingMembers = chatMemberRepository.findAllByChatRoomIdAndIsDeletedFalse(chatRoomId);
-        
-        // 퇴장한 사용자 정보 조회
-        Account leftAccount = accountRepository.findById(leftAccountId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
-        
+    private void notifyChatMemberLeft(Long chatRoomId, Account leftAccount) {
+        // 채팅방의 남은 활성 멤버 목록 (캐시는 커밋 후 갱신되므로 퇴장한 사용자를 직접 제외)
+        Set<Long> remainingMembers = membershipCache.getMemberIdSet(chatRoomId);
+        remainingMembers.remove(leftAccount.getId());
+
         // 알림 DTO 생성
         ChatMemberLeaveNotificationDto notificationDto = ChatMemberLeaveNotificationDto.from(chatRoomId, leftAccount);
 
         // 남은 활성 멤버들에게 SSE 이벤트 전송
-        remainingMembers.forEach(member -> {
-            sseService.sendToUser(
-                member.getAccount().getId(),
-                SseEventType.CHAT_MEMBER_LEFT.name(),
-                notificationDto
-            );
-        });
+        if (!remainingMembers.isEmpty()) {
+            sseService.sendToUsers(remainingMembers, SseEventType.CHAT_MEMBER_LEFT.name(), notificationDto);
+        }
     }
 
     @Override
@@ -178,6 +171,20 @@ public class ChatMemberServiceImpl implements ChatMemberService {
         // account가 chatRoom에 속해있는지,
         // chatRoomId에 해당하는 방에 messageId에 해당하는 chatMessage가 있는지)
         //chatMember에서 chatRoomId와 accountId가 일치하는 대상의 lastReadMessage를 messageId로 설정
+
+        // 일괄 저장 모드: 멤버십은 캐시로, 메시지 소속은 존재 여부 조회로 확인한 뒤 집계기에 모아 주기적으로 저장
+        // (잘못된 메시지 ID가 집계기에서 정상 읽음 위치를 밀어내지 않도록 기록 전에 검증한다)
+        if (readReceiptAggregator.isEnabled()) {
+            if (!membershipCache.isMember(chatRoomId, accountId)) {
+                throw new EntityNotFoundException("채팅방 멤버를 찾을 수 없습니다.");
+            }
+            if (!chatMessageRepository.existsByIdAndChatRoomIdAndIsDeletedFalse(messageId, chatRoomId)) {
+                throw new EntityNotFoundException("메시지를 찾을 수 없습니다.");
+            }
+            readReceiptAggregator.record(chatRoomId, accountId, messageId);
+            return;
+        }
+
         ChatRoom chatRoom = chatRoomRepository.findByIdAndIsDeletedFalse(chatRoomId)
                 .orElseThrow(() -> new EntityNotFoundException("채팅방을 찾을 수 없습니다."));
 
@@ -190,6 +197,8 @@ public class ChatMemberServiceImpl implements ChatMemberService {
         chatMember.setLastReadMessage(chatMessage);
         chatMemberRepository.save(chatMember);
 
+        unreadCountService.messageRead(accountId, chatRoomId, messageId);
+
     }
 
     @Override
@@ -0,0 +1,73 @@
+package com.pickteam.service.chat;
+
+import com.pickteam.config.ChatConfig;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 메시지 ID 발급기 (Snowflake 방식)
+ * - [41bit 경과 시간(ms)][10bit 노드 번호][12bit 시퀀스] 구조로 DB 없이 유일한 ID를 만든다
+ * - 시간 순으로 증가하므로 (chat_room_id, id) 커서 페이징 순서와 일치한다
+ * - 같은 밀리초에 시퀀스가 소진되거나 시계가 뒤로 가면 직전 시각을 이어 써서 단조 증가를 유지한다
+ * - 다중 인스턴스에서 지연 저장을 쓰면서 노드 번호를 지정하지 않으면 ID가 겹치므로 기동을 거부한다
+ */
+@Component
+public class ChatMessageIdGenerator {
+
+    // 2024-01-01T00:00:00Z
+    private static final long EPOCH_MILLIS = 1704067200000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public ChatMessageIdGenerator(ChatConfig chatConfig) {
+        this.nodeId = resolveNodeId(chatConfig.getWriteBehind());
+    }
+
+    private static long resolveNodeId(ChatConfig.WriteBehind writeBehind) {
+        Integer configured = writeBehind.getNodeId();
+        if (configured == null) {
+            if (writeBehind.getMode() != ChatConfig.WriteMode.SYNC && writeBehind.isClustered()) {
+                throw new IllegalStateException(
+                        "다중 인스턴스에서 채팅 메시지 지연 저장을 사용하려면 인스턴스마다 다른 노드 번호(CHAT_NODE_ID)를 지정해야 합니다.");
+            }
+            return 0;
+        }
+        if (configured < 0 || configured > MAX_NODE_ID) {
+            throw new IllegalArgumentException("채팅 메시지 노드 번호는 0~" + MAX_NODE_ID + " 사이여야 합니다: " + configured);
+        }
+        return configured;
+    }
+
+    /**
+     * 이 인스턴스의 노드 번호 (REDIS_STREAM 모드의 스트림 키에도 사용)
+     */
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 다음 메시지 ID 발급
+     */
+    public synchronized long nextId() {
+        long timestamp = Math.max(System.currentTimeMillis() - EPOCH_MILLIS, lastTimestamp);
+
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 이 밀리초의 시퀀스를 모두 사용 - 다음 밀리초를 앞당겨 사용
+                timestamp = lastTimestamp + 1;
+            }
+        } else {
+            sequence = 0;
+        }
+
+        lastTimestamp = timestamp;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+}
@@ -0,0 +1,598 @@
+package com.pickteam.service.chat;
+
+import com.pickteam.config.ChatConfig;
+import com.pickteam.dto.chat.ChatMessageResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenFilter;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.util.CharTokenizer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 채팅 메시지 검색 색인 (로컬 디스크 Lucene)
+ * - 본문은 글자/숫자 단위로 나눈 뒤 1~2글자 n-gram으로 색인한다 (형태소 분석기 없이 한글 부분 일치 검색)
+ * - 검색어는 2글자 단위로 잘라 모든 조각이 포함된 메시지를 찾고, 채팅방 ID 필터로 접근 범위를 제한한다
+ * - 결과는 색인에 저장된 필드로 바로 만들어 DB를 조회하지 않는다
+ * - 색인 변경은 주기적으로 검색기에 반영(refresh)하고, 더 긴 주기로 디스크에 커밋한다
+ * - 재색인은 새 디렉터리에 만들고 완료 시 검색 대상을 한 번에 교체한다 (재색인 중에도 기존 색인으로 전체 결과 검색)
+ */
+@Slf4j
+@Component
+public class ChatMessageSearchIndex {
+
+    private static final String FIELD_UID = "uid";
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_CHAT_ROOM_ID = "chatRoomId";
+    private static final String FIELD_ACCOUNT_ID = "accountId";
+    private static final String FIELD_CONTENT = "content";
+    private static final String FIELD_CREATED_AT = "createdAt";
+
+    // 검색에 사용 중인 색인 세대를 가리키는 파일 (재색인 완료 시 원자적으로 교체)
+    private static final String CURRENT_FILE = "CURRENT";
+    private static final String GENERATION_PREFIX = "gen-";
+
+    private final ChatConfig.Search config;
+    private final Analyzer indexAnalyzer = new NGramAnalyzer();
+
+    // 색인 변경/검색은 읽기 잠금, 재색인 세대 교체는 쓰기 잠금
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    /** 디스크 색인 루트 (메모리 색인이면 null) */
+    private Path root;
+    /** 검색에 사용 중인 색인 */
+    private volatile Generation live;
+    /** 재색인 중인 새 색인 (재색인 중이 아니면 null) */
+    private volatile Generation building;
+
+    @Autowired
+    public ChatMessageSearchIndex(ChatConfig chatConfig) {
+        this.config = chatConfig.getSearch();
+    }
+
+    /**
+     * 주어진 디렉터리로 바로 여는 생성자 (테스트용, 재색인은 새 메모리 디렉터리에 만든다)
+     */
+    ChatMessageSearchIndex(ChatConfig chatConfig, Directory directory) {
+        this.config = chatConfig.getSearch();
+        this.live = openGeneration(directory, null, IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!config.isEnabled() || live != null) {
+            return;
+        }
+        try {
+            root = Paths.get(config.getIndexPath());
+            Files.createDirectories(root);
+            Path current = readCurrentGeneration();
+            if (current == null) {
+                current = newGenerationPath();
+                writeCurrentGeneration(current);
+            }
+            live = openGeneration(FSDirectory.open(current), current, IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+            deleteStaleGenerations(current);
+            log.info("🔎 채팅 메시지 검색 색인 열림: path={}, docs={}", current, live.writer.getDocStats().numDocs);
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 검색 색인을 열 수 없습니다: " + config.getIndexPath(), e);
+        }
+    }
+
+    private Generation openGeneration(Directory directory, Path path, IndexWriterConfig.OpenMode openMode) {
+        try {
+            IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig(indexAnalyzer).setOpenMode(openMode));
+            return new Generation(directory, path, writer, new SearcherManager(writer, null));
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 검색 색인을 열 수 없습니다.", e);
+        }
+    }
+
+    public boolean isOpen() {
+        return live != null;
+    }
+
+    /**
+     * 메시지 색인 (같은 ID가 있으면 교체, 재색인 중이면 새 색인에도 반영)
+     */
+    public void index(ChatMessageResponse message) {
+        swapLock.readLock().lock();
+        try {
+            if (!isOpen()) {
+                return;
+            }
+            Document document = toDocument(message);
+            Generation next = building;
+            updateDocument(live, message.getId(), document);
+            if (next != null) {
+                updateDocument(next, message.getId(), document);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 메시지 색인 제거 (soft-delete 반영, 재색인 중이면 새 색인에서도 제거)
+     */
+    public void delete(Long messageId) {
+        swapLock.readLock().lock();
+        try {
+            if (!isOpen()) {
+                return;
+            }
+            Generation next = building;
+            deleteDocument(live, messageId);
+            if (next != null) {
+                deleteDocument(next, messageId);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 재색인 시작 - 검색은 기존 색인으로 계속하고, 새 디렉터리에 빈 색인을 만든다
+     */
+    public void beginRebuild() {
+        swapLock.writeLock().lock();
+        try {
+            if (!isOpen()) {
+                throw new IllegalStateException("채팅 검색 색인이 열려 있지 않습니다.");
+            }
+            if (building != null) {
+                throw new IllegalStateException("이미 재색인 중입니다.");
+            }
+            if (root == null) {
+                building = openGeneration(new ByteBuffersDirectory(), null, IndexWriterConfig.OpenMode.CREATE);
+            } else {
+                Path path = newGenerationPath();
+                building = openGeneration(FSDirectory.open(path), path, IndexWriterConfig.OpenMode.CREATE);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("재색인용 색인을 만들 수 없습니다.", e);
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 재색인 중인 새 색인에만 메시지 색인 (DB 전체 스캔용)
+     */
+    public void indexForRebuild(ChatMessageResponse message) {
+        Generation next = requireBuilding();
+        updateDocument(next, message.getId(), toDocument(message));
+    }
+
+    /**
+     * 재색인 중인 새 색인에서만 메시지 제거 (스캔 중 삭제된 메시지 정리용)
+     */
+    public void deleteFromRebuild(Long messageId) {
+        deleteDocument(requireBuilding(), messageId);
+    }
+
+    /**
+     * 재색인 완료 - 새 색인을 커밋한 뒤 검색 대상으로 교체하고 기존 색인을 지운다
+     */
+    public void completeRebuild() {
+        Generation next = requireBuilding();
+        try {
+            next.writer.commit();
+            next.searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("재색인 결과 커밋 실패", e);
+        }
+
+        Generation previous;
+        swapLock.writeLock().lock();
+        try {
+            // 커밋 이후 들어온 변경까지 반영된 상태로 교체
+            next.writer.commit();
+            next.searcherManager.maybeRefreshBlocking();
+            if (next.path != null) {
+                writeCurrentGeneration(next.path);
+            }
+            previous = live;
+            live = next;
+            building = null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("재색인 결과 교체 실패", e);
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        discard(previous);
+    }
+
+    /**
+     * 재색인 중단 - 만들던 새 색인을 버리고 기존 색인을 계속 사용한다
+     */
+    public void abortRebuild() {
+        Generation next;
+        swapLock.writeLock().lock();
+        try {
+            next = building;
+            building = null;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+        if (next != null) {
+            discard(next);
+        }
+    }
+
+    private Generation requireBuilding() {
+        Generation next = building;
+        if (next == null) {
+            throw new IllegalStateException("재색인 중이 아닙니다.");
+        }
+        return next;
+    }
+
+    /**
+     * 메시지 검색
+     *
+     * @param chatRoomIds 검색 가능한 채팅방 ID (사용자가 참여 중인 채팅방)
+     * @param senderId 보낸 사람 필터 (nullable)
+     * @param keyword 검색어
+     * @param recentFirst true면 최신순, false면 관련도순
+     * @param offset 건너뛸 결과 수
+     * @param limit 가져올 결과 수
+     */
+    public SearchResult search(Collection<Long> chatRoomIds, Long senderId, String keyword,
+                               boolean recentFirst, int offset, int limit) {
+        List<String> grams = queryGrams(keyword);
+        if (chatRoomIds.isEmpty() || grams.isEmpty()) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String gram : grams) {
+            query.add(new TermQuery(new Term(FIELD_CONTENT, gram)), BooleanClause.Occur.MUST);
+        }
+        query.add(LongPoint.newSetQuery(FIELD_CHAT_ROOM_ID, chatRoomIds), BooleanClause.Occur.FILTER);
+        if (senderId != null) {
+            query.add(LongPoint.newExactQuery(FIELD_ACCOUNT_ID, senderId), BooleanClause.Occur.FILTER);
+        }
+
+        int window = Math.min(offset + limit, config.getMaxResults());
+        if (window <= offset) {
+            return new SearchResult(List.of(), 0);
+        }
+
+        swapLock.readLock().lock();
+        SearcherManager searcherManager = null;
+        IndexSearcher searcher = null;
+        try {
+            Generation current = live;
+            if (current == null) {
+                return new SearchResult(List.of(), 0);
+            }
+            searcherManager = current.searcherManager;
+            searcher = searcherManager.acquire();
+            TopDocs topDocs = recentFirst
+                    ? searcher.search(query.build(), window, new Sort(new SortField(FIELD_ID, SortField.Type.LONG, true)))
+                    : searcher.search(query.build(), window);
+
+            List<ChatMessageResponse> messages = new ArrayList<>();
+            ScoreDoc[] hits = topDocs.scoreDocs;
+            for (int i = offset; i < hits.length; i++) {
+                messages.add(toResponse(searcher.storedFields().document(hits[i].doc)));
+            }
+            return new SearchResult(messages, topDocs.totalHits.value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 메시지 검색 실패", e);
+        } finally {
+            if (searcher != null) {
+                try {
+                    searcherManager.release(searcher);
+                } catch (IOException e) {
+                    log.warn("⚠️ 검색기 반환 실패: {}", e.getMessage());
+                }
+            }
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 변경을 검색기에 반영
+     */
+    @Scheduled(fixedDelayString = "${app.chat.search.refresh-interval-ms:1000}")
+    public void refresh() {
+        swapLock.readLock().lock();
+        try {
+            if (!isOpen()) {
+                return;
+            }
+            live.searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.warn("⚠️ 채팅 검색 색인 refresh 실패: {}", e.getMessage());
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 변경을 디스크에 커밋
+     */
+    @Scheduled(fixedDelayString = "${app.chat.search.commit-interval-ms:30000}")
+    public void commit() {
+        swapLock.readLock().lock();
+        try {
+            if (!isOpen() || !live.writer.hasUncommittedChanges()) {
+                return;
+            }
+            live.writer.commit();
+        } catch (IOException e) {
+            log.warn("⚠️ 채팅 검색 색인 커밋 실패: {}", e.getMessage());
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    public int getDocumentCount() {
+        Generation current = live;
+        return current != null ? current.writer.getDocStats().numDocs : 0;
+    }
+
+    @PreDestroy
+    public void close() {
+        swapLock.writeLock().lock();
+        try {
+            if (building != null) {
+                discard(building);
+                building = null;
+            }
+            if (live != null) {
+                live.close();
+                live = null;
+            }
+        } catch (IOException e) {
+            log.warn("⚠️ 채팅 검색 색인 종료 실패: {}", e.getMessage());
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private Document toDocument(ChatMessageResponse message) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_UID, String.valueOf(message.getId()), Field.Store.NO));
+        document.add(new NumericDocValuesField(FIELD_ID, message.getId()));
+        document.add(new StoredField(FIELD_ID, message.getId()));
+        document.add(new LongPoint(FIELD_CHAT_ROOM_ID, message.getChatRoomId()));
+        document.add(new StoredField(FIELD_CHAT_ROOM_ID, message.getChatRoomId()));
+        document.add(new LongPoint(FIELD_ACCOUNT_ID, message.getSenderId()));
+        document.add(new StoredField(FIELD_ACCOUNT_ID, message.getSenderId()));
+        document.add(new TextField(FIELD_CONTENT, message.getContent() == null ? "" : message.getContent(), Field.Store.YES));
+        if (message.getSentAt() != null) {
+            document.add(new StoredField(FIELD_CREATED_AT, message.getSentAt().toString()));
+        }
+        return document;
+    }
+
+    private static void updateDocument(Generation generation, Long messageId, Document document) {
+        try {
+            generation.writer.updateDocument(new Term(FIELD_UID, String.valueOf(messageId)), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 메시지 색인 실패: id=" + messageId, e);
+        }
+    }
+
+    private static void deleteDocument(Generation generation, Long messageId) {
+        try {
+            generation.writer.deleteDocuments(new Term(FIELD_UID, String.valueOf(messageId)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 메시지 색인 제거 실패: id=" + messageId, e);
+        }
+    }
+
+    // ------------------------- 색인 세대 디렉터리 관리 -------------------------
+    // {indexPath}/gen-{millis} 디렉터리마다 색인 하나를 두고, CURRENT 파일이 검색에 쓰는 세대를 가리킨다
+
+    private Path readCurrentGeneration() throws IOException {
+        Path pointer = root.resolve(CURRENT_FILE);
+        if (!Files.exists(pointer)) {
+            return null;
+        }
+        Path current = root.resolve(Files.readString(pointer, StandardCharsets.UTF_8).trim());
+        return Files.isDirectory(current) ? current : null;
+    }
+
+    private void writeCurrentGeneration(Path generation) throws IOException {
+        Path temp = root.resolve(CURRENT_FILE + ".tmp");
+        Files.writeString(temp, generation.getFileName().toString(), StandardCharsets.UTF_8);
+        Files.move(temp, root.resolve(CURRENT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path newGenerationPath() throws IOException {
+        long suffix = System.currentTimeMillis();
+        Path path = root.resolve(GENERATION_PREFIX + suffix);
+        while (Files.exists(path)) {
+            path = root.resolve(GENERATION_PREFIX + (++suffix));
+        }
+        return Files.createDirectories(path);
+    }
+
+    /**
+     * 검색에 쓰지 않는 세대 정리 (중단된 재색인이 남긴 디렉터리 등)
+     */
+    private void deleteStaleGenerations(Path current) throws IOException {
+        try (DirectoryStream<Path> generations = Files.newDirectoryStream(root, GENERATION_PREFIX + "*")) {
+            for (Path generation : generations) {
+                if (!generation.equals(current)) {
+                    deleteRecursively(generation);
+                }
+            }
+        }
+    }
+
+    private void discard(Generation generation) {
+        try {
+            generation.close();
+            if (generation.path != null) {
+                deleteRecursively(generation.path);
+            }
+        } catch (IOException e) {
+            log.warn("⚠️ 이전 채팅 검색 색인 정리 실패: path={}, error={}", generation.path, e.getMessage());
+        }
+    }
+
+    private static void deleteRecursively(Path path) throws IOException {
+        try (Stream<Path> files = Files.walk(path)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * 검색어를 색인과 같은 방식으로 나눈 뒤 2글자 조각(1글자 단어는 그대로)으로 변환
+     */
+    static List<String> queryGrams(String keyword) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (keyword == null) {
+            return List.of();
+        }
+        try (Tokenizer tokenizer = wordTokenizer();
+             TokenStream stream = new LowerCaseFilter(tokenizer)) {
+            tokenizer.setReader(new StringReader(keyword));
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                String word = term.toString();
+                if (word.codePointCount(0, word.length()) == 1) {
+                    grams.add(word);
+                    continue;
+                }
+                int[] codePoints = word.codePoints().toArray();
+                for (int i = 0; i + 1 < codePoints.length; i++) {
+                    grams.add(new String(codePoints, i, 2));
+                }
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new ArrayList<>(grams);
+    }
+
+    private static Tokenizer wordTokenizer() {
+        return CharTokenizer.fromTokenCharPredicate(Character::isLetterOrDigit);
+    }
+
+    private ChatMessageResponse toResponse(Document document) {
+        String createdAt = document.get(FIELD_CREATED_AT);
+        return ChatMessageResponse.builder()
+                .id(document.getField(FIELD_ID).numericValue().longValue())
+                .chatRoomId(document.getField(FIELD_CHAT_ROOM_ID).numericValue().longValue())
+                .senderId(document.getField(FIELD_ACCOUNT_ID).numericValue().longValue())
+                .content(document.get(FIELD_CONTENT))
+                .sentAt(createdAt == null ? null : LocalDateTime.parse(createdAt))
+                .build();
+    }
+
+    /**
+     * 본문 색인용 분석기 (글자/숫자 단위 분리 → 소문자 → 1~2글자 n-gram)
+     */
+    private static final class NGramAnalyzer extends Analyzer {
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+            Tokenizer tokenizer = wordTokenizer();
+            TokenStream stream = new LowerCaseFilter(tokenizer);
+            stream = new NGramTokenFilter(stream, 1, 2, false);
+            return new TokenStreamComponents(tokenizer, stream);
+        }
+    }
+
+    /**
+     * 색인 한 세대 (디렉터리와 그 위의 writer/검색기)
+     */
+    private static final class Generation {
+        private final Directory directory;
+        private final Path path;
+        private final IndexWriter writer;
+        private final SearcherManager searcherManager;
+
+        private Generation(Directory directory, Path path, IndexWriter writer, SearcherManager searcherManager) {
+            this.directory = directory;
+            this.path = path;
+            this.writer = writer;
+            this.searcherManager = searcherManager;
+        }
+
+        private void close() throws IOException {
+            searcherManager.close();
+            writer.close();
+            directory.close();
+        }
+    }
+
+    /**
+     * 검색 결과 (현재 페이지 메시지와 전체 일치 수)
+     */
+    public static class SearchResult {
+        private final List<ChatMessageResponse> messages;
+        private final long totalHits;
+
+        public SearchResult(List<ChatMessageResponse> messages, long totalHits) {
+            this.messages = messages;
+            this.totalHits = totalHits;
+        }
+
+        public List<ChatMessageResponse> getMessages() {
+            return messages;
+        }
+
+        public long getTotalHits() {
+            return totalHits;
+        }
+    }
+}
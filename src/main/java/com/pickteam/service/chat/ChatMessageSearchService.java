@@ -0,0 +1,310 @@
+package com.pickteam.service.chat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pickteam.config.ChatConfig;
+import com.pickteam.domain.chat.ChatMessage;
+import com.pickteam.dto.chat.ChatMessageResponse;
+import com.pickteam.dto.chat.ChatMessageSearchResponse;
+import com.pickteam.repository.chat.ChatMemberRepository;
+import com.pickteam.repository.chat.ChatMessageRepository;
+import com.pickteam.util.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 채팅 메시지 검색 서비스
+ * - 검색 범위는 워크스페이스에서 사용자가 참여 중인 채팅방으로 제한한다
+ * - 메시지 전송/삭제를 커밋 후 색인에 반영하고, 다중 인스턴스에서는 Redis 채널로 다른 노드에 전파한다
+ * - 재색인은 DB를 ID 순으로 나눠 읽어 백그라운드에서 새 색인을 만들고, 완료 시 한 번에 교체한다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessageSearchService implements MessageListener {
+
+    // 검색 1회당 최대 메시지 수
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final String OP_INDEX = "INDEX";
+    private static final String OP_DELETE = "DELETE";
+    private static final String OP_REBUILD = "REBUILD";
+
+    private final ChatMessageSearchIndex searchIndex;
+    private final ChatMemberRepository chatMemberRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final ChatConfig chatConfig;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    // 재색인 중 삭제된 메시지 - 재색인이 먼저 읽어 간 메시지를 끝난 뒤 다시 지운다
+    private final Set<Long> deletedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void subscribe() {
+        ChatConfig.Search config = chatConfig.getSearch();
+        if (!config.isEnabled() || !config.isClusterSync()) {
+            return;
+        }
+        listenerContainer.addMessageListener(this, new ChannelTopic(config.getChannel()));
+        log.info("📡 채팅 검색 색인 동기화 구독 시작: channel={}", config.getChannel());
+    }
+
+    public boolean isEnabled() {
+        return chatConfig.getSearch().isEnabled() && searchIndex.isOpen();
+    }
+
+    /**
+     * 메시지 검색
+     *
+     * @param workspaceId 워크스페이스 ID
+     * @param accountId 검색하는 사용자 ID
+     * @param keyword 검색어
+     * @param chatRoomId 특정 채팅방으로 제한 (nullable - 생략하면 참여 중인 모든 채팅방)
+     * @param senderId 보낸 사람으로 제한 (nullable)
+     * @param sort 정렬 (관련도순/최신순)
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기
+     */
+    public ChatMessageSearchResponse search(Long workspaceId, Long accountId, String keyword, Long chatRoomId,
+                                            Long senderId, SortOrder sort, int page, int size) {
+        if (!isEnabled()) {
+            throw new IllegalStateException("채팅 메시지 검색이 비활성화되어 있습니다.");
+        }
+        if (keyword == null || keyword.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+
+        List<Long> chatRoomIds = chatMemberRepository.findActiveChatRoomIdsByAccountIdAndWorkspaceId(accountId, workspaceId);
+        if (chatRoomId != null) {
+            if (!chatRoomIds.contains(chatRoomId)) {
+                throw new IllegalArgumentException("이 채팅방에 속한 사용자가 아닙니다.");
+            }
+            chatRoomIds = List.of(chatRoomId);
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int offset = Math.max(0, page) * pageSize;
+        ChatMessageSearchIndex.SearchResult result = searchIndex.search(
+                chatRoomIds, senderId, keyword, sort == SortOrder.RECENT, offset, pageSize);
+
+        long reachable = Math.min(result.getTotalHits(), chatConfig.getSearch().getMaxResults());
+        return ChatMessageSearchResponse.builder()
+                .messages(result.getMessages())
+                .page(Math.max(0, page))
+                .size(result.getMessages().size())
+                .totalHits(result.getTotalHits())
+                .hasNext(offset + result.getMessages().size() < reachable)
+                .build();
+    }
+
+    /**
+     * 새 메시지 색인 (트랜잭션 안이면 커밋 후)
+     */
+    public void messageSent(ChatMessageResponse message) {
+        if (!isEnabled()) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            index(message);
+            publish(OP_INDEX, toPayload(message));
+        });
+    }
+
+    /**
+     * 삭제된 메시지 색인 제거 (트랜잭션 안이면 커밋 후)
+     */
+    public void messageDeleted(Long messageId) {
+        if (!isEnabled()) {
+            return;
+        }
+        TransactionUtils.afterCommit(() -> {
+            delete(messageId);
+            publish(OP_DELETE, Map.<String, Object>of("id", messageId));
+        });
+    }
+
+    /**
+     * 재색인 시작 (이미 진행 중이면 false)
+     * 다중 인스턴스에서는 다른 노드에도 재색인을 요청한다.
+     */
+    public boolean rebuild() {
+        if (!isEnabled()) {
+            throw new IllegalStateException("채팅 메시지 검색이 비활성화되어 있습니다.");
+        }
+        boolean started = startRebuild();
+        if (started) {
+            publish(OP_REBUILD, Map.of());
+        }
+        return started;
+    }
+
+    public boolean isRebuilding() {
+        return rebuilding.get();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", isEnabled());
+        stats.put("documents", searchIndex.getDocumentCount());
+        stats.put("rebuilding", rebuilding.get());
+        return stats;
+    }
+
+    private boolean startRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread thread = new Thread(this::runRebuild, "chat-search-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    /**
+     * 전체 재색인 - 삭제되지 않은 메시지를 ID 순으로 나눠 읽어 새 색인에 넣고, 끝나면 검색 대상을 교체한다
+     * (재색인 중 검색은 기존 색인으로 처리되고, 그 사이 전송/삭제는 양쪽 색인에 반영된다)
+     */
+    void runRebuild() {
+        long startedAt = System.currentTimeMillis();
+        long indexed = 0;
+        try {
+            searchIndex.beginRebuild();
+            PageRequest batch = PageRequest.of(0, chatConfig.getSearch().getRebuildBatchSize());
+            long lastId = 0L;
+            Slice<ChatMessage> slice;
+            do {
+                slice = chatMessageRepository.findByIdGreaterThanAndIsDeletedFalseOrderByIdAsc(lastId, batch);
+                for (ChatMessage message : slice.getContent()) {
+                    searchIndex.indexForRebuild(ChatMessageResponse.from(message));
+                    lastId = message.getId();
+                    indexed++;
+                }
+            } while (slice.hasNext());
+
+            // 스캔이 먼저 읽어 간 뒤 삭제된 메시지를 새 색인에서 다시 제거
+            deletedDuringRebuild.forEach(searchIndex::deleteFromRebuild);
+            searchIndex.completeRebuild();
+            log.info("🔎 채팅 검색 재색인 완료: messages={}, elapsedMs={}", indexed, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            searchIndex.abortRebuild();
+            log.error("❌ 채팅 검색 재색인 실패 (기존 색인 유지): indexed={}, error={}", indexed, e.getMessage(), e);
+        } finally {
+            deletedDuringRebuild.clear();
+            rebuilding.set(false);
+        }
+    }
+
+    private void index(ChatMessageResponse message) {
+        try {
+            searchIndex.index(message);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 채팅 메시지 색인 실패: id={}, error={}", message.getId(), e.getMessage());
+        }
+    }
+
+    private void delete(Long messageId) {
+        if (rebuilding.get()) {
+            deletedDuringRebuild.add(messageId);
+        }
+        try {
+            searchIndex.delete(messageId);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 채팅 메시지 색인 제거 실패: id={}, error={}", messageId, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 보낸 색인 변경 처리 ({"origin", "op", "message"})
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            JsonNode root = objectMapper.readTree(body);
+            if (nodeId.equals(root.path("origin").asText())) {
+                return;
+            }
+            JsonNode payload = root.path("message");
+            switch (root.path("op").asText()) {
+                case OP_INDEX -> index(fromPayload(payload));
+                case OP_DELETE -> delete(payload.path("id").asLong());
+                case OP_REBUILD -> startRebuild();
+                default -> log.warn("⚠️ 알 수 없는 채팅 검색 색인 메시지: {}", body);
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("⚠️ 잘못된 채팅 검색 색인 메시지: {}", body);
+        }
+    }
+
+    private void publish(String op, Map<String, Object> payload) {
+        ChatConfig.Search config = chatConfig.getSearch();
+        if (!config.isClusterSync()) {
+            return;
+        }
+        try {
+            Map<String, Object> envelope = new LinkedHashMap<>();
+            envelope.put("origin", nodeId);
+            envelope.put("op", op);
+            envelope.put("message", payload);
+            redisTemplate.convertAndSend(config.getChannel(), objectMapper.writeValueAsString(envelope));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("⚠️ 채팅 검색 색인 변경 발행 실패: op={}, error={}", op, e.getMessage());
+        }
+    }
+
+    private static Map<String, Object> toPayload(ChatMessageResponse message) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", message.getId());
+        payload.put("chatRoomId", message.getChatRoomId());
+        payload.put("senderId", message.getSenderId());
+        payload.put("content", message.getContent());
+        payload.put("sentAt", message.getSentAt() == null ? null : message.getSentAt().toString());
+        return payload;
+    }
+
+    private static ChatMessageResponse fromPayload(JsonNode payload) {
+        String sentAt = payload.path("sentAt").asText(null);
+        return ChatMessageResponse.builder()
+                .id(payload.path("id").asLong())
+                .chatRoomId(payload.path("chatRoomId").asLong())
+                .senderId(payload.path("senderId").asLong())
+                .content(payload.path("content").asText(""))
+                .sentAt(sentAt == null ? null : LocalDateTime.parse(sentAt))
+                .build();
+    }
+
+    /**
+     * 검색 결과 정렬
+     */
+    public enum SortOrder {
+        /** 검색어와의 관련도순 */
+        RELEVANCE,
+        /** 최신 메시지순 */
+        RECENT
+    }
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 
 import org.springframework.data.domain.Pageable;
 
+import com.pickteam.dto.chat.ChatMessageCursorResponse;
 import com.pickteam.dto.chat.ChatMessageRequest;
 import com.pickteam.dto.chat.ChatMessageResponse;
 import com.pickteam.dto.chat.ChatMessageListResponse;
@@ -39,6 +40,18 @@ ChatMessageListResponse getMessagesAfterTime(Long chatRoomId, LocalDateTime date
  */
 ChatMessageListResponse getRecentMessages(Long chatRoomId, Pageable pageable);
 
+/**
+ * 커서(메시지 ID) 기준으로 메시지를 조회합니다. COUNT 쿼리 없이 (chat_room_id, id) 인덱스로 조회합니다.
+ * before와 after를 모두 생략하면 최신 메시지를 조회합니다.
+ *
+ * @param chatRoomId 조회할 채팅방의 ID
+ * @param before 이 ID보다 오래된 메시지를 조회 (nullable)
+ * @param after 이 ID보다 최신 메시지를 조회 (nullable, before와 함께 사용할 수 없음)
+ * @param size 조회할 메시지 수
+ * @return ID 오름차순 메시지 목록과 이전/다음 커서
+ */
+ChatMessageCursorResponse getMessagesByCursor(Long chatRoomId, Long before, Long after, int size);
+
 /**
  * 새로운 메시지를 전송합니다.
  *
@@ -59,26 +72,4 @@ ChatMessageResponse sendMessage(Long chatRoomId, ChatMessageRequest request);
  */
 void deleteMessage(Long messageId, Long accountId, Long workspaceId, Long chatRoomId);
 
-// ------------------------------------- DEPRECATED --------------------------------------------------------------
-//    TODO : 채팅방 검색 기능이 필요할 경우 구현
-//    /**
-//     * 특정 사용자가 보낸 메시지를 조회
-//     * @param chatRoomId
-//     * @param accountId
-//     * @param pageable
-//     * @return
-//     */
-//    Page<ChatMessageResponse> searchMessagesByUser(Long chatRoomId, Long accountId, Pageable pageable);
-//
-//
-//    /**
-//     * 특정 키워드를 포함한 메시지 검색
-//     * @param chatRoomId
-//     * @param keyword
-//     * @param pageable
-//     * @return
-//     */
-//    Page<ChatMessageResponse> searchMessagesByContent(Long chatRoomId, String keyword, Pageable pageable);
-
-
-}
\ No newline at end of file
+}
@@ -1,11 +1,11 @@
 package com.pickteam.service.chat;
 
-import com.pickteam.domain.chat.ChatMember;
 import com.pickteam.domain.chat.ChatMessage;
 import com.pickteam.domain.chat.ChatRoom;
 import com.pickteam.domain.enums.SseEventType;
 import com.pickteam.domain.user.Account;
 import com.pickteam.domain.workspace.WorkspaceMember;
+import com.pickteam.dto.chat.ChatMessageCursorResponse;
 import com.pickteam.dto.chat.ChatMessageListResponse;
 import com.pickteam.dto.chat.ChatMessageNotificationDto;
 import com.pickteam.dto.chat.ChatMessageRequest;
@@ -18,18 +18,25 @@ import com.pickteam.repository.user.AccountRepository;
 import com.pickteam.repository.workspace.WorkspaceMemberRepository;
 import com.pickteam.repository.workspace.WorkspaceRepository;
 import com.pickteam.service.sse.SseService;
+import com.pickteam.util.TransactionUtils;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -43,6 +50,14 @@ public class ChatMessageServiceImpl implements ChatMessageService {
     private final WorkspaceMemberRepository workspaceMemberRepository;
     private final ChatMemberRepository chatMemberRepository;
     private final SseService sseService;
+    private final ChatRoomMembershipCache membershipCache;
+    private final ChatMessageWriteBehindWriter messageWriter;
+    private final ChatUnreadCountService unreadCountService;
+    private final ChatMessageSearchService searchService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 커서 조회 1회당 최대 메시지 수
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
 
     @Override
     public ChatMessageListResponse getMessagesAfter(Long chatRoomId, Long messageId, Pageable pageable) {
@@ -50,11 +65,9 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         chatRoomRepository.findById(chatRoomId)
                 .orElseThrow(() -> new EntityNotFoundException("채팅방을 찾을 수 없습니다."));
 
-        ChatMessage baseMessage = chatMessageRepository.findById(messageId)
-                .orElseThrow(() -> new EntityNotFoundException("기준 메시지를 찾을 수 없습니다."));
+        // 메시지 ID는 생성 순서대로 증가하므로 기준 메시지를 따로 조회하지 않고 ID로 비교한다
         Page<ChatMessage> messages = chatMessageRepository
-                .findByChatRoomIdAndCreatedAtAfterOrderByCreatedAtAsc(
-                        chatRoomId, baseMessage.getCreatedAt(), pageable);
+                .findPageByChatRoomIdAndIdGreaterThanOrderByIdAsc(chatRoomId, messageId, pageable);
 
         return ChatMessageListResponse.from(messages.map(ChatMessageResponse::from));
     }
@@ -84,6 +97,49 @@ public class ChatMessageServiceImpl implements ChatMessageService {
         return ChatMessageListResponse.from(messages.map(ChatMessageResponse::from));
     }
 
+    @Override
+    public ChatMessageCursorResponse getMessagesByCursor(Long chatRoomId, Long before, Long after, int size) {
+        if (before != null && after != null) {
+            throw new IllegalArgumentException("before와 after는 함께 사용할 수 없습니다.");
+        }
+
+        //채팅방 존재 여부 검증
+        chatRoomRepository.findById(chatRoomId)
+                .orElseThrow(() -> new EntityNotFoundException("채팅방을 찾을 수 없습니다."));
+
+        Pageable limit = PageRequest.of(0, Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE)));
+
+        List<ChatMessageResponse> messages;
+        boolean hasPrevious;
+        boolean hasNext;
+        if (after != null) {
+            // 커서 이후 메시지 - 오름차순 조회 결과를 그대로 사용
+            Slice<ChatMessage> slice = chatMessageRepository
+                    .findByChatRoomIdAndIdGreaterThanOrderByIdAsc(chatRoomId, after, limit);
+            messages = slice.map(ChatMessageResponse::from).getContent();
+            hasPrevious = true;
+            hasNext = slice.hasNext();
+        } else {
+            // 최신 메시지 또는 커서 이전 메시지 - 내림차순으로 조회한 뒤 화면 순서(오름차순)로 뒤집는다
+            Slice<ChatMessage> slice = before == null
+                    ? chatMessageRepository.findByChatRoomIdOrderByIdDesc(chatRoomId, limit)
+                    : chatMessageRepository.findByChatRoomIdAndIdLessThanOrderByIdDesc(chatRoomId, before, limit);
+            messages = new ArrayList<>(slice.map(ChatMessageResponse::from).getContent());
+            Collections.reverse(messages);
+            hasPrevious = slice.hasNext();
+            hasNext = before != null;
+        }
+
+        return ChatMessageCursorResponse.builder()
+                .messages(messages)
+                .size(messages.size())
+                .prevCursor(messages.isEmpty() ? null : messages.get(0).getId())
+                .nextCursor(messages.isEmpty() ? null : messages.get(messages.size() - 1).getId())
+                .hasPrevious(hasPrevious && !messages.isEmpty())
+                .hasNext(hasNext && !messages.isEmpty())
+                .build();
+    }
+
     /**
      * 메시지 전송
      *
@@ -92,18 +148,45 @@ public class ChatMessageServiceImpl implements ChatMessageService {
      * @return
      */
     @Override
-    @Transactional
     public ChatMessageResponse sendMessage(Long chatRoomId, ChatMessageRequest request) {
+        // 지연 저장 모드는 DB 조회/트랜잭션 없이 처리
+        if (messageWriter.isEnabled()) {
+            return sendMessageWriteBehind(chatRoomId, request);
+        }
+        return transactionTemplate.execute(status -> sendMessageSync(chatRoomId, request));
+    }
+
+    /**
+     * 지연 저장 모드 메시지 전송
+     * - 멤버십은 캐시로 확인하고, ID를 발급해 저장 대기열에 적재한 뒤 바로 알림을 보낸다
+     * - DB 저장은 ChatMessageWriteBehindWriter가 배치로 처리한다
+     */
+    private ChatMessageResponse sendMessageWriteBehind(Long chatRoomId, ChatMessageRequest request) {
+        if (!membershipCache.isMember(chatRoomId, request.getSenderId())) {
+            throw new IllegalArgumentException("이 채팅방에 속한 사용자가 아닙니다.");
+        }
+
+        PendingChatMessage pending = messageWriter.submit(chatRoomId, request.getSenderId(), request.getContent());
+        ChatMessageResponse response = pending.toResponse();
+
+        // 채팅방의 모든 멤버에게 새 메시지 알림 전송
+        notifyNewMessage(chatRoomId, response);
+
+        return response;
+    }
+
+    /**
+     * 동기 저장 모드 메시지 전송 (요청 트랜잭션에서 insert)
+     */
+    private ChatMessageResponse sendMessageSync(Long chatRoomId, ChatMessageRequest request) {
         ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
                 .orElseThrow(() -> new EntityNotFoundException("채팅방을 찾을 수 없습니다."));
 
         Account sender = accountRepository.findById(request.getSenderId())
                 .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
 
-        boolean isMember = chatRoom.getChatMembers().stream()
-                .anyMatch(cm -> cm.getAccount().getId().equals(sender.getId()));
-
-        if (!isMember) {
+        // 멤버십 캐시로 확인 (퇴장한 멤버는 제외)
+        if (!membershipCache.isMember(chatRoomId, sender.getId())) {
             throw new IllegalArgumentException("이 채팅방에 속한 사용자가 아닙니다.");
         }
 
@@ -172,47 +255,41 @@ public class ChatMessageServiceImpl implements ChatMessageService {
      * 발신자를 포함한 모든 멤버가 이벤트를 수신한다.
      */
     private void notifyNewMessage(Long chatRoomId, ChatMessageResponse message) {
-        List<ChatMember> activeMembers = chatMemberRepository.findAllByChatRoomIdAndIsDeletedFalse(chatRoomId);
-        
+        Set<Long> memberIds = membershipCache.getMemberIdSet(chatRoomId);
         ChatMessageNotificationDto notificationDto = ChatMessageNotificationDto.from(message);
-        
-        activeMembers.forEach(member -> {
-            sseService.sendToUser(
-                member.getAccount().getId(),
-                SseEventType.NEW_CHAT_MESSAGE.name(),
-                notificationDto
-            );
-        });
+
+        sseService.sendToUsers(
+            memberIds,
+            SseEventType.NEW_CHAT_MESSAGE.name(),
+            notificationDto
+        );
+
+        // 보낸 사람을 제외한 멤버의 안 읽은 메시지 수 증가
+        unreadCountService.messageSent(chatRoomId, message.getSenderId(), memberIds);
+
+        // 검색 색인 반영 (커밋 후)
+        searchService.messageSent(message);
     }
 
     /**
      * 채팅방의 모든 활성 멤버에게 메시지 삭제 이벤트를 전송한다.
      */
     private void notifyMessageDeleted(Long chatRoomId, Long messageId) {
-        List<ChatMember> activeMembers = chatMemberRepository.findAllByChatRoomIdAndIsDeletedFalse(chatRoomId);
-        
         ChatMessageDeletedNotificationDto notificationDto = ChatMessageDeletedNotificationDto.of(chatRoomId, messageId);
 
+        Set<Long> memberIds = membershipCache.getMemberIdSet(chatRoomId);
+
         // 모든 멤버에게 메시지 삭제 이벤트 전송
-        activeMembers.forEach(member -> {
-            sseService.sendToUser(
-                member.getAccount().getId(),
-                SseEventType.CHAT_MESSAGE_DELETED.name(),
-                notificationDto
-            );
-        });
-    }
+        sseService.sendToUsers(
+            memberIds,
+            SseEventType.CHAT_MESSAGE_DELETED.name(),
+            notificationDto
+        );
 
-    // ------------------------------------- DEPRECATED --------------------------------------------------------------
-    //    //TODO : 채팅방 검색 기능이 필요할 경우 구현
-    //    @Override
-    //    public Page<ChatMessageResponse> searchMessagesByUser(Long chatRoomId, Long accountId, Pageable pageable) {
-    //        return null;
-    //    }
-    //
-    //    //TODO : 채팅방 검색 기능이 필요할 경우 구현
-    //    @Override
-    //    public Page<ChatMessageResponse> searchMessagesByContent(Long chatRoomId, String keyword, Pageable pageable) {
-    //        return null;
-    //    }
-}
\ No newline at end of file
+        // 검색 색인에서 제거 (커밋 후)
+        searchService.messageDeleted(messageId);
+
+        // 삭제된 메시지를 읽었는지는 멤버마다 다르므로 안 읽은 메시지 수를 다시 계산하게 한다 (커밋 후)
+        TransactionUtils.afterCommit(() -> unreadCountService.invalidate(chatRoomId, memberIds));
+    }
+}
@@ -0,0 +1,425 @@
+package com.pickteam.service.chat;
+
+import com.pickteam.config.ChatConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 메시지 지연 저장기 (write-behind)
+ * - 전송 요청은 ID 발급 후 버퍼에 적재만 하고 바로 반환한다 (REDIS_STREAM 모드는 스트림 기록까지 동기 처리)
+ * - 단일 저장 스레드가 flushInterval마다 최대 batchSize개씩 JDBC 배치 insert로 저장한다
+ * - DB 장애 시 같은 배치를 다음 주기에 다시 시도하고, 버퍼가 가득 차면 전송 요청을 거절해 역압을 건다
+ * - REDIS_STREAM 모드는 저장이 끝난 레코드만 스트림에서 지우고, 재시작 시 남은 레코드를 복구한다
+ * - 같은 메시지가 이미 저장된 기본키 중복은 저장 완료로 본다
+ * - 다른 메시지와 ID가 겹치면 (노드 번호 설정 오류) 저장을 멈추고 새 전송을 거절한다 - 발급한 ID는 이미 전달됐으므로 바꾸지 않는다
+ * - 그 밖의 무결성 위반(삭제된 계정 등)으로 저장할 수 없는 메시지는 버리지 않고 dead-letter 스트림에 옮겨 둔다
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBehindWriter {
+
+    private static final String SAME_MESSAGE_SQL =
+            "SELECT COUNT(*) FROM chat_message WHERE id = ? AND chat_room_id = ? AND account_id = ? AND content = ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO chat_message (id, content, chat_room_id, account_id, created_at, updated_at, is_deleted) " +
+            "VALUES (?, ?, ?, ?, ?, ?, false)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final ChatMessageIdGenerator idGenerator;
+    private final ChatConfig.WriteBehind config;
+    private final String streamKey;
+    private final String deadLetterKey;
+
+    private final BlockingQueue<PendingChatMessage> buffer;
+    // 저장 중(또는 실패 후 재시도 대기 중)인 배치 - flush()의 모니터로 보호
+    private final List<PendingChatMessage> currentBatch = new ArrayList<>();
+
+    private ScheduledExecutorService flusher;
+
+    // ID 충돌로 저장을 멈춘 사유 (null이면 정상) - 멈춘 뒤의 메시지는 버퍼/스트림에 그대로 남는다
+    private volatile String haltReason;
+
+    private final AtomicLong submittedMessages = new AtomicLong();
+    private final AtomicLong persistedMessages = new AtomicLong();
+    private final AtomicLong rejectedMessages = new AtomicLong();
+    private final AtomicLong deadLetteredMessages = new AtomicLong();
+    private final AtomicLong idCollisions = new AtomicLong();
+    private final AtomicLong persistedBatches = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private volatile long lastBatchSize;
+    private volatile long lastBatchMillis;
+    private volatile long firstPersistedAtNanos;
+
+    public ChatMessageWriteBehindWriter(JdbcTemplate jdbcTemplate, StringRedisTemplate redisTemplate,
+                                        ChatMessageIdGenerator idGenerator, ChatConfig chatConfig) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisTemplate = redisTemplate;
+        this.idGenerator = idGenerator;
+        this.config = chatConfig.getWriteBehind();
+        this.streamKey = config.getStreamKeyPrefix() + ":" + idGenerator.getNodeId();
+        this.deadLetterKey = config.getDeadLetterKeyPrefix() + ":" + idGenerator.getNodeId();
+        this.buffer = new ArrayBlockingQueue<>(config.getBufferCapacity());
+    }
+
+    /**
+     * 지연 저장 사용 여부 (SYNC 모드면 기존처럼 요청 트랜잭션에서 저장)
+     */
+    public boolean isEnabled() {
+        return config.getMode() != ChatConfig.WriteMode.SYNC;
+    }
+
+    private boolean isDurable() {
+        return config.getMode() == ChatConfig.WriteMode.REDIS_STREAM;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!isEnabled()) {
+            return;
+        }
+        if (isDurable()) {
+            recoverFromStream();
+        }
+
+        long intervalMs = Math.max(1, config.getFlushInterval().toMillis());
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushAll, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        log.info("📝 채팅 메시지 지연 저장 시작: mode={}, batchSize={}, flushInterval={}ms",
+                config.getMode(), config.getBatchSize(), intervalMs);
+    }
+
+    /**
+     * 메시지 ID를 발급하고 저장 대기열에 적재
+     *
+     * @return ID와 생성 시각이 확정된 메시지
+     * @throws IllegalStateException 저장 대기열이 가득 찼거나 ID 충돌로 저장이 멈춘 경우
+     */
+    public PendingChatMessage submit(Long chatRoomId, Long accountId, String content) {
+        if (isHalted()) {
+            rejectedMessages.incrementAndGet();
+            throw new IllegalStateException("메시지를 저장할 수 없는 상태입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        PendingChatMessage message = new PendingChatMessage(
+                idGenerator.nextId(), chatRoomId, accountId, content, LocalDateTime.now());
+
+        if (isDurable()) {
+            RecordId recordId = redisTemplate.opsForStream()
+                    .add(StreamRecords.string(message.toStreamFields()).withStreamKey(streamKey));
+            message = message.withStreamRecordId(recordId.getValue());
+        }
+
+        boolean accepted;
+        try {
+            accepted = buffer.offer(message, config.getOfferTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+
+        if (!accepted) {
+            rejectedMessages.incrementAndGet();
+            if (message.getStreamRecordId() != null) {
+                redisTemplate.opsForStream().delete(streamKey, message.getStreamRecordId());
+            }
+            log.warn("⚠️ 채팅 메시지 저장 대기열 초과: buffered={}", buffer.size());
+            throw new IllegalStateException("메시지 전송량이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        submittedMessages.incrementAndGet();
+        return message;
+    }
+
+    /**
+     * 대기열이 빌 때까지 배치 저장 (저장 스레드에서 주기적으로 호출)
+     */
+    void flushAll() {
+        if (isHalted()) {
+            return;
+        }
+        try {
+            while (flush() == config.getBatchSize()) {
+                // 밀린 메시지가 있으면 다음 주기를 기다리지 않고 이어서 저장
+            }
+        } catch (ChatMessageIdCollisionException e) {
+            halt(e.getMessage());
+        } catch (RuntimeException e) {
+            failedBatches.incrementAndGet();
+            log.error("❌ 채팅 메시지 배치 저장 실패 (다음 주기에 재시도): pending={}, error={}",
+                    currentBatch.size() + buffer.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 배치 하나 저장
+     *
+     * @return 저장한 메시지 수
+     */
+    synchronized int flush() {
+        if (currentBatch.isEmpty()) {
+            buffer.drainTo(currentBatch, config.getBatchSize());
+        }
+        if (currentBatch.isEmpty()) {
+            return 0;
+        }
+
+        long start = System.nanoTime();
+        int persisted = insertBatch(currentBatch);
+        acknowledge(currentBatch);
+
+        if (firstPersistedAtNanos == 0) {
+            firstPersistedAtNanos = start;
+        }
+        int size = currentBatch.size();
+        persistedMessages.addAndGet(persisted);
+        persistedBatches.incrementAndGet();
+        lastBatchSize = size;
+        lastBatchMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        currentBatch.clear();
+        return size;
+    }
+
+    /**
+     * JDBC 배치 insert
+     * 무결성 위반이 섞여 있으면 한 건씩 다시 저장해 이미 저장된 메시지는 건너뛰고, 그 밖의 위반은 dead-letter로 옮긴다.
+     */
+    private int insertBatch(List<PendingChatMessage> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, message) -> {
+                Timestamp createdAt = Timestamp.valueOf(message.getCreatedAt());
+                ps.setLong(1, message.getId());
+                ps.setString(2, message.getContent());
+                ps.setLong(3, message.getChatRoomId());
+                ps.setLong(4, message.getAccountId());
+                ps.setTimestamp(5, createdAt);
+                ps.setTimestamp(6, createdAt);
+            });
+            return batch.size();
+        } catch (DataIntegrityViolationException e) {
+            return insertOneByOne(batch);
+        }
+    }
+
+    private int insertOneByOne(List<PendingChatMessage> batch) {
+        int persisted = 0;
+        for (PendingChatMessage message : batch) {
+            if (insertOne(message)) {
+                persisted++;
+            }
+        }
+        return persisted;
+    }
+
+    private boolean insertOne(PendingChatMessage message) {
+        try {
+            Timestamp createdAt = Timestamp.valueOf(message.getCreatedAt());
+            jdbcTemplate.update(INSERT_SQL, message.getId(), message.getContent(),
+                    message.getChatRoomId(), message.getAccountId(), createdAt, createdAt);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return resolveDuplicate(message);
+        } catch (DataIntegrityViolationException e) {
+            deadLetter(message, e);
+            return false;
+        }
+    }
+
+    /**
+     * 기본키 중복 처리
+     * - 같은 메시지가 이미 저장돼 있으면 (스트림 정리 실패 후 재처리 등) 저장 완료로 본다
+     * - 다른 메시지가 같은 ID를 쓰고 있으면 (노드 번호 설정 오류) 예외를 던져 저장을 멈춘다
+     */
+    private boolean resolveDuplicate(PendingChatMessage message) {
+        Integer same = jdbcTemplate.queryForObject(SAME_MESSAGE_SQL, Integer.class,
+                message.getId(), message.getChatRoomId(), message.getAccountId(), message.getContent());
+        if (same != null && same > 0) {
+            return true;
+        }
+
+        idCollisions.incrementAndGet();
+        throw new ChatMessageIdCollisionException(message.getId(), idGenerator.getNodeId());
+    }
+
+    /**
+     * 저장할 수 없는 메시지를 dead-letter 스트림에 보관 (원인 확인 후 수동 복구용)
+     * 보관에 실패하면 예외를 던져 배치 전체를 다음 주기에 다시 시도한다.
+     */
+    private void deadLetter(PendingChatMessage message, DataIntegrityViolationException cause) {
+        Map<String, String> fields = new LinkedHashMap<>(message.toStreamFields());
+        fields.put("error", String.valueOf(cause.getMostSpecificCause().getMessage()));
+        redisTemplate.opsForStream().add(StreamRecords.string(fields).withStreamKey(deadLetterKey));
+
+        deadLetteredMessages.incrementAndGet();
+        log.error("❌ 저장할 수 없는 채팅 메시지를 dead-letter로 이동: id={}, chatRoomId={}, key={}, error={}",
+                message.getId(), message.getChatRoomId(), deadLetterKey, cause.getMessage());
+    }
+
+    /**
+     * 저장 중단 - 이후 저장 주기와 새 전송 요청을 모두 멈춘다 (노드 번호를 고친 뒤 재시작해야 한다)
+     * 저장하지 못한 메시지는 버퍼와 (REDIS_STREAM 모드면) 스트림에 남아 재시작 시 복구된다.
+     */
+    private void halt(String reason) {
+        haltReason = reason;
+        log.error("🚨 채팅 메시지 저장 중단 - 노드 번호(app.chat.write-behind.node-id) 확인 후 재시작 필요: {}, pending={}",
+                reason, currentBatch.size() + buffer.size());
+    }
+
+    public boolean isHalted() {
+        return haltReason != null;
+    }
+
+    /**
+     * 저장이 끝난 메시지를 스트림에서 제거 (실패해도 재시작 복구 시 중복 저장하지 않는다)
+     */
+    private void acknowledge(List<PendingChatMessage> batch) {
+        if (!isDurable()) {
+            return;
+        }
+        String[] recordIds = batch.stream()
+                .map(PendingChatMessage::getStreamRecordId)
+                .filter(Objects::nonNull)
+                .toArray(String[]::new);
+        if (recordIds.length == 0) {
+            return;
+        }
+        try {
+            redisTemplate.opsForStream().delete(streamKey, recordIds);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 채팅 메시지 스트림 정리 실패: count={}, error={}", recordIds.length, e.getMessage());
+        }
+    }
+
+    /**
+     * 재시작 시 스트림에 남은(저장되지 않았을 수 있는) 메시지 복구
+     * 이미 저장된 ID는 건너뛰므로 같은 메시지가 두 번 저장되지 않는다.
+     */
+    private void recoverFromStream() {
+        List<MapRecord<String, Object, Object>> records =
+                redisTemplate.opsForStream().range(streamKey, Range.unbounded());
+        if (records == null || records.isEmpty()) {
+            return;
+        }
+
+        List<PendingChatMessage> pending = records.stream()
+                .map(record -> PendingChatMessage.fromStreamFields(record.getId().getValue(), record.getValue()))
+                .collect(Collectors.toList());
+
+        int recovered = 0;
+        for (int from = 0; from < pending.size(); from += config.getBatchSize()) {
+            List<PendingChatMessage> chunk = pending.subList(from, Math.min(pending.size(), from + config.getBatchSize()));
+            Set<Long> existing = findExistingIds(chunk);
+            List<PendingChatMessage> missing = chunk.stream()
+                    .filter(message -> !existing.contains(message.getId()))
+                    .collect(Collectors.toList());
+            if (!missing.isEmpty()) {
+                recovered += insertBatch(missing);
+            }
+            acknowledge(chunk);
+        }
+        log.info("♻️ 채팅 메시지 스트림 복구 완료: records={}, recovered={}", pending.size(), recovered);
+    }
+
+    private Set<Long> findExistingIds(List<PendingChatMessage> messages) {
+        String placeholders = String.join(",", Collections.nCopies(messages.size(), "?"));
+        Object[] ids = messages.stream().map(PendingChatMessage::getId).toArray();
+        try {
+            return new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT id FROM chat_message WHERE id IN (" + placeholders + ")", Long.class, ids));
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("채팅 메시지 복구 중 기존 메시지 조회에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 지연 저장 통계 (디버깅/부하 측정용)
+     */
+    public Map<String, Object> getStats() {
+        long persisted = persistedMessages.get();
+        long startedAt = firstPersistedAtNanos;
+        double elapsedSeconds = startedAt == 0 ? 0 : (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", config.getMode().name());
+        stats.put("bufferedMessages", buffer.size() + currentBatch.size());
+        stats.put("submittedMessages", submittedMessages.get());
+        stats.put("persistedMessages", persisted);
+        stats.put("rejectedMessages", rejectedMessages.get());
+        stats.put("deadLetteredMessages", deadLetteredMessages.get());
+        stats.put("idCollisions", idCollisions.get());
+        stats.put("halted", isHalted());
+        stats.put("haltReason", haltReason);
+        stats.put("persistedBatches", persistedBatches.get());
+        stats.put("failedBatches", failedBatches.get());
+        stats.put("lastBatchSize", lastBatchSize);
+        stats.put("lastBatchMillis", lastBatchMillis);
+        // 첫 저장 이후 평균 저장 처리량 (부하 테스트 시 지속 처리량 지표로 사용)
+        stats.put("persistedPerSecond", elapsedSeconds > 0 ? Math.round(persisted / elapsedSeconds) : 0);
+        return stats;
+    }
+
+    /**
+     * 다른 메시지와 기본키가 겹친 경우 (노드 번호가 인스턴스 간에 중복 설정됨)
+     */
+    private static class ChatMessageIdCollisionException extends IllegalStateException {
+        ChatMessageIdCollisionException(long messageId, long nodeId) {
+            super("채팅 메시지 ID 충돌: id=" + messageId + ", nodeId=" + nodeId);
+        }
+    }
+
+    /**
+     * 종료 시 남은 메시지 저장
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (flusher == null) {
+            return;
+        }
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushAll();
+
+        int remaining = buffer.size() + currentBatch.size();
+        if (remaining > 0) {
+            log.error("❌ 종료 시 저장하지 못한 채팅 메시지: count={}, mode={}", remaining, config.getMode());
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.pickteam.service.chat;
+
+import com.pickteam.config.ChatConfig;
+import com.pickteam.domain.enums.SseEventType;
+import com.pickteam.dto.chat.ChatReadPositionNotificationDto;
+import com.pickteam.service.sse.SseService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 읽음 위치 집계기
+ * - last-read-refresh 요청은 (채팅방, 사용자)별 가장 큰 메시지 ID만 메모리에 남기고 바로 반환한다
+ * - 주기적으로 모인 읽음 위치를 배치 UPDATE로 저장한다 (스크롤 중 수십 번의 요청이 한 행 갱신으로 합쳐진다)
+ * - UPDATE는 읽음 위치가 앞으로만 이동하고, 해당 채팅방의 메시지일 때만 적용된다
+ * - 저장된 행은 안 읽은 메시지 수 카운터를 저장한 읽음 위치 기준으로 다시 맞추고, 설정 시 읽음 위치를 채팅방 멤버에게 알린다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatReadReceiptAggregator {
+
+    private static final String UPDATE_SQL =
+            "UPDATE chat_member SET last_read_message_id = ?, updated_at = ? " +
+            "WHERE chat_room_id = ? AND account_id = ? AND is_deleted = false " +
+            "AND (last_read_message_id IS NULL OR last_read_message_id < ?) " +
+            "AND EXISTS (SELECT 1 FROM chat_message WHERE id = ? AND chat_room_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatConfig chatConfig;
+    private final ChatRoomMembershipCache membershipCache;
+    private final ChatUnreadCountService unreadCountService;
+    private final SseService sseService;
+
+    // 저장 대기 중인 읽음 위치 ((채팅방, 사용자) → 가장 큰 메시지 ID)
+    private final ConcurrentHashMap<ReceiptKey, Long> pending = new ConcurrentHashMap<>();
+
+    private final AtomicLong recordedReceipts = new AtomicLong();
+    private final AtomicLong writtenRows = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+
+    public boolean isEnabled() {
+        return chatConfig.getReadReceipt().isEnabled();
+    }
+
+    /**
+     * 읽음 위치 기록 (더 큰 메시지 ID만 남긴다)
+     */
+    public void record(Long chatRoomId, Long accountId, Long messageId) {
+        recordedReceipts.incrementAndGet();
+        pending.merge(new ReceiptKey(chatRoomId, accountId), messageId, Math::max);
+    }
+
+    /**
+     * 모인 읽음 위치 일괄 저장
+     *
+     * @return 저장 요청한 행 수
+     */
+    @Scheduled(fixedDelayString = "${app.chat.read-receipt.flush-interval-ms:1000}")
+    public synchronized int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // 꺼내는 사이에 더 큰 값이 들어오면 그 값은 남겨 두어 다음 주기에 저장한다
+        Map<ReceiptKey, Long> batch = new HashMap<>();
+        for (Map.Entry<ReceiptKey, Long> entry : pending.entrySet()) {
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Map.Entry<ReceiptKey, Long>> rows = new ArrayList<>(batch.entrySet());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] updated;
+        try {
+            updated = jdbcTemplate.batchUpdate(UPDATE_SQL, rows, chatConfig.getReadReceipt().getBatchSize(), (ps, row) -> {
+                ps.setLong(1, row.getValue());
+                ps.setTimestamp(2, now);
+                ps.setLong(3, row.getKey().chatRoomId);
+                ps.setLong(4, row.getKey().accountId);
+                ps.setLong(5, row.getValue());
+                ps.setLong(6, row.getValue());
+                ps.setLong(7, row.getKey().chatRoomId);
+            });
+        } catch (RuntimeException e) {
+            // 실패한 읽음 위치는 다시 합쳐 다음 주기에 재시도
+            rows.forEach(row -> pending.merge(row.getKey(), row.getValue(), Math::max));
+            failedFlushes.incrementAndGet();
+            log.error("❌ 읽음 위치 일괄 저장 실패 (다음 주기에 재시도): rows={}, error={}", rows.size(), e.getMessage());
+            return 0;
+        }
+
+        flushes.incrementAndGet();
+        writtenRows.addAndGet(rows.size());
+        afterFlush(rows, updated);
+        log.debug("📖 읽음 위치 일괄 저장: rows={}", rows.size());
+        return rows.size();
+    }
+
+    private void afterFlush(List<Map.Entry<ReceiptKey, Long>> rows, int[][] updated) {
+        int[] counts = updated == null ? new int[0] : Arrays.stream(updated).flatMapToInt(Arrays::stream).toArray();
+        Map<Long, Set<Long>> unknownByRoom = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Map.Entry<ReceiptKey, Long> row = rows.get(i);
+            int count = i < counts.length ? counts[i] : Statement.SUCCESS_NO_INFO;
+            if (count > 0) {
+                // 읽음 위치가 저장된 행은 저장한 위치 기준으로 카운터를 맞춘다
+                unreadCountService.messageRead(row.getKey().accountId, row.getKey().chatRoomId, row.getValue());
+            } else if (count == Statement.SUCCESS_NO_INFO) {
+                // 드라이버가 행별 결과를 주지 않으면 저장 여부를 모르므로 카운터를 지워 다시 계산하게 한다
+                unknownByRoom.computeIfAbsent(row.getKey().chatRoomId, k -> new HashSet<>()).add(row.getKey().accountId);
+            }
+            // 0이면 이미 더 뒤의 읽음 위치가 저장돼 있으므로 카운터를 건드리지 않는다
+        }
+        unknownByRoom.forEach(unreadCountService::invalidate);
+
+        if (!chatConfig.getReadReceipt().isBroadcast()) {
+            return;
+        }
+        for (Map.Entry<ReceiptKey, Long> row : rows) {
+            Long chatRoomId = row.getKey().chatRoomId;
+            sseService.sendToUsers(
+                    membershipCache.getMemberIdSet(chatRoomId),
+                    SseEventType.CHAT_READ_POSITION.name(),
+                    ChatReadPositionNotificationDto.of(chatRoomId, row.getKey().accountId, row.getValue()));
+        }
+    }
+
+    /**
+     * 읽음 위치 집계 통계 (요청 수 대비 실제 저장 행 수)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", isEnabled());
+        stats.put("pendingReceipts", pending.size());
+        stats.put("recordedReceipts", recordedReceipts.get());
+        stats.put("writtenRows", writtenRows.get());
+        stats.put("flushes", flushes.get());
+        stats.put("failedFlushes", failedFlushes.get());
+        return stats;
+    }
+
+    /**
+     * 종료 시 남은 읽음 위치 저장
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private static final class ReceiptKey {
+        private final long chatRoomId;
+        private final long accountId;
+
+        private ReceiptKey(long chatRoomId, long accountId) {
+            this.chatRoomId = chatRoomId;
+            this.accountId = accountId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ReceiptKey)) return false;
+            ReceiptKey that = (ReceiptKey) o;
+            return chatRoomId == that.chatRoomId && accountId == that.accountId;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(chatRoomId, accountId);
+        }
+    }
+}
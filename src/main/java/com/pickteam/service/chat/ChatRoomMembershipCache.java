@@ -0,0 +1,220 @@
+package com.pickteam.service.chat;
+
+import com.pickteam.config.ChatConfig;
+import com.pickteam.repository.chat.ChatMemberRepository;
+import com.pickteam.util.TransactionUtils;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+
+/**
+ * 채팅방 멤버십 캐시 (채팅방 ID → 활성 멤버 계정 ID 배열)
+ * - 메시지 전송/삭제 알림의 수신자 조회를 SQL 없이 처리한다
+ * - 배열은 정렬된 long[]을 copy-on-write로 교체하므로 읽기에는 잠금이 없다
+ * - 입장/퇴장/생성 시 커밋 후 로컬 캐시를 갱신하고, Redis 채널로 다른 노드의 캐시를 무효화한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomMembershipCache implements MessageListener {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final ChatMemberRepository chatMemberRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChatConfig chatConfig;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ConcurrentHashMap<Long, long[]> roomMembers = new ConcurrentHashMap<>();
+
+    // 변경 횟수 - DB 조회 중 변경이 일어나면 조회 결과를 캐시에 넣지 않는다
+    private final AtomicLong modifications = new AtomicLong();
+
+    @PostConstruct
+    public void subscribe() {
+        ChatConfig.MembershipCache config = chatConfig.getMembershipCache();
+        if (!config.isInvalidationEnabled()) {
+            return;
+        }
+        listenerContainer.addMessageListener(this, new ChannelTopic(config.getInvalidationChannel()));
+        log.info("📡 채팅방 멤버십 캐시 무효화 구독 시작: channel={}", config.getInvalidationChannel());
+    }
+
+    /**
+     * 채팅방 활성 멤버 계정 ID 조회 (캐시 미스 시 ID만 조회하는 쿼리 1회)
+     * 반환 배열은 공유되므로 수정하면 안 된다.
+     */
+    public long[] getMemberIds(Long chatRoomId) {
+        long[] cached = roomMembers.get(chatRoomId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long observed = modifications.get();
+        long[] loaded = chatMemberRepository.findActiveAccountIdsByChatRoomId(chatRoomId).stream()
+                .mapToLong(Long::longValue)
+                .distinct()
+                .sorted()
+                .toArray();
+
+        // 조회하는 동안 변경이 있었다면 오래된 결과일 수 있으므로 캐시하지 않는다
+        long[] result = roomMembers.compute(chatRoomId, (id, current) ->
+                current != null ? current : (modifications.get() == observed ? loaded : null));
+        return result != null ? result : loaded;
+    }
+
+    /**
+     * SSE 전송용 수신자 집합
+     */
+    public Set<Long> getMemberIdSet(Long chatRoomId) {
+        long[] ids = getMemberIds(chatRoomId);
+        Set<Long> result = new HashSet<>(ids.length * 2);
+        for (long id : ids) {
+            result.add(id);
+        }
+        return result;
+    }
+
+    /**
+     * 채팅방 멤버 여부
+     */
+    public boolean isMember(Long chatRoomId, Long accountId) {
+        return Arrays.binarySearch(getMemberIds(chatRoomId), accountId) >= 0;
+    }
+
+    /**
+     * 멤버 입장 반영 (커밋 후)
+     */
+    public void memberJoined(Long chatRoomId, Long accountId) {
+        TransactionUtils.afterCommit(() -> {
+            update(chatRoomId, current -> add(current, accountId));
+            publishInvalidation(chatRoomId);
+        });
+    }
+
+    /**
+     * 멤버 퇴장 반영 (커밋 후)
+     */
+    public void memberLeft(Long chatRoomId, Long accountId) {
+        TransactionUtils.afterCommit(() -> {
+            update(chatRoomId, current -> remove(current, accountId));
+            publishInvalidation(chatRoomId);
+        });
+    }
+
+    /**
+     * 채팅방 생성 시 멤버 목록 등록 (커밋 후)
+     */
+    public void roomCreated(Long chatRoomId, Collection<Long> accountIds) {
+        long[] ids = accountIds.stream().mapToLong(Long::longValue).distinct().sorted().toArray();
+        TransactionUtils.afterCommit(() -> {
+            roomMembers.compute(chatRoomId, (id, current) -> {
+                modifications.incrementAndGet();
+                return ids;
+            });
+            publishInvalidation(chatRoomId);
+        });
+    }
+
+    /**
+     * 채팅방 삭제 시 캐시 제거 (커밋 후)
+     */
+    public void roomDeleted(Long chatRoomId) {
+        TransactionUtils.afterCommit(() -> {
+            evict(chatRoomId);
+            publishInvalidation(chatRoomId);
+        });
+    }
+
+    /**
+     * 로컬 캐시 무효화 (다음 조회 시 DB에서 다시 적재)
+     */
+    public void evict(Long chatRoomId) {
+        roomMembers.compute(chatRoomId, (id, current) -> {
+            modifications.incrementAndGet();
+            return null;
+        });
+    }
+
+    /**
+     * 다른 노드에서 보낸 무효화 메시지 처리 ("{nodeId}:{chatRoomId}")
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        try {
+            evict(Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("⚠️ 잘못된 채팅방 멤버십 무효화 메시지: {}", body);
+        }
+    }
+
+    private void update(Long chatRoomId, UnaryOperator<long[]> change) {
+        // 캐시에 없으면 다음 조회 때 커밋된 DB 상태를 읽으므로 변경 횟수만 올린다
+        roomMembers.compute(chatRoomId, (id, current) -> {
+            modifications.incrementAndGet();
+            return current == null ? null : change.apply(current);
+        });
+    }
+
+    private void publishInvalidation(Long chatRoomId) {
+        ChatConfig.MembershipCache config = chatConfig.getMembershipCache();
+        if (!config.isInvalidationEnabled()) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(config.getInvalidationChannel(), nodeId + ":" + chatRoomId);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 채팅방 멤버십 무효화 발행 실패: chatRoomId={}, error={}", chatRoomId, e.getMessage());
+        }
+    }
+
+    private static long[] add(long[] current, long accountId) {
+        int index = Arrays.binarySearch(current, accountId);
+        if (index >= 0) {
+            return current;
+        }
+        int insertAt = -index - 1;
+        long[] next = new long[current.length + 1];
+        System.arraycopy(current, 0, next, 0, insertAt);
+        next[insertAt] = accountId;
+        System.arraycopy(current, insertAt, next, insertAt + 1, current.length - insertAt);
+        return next;
+    }
+
+    private static long[] remove(long[] current, long accountId) {
+        int index = Arrays.binarySearch(current, accountId);
+        if (index < 0) {
+            return current;
+        }
+        if (current.length == 1) {
+            return EMPTY;
+        }
+        long[] next = new long[current.length - 1];
+        System.arraycopy(current, 0, next, 0, index);
+        System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+        return next;
+    }
+}
@@ -45,6 +45,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
     private final TeamRepository teamRepository;
     private final ChatMemberRepository chatMemberRepository;
     private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final ChatRoomMembershipCache membershipCache;
 
     /**
      * 채팅방 목록 읽어오기
@@ -118,6 +119,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
         }
 
         chatMembers = chatMemberRepository.saveAll(chatMembers);
+        membershipCache.roomCreated(chatroom.getId(), memberIds);
 
         return ChatRoomResponse.from(chatroom);
     }
@@ -184,6 +186,7 @@ public class ChatRoomServiceImpl implements ChatRoomService {
 
         chatroom.markDeleted();
         chatRoomRepository.save(chatroom);
+        membershipCache.roomDeleted(chatRoomId);
 
 
     }
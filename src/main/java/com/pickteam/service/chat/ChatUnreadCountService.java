@@ -0,0 +1,128 @@
+package com.pickteam.service.chat;
+
+import com.pickteam.dto.chat.ChatRoomUnreadCount;
+import com.pickteam.repository.chat.ChatMemberRepository;
+import com.pickteam.repository.chat.ChatMessageRepository;
+import com.pickteam.repository.chat.ChatUnreadCountRepository;
+import com.pickteam.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅방 안 읽은 메시지 수 서비스
+ * - 채팅방 목록 조회는 Redis 카운터 한 번 조회로 처리하고 (채팅방 수에 비례)
+ *   카운터가 없는 채팅방만 DB에서 한 번의 집계 쿼리로 계산해 채워 넣는다
+ * - 메시지 전송 시 (커밋 후) 수신자 카운터를 증가시키고, 읽음 처리 시 정확한 값으로 다시 맞춘다
+ * - 메시지 삭제/입장/퇴장처럼 증감을 따지기 어려운 변경은 카운터를 지워 재계산하게 한다
+ * - Redis 장애 시에는 DB 집계로 대체하며, 카운터 갱신 실패는 전송/읽음 처리를 막지 않는다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatUnreadCountService {
+
+    private final ChatUnreadCountRepository unreadCountRepository;
+    private final ChatMemberRepository chatMemberRepository;
+    private final ChatMessageRepository chatMessageRepository;
+
+    /**
+     * 채팅방별 안 읽은 메시지 수 조회
+     *
+     * @param accountId 사용자 ID
+     * @param chatRoomIds 사용자가 참여 중인 채팅방 ID 목록
+     * @return 채팅방 ID → 안 읽은 메시지 수
+     */
+    public Map<Long, Long> getUnreadCounts(Long accountId, List<Long> chatRoomIds) {
+        if (chatRoomIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Long> counts;
+        try {
+            counts = new HashMap<>(unreadCountRepository.findCounts(accountId, chatRoomIds));
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 안 읽은 메시지 카운터 조회 실패, DB 집계로 대체: accountId={}, error={}", accountId, e.getMessage());
+            return countFromDatabase(accountId, chatRoomIds);
+        }
+
+        List<Long> missing = new ArrayList<>();
+        for (Long chatRoomId : chatRoomIds) {
+            if (!counts.containsKey(chatRoomId)) {
+                missing.add(chatRoomId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Map<Long, Long> loaded = countFromDatabase(accountId, missing);
+            counts.putAll(loaded);
+            try {
+                unreadCountRepository.saveCounts(accountId, loaded);
+            } catch (RuntimeException e) {
+                log.warn("⚠️ 안 읽은 메시지 카운터 저장 실패: accountId={}, error={}", accountId, e.getMessage());
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 새 메시지 전송 반영 (커밋 후 보낸 사람을 제외한 멤버의 카운터 증가)
+     * - 롤백된 메시지가 카운터에 남지 않도록 전송 트랜잭션이 커밋된 뒤에만 증가시킨다
+     */
+    public void messageSent(Long chatRoomId, Long senderId, Set<Long> memberIds) {
+        List<Long> recipients = memberIds.stream()
+                .filter(memberId -> !memberId.equals(senderId))
+                .collect(Collectors.toList());
+        TransactionUtils.afterCommit(() -> {
+            try {
+                unreadCountRepository.increment(chatRoomId, recipients);
+            } catch (RuntimeException e) {
+                // 카운터를 지울 수도 없는 상황이므로 TTL 만료 또는 다음 읽음 처리에서 보정된다
+                log.warn("⚠️ 안 읽은 메시지 카운터 증가 실패: chatRoomId={}, error={}", chatRoomId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 읽음 처리 반영 (마지막으로 읽은 메시지 이후 메시지 수로 다시 맞춤)
+     */
+    public void messageRead(Long accountId, Long chatRoomId, Long lastReadMessageId) {
+        long unread = chatMessageRepository
+                .countByChatRoomIdAndIdGreaterThanAndIsDeletedFalseAndAccountIdNot(chatRoomId, lastReadMessageId, accountId);
+        try {
+            unreadCountRepository.saveCounts(accountId, Map.of(chatRoomId, unread));
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 안 읽은 메시지 카운터 갱신 실패: accountId={}, chatRoomId={}, error={}",
+                    accountId, chatRoomId, e.getMessage());
+        }
+    }
+
+    /**
+     * 카운터 무효화 (다음 조회 시 DB에서 다시 계산)
+     */
+    public void invalidate(Long chatRoomId, Collection<Long> accountIds) {
+        try {
+            unreadCountRepository.evict(chatRoomId, accountIds);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 안 읽은 메시지 카운터 무효화 실패: chatRoomId={}, error={}", chatRoomId, e.getMessage());
+        }
+    }
+
+    private Map<Long, Long> countFromDatabase(Long accountId, List<Long> chatRoomIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Long chatRoomId : chatRoomIds) {
+            counts.put(chatRoomId, 0L);
+        }
+        for (ChatRoomUnreadCount count : chatMemberRepository.countUnreadMessages(accountId, chatRoomIds)) {
+            counts.put(count.getChatRoomId(), count.getUnreadCount());
+        }
+        return counts;
+    }
+}
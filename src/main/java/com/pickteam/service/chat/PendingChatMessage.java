@@ -0,0 +1,78 @@
+package com.pickteam.service.chat;
+
+import com.pickteam.dto.chat.ChatMessageResponse;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 저장 대기 중인 채팅 메시지
+ * - ID와 생성 시각은 전송 시점에 확정되어 알림과 DB 저장에 같은 값을 사용한다
+ * - REDIS_STREAM 모드에서는 스트림 레코드 ID를 함께 보관해 저장 후 삭제한다
+ */
+@Getter
+public class PendingChatMessage {
+
+    private final long id;
+    private final long chatRoomId;
+    private final long accountId;
+    private final String content;
+    private final LocalDateTime createdAt;
+    private final String streamRecordId;
+
+    public PendingChatMessage(long id, long chatRoomId, long accountId, String content, LocalDateTime createdAt) {
+        this(id, chatRoomId, accountId, content, createdAt, null);
+    }
+
+    private PendingChatMessage(long id, long chatRoomId, long accountId, String content,
+                               LocalDateTime createdAt, String streamRecordId) {
+        this.id = id;
+        this.chatRoomId = chatRoomId;
+        this.accountId = accountId;
+        this.content = content;
+        this.createdAt = createdAt;
+        this.streamRecordId = streamRecordId;
+    }
+
+    public PendingChatMessage withStreamRecordId(String recordId) {
+        return new PendingChatMessage(id, chatRoomId, accountId, content, createdAt, recordId);
+    }
+
+    public ChatMessageResponse toResponse() {
+        return ChatMessageResponse.builder()
+                .id(id)
+                .content(content)
+                .senderId(accountId)
+                .chatRoomId(chatRoomId)
+                .sentAt(createdAt)
+                .build();
+    }
+
+    /**
+     * Redis 스트림 필드로 변환
+     */
+    public Map<String, String> toStreamFields() {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("id", String.valueOf(id));
+        fields.put("chatRoomId", String.valueOf(chatRoomId));
+        fields.put("accountId", String.valueOf(accountId));
+        fields.put("content", content == null ? "" : content);
+        fields.put("createdAt", createdAt.toString());
+        return fields;
+    }
+
+    /**
+     * Redis 스트림 레코드에서 복원
+     */
+    public static PendingChatMessage fromStreamFields(String recordId, Map<?, ?> fields) {
+        return new PendingChatMessage(
+                Long.parseLong(String.valueOf(fields.get("id"))),
+                Long.parseLong(String.valueOf(fields.get("chatRoomId"))),
+                Long.parseLong(String.valueOf(fields.get("accountId"))),
+                String.valueOf(fields.get("content")),
+                LocalDateTime.parse(String.valueOf(fields.get("createdAt"))),
+                recordId);
+    }
+}
@@ -0,0 +1,107 @@
+package com.pickteam.service.kanban;
+
+import com.pickteam.dto.kanban.KanbanTaskAssigneeId;
+import com.pickteam.dto.kanban.KanbanTaskMemberRef;
+import com.pickteam.repository.kanban.KanbanTaskMemberRepository;
+import com.pickteam.repository.user.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 칸반 작업 담당자 교체/추가 (트랜잭션 안에서 호출)
+ * - 현재 담당자는 행 ID/계정 ID만 한 번에 조회해 요청과 메모리에서 비교한다 ((kanban_task_id, account_id) 인덱스)
+ * - 빠진 담당자는 UPDATE 한 번으로 삭제 표시하고, 새 담당자는 계정을 findAllById 한 번으로 확인한 뒤 JDBC 배치 insert로 추가한다
+ *   (IDENTITY 키라 Hibernate는 insert를 배치하지 못한다)
+ * - 이미 담당자인 계정의 행은 그대로 둔다
+ */
+@Component
+@RequiredArgsConstructor
+public class KanbanAssigneeWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO kanban_task_member (kanban_task_id, account_id, created_at, updated_at, is_deleted) " +
+            "VALUES (?, ?, ?, ?, false)";
+
+    private final KanbanTaskMemberRepository kanbanTaskMemberRepository;
+    private final AccountRepository accountRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 작업별 담당자를 요청한 계정들로 교체
+     *
+     * @return 작업별 최종 담당자 계정 ID (요청 순서, 중복 제거)
+     */
+    public Map<Long, List<Long>> replace(Map<Long, ? extends Collection<Long>> accountIdsByTask) {
+        Map<Long, List<Long>> requested = new LinkedHashMap<>();
+        accountIdsByTask.forEach((taskId, accountIds) -> requested.put(taskId, new ArrayList<>(new LinkedHashSet<>(accountIds))));
+        if (requested.isEmpty()) {
+            return requested;
+        }
+
+        Map<Long, Set<Long>> kept = new HashMap<>();
+        List<Long> removedIds = new ArrayList<>();
+        for (KanbanTaskMemberRef member : kanbanTaskMemberRepository.findMemberRefsByKanbanTaskIdIn(requested.keySet())) {
+            Set<Long> keptAccounts = kept.computeIfAbsent(member.getKanbanTaskId(), id -> new HashSet<>());
+            // 요청에 없거나 같은 계정의 중복 행이면 삭제 표시
+            if (!requested.get(member.getKanbanTaskId()).contains(member.getAccountId()) || !keptAccounts.add(member.getAccountId())) {
+                removedIds.add(member.getId());
+            }
+        }
+
+        List<KanbanTaskAssigneeId> added = new ArrayList<>();
+        requested.forEach((taskId, accountIds) -> {
+            Set<Long> keptAccounts = kept.getOrDefault(taskId, Set.of());
+            for (Long accountId : accountIds) {
+                if (!keptAccounts.contains(accountId)) {
+                    added.add(new KanbanTaskAssigneeId(taskId, accountId));
+                }
+            }
+        });
+
+        if (!removedIds.isEmpty()) {
+            kanbanTaskMemberRepository.markDeletedByIdIn(removedIds, LocalDateTime.now());
+        }
+        insert(added);
+        return requested;
+    }
+
+    /**
+     * 작업에 담당자 추가 (새 작업 생성 시)
+     */
+    public void add(Long taskId, Collection<Long> accountIds) {
+        insert(new LinkedHashSet<>(accountIds).stream()
+                .map(accountId -> new KanbanTaskAssigneeId(taskId, accountId))
+                .toList());
+    }
+
+    private void insert(List<KanbanTaskAssigneeId> assignees) {
+        if (assignees.isEmpty()) {
+            return;
+        }
+        Set<Long> accountIds = assignees.stream().map(KanbanTaskAssigneeId::getAccountId).collect(Collectors.toSet());
+        if (accountRepository.findAllById(accountIds).size() != accountIds.size()) {
+            throw new RuntimeException("Account not found");
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, assignees, assignees.size(), (ps, assignee) -> {
+            ps.setLong(1, assignee.getKanbanTaskId());
+            ps.setLong(2, assignee.getAccountId());
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+        });
+    }
+}
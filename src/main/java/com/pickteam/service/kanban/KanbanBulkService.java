@@ -0,0 +1,331 @@
+package com.pickteam.service.kanban;
+
+import com.pickteam.config.KanbanConfig;
+import com.pickteam.domain.kanban.KanbanList;
+import com.pickteam.domain.kanban.KanbanTask;
+import com.pickteam.dto.kanban.KanbanBulkRequest;
+import com.pickteam.dto.kanban.KanbanBulkResultDto;
+import com.pickteam.repository.kanban.KanbanListRepository;
+import com.pickteam.repository.kanban.KanbanRepository;
+import com.pickteam.repository.kanban.KanbanTaskRepository;
+import com.pickteam.util.LexoRank;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 칸반 일괄 변경 (카드 이동, 리스트 이동, 담당자 변경)
+ * - 보드와 보드의 리스트를 잠근 뒤 필요한 카드를 묶음 조회로 한 번씩만 읽는다
+ * - 정렬 키는 요청 순서대로 메모리에서 계산해 엔티티에 반영하고, UPDATE는 flush 시 JDBC 배치로 나간다
+ *   (hibernate.jdbc.batch_size, order_updates)
+ * - 같은 자리에 반복해서 넣어 키가 max-length를 넘으면 그 리스트(보드)의 키를 메모리에서 고르게 다시 배치한 뒤 이어서 처리한다
+ * - 담당자는 KanbanAssigneeWriter가 모든 작업을 한 번에 비교해 바뀐 만큼만 삭제 표시/배치 insert한다
+ * - 응답은 전체 DTO 대신 바뀐 값만 담는다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class KanbanBulkService {
+
+    private final KanbanConfig kanbanConfig;
+    private final KanbanRepository kanbanRepository;
+    private final KanbanListRepository kanbanListRepository;
+    private final KanbanTaskRepository kanbanTaskRepository;
+    private final KanbanRankRebalancer rebalancer;
+    private final KanbanAssigneeWriter assigneeWriter;
+
+    /**
+     * 일괄 변경 적용 - 하나라도 실패하면 전체를 되돌린다
+     */
+    public KanbanBulkResultDto apply(Long kanbanId, KanbanBulkRequest request) {
+        List<KanbanBulkRequest.Operation> operations = request.getOperations();
+        validate(operations);
+
+        kanbanRepository.findByIdForUpdate(kanbanId)
+                .orElseThrow(() -> new RuntimeException("Kanban not found"));
+        fillMissingRanks(kanbanId, operations);
+
+        Map<Long, KanbanList> lists = kanbanListRepository.findByKanbanIdForUpdate(kanbanId).stream()
+                .collect(Collectors.toMap(KanbanList::getId, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+        Map<Long, KanbanTask> tasks = loadTasks(operations, lists);
+
+        Map<Long, KanbanBulkResultDto.TaskChange> taskChanges = new LinkedHashMap<>();
+        Map<Long, KanbanBulkResultDto.ListChange> listChanges = new LinkedHashMap<>();
+        assigneeWriter.replace(requestedAssignees(operations))
+                .forEach((taskId, accountIds) -> taskChange(taskChanges, taskId).setAssigneeIds(accountIds));
+        moveTasks(operations, lists, tasks, taskChanges);
+        moveLists(operations, lists, listChanges);
+
+        log.info("📦 칸반 일괄 변경: kanbanId={}, operations={}, tasks={}, lists={}",
+                kanbanId, operations.size(), taskChanges.size(), listChanges.size());
+        return KanbanBulkResultDto.builder()
+                .tasks(new ArrayList<>(taskChanges.values()))
+                .lists(new ArrayList<>(listChanges.values()))
+                .build();
+    }
+
+    private void validate(List<KanbanBulkRequest.Operation> operations) {
+        if (operations.size() > kanbanConfig.getBulk().getMaxOperations()) {
+            throw new IllegalArgumentException("한 번에 적용할 수 있는 작업은 최대 "
+                    + kanbanConfig.getBulk().getMaxOperations() + "개입니다.");
+        }
+        for (KanbanBulkRequest.Operation operation : operations) {
+            boolean valid = switch (operation.getType()) {
+                case MOVE_TASK -> operation.getTaskId() != null && operation.getKanbanListId() != null;
+                case MOVE_LIST -> operation.getListId() != null;
+                case SET_ASSIGNEES -> operation.getTaskId() != null && operation.getAssigneeIds() != null;
+            };
+            if (!valid) {
+                throw new IllegalArgumentException("일괄 변경 작업에 필요한 값이 없습니다: " + operation.getType());
+            }
+        }
+    }
+
+    // 정렬 키가 없는 기존 리스트/카드는 메모리 계산 전에 기존 순서대로 키를 채운다 (엔티티를 읽기 전에 수행)
+    private void fillMissingRanks(Long kanbanId, List<KanbanBulkRequest.Operation> operations) {
+        if (has(operations, KanbanBulkRequest.OperationType.MOVE_LIST)
+                && kanbanListRepository.existsUnrankedByKanbanId(kanbanId)) {
+            rebalancer.rebalanceLists(kanbanId);
+        }
+        if (has(operations, KanbanBulkRequest.OperationType.MOVE_TASK)) {
+            kanbanTaskRepository.findKanbanListIdsWithUnrankedTasksByKanbanId(kanbanId)
+                    .forEach(rebalancer::rebalanceTasks);
+        }
+    }
+
+    // 요청에 나온 카드와, 이동과 관련된 리스트의 카드 전체를 조회 (보드에 속하지 않은 카드는 거부)
+    private Map<Long, KanbanTask> loadTasks(List<KanbanBulkRequest.Operation> operations, Map<Long, KanbanList> lists) {
+        Set<Long> referenced = new HashSet<>();
+        Set<Long> columnIds = new HashSet<>();
+        for (KanbanBulkRequest.Operation operation : operations) {
+            if (operation.getType() == KanbanBulkRequest.OperationType.MOVE_TASK) {
+                addIfPresent(referenced, operation.getTaskId(), operation.getPrevId(), operation.getNextId());
+                columnIds.add(operation.getKanbanListId());
+            } else if (operation.getType() == KanbanBulkRequest.OperationType.SET_ASSIGNEES) {
+                referenced.add(operation.getTaskId());
+            }
+        }
+        if (referenced.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, KanbanTask> tasks = new LinkedHashMap<>();
+        for (KanbanTask task : kanbanTaskRepository.findByIdInAndIsDeletedFalse(referenced)) {
+            tasks.put(task.getId(), task);
+        }
+        for (Long taskId : referenced) {
+            KanbanTask task = tasks.get(taskId);
+            if (task == null || !lists.containsKey(task.getKanbanList().getId())) {
+                throw new RuntimeException("KanbanTask not found: " + taskId);
+            }
+        }
+        for (Long columnId : columnIds) {
+            if (!lists.containsKey(columnId)) {
+                throw new RuntimeException("KanbanList not found: " + columnId);
+            }
+        }
+
+        if (!columnIds.isEmpty()) {
+            operations.stream()
+                    .filter(operation -> operation.getType() == KanbanBulkRequest.OperationType.MOVE_TASK)
+                    .forEach(operation -> columnIds.add(tasks.get(operation.getTaskId()).getKanbanList().getId()));
+            for (KanbanTask task : kanbanTaskRepository.findByKanbanListIdInOrderByRank(columnIds)) {
+                tasks.putIfAbsent(task.getId(), task);
+            }
+        }
+        return tasks;
+    }
+
+    // 작업별 최종 담당자 (같은 카드가 여러 번 나오면 마지막 요청 기준)
+    private Map<Long, List<Long>> requestedAssignees(List<KanbanBulkRequest.Operation> operations) {
+        Map<Long, List<Long>> assignees = new LinkedHashMap<>();
+        for (KanbanBulkRequest.Operation operation : operations) {
+            if (operation.getType() == KanbanBulkRequest.OperationType.SET_ASSIGNEES) {
+                assignees.put(operation.getTaskId(), operation.getAssigneeIds());
+            }
+        }
+        return assignees;
+    }
+
+    private void moveTasks(List<KanbanBulkRequest.Operation> operations, Map<Long, KanbanList> lists,
+                           Map<Long, KanbanTask> tasks, Map<Long, KanbanBulkResultDto.TaskChange> changes) {
+        if (!has(operations, KanbanBulkRequest.OperationType.MOVE_TASK)) {
+            return;
+        }
+        int maxLength = kanbanConfig.getRank().getMaxLength();
+        Map<Long, RankedColumn<KanbanTask>> columns = new LinkedHashMap<>();
+        for (KanbanTask task : tasks.values()) {
+            columns.computeIfAbsent(task.getKanbanList().getId(),
+                    id -> new RankedColumn<>(KanbanTask::getRank, KanbanTask::setRank, maxLength));
+        }
+        for (Long listId : lists.keySet()) {
+            columns.computeIfAbsent(listId, id -> new RankedColumn<>(KanbanTask::getRank, KanbanTask::setRank, maxLength));
+        }
+        tasks.values().stream()
+                .sorted(Comparator.comparing(KanbanTask::getRank, Comparator.nullsFirst(Comparator.naturalOrder())))
+                .forEach(task -> columns.get(task.getKanbanList().getId()).add(task));
+
+        for (KanbanBulkRequest.Operation operation : operations) {
+            if (operation.getType() != KanbanBulkRequest.OperationType.MOVE_TASK) {
+                continue;
+            }
+            KanbanTask task = tasks.get(operation.getTaskId());
+            Long targetListId = operation.getKanbanListId();
+            columns.get(task.getKanbanList().getId()).remove(task);
+            String rank = columns.get(targetListId).insert(task,
+                    tasks.get(operation.getPrevId()), tasks.get(operation.getNextId()), "이동 기준 카드를 찾을 수 없습니다.");
+            task.setKanbanList(lists.get(targetListId));
+
+            KanbanBulkResultDto.TaskChange change = taskChange(changes, task.getId());
+            change.setKanbanListId(targetListId);
+            change.setRank(rank);
+        }
+
+        // 재배치된 리스트는 모든 카드의 키가 바뀌었으므로 최종 키를 응답에 담는다
+        columns.forEach((listId, column) -> {
+            if (column.isRebalanced()) {
+                for (KanbanTask task : column.items()) {
+                    KanbanBulkResultDto.TaskChange change = taskChange(changes, task.getId());
+                    change.setKanbanListId(listId);
+                    change.setRank(task.getRank());
+                }
+            }
+        });
+    }
+
+    private void moveLists(List<KanbanBulkRequest.Operation> operations, Map<Long, KanbanList> lists,
+                           Map<Long, KanbanBulkResultDto.ListChange> changes) {
+        if (!has(operations, KanbanBulkRequest.OperationType.MOVE_LIST)) {
+            return;
+        }
+        RankedColumn<KanbanList> column = new RankedColumn<>(KanbanList::getRank, KanbanList::setRank,
+                kanbanConfig.getRank().getMaxLength());
+        lists.values().stream()
+                .sorted(Comparator.comparing(KanbanList::getRank))
+                .forEach(column::add);
+
+        for (KanbanBulkRequest.Operation operation : operations) {
+            if (operation.getType() != KanbanBulkRequest.OperationType.MOVE_LIST) {
+                continue;
+            }
+            KanbanList list = lists.get(operation.getListId());
+            if (list == null) {
+                throw new RuntimeException("칸반 리스트를 찾을 수 없습니다.");
+            }
+            column.remove(list);
+            String rank = column.insert(list,
+                    lists.get(operation.getPrevId()), lists.get(operation.getNextId()), "이동 기준 리스트를 찾을 수 없습니다.");
+            changes.put(list.getId(), KanbanBulkResultDto.ListChange.builder().listId(list.getId()).rank(rank).build());
+        }
+
+        if (column.isRebalanced()) {
+            for (KanbanList list : column.items()) {
+                changes.put(list.getId(), KanbanBulkResultDto.ListChange.builder().listId(list.getId()).rank(list.getRank()).build());
+            }
+        }
+    }
+
+    private KanbanBulkResultDto.TaskChange taskChange(Map<Long, KanbanBulkResultDto.TaskChange> changes, Long taskId) {
+        return changes.computeIfAbsent(taskId, id -> KanbanBulkResultDto.TaskChange.builder().taskId(id).build());
+    }
+
+    private boolean has(List<KanbanBulkRequest.Operation> operations, KanbanBulkRequest.OperationType type) {
+        return operations.stream().anyMatch(operation -> operation.getType() == type);
+    }
+
+    private void addIfPresent(Set<Long> ids, Long... values) {
+        for (Long value : values) {
+            if (value != null) {
+                ids.add(value);
+            }
+        }
+    }
+
+    /**
+     * 정렬 키 순서의 메모리 목록
+     * - 새 키는 이웃 키 사이에서 만들되, 이번 요청 전에 이 목록의 다른 행이 쓰던 키는 피한다
+     *   (배치 UPDATE 실행 순서와 무관하게 (부모, 키) 유니크 제약에 걸리지 않도록)
+     * - 새 키가 maxLength보다 길면 목록 전체에 고르게 벌어진 키를 다시 매긴다 (이전 키는 역시 피한다)
+     */
+    private static final class RankedColumn<T> {
+        private final List<T> items = new ArrayList<>();
+        private final Set<String> reserved = new HashSet<>();
+        private final Function<T, String> rankOf;
+        private final BiConsumer<T, String> assignRank;
+        private final int maxLength;
+        private boolean rebalanced;
+
+        private RankedColumn(Function<T, String> rankOf, BiConsumer<T, String> assignRank, int maxLength) {
+            this.rankOf = rankOf;
+            this.assignRank = assignRank;
+            this.maxLength = maxLength;
+        }
+
+        private List<T> items() {
+            return items;
+        }
+
+        private boolean isRebalanced() {
+            return rebalanced;
+        }
+
+        private void add(T item) {
+            items.add(item);
+            reserved.add(rankOf.apply(item));
+        }
+
+        private void remove(T item) {
+            items.remove(item);
+        }
+
+        // prev 뒤(없으면 next 앞, 둘 다 없으면 맨 뒤)에 넣고 키를 매긴 뒤 그 키를 반환
+        private String insert(T item, T prev, T next, String notFoundMessage) {
+            int index = items.size();
+            if (prev != null || next != null) {
+                int anchor = items.indexOf(prev != null ? prev : next);
+                if (anchor < 0) {
+                    throw new RuntimeException(notFoundMessage);
+                }
+                index = prev != null ? anchor + 1 : anchor;
+            }
+            String low = index == 0 ? null : rankOf.apply(items.get(index - 1));
+            String high = index == items.size() ? null : rankOf.apply(items.get(index));
+            String rank = LexoRank.between(low, high);
+            while (reserved.contains(rank)) {
+                rank = LexoRank.between(rank, high);
+            }
+            items.add(index, item);
+            assignRank.accept(item, rank);
+            if (rank.length() > maxLength) {
+                rebalance();
+            }
+            return rankOf.apply(item);
+        }
+
+        private void rebalance() {
+            List<String> ranks = LexoRank.evenlySpaced(items.size());
+            for (int i = 0; i < items.size(); i++) {
+                String high = i + 1 < ranks.size() ? ranks.get(i + 1) : null;
+                String rank = ranks.get(i);
+                while (reserved.contains(rank)) {
+                    rank = LexoRank.between(rank, high);
+                }
+                assignRank.accept(items.get(i), rank);
+            }
+            rebalanced = true;
+        }
+    }
+}
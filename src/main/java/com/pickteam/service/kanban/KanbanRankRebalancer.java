@@ -0,0 +1,112 @@
+package com.pickteam.service.kanban;
+
+import com.pickteam.config.KanbanConfig;
+import com.pickteam.repository.kanban.KanbanListRepository;
+import com.pickteam.repository.kanban.KanbanRepository;
+import com.pickteam.repository.kanban.KanbanTaskRepository;
+import com.pickteam.util.LexoRank;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 칸반 정렬 키 재배치
+ * - 같은 자리에 계속 끼워 넣어 키가 max-length보다 길어지면, 키를 만든 요청이 그 자리에서 리스트(보드)의 키를 고르게 다시 배치한다
+ * - 정렬 키가 없는 기존 카드/리스트는 기존 순번(order) 순서대로 키를 채운다 (기동 시 대상 등록 후 주기적으로 처리)
+ * - 재배치는 리스트(보드) 행을 잠근 채 수행하므로 같은 리스트의 이동/추가와 겹치지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KanbanRankRebalancer {
+
+    private final KanbanConfig kanbanConfig;
+    private final KanbanRepository kanbanRepository;
+    private final KanbanListRepository kanbanListRepository;
+    private final KanbanTaskRepository kanbanTaskRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 키 채우기 대기 중인 리스트 ID (카드 키) / 보드 ID (리스트 키)
+    private final Set<Long> pendingLists = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingKanbans = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 키가 max-length보다 길어 재배치가 필요한지 여부
+     */
+    public boolean isTooLong(String rank) {
+        return rank.length() > kanbanConfig.getRank().getMaxLength();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleUnranked() {
+        try {
+            pendingLists.addAll(kanbanTaskRepository.findKanbanListIdsWithUnrankedTasks());
+            pendingKanbans.addAll(kanbanListRepository.findKanbanIdsWithUnrankedLists());
+            if (!pendingLists.isEmpty() || !pendingKanbans.isEmpty()) {
+                log.info("🔀 정렬 키가 없는 칸반 재배치 예약: lists={}, kanbans={}", pendingLists.size(), pendingKanbans.size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 정렬 키가 없는 칸반 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.kanban.rank.rebalance-interval-ms:60000}")
+    public void rebalancePending() {
+        drain(pendingKanbans, kanbanId -> transactionTemplate.executeWithoutResult(status -> rebalanceLists(kanbanId)));
+        drain(pendingLists, kanbanListId -> transactionTemplate.executeWithoutResult(status -> rebalanceTasks(kanbanListId)));
+    }
+
+    /**
+     * 리스트의 카드 키를 현재 순서대로 고르게 다시 배치 (트랜잭션 안에서 호출)
+     */
+    public void rebalanceTasks(Long kanbanListId) {
+        if (kanbanListRepository.findByIdForUpdate(kanbanListId).isEmpty()) {
+            return;
+        }
+        List<Long> taskIds = kanbanTaskRepository.findIdsInRankOrder(kanbanListId);
+        // 유니크 키 충돌을 피하기 위해 먼저 비운 뒤 새 키를 쓴다
+        kanbanTaskRepository.clearRanks(kanbanListId);
+        List<String> ranks = LexoRank.evenlySpaced(taskIds.size());
+        for (int i = 0; i < taskIds.size(); i++) {
+            kanbanTaskRepository.updateRank(taskIds.get(i), ranks.get(i));
+        }
+        log.info("🔀 칸반 카드 정렬 키 재배치: kanbanListId={}, tasks={}", kanbanListId, taskIds.size());
+    }
+
+    /**
+     * 보드의 리스트 키를 현재 순서대로 고르게 다시 배치 (트랜잭션 안에서 호출)
+     */
+    public void rebalanceLists(Long kanbanId) {
+        if (kanbanRepository.findByIdForUpdate(kanbanId).isEmpty()) {
+            return;
+        }
+        List<Long> listIds = kanbanListRepository.findIdsInRankOrder(kanbanId);
+        kanbanListRepository.clearRanks(kanbanId);
+        List<String> ranks = LexoRank.evenlySpaced(listIds.size());
+        for (int i = 0; i < listIds.size(); i++) {
+            kanbanListRepository.updateRank(listIds.get(i), ranks.get(i));
+        }
+        log.info("🔀 칸반 리스트 정렬 키 재배치: kanbanId={}, lists={}", kanbanId, listIds.size());
+    }
+
+    private void drain(Set<Long> pending, Consumer<Long> rebalance) {
+        for (Long id : new ArrayList<>(pending)) {
+            pending.remove(id);
+            try {
+                rebalance.accept(id);
+            } catch (RuntimeException e) {
+                log.warn("⚠️ 칸반 정렬 키 재배치 실패: id={}, error={}", id, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.pickteam.service.kanban;
+
+import com.pickteam.domain.kanban.KanbanList;
+import com.pickteam.dto.kanban.KanbanListMoveRequest;
+import com.pickteam.dto.kanban.KanbanTaskMoveRequest;
+import com.pickteam.repository.kanban.KanbanListRepository;
+import com.pickteam.repository.kanban.KanbanRepository;
+import com.pickteam.repository.kanban.KanbanTaskRepository;
+import com.pickteam.util.LexoRank;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 칸반 정렬 키(LexoRank) 계산 및 이동
+ * - 카드/리스트 이동은 이웃 키 사이의 새 키 하나를 계산해 옮긴 행만 갱신한다 (이웃 순번을 다시 매기지 않음)
+ * - 같은 리스트(보드) 안의 이동/추가/재배치는 리스트(보드) 행 잠금으로 직렬화되어 같은 키가 두 번 나오지 않는다
+ * - 새 키가 max-length보다 길면 잠금을 쥔 채 그 리스트(보드)를 바로 재배치하고 키를 다시 계산한다
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class KanbanRankService {
+
+    // 제외할 행이 없을 때 쓰는 ID (IDENTITY 키는 1부터 시작)
+    private static final long NO_EXCLUDE = 0L;
+
+    private final KanbanRepository kanbanRepository;
+    private final KanbanListRepository kanbanListRepository;
+    private final KanbanTaskRepository kanbanTaskRepository;
+    private final KanbanRankRebalancer rebalancer;
+
+    /**
+     * 카드 이동 - 대상 리스트를 잠그고 앞/뒤 카드 키 사이의 키로 카드 한 행만 갱신
+     *
+     * @return 새 정렬 키
+     */
+    public String moveTask(Long taskId, KanbanTaskMoveRequest request) {
+        KanbanList target = kanbanListRepository.findByIdForUpdate(request.getKanbanListId())
+                .orElseThrow(() -> new RuntimeException("KanbanList not found"));
+        Long listId = target.getId();
+
+        String rank = withinMaxLength(() -> {
+            if (request.getPrevTaskId() != null) {
+                String prev = taskRank(listId, request.getPrevTaskId());
+                return LexoRank.between(prev, kanbanTaskRepository.findNextRank(listId, prev, taskId));
+            }
+            if (request.getNextTaskId() != null) {
+                String next = taskRank(listId, request.getNextTaskId());
+                return LexoRank.between(kanbanTaskRepository.findPrevRank(listId, next, taskId), next);
+            }
+            return LexoRank.after(kanbanTaskRepository.findMaxRankExcluding(listId, taskId));
+        }, () -> rebalancer.rebalanceTasks(listId));
+
+        if (kanbanTaskRepository.moveTo(taskId, target, rank, LocalDateTime.now()) == 0) {
+            throw new RuntimeException("KanbanTask not found");
+        }
+        return rank;
+    }
+
+    /**
+     * 리스트 이동 - 보드를 잠그고 앞/뒤 리스트 키 사이의 키로 리스트 한 행만 갱신
+     *
+     * @return 새 정렬 키
+     */
+    public String moveList(Long listId, KanbanListMoveRequest request) {
+        Long kanbanId = kanbanListRepository.findByIdAndIsDeletedFalse(listId)
+                .orElseThrow(() -> new RuntimeException("칸반 리스트를 찾을 수 없습니다."))
+                .getKanban().getId();
+        kanbanRepository.findByIdForUpdate(kanbanId)
+                .orElseThrow(() -> new RuntimeException("Kanban not found"));
+
+        String rank = withinMaxLength(() -> {
+            if (request.getPrevListId() != null) {
+                String prev = listRank(kanbanId, request.getPrevListId());
+                return LexoRank.between(prev, kanbanListRepository.findNextRank(kanbanId, prev, listId));
+            }
+            if (request.getNextListId() != null) {
+                String next = listRank(kanbanId, request.getNextListId());
+                return LexoRank.between(kanbanListRepository.findPrevRank(kanbanId, next, listId), next);
+            }
+            return LexoRank.after(kanbanListRepository.findMaxRankExcluding(kanbanId, listId));
+        }, () -> rebalancer.rebalanceLists(kanbanId));
+
+        kanbanListRepository.moveTo(listId, rank, LocalDateTime.now());
+        return rank;
+    }
+
+    /**
+     * 리스트 맨 뒤 자리의 카드 키 - 리스트를 잠그고 계산
+     *
+     * @param taskId 옮기는 카드 (새 카드면 null)
+     */
+    public String lastTaskRank(Long kanbanListId, Long taskId) {
+        kanbanListRepository.findByIdForUpdate(kanbanListId)
+                .orElseThrow(() -> new RuntimeException("KanbanList not found"));
+        long excludeId = taskId != null ? taskId : NO_EXCLUDE;
+        return withinMaxLength(() -> LexoRank.after(kanbanTaskRepository.findMaxRankExcluding(kanbanListId, excludeId)),
+                () -> rebalancer.rebalanceTasks(kanbanListId));
+    }
+
+    /**
+     * 보드 맨 뒤 자리의 리스트 키 - 보드를 잠그고 계산
+     *
+     * @param listId 옮기는 리스트 (새 리스트면 null)
+     */
+    public String lastListRank(Long kanbanId, Long listId) {
+        kanbanRepository.findByIdForUpdate(kanbanId)
+                .orElseThrow(() -> new RuntimeException("Kanban not found"));
+        long excludeId = listId != null ? listId : NO_EXCLUDE;
+        return withinMaxLength(() -> LexoRank.after(kanbanListRepository.findMaxRankExcluding(kanbanId, excludeId)),
+                () -> rebalancer.rebalanceLists(kanbanId));
+    }
+
+    /**
+     * 순번(order) 기반 기존 요청을 정렬 키로 변환 - 리스트를 잠그고 order번째 자리(0부터)의 키를 계산
+     *
+     * @param taskId 옮기는 카드 (새 카드면 null)
+     */
+    public String taskRankAt(Long kanbanListId, Long taskId, int order) {
+        kanbanListRepository.findByIdForUpdate(kanbanListId)
+                .orElseThrow(() -> new RuntimeException("KanbanList not found"));
+        long excludeId = taskId != null ? taskId : NO_EXCLUDE;
+        int index = clampIndex(order, kanbanTaskRepository.countByKanbanListIdExcluding(kanbanListId, excludeId));
+        Runnable rebalance = () -> rebalancer.rebalanceTasks(kanbanListId);
+        return withinMaxLength(() -> rankAt(index,
+                () -> kanbanTaskRepository.findRanksInOrder(kanbanListId, excludeId, PageRequest.of(0, index + 1)),
+                rebalance), rebalance);
+    }
+
+    /**
+     * 순번(order) 기반 기존 요청을 정렬 키로 변환 - 보드를 잠그고 order번째 자리(0부터)의 키를 계산
+     *
+     * @param listId 옮기는 리스트 (새 리스트면 null)
+     */
+    public String listRankAt(Long kanbanId, Long listId, int order) {
+        kanbanRepository.findByIdForUpdate(kanbanId)
+                .orElseThrow(() -> new RuntimeException("Kanban not found"));
+        long excludeId = listId != null ? listId : NO_EXCLUDE;
+        int index = clampIndex(order, kanbanListRepository.countByKanbanIdExcluding(kanbanId, excludeId));
+        Runnable rebalance = () -> rebalancer.rebalanceLists(kanbanId);
+        return withinMaxLength(() -> rankAt(index,
+                () -> kanbanListRepository.findRanksInOrder(kanbanId, excludeId, PageRequest.of(0, index + 1)),
+                rebalance), rebalance);
+    }
+
+    // 계산한 키가 max-length보다 길면 (잠금을 쥔 채) 바로 재배치한 뒤 고르게 벌어진 이웃 키로 다시 계산
+    private String withinMaxLength(Supplier<String> compute, Runnable rebalance) {
+        String rank = compute.get();
+        if (rebalancer.isTooLong(rank)) {
+            rebalance.run();
+            rank = compute.get();
+        }
+        return rank;
+    }
+
+    // 요청 순번을 0 ~ 행 수 범위로 제한 (행 수 이상이면 맨 뒤에 붙인다)
+    private int clampIndex(int order, long size) {
+        return (int) Math.min(Math.max(order, 0), size);
+    }
+
+    // index번째 자리의 키 (ranksInOrder는 앞에서부터 index + 1개의 키)
+    private String rankAt(int index, Supplier<List<String>> ranksInOrder, Runnable rebalance) {
+        List<String> ranks = ranksInOrder.get();
+        if (ranks.contains(null)) {
+            // 아직 키가 없는 기존 행이 있으면 먼저 채운다
+            rebalance.run();
+            ranks = ranksInOrder.get();
+        }
+        if (index >= ranks.size()) {
+            return LexoRank.after(ranks.isEmpty() ? null : ranks.get(ranks.size() - 1));
+        }
+        return LexoRank.between(index == 0 ? null : ranks.get(index - 1), ranks.get(index));
+    }
+
+    // 기준 카드의 키 (키가 없는 기존 리스트면 먼저 키를 채운다)
+    private String taskRank(Long kanbanListId, Long taskId) {
+        return rankOf(() -> kanbanTaskRepository.findRankByIdAndKanbanListId(taskId, kanbanListId),
+                () -> rebalancer.rebalanceTasks(kanbanListId))
+                .orElseThrow(() -> new RuntimeException("이동 기준 카드를 찾을 수 없습니다."));
+    }
+
+    private String listRank(Long kanbanId, Long listId) {
+        return rankOf(() -> kanbanListRepository.findRankByIdAndKanbanId(listId, kanbanId),
+                () -> rebalancer.rebalanceLists(kanbanId))
+                .orElseThrow(() -> new RuntimeException("이동 기준 리스트를 찾을 수 없습니다."));
+    }
+
+    private Optional<String> rankOf(Supplier<Optional<String>> lookup, Runnable rebalance) {
+        Optional<String> rank = lookup.get();
+        if (rank.isEmpty()) {
+            rebalance.run();
+            rank = lookup.get();
+        }
+        return rank;
+    }
+}
@@ -31,6 +31,8 @@ public class KanbanService {
     private final TeamRepository teamRepository;
     private final WorkspaceRepository workspaceRepository;
     private final KanbanServiceHelper helper;
+    private final KanbanRankService kanbanRankService;
+    private final KanbanBulkService kanbanBulkService;
 
     @Transactional
     public KanbanDto createKanban(KanbanCreateRequest request) {
@@ -74,6 +76,24 @@ public class KanbanService {
         return createKanbanForTeam(teamId, team.getWorkspace().getId());
     }
 
+    /**
+     * 팀 칸반 보드 요약 조회 (카드 본문/댓글/첨부파일 제외)
+     * - 카드 상세는 getKanbanTask, 댓글은 getCommentsByTaskId로 필요할 때 조회한다
+     */
+    @Transactional
+    public KanbanSummaryDto getKanbanSummaryByTeamId(Long teamId) {
+        Team team = teamRepository.findByIdAndIsDeletedFalse(teamId)
+                .orElseThrow(() -> new RuntimeException("Team not found: " + teamId));
+
+        List<Kanban> kanbans = kanbanRepository.findFirstByTeamId(teamId, PageRequest.of(0, 1));
+        if (kanbans.isEmpty()) {
+            // 칸반이 없으면 자동 생성 후 요약
+            createKanbanForTeam(teamId, team.getWorkspace().getId());
+            kanbans = kanbanRepository.findFirstByTeamId(teamId, PageRequest.of(0, 1));
+        }
+        return helper.convertToSummaryDto(kanbans.get(0));
+    }
+
     @Transactional
     public KanbanDto createKanbanForTeam(Long teamId, Long workspaceId) {
         // 동시성 문제 방지를 위해 다시 한 번 확인
@@ -121,10 +141,15 @@ public class KanbanService {
             order = (maxOrder != null) ? maxOrder + 1 : 0;
         }
 
+        String rank = request.getOrder() != null
+                ? kanbanRankService.listRankAt(kanban.getId(), null, request.getOrder())
+                : kanbanRankService.lastListRank(kanban.getId(), null);
+
         KanbanList kanbanList = KanbanList.builder()
                 .kanbanListName(request.getKanbanListName())
                 .kanban(kanban)
                 .order(order)
+                .rank(rank)
                 .build();
 
         kanbanList = kanbanListRepository.save(kanbanList);
@@ -142,12 +167,17 @@ public class KanbanService {
             order = (maxOrder != null) ? maxOrder + 1 : 0;
         }
 
+        String rank = request.getOrder() != null
+                ? kanbanRankService.taskRankAt(kanbanList.getId(), null, request.getOrder())
+                : kanbanRankService.lastTaskRank(kanbanList.getId(), null);
+
         KanbanTask kanbanTask = KanbanTask.builder()
                 .subject(request.getSubject())
                 .content(request.getContent())
                 .deadline(request.getDeadline())
                 .kanbanList(kanbanList)
                 .order(order)
+                .rank(rank)
                 .isApproved(false)
                 .build();
 
@@ -165,6 +195,36 @@ public class KanbanService {
         return helper.updateKanbanTask(taskId, request);
     }
 
+    /**
+     * 카드 이동 (드래그 앤 드롭) - 카드 한 행의 정렬 키/리스트만 갱신
+     */
+    @Transactional
+    public KanbanTaskDto moveKanbanTask(Long taskId, KanbanTaskMoveRequest request) {
+        kanbanRankService.moveTask(taskId, request);
+        KanbanTask kanbanTask = kanbanTaskRepository.findByIdAndIsDeletedFalse(taskId)
+                .orElseThrow(() -> new RuntimeException("KanbanTask not found"));
+        return helper.convertToDto(kanbanTask);
+    }
+
+    /**
+     * 리스트 이동 (드래그 앤 드롭) - 리스트 한 행의 정렬 키만 갱신
+     */
+    @Transactional
+    public KanbanListDto moveKanbanList(Long listId, KanbanListMoveRequest request) {
+        kanbanRankService.moveList(listId, request);
+        KanbanList kanbanList = kanbanListRepository.findByIdAndIsDeletedFalse(listId)
+                .orElseThrow(() -> new RuntimeException("칸반 리스트를 찾을 수 없습니다."));
+        return helper.convertToDto(kanbanList);
+    }
+
+    /**
+     * 일괄 변경 (카드/리스트 이동, 담당자 변경) - 한 트랜잭션에서 배치로 적용하고 바뀐 값만 반환
+     */
+    @Transactional
+    public KanbanBulkResultDto applyBulk(Long kanbanId, KanbanBulkRequest request) {
+        return kanbanBulkService.apply(kanbanId, request);
+    }
+
     @Transactional
     public KanbanTaskCommentDto createComment(KanbanTaskCommentCreateRequest request, Long authorId) {
         return helper.createComment(request, authorId);
@@ -216,9 +276,6 @@ public class KanbanService {
     }
 
     public List<KanbanTaskDto> getTasksByListId(Long listId) {
-        return kanbanTaskRepository.findByKanbanListIdOrderByOrderWithFetch(listId)
-                .stream()
-                .map(helper::convertToDto)
-                .collect(Collectors.toList());
+        return helper.convertToDtos(kanbanTaskRepository.findByKanbanListIdOrderByRank(listId));
     }
 }
\ No newline at end of file
@@ -5,13 +5,18 @@ import com.pickteam.domain.user.Account;
 import com.pickteam.dto.kanban.*;
 import com.pickteam.repository.kanban.*;
 import com.pickteam.repository.user.AccountRepository;
+import com.pickteam.util.LexoRank;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,12 +30,24 @@ public class KanbanServiceHelper {
     private final KanbanTaskMemberRepository kanbanTaskMemberRepository;
     private final KanbanTaskAttachRepository kanbanTaskAttachRepository;
     private final AccountRepository accountRepository;
+    private final KanbanRankService kanbanRankService;
+    private final KanbanAssigneeWriter assigneeWriter;
 
     @Transactional
     public KanbanTaskDto updateKanbanTask(Long taskId, KanbanTaskUpdateRequest request) {
         KanbanTask kanbanTask = kanbanTaskRepository.findById(taskId)
                 .orElseThrow(() -> new RuntimeException("KanbanTask not found"));
 
+        // 리스트/순번 변경은 정렬 키로 반영 (필드를 바꾸기 전에 계산해야 조회 시 자동 flush로 이전 키가 새 리스트에 쓰이지 않는다)
+        Long currentListId = kanbanTask.getKanbanList().getId();
+        boolean listChanged = request.getKanbanListId() != null && !request.getKanbanListId().equals(currentListId);
+        if (listChanged || request.getOrder() != null) {
+            Long targetListId = listChanged ? request.getKanbanListId() : currentListId;
+            kanbanTask.setRank(request.getOrder() != null
+                    ? kanbanRankService.taskRankAt(targetListId, taskId, request.getOrder())
+                    : kanbanRankService.lastTaskRank(targetListId, taskId));
+        }
+
         if (request.getSubject() != null) kanbanTask.setSubject(request.getSubject());
         if (request.getContent() != null) kanbanTask.setContent(request.getContent());
         if (request.getDeadline() != null) kanbanTask.setDeadline(request.getDeadline());
@@ -73,58 +90,52 @@ public class KanbanServiceHelper {
         KanbanTask kanbanTask = kanbanTaskRepository.findById(taskId)
                 .orElseThrow(() -> new RuntimeException("KanbanTask not found"));
         // Soft delete using BaseSoftDeleteSupportEntity
+        kanbanTask.setRank(null);
         kanbanTask.markDeleted();
         kanbanTaskRepository.save(kanbanTask);
     }
 
     @Transactional
     public void assignMembersToTask(Long taskId, List<Long> accountIds) {
-        KanbanTask kanbanTask = kanbanTaskRepository.findById(taskId)
-                .orElseThrow(() -> new RuntimeException("KanbanTask not found"));
-
-        for (Long accountId : accountIds) {
-            Account account = accountRepository.findById(accountId)
-                    .orElseThrow(() -> new RuntimeException("Account not found"));
-
-            KanbanTaskMember member = KanbanTaskMember.builder()
-                    .kanbanTask(kanbanTask)
-                    .account(account)
-                    .build();
-            kanbanTaskMemberRepository.save(member);
+        if (!kanbanTaskRepository.existsById(taskId)) {
+            throw new RuntimeException("KanbanTask not found");
         }
+        assigneeWriter.add(taskId, accountIds);
     }
 
+    // 바뀐 담당자만 삭제 표시/추가 (계속 담당인 계정의 행은 유지)
     @Transactional
     public void updateTaskMembers(Long taskId, List<Long> accountIds) {
-        List<KanbanTaskMember> existingMembers = kanbanTaskMemberRepository.findByKanbanTaskId(taskId);
-        for (KanbanTaskMember member : existingMembers) {
-            member.markDeleted();
-            kanbanTaskMemberRepository.save(member);
-        }
-
-        if (!accountIds.isEmpty()) {
-            assignMembersToTask(taskId, accountIds);
-        }
+        assigneeWriter.replace(Map.of(taskId, accountIds));
     }
 
     public void createDefaultLists(Kanban kanban) {
         List<String> defaultListNames = List.of("To Do", "In Progress", "Done");
+        List<String> ranks = LexoRank.evenlySpaced(defaultListNames.size());
         for (int i = 0; i < defaultListNames.size(); i++) {
             KanbanList kanbanList = KanbanList.builder()
                     .kanbanListName(defaultListNames.get(i))
                     .kanban(kanban)
                     .order(i)
+                    .rank(ranks.get(i))
                     .build();
             kanbanListRepository.save(kanbanList);
         }
     }
 
     // DTO 변환 메서드들
+    // 보드/리스트/작업 변환은 하위 엔티티를 ID 묶음(IN) 조회로 한 번에 가져와 메모리에서 조립한다
+    // (리스트 수, 작업 수와 무관하게 보드 1건 = 쿼리 5회)
+    // 이동은 정렬 키(rank)만 바꾸므로 DTO의 order는 저장된 값 대신 정렬 키 순서의 위치(0부터)로 채운다
     public KanbanDto convertToDto(Kanban kanban) {
-        List<KanbanListDto> kanbanListDtos = kanbanListRepository.findByKanbanIdOrderByOrder(kanban.getId())
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        List<KanbanList> kanbanLists = kanbanListRepository.findByKanbanIdOrderByRank(kanban.getId());
+        Map<Long, List<KanbanTaskDto>> taskDtosByListId = convertToTaskDtosByListId(kanbanLists);
+
+        List<KanbanListDto> kanbanListDtos = new ArrayList<>();
+        for (int i = 0; i < kanbanLists.size(); i++) {
+            KanbanList kanbanList = kanbanLists.get(i);
+            kanbanListDtos.add(toListDto(kanbanList, i, taskDtosByListId.getOrDefault(kanbanList.getId(), List.of())));
+        }
 
         return KanbanDto.builder()
                 .id(kanban.getId())
@@ -137,45 +148,159 @@ public class KanbanServiceHelper {
     }
 
     public KanbanListDto convertToDto(KanbanList kanbanList) {
-        List<KanbanTaskDto> taskDtos = kanbanTaskRepository.findByKanbanListIdOrderByOrder(kanbanList.getId())
+        Map<Long, List<KanbanTaskDto>> taskDtosByListId = convertToTaskDtosByListId(List.of(kanbanList));
+        int order = kanbanList.getRank() != null
+                ? (int) kanbanListRepository.countPrecedingByKanbanId(kanbanList.getKanban().getId(), kanbanList.getRank())
+                : kanbanList.getOrder();
+        return toListDto(kanbanList, order, taskDtosByListId.getOrDefault(kanbanList.getId(), List.of()));
+    }
+
+    public KanbanTaskDto convertToDto(KanbanTask kanbanTask) {
+        return convertToDtos(List.of(kanbanTask)).get(0);
+    }
+
+    /**
+     * 작업 목록 일괄 변환 - 댓글/담당자/첨부파일과 리스트 안 순번을 작업 ID 묶음으로 각각 한 번씩만 조회한다
+     */
+    public List<KanbanTaskDto> convertToDtos(List<KanbanTask> kanbanTasks) {
+        if (kanbanTasks.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Integer> ordersByTaskId = kanbanTaskRepository.findPositionsByIdIn(
+                        kanbanTasks.stream().map(KanbanTask::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(KanbanTaskPosition::getKanbanTaskId, position -> position.getPosition().intValue()));
+        return convertToDtos(kanbanTasks, ordersByTaskId);
+    }
+
+    // ordersByTaskId에 없는 작업(정렬 키가 아직 없는 기존 작업)은 저장된 order를 그대로 쓴다
+    private List<KanbanTaskDto> convertToDtos(List<KanbanTask> kanbanTasks, Map<Long, Integer> ordersByTaskId) {
+        if (kanbanTasks.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> taskIds = kanbanTasks.stream()
+                .map(KanbanTask::getId)
+                .collect(Collectors.toList());
+
+        Map<Long, List<KanbanTaskCommentDto>> commentsByTaskId = kanbanTaskCommentRepository.findByKanbanTaskIdInOrderByCreatedAt(taskIds)
                 .stream()
                 .map(this::convertToDto)
+                .collect(Collectors.groupingBy(KanbanTaskCommentDto::getKanbanTaskId));
+
+        Map<Long, List<KanbanTaskMemberDto>> membersByTaskId = kanbanTaskMemberRepository.findByKanbanTaskIdIn(taskIds)
+                .stream()
+                .map(this::convertToDto)
+                .collect(Collectors.groupingBy(KanbanTaskMemberDto::getKanbanTaskId));
+
+        Map<Long, List<KanbanTaskAttachDto>> attachmentsByTaskId = kanbanTaskAttachRepository.findByKanbanTaskIdIn(taskIds)
+                .stream()
+                .map(this::convertToDto)
+                .collect(Collectors.groupingBy(KanbanTaskAttachDto::getKanbanTaskId));
+
+        return kanbanTasks.stream()
+                .map(kanbanTask -> toTaskDto(kanbanTask,
+                        ordersByTaskId.getOrDefault(kanbanTask.getId(), kanbanTask.getOrder()),
+                        commentsByTaskId.getOrDefault(kanbanTask.getId(), new ArrayList<>()),
+                        membersByTaskId.getOrDefault(kanbanTask.getId(), new ArrayList<>()),
+                        attachmentsByTaskId.getOrDefault(kanbanTask.getId(), new ArrayList<>())))
                 .collect(Collectors.toList());
+    }
 
+    /**
+     * 보드 요약 변환 - 카드 표시용 컬럼, 담당자 ID, 댓글/첨부파일 개수만 담는다 (쿼리 3회)
+     */
+    public KanbanSummaryDto convertToSummaryDto(Kanban kanban) {
+        List<KanbanList> kanbanLists = kanbanListRepository.findByKanbanIdOrderByRank(kanban.getId());
+        List<KanbanTaskSummaryDto> taskSummaries = kanbanLists.isEmpty()
+                ? List.of()
+                : kanbanTaskRepository.findSummariesByKanbanListIdIn(
+                        kanbanLists.stream().map(KanbanList::getId).collect(Collectors.toList()));
+
+        if (!taskSummaries.isEmpty()) {
+            Map<Long, KanbanTaskSummaryDto> summariesById = taskSummaries.stream()
+                    .collect(Collectors.toMap(KanbanTaskSummaryDto::getId, summary -> summary));
+            kanbanTaskMemberRepository.findAssigneeIdsByKanbanTaskIdIn(summariesById.keySet())
+                    .forEach(assignee -> summariesById.get(assignee.getKanbanTaskId()).getAssigneeIds().add(assignee.getAccountId()));
+        }
+
+        Map<Long, List<KanbanTaskSummaryDto>> summariesByListId = taskSummaries.stream()
+                .collect(Collectors.groupingBy(KanbanTaskSummaryDto::getKanbanListId));
+        summariesByListId.values().forEach(summaries -> {
+            for (int i = 0; i < summaries.size(); i++) {
+                summaries.get(i).setOrder(i);
+            }
+        });
+
+        List<KanbanListSummaryDto> kanbanListDtos = new ArrayList<>();
+        for (int i = 0; i < kanbanLists.size(); i++) {
+            KanbanList kanbanList = kanbanLists.get(i);
+            kanbanListDtos.add(KanbanListSummaryDto.builder()
+                    .id(kanbanList.getId())
+                    .kanbanListName(kanbanList.getKanbanListName())
+                    .kanbanId(kanban.getId())
+                    .tasks(summariesByListId.getOrDefault(kanbanList.getId(), new ArrayList<>()))
+                    .order(i)
+                    .rank(kanbanList.getRank())
+                    .build());
+        }
+
+        return KanbanSummaryDto.builder()
+                .id(kanban.getId())
+                .teamId(kanban.getTeam().getId())
+                .workspaceId(kanban.getWorkspace().getId())
+                .kanbanLists(kanbanListDtos)
+                .createdAt(kanban.getCreatedAt())
+                .updatedAt(kanban.getUpdatedAt())
+                .build();
+    }
+
+    // 리스트 ID → 순서대로 정렬된 작업 DTO (순번은 리스트 안 위치)
+    private Map<Long, List<KanbanTaskDto>> convertToTaskDtosByListId(List<KanbanList> kanbanLists) {
+        if (kanbanLists.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> listIds = kanbanLists.stream()
+                .map(KanbanList::getId)
+                .collect(Collectors.toList());
+
+        List<KanbanTask> kanbanTasks = kanbanTaskRepository.findByKanbanListIdInOrderByRank(listIds);
+        Map<Long, Integer> ordersByTaskId = new HashMap<>();
+        Map<Long, Integer> countsByListId = new HashMap<>();
+        for (KanbanTask kanbanTask : kanbanTasks) {
+            ordersByTaskId.put(kanbanTask.getId(), countsByListId.merge(kanbanTask.getKanbanList().getId(), 1, Integer::sum) - 1);
+        }
+
+        return convertToDtos(kanbanTasks, ordersByTaskId)
+                .stream()
+                .collect(Collectors.groupingBy(KanbanTaskDto::getKanbanListId, LinkedHashMap::new, Collectors.toList()));
+    }
+
+    private KanbanListDto toListDto(KanbanList kanbanList, Integer order, List<KanbanTaskDto> taskDtos) {
         return KanbanListDto.builder()
                 .id(kanbanList.getId())
                 .kanbanListName(kanbanList.getKanbanListName())
                 .kanbanId(kanbanList.getKanban().getId())
                 .tasks(taskDtos)
-                .order(kanbanList.getOrder())
+                .order(order)
+                .rank(kanbanList.getRank())
                 .createdAt(kanbanList.getCreatedAt())
                 .updatedAt(kanbanList.getUpdatedAt())
                 .build();
     }
 
-    public KanbanTaskDto convertToDto(KanbanTask kanbanTask) {
-        List<KanbanTaskCommentDto> commentDtos = kanbanTaskCommentRepository.findByKanbanTaskIdOrderByCreatedAt(kanbanTask.getId())
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-
-        List<KanbanTaskMemberDto> memberDtos = kanbanTaskMemberRepository.findByKanbanTaskId(kanbanTask.getId())
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-
-        List<KanbanTaskAttachDto> attachDtos = kanbanTaskAttachRepository.findByKanbanTaskId(kanbanTask.getId())
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-
+    private KanbanTaskDto toTaskDto(KanbanTask kanbanTask,
+                                    Integer order,
+                                    List<KanbanTaskCommentDto> commentDtos,
+                                    List<KanbanTaskMemberDto> memberDtos,
+                                    List<KanbanTaskAttachDto> attachDtos) {
         return KanbanTaskDto.builder()
                 .id(kanbanTask.getId())
                 .subject(kanbanTask.getSubject())
                 .content(kanbanTask.getContent())
                 .deadline(kanbanTask.getDeadline())
                 .kanbanListId(kanbanTask.getKanbanList().getId())
-                .order(kanbanTask.getOrder())
+                .order(order)
+                .rank(kanbanTask.getRank())
                 .isApproved(kanbanTask.getIsApproved())
                 .completionRequested(kanbanTask.getCompletionRequested())
                 .completionRequestMessage(kanbanTask.getCompletionRequestMessage())
@@ -269,6 +394,7 @@ public class KanbanServiceHelper {
             kanbanList.setKanbanListName(request.getKanbanListName());
         }
         if (request.getOrder() != null) {
+            kanbanList.setRank(kanbanRankService.listRankAt(kanbanList.getKanban().getId(), listId, request.getOrder()));
             kanbanList.setOrder(request.getOrder());
         }
 
@@ -281,6 +407,7 @@ public class KanbanServiceHelper {
         KanbanList kanbanList = kanbanListRepository.findById(listId)
                 .orElseThrow(() -> new RuntimeException("칸반 리스트를 찾을 수 없습니다."));
 
+        kanbanList.setRank(null);
         kanbanList.markDeleted();
         kanbanListRepository.save(kanbanList);
     }
@@ -36,15 +36,25 @@ public class AccountCleanupScheduler {
     @Value("${app.account.grace-period-days}")
     private int gracePeriodDays;
 
+    /** 자동 개인정보 삭제 활성화 여부 - 명시적으로 켠 경우에만 스케줄 실행 (기본 false) */
+    @Value("${app.account.cleanup-enabled:false}")
+    private boolean cleanupEnabled;
+
     /**
      * 유예기간 만료된 계정 개인정보 삭제
      * - 매일 새벽 2시에 실행 (cron: 0 0 2 * * ?)
      * - 개인정보보호법 준수를 위한 개인정보 삭제
      * - 계정은 유지하되 개인식별정보만 제거
+     * - app.account.cleanup-enabled=true 인 경우에만 실행
      */
     @Scheduled(cron = "${app.account.cleanup-schedule}")
     @Transactional
     public void processExpiredAccounts() {
+        if (!cleanupEnabled) {
+            log.debug("계정 개인정보 삭제 스케줄러 비활성화 상태 (app.account.cleanup-enabled=false)");
+            return;
+        }
+
         log.info("===== 계정 개인정보 삭제 스케줄러 시작 =====");
 
         try {
@@ -0,0 +1,93 @@
+package com.pickteam.service.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pickteam.config.SseConfig;
+import com.pickteam.dto.sse.SseClusterMessage;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * SSE 클러스터 팬아웃 발행기
+ * - 로컬 전송이 끝난 이벤트를 Redis 채널로 발행해 다른 노드에 연결된 사용자에게도 전달되게 한다
+ * - 클러스터 모드가 꺼져 있으면 아무 것도 하지 않는다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseClusterPublisher {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final SseConfig sseConfig;
+
+    /** 이 JVM 인스턴스의 식별자 (자기 메시지 필터링용) */
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public boolean isEnabled() {
+        return sseConfig.getCluster().isEnabled();
+    }
+
+    /**
+     * 특정 사용자들 대상 이벤트 발행
+     */
+    public void publish(Set<Long> accountIds, SseOutboundEvent event) {
+        publish(accountIds, false, event);
+    }
+
+    /**
+     * 연결된 모든 사용자 대상 이벤트 발행
+     */
+    public void publishToAll(SseOutboundEvent event) {
+        publish(null, true, event);
+    }
+
+    private void publish(Set<Long> accountIds, boolean broadcastAll, SseOutboundEvent event) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        String eventName = event.getEventName();
+        try {
+            // 로컬 전송용으로 이미 직렬화된 바이트를 재사용 (다시 직렬화하지 않음)
+            Object data = event.getData();
+            boolean json = MediaType.APPLICATION_JSON.equals(event.getMediaType());
+            String payload;
+            if (data instanceof byte[] bytes) {
+                payload = new String(bytes, StandardCharsets.UTF_8);
+            } else if (data instanceof String text) {
+                payload = text;
+            } else {
+                payload = objectMapper.writeValueAsString(data);
+                json = true;
+            }
+
+            SseClusterMessage message = SseClusterMessage.builder()
+                    .originNodeId(nodeId)
+                    .eventId(event.getId())
+                    .accountIds(accountIds)
+                    .broadcastAll(broadcastAll)
+                    .eventName(eventName)
+                    .payload(payload)
+                    .jsonPayload(json)
+                    .build();
+
+            redisTemplate.convertAndSend(sseConfig.getCluster().getChannel(),
+                    objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            log.warn("⚠️ SSE 클러스터 메시지 직렬화 실패: 이벤트={}", eventName, e);
+        } catch (RuntimeException e) {
+            // Redis 장애 시에도 로컬 전송은 이미 끝났으므로 요청 흐름은 막지 않는다
+            log.warn("⚠️ SSE 클러스터 발행 실패: 이벤트={}, error={}", eventName, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.pickteam.service.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pickteam.config.SseConfig;
+import com.pickteam.dto.sse.SseClusterMessage;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * SSE 클러스터 팬아웃 구독자
+ * - 다른 노드가 발행한 SSE 이벤트를 받아 이 노드에 연결된 emitter에만 전달한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseClusterSubscriber implements MessageListener {
+
+    private final SseService sseService;
+    private final SseClusterPublisher sseClusterPublisher;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final SseConfig sseConfig;
+
+    @PostConstruct
+    public void subscribe() {
+        if (!sseConfig.getCluster().isEnabled()) {
+            return;
+        }
+        listenerContainer.addMessageListener(this, new ChannelTopic(sseConfig.getCluster().getChannel()));
+        log.info("📡 SSE 클러스터 구독 시작: channel={}, nodeId={}",
+                sseConfig.getCluster().getChannel(), sseClusterPublisher.getNodeId());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        SseClusterMessage clusterMessage;
+        try {
+            clusterMessage = objectMapper.readValue(message.getBody(), SseClusterMessage.class);
+        } catch (IOException e) {
+            log.warn("⚠️ SSE 클러스터 메시지 역직렬화 실패", e);
+            return;
+        }
+
+        // 자신이 발행한 메시지는 이미 로컬 전송이 끝났으므로 무시
+        if (sseClusterPublisher.getNodeId().equals(clusterMessage.getOriginNodeId())) {
+            return;
+        }
+
+        sseService.deliverClusterMessage(clusterMessage);
+    }
+}
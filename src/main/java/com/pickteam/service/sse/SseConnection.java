@@ -0,0 +1,154 @@
+package com.pickteam.service.sse;
+
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * SSE 세션 하나의 연결 상태
+ * - emitter와 함께 고정 크기 원형 배열 큐(ArrayBlockingQueue)를 보유한다
+ * - scheduled 플래그로 세션당 하나의 디스패처 작업만 실행되도록 보장해 전송 순서를 유지한다
+ * - 재연결 재전송 중에는 실시간 이벤트를 보류했다가, 재전송분과 겹치지 않는 것만 이어서 적재한다
+ */
+public class SseConnection {
+
+    @Getter
+    private final Long accountId;
+    @Getter
+    private final String sessionId;
+    @Getter
+    private final SseEmitter emitter;
+
+    private final BlockingQueue<SseOutboundEvent> queue;
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    // 마지막으로 전송에 성공한 시각 (하트비트/정체 판단 기준)
+    private volatile long lastSentAtMillis = System.currentTimeMillis();
+
+    // 재전송 중 보류된 실시간 이벤트 (this 모니터로 보호)
+    private volatile boolean replaying;
+    private final List<SseOutboundEvent> heldDuringReplay = new ArrayList<>();
+
+    // 세션 맵에서 제거하는 콜백 (SseService가 등록)
+    private final Runnable onRelease;
+
+    public SseConnection(Long accountId, String sessionId, SseEmitter emitter,
+                         int queueCapacity, Runnable onRelease) {
+        this.accountId = accountId;
+        this.sessionId = sessionId;
+        this.emitter = emitter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.onRelease = onRelease;
+    }
+
+    boolean offer(SseOutboundEvent event) {
+        return queue.offer(event);
+    }
+
+    SseOutboundEvent poll() {
+        return queue.poll();
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    boolean hasPending() {
+        return !queue.isEmpty();
+    }
+
+    void markSent() {
+        lastSentAtMillis = System.currentTimeMillis();
+    }
+
+    public long getLastSentAtMillis() {
+        return lastSentAtMillis;
+    }
+
+    /**
+     * 재전송 시작 (세션 맵에 노출하기 전에 호출)
+     */
+    void beginReplay() {
+        replaying = true;
+    }
+
+    /**
+     * 재전송 중이면 실시간 이벤트를 보류
+     *
+     * @return 보류했으면 true (호출자는 큐에 적재하지 않는다)
+     */
+    boolean holdIfReplaying(SseOutboundEvent event) {
+        if (!replaying) {
+            return false;
+        }
+        synchronized (this) {
+            if (!replaying) {
+                return false;
+            }
+            heldDuringReplay.add(event);
+            return true;
+        }
+    }
+
+    /**
+     * 재전송 종료 - 보류된 이벤트 중 이미 재전송한 ID는 건너뛰고 순서대로 넘긴다
+     * 넘기는 동안에는 새 실시간 이벤트가 끼어들지 않도록 모니터를 유지한다.
+     */
+    synchronized void finishReplay(Set<Long> replayedIds, Consumer<SseOutboundEvent> sink) {
+        for (SseOutboundEvent event : heldDuringReplay) {
+            if (event.getId() == null || !replayedIds.contains(event.getId())) {
+                sink.accept(event);
+            }
+        }
+        heldDuringReplay.clear();
+        replaying = false;
+    }
+
+    /**
+     * 디스패처 작업 예약 권한 획득 (이미 예약되어 있으면 false)
+     */
+    boolean tryMarkScheduled() {
+        return scheduled.compareAndSet(false, true);
+    }
+
+    void clearScheduled() {
+        scheduled.set(false);
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    /**
+     * 세션 자원 해제 (emitter 종료 콜백에서 호출 - emitter는 이미 종료된 상태)
+     */
+    public void release() {
+        if (closed.compareAndSet(false, true)) {
+            queue.clear();
+            onRelease.run();
+        }
+    }
+
+    /**
+     * 서버 측에서 연결 종료 (전송 실패, 큐 초과, 수동 해제 등)
+     */
+    public void close() {
+        if (isClosed()) {
+            return;
+        }
+        release();
+        try {
+            emitter.complete();
+        } catch (RuntimeException ignored) {
+            // 이미 끊어진 응답이면 무시
+        }
+    }
+}
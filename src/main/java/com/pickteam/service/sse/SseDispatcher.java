@@ -0,0 +1,325 @@
+package com.pickteam.service.sse;
+
+import com.pickteam.config.SseConfig;
+import jakarta.annotation.PreDestroy;
+import com.fasterxml.jackson.databind.util.RawValue;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SSE 비동기 전송 디스패처
+ * - 요청 스레드는 세션 큐에 적재만 하고 즉시 반환한다 (트랜잭션/HTTP 응답을 붙잡지 않음)
+ * - 전용 스레드 풀이 세션 큐를 비우며 emitter로 전송한다
+ * - 느린 클라이언트는 자기 큐만 채우며, 초과 시 설정된 정책(DROP_OLDEST / DISCONNECT)을 따른다
+ * - 묶음 전송 모드에서는 window만큼 늦게 큐를 비우며 모인 이벤트를 하나의 batch 이벤트로 보낸다
+ */
+@Slf4j
+@Component
+public class SseDispatcher {
+
+    // 한 번의 작업에서 전송할 최대 프레임 수 (한 세션이 스레드를 독점하지 않도록)
+    private static final int MAX_FRAMES_PER_RUN = 64;
+
+    /** 묶음 전송 시 사용하는 SSE 이벤트 이름 */
+    public static final String BATCH_EVENT_NAME = "batch";
+
+    private final SseConfig sseConfig;
+    private final Executor executor;
+
+    // 전송 지표
+    private final LongAdder enqueuedEvents = new LongAdder();
+    private final LongAdder deliveredEvents = new LongAdder();
+    private final LongAdder droppedEvents = new LongAdder();
+    private final LongAdder failedEvents = new LongAdder();
+    private final LongAdder overflowDisconnects = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private final LongAdder framesSent = new LongAdder();
+    private final LongAdder coalescedBatches = new LongAdder();
+
+    // 서버가 끊은 연결 수 (전송 실패, 큐 초과, 정체) - 최근 1분 구간은 시각 목록으로 계산
+    private final LongAdder totalEvictions = new LongAdder();
+    private final Deque<Long> recentEvictions = new ArrayDeque<>();
+
+    @Autowired
+    public SseDispatcher(SseConfig sseConfig) {
+        this(sseConfig, createExecutor(sseConfig.getDispatch().getThreads()));
+    }
+
+    SseDispatcher(SseConfig sseConfig, Executor executor) {
+        this.sseConfig = sseConfig;
+        this.executor = executor;
+    }
+
+    private static ExecutorService createExecutor(int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "sse-dispatch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 세션 큐에 이벤트 적재 (호출 스레드에서는 전송하지 않음)
+     *
+     * @return 적재 성공 여부 (연결 종료 또는 DISCONNECT 정책으로 끊긴 경우 false)
+     */
+    public boolean enqueue(SseConnection connection, SseOutboundEvent event) {
+        if (connection.isClosed()) {
+            return false;
+        }
+        // 재연결 재전송 중이면 보류 (재전송이 끝나면 중복을 제외하고 이어서 적재됨)
+        if (connection.holdIfReplaying(event)) {
+            return true;
+        }
+        return offer(connection, event);
+    }
+
+    /**
+     * 재전송 보류 여부와 무관하게 바로 적재 (재전송 이벤트용)
+     */
+    boolean offer(SseConnection connection, SseOutboundEvent event) {
+        if (connection.isClosed()) {
+            return false;
+        }
+
+        if (!connection.offer(event)) {
+            if (sseConfig.getDispatch().getOverflowPolicy() == SseConfig.OverflowPolicy.DISCONNECT) {
+                overflowDisconnects.increment();
+                recordEviction();
+                log.warn("🐢 SSE 큐 초과로 연결 종료: accountId={}, sessionId={}",
+                        connection.getAccountId(), connection.getSessionId());
+                connection.close();
+                return false;
+            }
+
+            // DROP_OLDEST: 자리가 날 때까지 가장 오래된 이벤트를 버린다
+            do {
+                if (connection.poll() != null) {
+                    droppedEvents.increment();
+                }
+            } while (!connection.offer(event));
+        }
+
+        enqueuedEvents.increment();
+        schedule(connection);
+        return true;
+    }
+
+    private void schedule(SseConnection connection) {
+        if (!connection.tryMarkScheduled()) {
+            return; // 이미 실행 중이거나 예약된 작업이 큐를 비운다
+        }
+        try {
+            drainExecutor().execute(() -> drain(connection));
+        } catch (RejectedExecutionException e) {
+            connection.clearScheduled();
+            log.warn("⚠️ SSE 디스패처 작업 거부: sessionId={}", connection.getSessionId());
+        }
+    }
+
+    /**
+     * 묶음 전송 모드면 window만큼 지연 실행해 그 사이 적재된 이벤트를 한 번에 비운다
+     */
+    private Executor drainExecutor() {
+        SseConfig.Coalesce coalesce = sseConfig.getCoalesce();
+        if (!coalesce.isEnabled() || coalesce.getWindow().isZero()) {
+            return executor;
+        }
+        return CompletableFuture.delayedExecutor(coalesce.getWindow().toMillis(), TimeUnit.MILLISECONDS, executor);
+    }
+
+    private void drain(SseConnection connection) {
+        SseConfig.Coalesce coalesce = sseConfig.getCoalesce();
+        int eventsPerFrame = coalesce.isEnabled() ? Math.max(1, coalesce.getMaxBatchSize()) : 1;
+        try {
+            for (int i = 0; i < MAX_FRAMES_PER_RUN; i++) {
+                if (connection.isClosed()) {
+                    return;
+                }
+                List<SseOutboundEvent> events = new ArrayList<>(Math.min(eventsPerFrame, connection.getQueueDepth()));
+                SseOutboundEvent polled;
+                while (events.size() < eventsPerFrame && (polled = connection.poll()) != null) {
+                    events.add(polled);
+                }
+                if (events.isEmpty()) {
+                    return;
+                }
+                if (!sendFrame(connection, events)) {
+                    return;
+                }
+            }
+        } finally {
+            connection.clearScheduled();
+            // 플래그 해제 직전에 적재된 이벤트가 남아 있을 수 있으므로 다시 확인
+            if (connection.hasPending() && !connection.isClosed()) {
+                schedule(connection);
+            }
+        }
+    }
+
+    /**
+     * 이벤트 목록을 하나의 프레임으로 전송 (2건 이상이면 batch 이벤트로 묶는다)
+     *
+     * @return 전송 성공 여부 (실패 시 연결은 이미 정리됨)
+     */
+    private boolean sendFrame(SseConnection connection, List<SseOutboundEvent> events) {
+        // 실제 이벤트와 함께 모인 하트비트는 의미가 없으므로 제외
+        List<SseOutboundEvent> payloadEvents = events.size() == 1 ? events
+                : events.stream().filter(event -> event.getComment() == null).toList();
+        if (payloadEvents.isEmpty()) {
+            payloadEvents = events.subList(0, 1);
+        }
+
+        try {
+            if (payloadEvents.size() == 1) {
+                connection.getEmitter().send(payloadEvents.get(0).toEventBuilder());
+            } else {
+                connection.getEmitter().send(toBatchEvent(payloadEvents));
+                coalescedBatches.increment();
+            }
+            connection.markSent();
+            framesSent.increment();
+            payloadEvents.forEach(this::recordDelivery);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            failedEvents.increment();
+            recordEviction();
+            log.warn("⚠️ SSE 전송 실패 (세션 제거): accountId={}, sessionId={}, error={}",
+                    connection.getAccountId(), connection.getSessionId(), e.getMessage());
+            connection.close();
+            return false;
+        }
+    }
+
+    /**
+     * batch 이벤트 생성 - data는 [{id, event, data}, ...] 배열, id는 마지막 이벤트 ID
+     * 이미 직렬화된 JSON 데이터는 다시 인코딩되지 않도록 원문 그대로 넣는다.
+     */
+    private SseEmitter.SseEventBuilder toBatchEvent(List<SseOutboundEvent> events) {
+        List<Map<String, Object>> items = new ArrayList<>(events.size());
+        Long lastId = null;
+        for (SseOutboundEvent event : events) {
+            Object data = event.getData();
+            if (MediaType.APPLICATION_JSON.equals(event.getMediaType())) {
+                if (data instanceof byte[] bytes) {
+                    data = new RawValue(new String(bytes, StandardCharsets.UTF_8));
+                } else if (data instanceof String json) {
+                    data = new RawValue(json);
+                }
+            }
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", event.getId());
+            item.put("event", event.getEventName());
+            item.put("data", data);
+            items.add(item);
+            if (event.getId() != null) {
+                lastId = lastId == null ? event.getId() : Math.max(lastId, event.getId());
+            }
+        }
+
+        SseEmitter.SseEventBuilder builder = SseEmitter.event();
+        if (lastId != null) {
+            builder.id(String.valueOf(lastId));
+        }
+        return builder
+                .name(BATCH_EVENT_NAME)
+                .data(items, MediaType.APPLICATION_JSON);
+    }
+
+    private void recordDelivery(SseOutboundEvent event) {
+        long latency = System.nanoTime() - event.getEnqueuedAtNanos();
+        deliveredEvents.increment();
+        totalLatencyNanos.add(latency);
+        maxLatencyNanos.accumulateAndGet(latency, Math::max);
+    }
+
+    /**
+     * 서버 측 연결 정리(eviction) 기록
+     */
+    public void recordEviction() {
+        totalEvictions.increment();
+        long now = System.currentTimeMillis();
+        synchronized (recentEvictions) {
+            recentEvictions.addLast(now);
+            pruneEvictions(now);
+        }
+    }
+
+    /**
+     * 최근 1분간 정리된 연결 수
+     */
+    public long getEvictionsLastMinute() {
+        synchronized (recentEvictions) {
+            pruneEvictions(System.currentTimeMillis());
+            return recentEvictions.size();
+        }
+    }
+
+    private void pruneEvictions(long now) {
+        long cutoff = now - 60_000L;
+        while (!recentEvictions.isEmpty() && recentEvictions.peekFirst() < cutoff) {
+            recentEvictions.pollFirst();
+        }
+    }
+
+    /**
+     * 디스패처 지표 조회 (디버깅용)
+     */
+    public Map<String, Object> getStats() {
+        long delivered = deliveredEvents.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("overflowPolicy", sseConfig.getDispatch().getOverflowPolicy().name());
+        stats.put("queueCapacity", sseConfig.getDispatch().getQueueCapacity());
+        stats.put("enqueuedEvents", enqueuedEvents.sum());
+        stats.put("deliveredEvents", delivered);
+        stats.put("framesSent", framesSent.sum());
+        stats.put("coalescedBatches", coalescedBatches.sum());
+        stats.put("droppedEvents", droppedEvents.sum());
+        stats.put("failedEvents", failedEvents.sum());
+        stats.put("overflowDisconnects", overflowDisconnects.sum());
+        stats.put("totalEvictions", totalEvictions.sum());
+        stats.put("evictionsLastMinute", getEvictionsLastMinute());
+        stats.put("avgDeliveryLatencyMs", delivered == 0 ? 0.0
+                : totalLatencyNanos.sum() / (double) delivered / 1_000_000.0);
+        stats.put("maxDeliveryLatencyMs", maxLatencyNanos.get() / 1_000_000.0);
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+            try {
+                if (!executorService.awaitTermination(5, TimeUnit.SECONDS)) {
+                    executorService.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executorService.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.pickteam.service.sse;
+
+import com.pickteam.config.SseConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 이벤트 ID 발급기
+ * - 단조 증가하는 ID를 발급해 클라이언트의 Last-Event-ID로 누락 구간을 판단한다
+ * - ID 체계는 하나: max(직전 ID + 1, 현재 시각(ms) x 1000)
+ * - 클러스터 모드: Redis에서 위 규칙으로 모든 노드가 하나의 순번을 공유
+ * - Redis 장애 시: 같은 규칙의 로컬 순번을 사용하고, 복구 후 Redis 순번을 로컬 순번 이상으로 끌어올린다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseEventIdGenerator {
+
+    private static final String SEQUENCE_KEY = "sse:event-seq";
+
+    // 저장된 값과 하한(ARGV[1]) 중 큰 값 + 1을 저장하고 반환 (키가 없거나 뒤처져 있으면 하한부터 시작)
+    private static final DefaultRedisScript<Long> NEXT_ID = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+            "local floor = tonumber(ARGV[1]) " +
+            "if current < floor then current = floor end " +
+            "current = current + 1 " +
+            "redis.call('SET', KEYS[1], current) " +
+            "return current",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final SseConfig sseConfig;
+
+    /** 이 노드가 마지막으로 발급(또는 Redis에서 받은) ID */
+    private final AtomicLong lastIssued = new AtomicLong();
+
+    public long nextId() {
+        if (sseConfig.getCluster().isEnabled()) {
+            try {
+                long floor = Math.max(lastIssued.get(), timeBase());
+                Long id = redisTemplate.execute(NEXT_ID, List.of(SEQUENCE_KEY), String.valueOf(floor));
+                if (id != null) {
+                    lastIssued.accumulateAndGet(id, Math::max);
+                    return id;
+                }
+            } catch (RuntimeException e) {
+                log.warn("⚠️ SSE 이벤트 ID 발급 실패 (로컬 순번 사용): error={}", e.getMessage());
+            }
+        }
+        return lastIssued.updateAndGet(previous -> Math.max(previous + 1, timeBase()));
+    }
+
+    private static long timeBase() {
+        return System.currentTimeMillis() * 1000;
+    }
+}
@@ -0,0 +1,40 @@
+package com.pickteam.service.sse;
+
+import com.pickteam.config.SseConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * SSE 하트비트 스케줄러
+ * - 주기적으로 유휴 연결에 하트비트를 보내고 정체된 연결을 정리한다
+ * - 30분 타임아웃까지 남아 있던 half-open 연결을 조기에 정리해 emitter 수를 실제 연결 수에 가깝게 유지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseHeartbeatScheduler {
+
+    private final SseService sseService;
+    private final SseConfig sseConfig;
+
+    @Scheduled(fixedDelayString = "${app.sse.heartbeat.check-interval-ms:5000}")
+    public void heartbeat() {
+        if (!sseConfig.getHeartbeat().isEnabled()) {
+            return;
+        }
+
+        try {
+            int evicted = sseService.evictStaleConnections();
+            int heartbeats = sseService.sendHeartbeats();
+            if (evicted > 0) {
+                log.info("💓 SSE 하트비트 점검: 하트비트={}, 정체 연결 정리={}", heartbeats, evicted);
+            } else {
+                log.debug("💓 SSE 하트비트 점검: 하트비트={}", heartbeats);
+            }
+        } catch (Exception e) {
+            log.error("SSE 하트비트 점검 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.pickteam.service.sse;
+
+import lombok.Getter;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 세션 큐에 적재되는 전송 대기 이벤트
+ * - 여러 세션이 같은 인스턴스를 공유하므로 불변으로 유지한다
+ * - 적재 시각을 기록해 전송 지연 시간을 측정한다
+ * - id가 있으면 SSE id 필드로 내려가 클라이언트의 Last-Event-ID가 된다
+ * - comment가 있으면 클라이언트 이벤트로 노출되지 않는 주석 프레임(하트비트용)으로 전송된다
+ */
+@Getter
+public class SseOutboundEvent {
+
+    private final Long id;
+    private final String eventName;
+    private final Object data;
+    private final MediaType mediaType;
+    private final String comment;
+    private final long enqueuedAtNanos;
+
+    public SseOutboundEvent(String eventName, Object data, MediaType mediaType) {
+        this(null, eventName, data, mediaType);
+    }
+
+    public SseOutboundEvent(Long id, String eventName, Object data, MediaType mediaType) {
+        this(id, eventName, data, mediaType, null);
+    }
+
+    private SseOutboundEvent(Long id, String eventName, Object data, MediaType mediaType, String comment) {
+        this.id = id;
+        this.eventName = eventName;
+        this.data = data;
+        this.mediaType = mediaType;
+        this.comment = comment;
+        this.enqueuedAtNanos = System.nanoTime();
+    }
+
+    /**
+     * 주석 프레임 생성 (": {comment}" 한 줄만 전송)
+     */
+    public static SseOutboundEvent comment(String comment) {
+        return new SseOutboundEvent(null, null, null, null, comment);
+    }
+
+    /**
+     * 재전송용 복사본 (전송 지연 측정을 위해 적재 시각만 새로 기록)
+     */
+    public SseOutboundEvent copyForReplay() {
+        return new SseOutboundEvent(id, eventName, data, mediaType);
+    }
+
+    /**
+     * emitter 전송용 이벤트 빌더 생성 (세션마다 새로 만든다)
+     */
+    public SseEmitter.SseEventBuilder toEventBuilder() {
+        if (comment != null) {
+            return SseEmitter.event().comment(comment);
+        }
+        SseEmitter.SseEventBuilder builder = SseEmitter.event();
+        if (id != null) {
+            builder.id(String.valueOf(id));
+        }
+        return builder
+                .name(eventName)
+                .data(data, mediaType);
+    }
+}
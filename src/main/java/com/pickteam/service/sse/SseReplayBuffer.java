@@ -0,0 +1,249 @@
+package com.pickteam.service.sse;
+
+import com.pickteam.config.SseConfig;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 재연결 재전송 버퍼
+ * - 사용자별 최근 이벤트를 크기/시간 제한이 있는 링에 보관한다 (연결 여부와 무관하게 기록)
+ * - 전체 브로드캐스트 이벤트는 별도의 공용 링에 한 번만 보관한다
+ * - 요청한 Last-Event-ID 이후 구간이 링에서 이미 밀려났다면 재전송 불가로 판단한다
+ * - 보관 시간이 지나 빈 사용자 링은 주기적으로 제거하고, 밀려난 구간은 기록 시작 지점을 올려 기억한다
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseReplayBuffer {
+
+    private final SseConfig sseConfig;
+
+    private final Map<Long, Ring> accountRings = new ConcurrentHashMap<>();
+    private final Ring broadcastRing = new Ring();
+
+    // 이 노드가 기록을 시작한 지점 (첫 기록 이벤트 ID - 1), 그 이전 구간은 알 수 없음
+    private final AtomicLong coverageFloor = new AtomicLong(Long.MAX_VALUE);
+    // 지금까지 기록한 가장 큰 이벤트 ID
+    private final AtomicLong highestEventId = new AtomicLong(Long.MIN_VALUE);
+
+    public boolean isEnabled() {
+        return sseConfig.getReplay().isEnabled();
+    }
+
+    /**
+     * 특정 사용자 대상 이벤트 기록
+     */
+    public void record(Long accountId, SseOutboundEvent event) {
+        if (!isEnabled() || event.getId() == null) {
+            return;
+        }
+        markRecorded(event.getId());
+        // 정리 작업이 링을 지우는 도중에 기록하지 않도록 맵 잠금 안에서 추가한다
+        accountRings.compute(accountId, (k, ring) -> {
+            Ring target = ring != null ? ring : new Ring();
+            target.add(event, sseConfig.getReplay());
+            return target;
+        });
+    }
+
+    /**
+     * 전체 브로드캐스트 이벤트 기록
+     */
+    public void recordBroadcast(SseOutboundEvent event) {
+        if (!isEnabled() || event.getId() == null) {
+            return;
+        }
+        markRecorded(event.getId());
+        broadcastRing.add(event, sseConfig.getReplay());
+    }
+
+    private void markRecorded(long eventId) {
+        coverageFloor.compareAndSet(Long.MAX_VALUE, eventId - 1);
+        highestEventId.accumulateAndGet(eventId, Math::max);
+    }
+
+    /**
+     * Last-Event-ID 이후 누락된 이벤트 조회
+     *
+     * @param accountId 재연결한 사용자 ID
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID
+     * @return 재전송 가능 여부와 ID 순으로 정렬된 누락 이벤트
+     */
+    public ReplayResult eventsAfter(Long accountId, long lastEventId) {
+        // 링을 먼저 잡는다 - 이후에 링이 정리되어도 기록 시작 지점은 이미 올라가 있다
+        Ring ring = accountRings.get(accountId);
+        long latest = highestEventId.get();
+
+        // 이 노드가 기록하기 전 구간이거나, 기록한 적 없는 ID라면 누락 여부를 알 수 없다
+        if (lastEventId < coverageFloor.get() || lastEventId > latest) {
+            return ReplayResult.unrecoverable(latest);
+        }
+
+        List<SseOutboundEvent> missed = new ArrayList<>();
+        if (ring != null && !ring.collectAfter(lastEventId, sseConfig.getReplay(), missed)) {
+            return ReplayResult.unrecoverable(latest);
+        }
+        if (!broadcastRing.collectAfter(lastEventId, sseConfig.getReplay(), missed)) {
+            return ReplayResult.unrecoverable(latest);
+        }
+
+        missed.sort(Comparator.comparing(SseOutboundEvent::getId));
+        return new ReplayResult(true, missed, latest);
+    }
+
+    /**
+     * 보관 시간이 지나 빈 사용자 링 제거
+     */
+    @Scheduled(fixedDelayString = "${app.sse.replay.sweep-interval-ms:60000}")
+    public void evictExpiredRings() {
+        int evicted = evictExpiredRings(System.currentTimeMillis());
+        if (evicted > 0) {
+            log.debug("🧹 SSE 재전송 버퍼 정리: 제거된 사용자 링 수={}, 남은 링 수={}", evicted, accountRings.size());
+        }
+    }
+
+    int evictExpiredRings(long nowMillis) {
+        if (!isEnabled()) {
+            return 0;
+        }
+        int evicted = 0;
+        for (Long accountId : accountRings.keySet()) {
+            boolean[] removed = new boolean[1];
+            accountRings.computeIfPresent(accountId, (k, ring) -> {
+                if (!ring.expireAndCheckEmpty(nowMillis, sseConfig.getReplay())) {
+                    return ring;
+                }
+                // 링이 밀어낸 구간까지는 재전송 불가로 남긴다 (보관 시간이 지난 구간이라 다른 링에도 남아 있지 않다)
+                raiseCoverageFloor(ring.getEvictedUpTo());
+                removed[0] = true;
+                return null;
+            });
+            if (removed[0]) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    private void raiseCoverageFloor(long evictedUpTo) {
+        if (evictedUpTo != Long.MIN_VALUE) {
+            coverageFloor.accumulateAndGet(evictedUpTo, Math::max);
+        }
+    }
+
+    /**
+     * 재전송 버퍼 통계 (디버깅용)
+     */
+    public Map<String, Object> getStats() {
+        int bufferedEvents = broadcastRing.size();
+        for (Ring ring : accountRings.values()) {
+            bufferedEvents += ring.size();
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", isEnabled());
+        stats.put("trackedAccounts", accountRings.size());
+        stats.put("bufferedEvents", bufferedEvents);
+        stats.put("highestEventId", highestEventId.get() == Long.MIN_VALUE ? null : highestEventId.get());
+        return stats;
+    }
+
+    /**
+     * 재전송 조회 결과
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class ReplayResult {
+        /** 누락 구간 전체를 재전송할 수 있는지 여부 */
+        private final boolean complete;
+        /** 재전송할 이벤트 (ID 오름차순) */
+        private final List<SseOutboundEvent> events;
+        /** 조회 시점의 최신 이벤트 ID (RESYNC 이벤트의 ID로 사용) */
+        private final long latestEventId;
+
+        static ReplayResult unrecoverable(long latestEventId) {
+            return new ReplayResult(false, List.of(), latestEventId);
+        }
+    }
+
+    /**
+     * 크기/시간 제한 이벤트 링
+     * - 밀려난 이벤트 중 가장 큰 ID를 기억해 재전송 가능 여부를 판단한다
+     * - 빈 링은 정리 작업이 밀려난 구간을 기록 시작 지점에 반영한 뒤 제거한다
+     */
+    private static class Ring {
+        private final Deque<Entry> entries = new ArrayDeque<>();
+        private long evictedUpTo = Long.MIN_VALUE;
+
+        synchronized void add(SseOutboundEvent event, SseConfig.Replay replay) {
+            long now = System.currentTimeMillis();
+            expire(now, replay);
+            while (entries.size() >= replay.getCapacityPerAccount()) {
+                evict();
+            }
+            entries.addLast(new Entry(event, now));
+        }
+
+        synchronized boolean collectAfter(long lastEventId, SseConfig.Replay replay, List<SseOutboundEvent> out) {
+            expire(System.currentTimeMillis(), replay);
+            if (lastEventId < evictedUpTo) {
+                return false;
+            }
+            for (Entry entry : entries) {
+                if (entry.event.getId() > lastEventId) {
+                    out.add(entry.event.copyForReplay());
+                }
+            }
+            return true;
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        synchronized boolean expireAndCheckEmpty(long now, SseConfig.Replay replay) {
+            expire(now, replay);
+            return entries.isEmpty();
+        }
+
+        synchronized long getEvictedUpTo() {
+            return evictedUpTo;
+        }
+
+        private void expire(long now, SseConfig.Replay replay) {
+            long cutoff = now - replay.getTtl().toMillis();
+            while (!entries.isEmpty() && entries.peekFirst().recordedAt < cutoff) {
+                evict();
+            }
+        }
+
+        private void evict() {
+            Entry evicted = entries.pollFirst();
+            if (evicted != null) {
+                evictedUpTo = Math.max(evictedUpTo, evicted.event.getId());
+            }
+        }
+    }
+
+    private static class Entry {
+        private final SseOutboundEvent event;
+        private final long recordedAt;
+
+        Entry(SseOutboundEvent event, long recordedAt) {
+            this.event = event;
+            this.recordedAt = recordedAt;
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package com.pickteam.service.sse;
 
-import com.pickteam.repository.sse.SseSessionRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pickteam.config.SseConfig;
+import com.pickteam.domain.enums.SseEventType;
+import com.pickteam.dto.sse.SseClusterMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -16,50 +22,118 @@ import java.util.concurrent.ConcurrentHashMap;
 @Service
 @RequiredArgsConstructor
 public class SseService {
-    // 다중 연결 지원: sessionId → emitter
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+    // 다중 연결 지원: sessionId → 연결(emitter + 전송 큐)
+    private final Map<String, SseConnection> connections = new ConcurrentHashMap<>();
     // 사용자별 세션 관리: accountId → Set<sessionId>
     private final Map<Long, Set<String>> userSessions = new ConcurrentHashMap<>();
 
+    // 다중 인스턴스 운영 시 다른 노드로 이벤트를 전파
+    private final SseClusterPublisher sseClusterPublisher;
+    // 세션 큐를 비우며 실제 전송을 담당 (요청 스레드는 적재만 한다)
+    private final SseDispatcher sseDispatcher;
+    private final SseConfig sseConfig;
+    // 이벤트 ID 발급 및 재연결 시 누락 이벤트 재전송
+    private final SseEventIdGenerator sseEventIdGenerator;
+    private final SseReplayBuffer sseReplayBuffer;
+    // 이벤트 데이터는 수신자 수와 무관하게 한 번만 직렬화
+    private final ObjectMapper objectMapper;
+
     /**
      * SSE 연결 (다중 연결 지원)
      */
     public SseEmitter connect(Long accountId) {
+        return connect(accountId, null);
+    }
+
+    /**
+     * SSE 재연결 - 마지막으로 받은 이벤트 ID 이후 누락분을 먼저 재전송
+     */
+    public SseEmitter connect(Long accountId, Long lastEventId) {
+        return register(accountId, new SseEmitter(30 * 60 * 1000L), lastEventId); // 30분
+    }
+
+    SseEmitter register(Long accountId, SseEmitter emitter) {
+        return register(accountId, emitter, null);
+    }
+
+    /**
+     * emitter 등록 (세션 ID 발급 및 종료 콜백 연결)
+     */
+    SseEmitter register(Long accountId, SseEmitter emitter, Long lastEventId) {
         // 고유 세션 ID 생성
         String sessionId = UUID.randomUUID().toString();
-        SseEmitter emitter = new SseEmitter(30 * 60 * 1000L); // 30분
+        SseConnection connection = new SseConnection(accountId, sessionId, emitter,
+                sseConfig.getDispatch().getQueueCapacity(), () -> removeSession(accountId, sessionId));
+
+        // 세션 맵에 노출되기 전에 재전송 모드로 전환해 그 사이 실시간 이벤트를 보류
+        boolean replay = lastEventId != null && sseReplayBuffer.isEnabled();
+        if (replay) {
+            connection.beginReplay();
+        }
 
         emitter.onCompletion(() -> {
-            removeSession(accountId, sessionId);
+            connection.release();
             log.info("🛑 SSE 연결 종료됨: accountId={}, sessionId={}", accountId, sessionId);
         });
 
         emitter.onTimeout(() -> {
-            removeSession(accountId, sessionId);
+            connection.release();
             log.info("⏰ SSE 타임아웃: accountId={}, sessionId={}", accountId, sessionId);
         });
 
         emitter.onError((throwable) -> {
-            removeSession(accountId, sessionId);
+            connection.release();
             log.warn("❌ SSE 연결 오류: accountId={}, sessionId={}, error={}", 
                     accountId, sessionId, throwable.getMessage());
         });
 
         // 세션 등록
-        emitters.put(sessionId, emitter);
+        connections.put(sessionId, connection);
         userSessions.computeIfAbsent(accountId, k -> ConcurrentHashMap.newKeySet()).add(sessionId);
         
         log.info("✅ SSE 연결 완료: accountId={}, sessionId={}, 총 세션 수: {}", 
                 accountId, sessionId, userSessions.get(accountId).size());
 
+        if (replay) {
+            replayMissedEvents(connection, lastEventId);
+        }
+
         return emitter;
     }
 
+    /**
+     * 누락 이벤트 재전송
+     * 보관 범위를 벗어나 누락 구간을 알 수 없으면 RESYNC_REQUIRED 이벤트로 전체 재조회를 요청한다.
+     */
+    private void replayMissedEvents(SseConnection connection, long lastEventId) {
+        Long accountId = connection.getAccountId();
+        SseReplayBuffer.ReplayResult result = sseReplayBuffer.eventsAfter(accountId, lastEventId);
+        Set<Long> replayedIds = new HashSet<>();
+
+        if (result.isComplete()) {
+            for (SseOutboundEvent event : result.getEvents()) {
+                sseDispatcher.offer(connection, event);
+                replayedIds.add(event.getId());
+            }
+            log.info("🔁 SSE 누락 이벤트 재전송: accountId={}, lastEventId={}, 재전송={}건",
+                    accountId, lastEventId, replayedIds.size());
+        } else {
+            // 최신 ID를 부여해 클라이언트가 재조회 후 이 지점부터 다시 이어받게 한다
+            Long resyncId = result.getLatestEventId() == Long.MIN_VALUE ? null : result.getLatestEventId();
+            sseDispatcher.offer(connection, new SseOutboundEvent(resyncId,
+                    SseEventType.RESYNC_REQUIRED.name(), Map.of("lastEventId", lastEventId), null));
+            log.info("♻️ SSE 재전송 범위 초과 (RESYNC 요청): accountId={}, lastEventId={}",
+                    accountId, lastEventId);
+        }
+
+        connection.finishReplay(replayedIds, event -> sseDispatcher.offer(connection, event));
+    }
+
     /**
      * 세션 정리 헬퍼 메서드
      */
     private void removeSession(Long accountId, String sessionId) {
-        emitters.remove(sessionId);
+        connections.remove(sessionId);
         Set<String> sessions = userSessions.get(accountId);
         if (sessions != null) {
             sessions.remove(sessionId);
@@ -79,40 +153,66 @@ public class SseService {
 
     /**
      * 커스텀 이벤트 + DTO 객체 전송 - 모든 세션에 전송
+     * 클러스터 모드에서는 다른 노드에 연결된 세션에도 전달된다.
      */
     public void sendToUser(Long accountId, String eventName, Object data) {
+        SseOutboundEvent event = createEvent(eventName, data);
+        sseReplayBuffer.record(accountId, event);
+        deliverToUser(accountId, event);
+        sseClusterPublisher.publish(Set.of(accountId), event);
+    }
+
+    /**
+     * 전송 이벤트 생성 (ID 발급 + 데이터 1회 직렬화)
+     * 객체 데이터는 JSON 바이트로 미리 직렬화해 모든 세션이 같은 버퍼를 그대로 쓰게 한다.
+     * 문자열은 기존처럼 그대로 전송한다.
+     */
+    private SseOutboundEvent createEvent(String eventName, Object data) {
+        long eventId = sseEventIdGenerator.nextId();
+        if (data == null || data instanceof String || data instanceof byte[]) {
+            return new SseOutboundEvent(eventId, eventName, data, null);
+        }
+        try {
+            return new SseOutboundEvent(eventId, eventName, objectMapper.writeValueAsBytes(data),
+                    MediaType.APPLICATION_JSON);
+        } catch (JsonProcessingException e) {
+            // 직렬화 실패 시 세션별 메시지 컨버터에 맡긴다
+            log.warn("⚠️ SSE 이벤트 사전 직렬화 실패: 이벤트={}, error={}", eventName, e.getMessage());
+            return new SseOutboundEvent(eventId, eventName, data, null);
+        }
+    }
+
+    /**
+     * 이 노드에 연결된 사용자의 모든 세션 큐에 적재
+     */
+    private void deliverToUser(Long accountId, SseOutboundEvent event) {
         Set<String> sessions = userSessions.get(accountId);
         if (sessions == null || sessions.isEmpty()) {
             log.info("ℹ️ SSE 미연결 사용자: {}", accountId);
             return;
         }
 
-        int successCount = 0;
-        int failCount = 0;
+        int queuedCount = 0;
+        int rejectedCount = 0;
         
         for (String sessionId : Set.copyOf(sessions)) { // 동시성 문제 방지
-            SseEmitter emitter = emitters.get(sessionId);
-            if (emitter != null) {
-                try {
-                    emitter.send(SseEmitter.event()
-                            .name(eventName)
-                            .data(data));
-                    successCount++;
-                } catch (IOException e) {
-                    removeSession(accountId, sessionId);
-                    failCount++;
-                    log.warn("⚠️ SSE 전송 실패 (세션 제거): accountId={}, sessionId={}", 
-                            accountId, sessionId, e);
+            SseConnection connection = connections.get(sessionId);
+            if (connection != null) {
+                if (sseDispatcher.enqueue(connection, event)) {
+                    queuedCount++;
+                } else {
+                    rejectedCount++;
                 }
             }
         }
         
-        log.info("📡 SSE 전송 완료: accountId={}, 이벤트={}, 성공={}, 실패={}, 데이터={}", 
-                accountId, eventName, successCount, failCount, data);
+        log.info("📡 SSE 전송 적재: accountId={}, 이벤트={}, eventId={}, 적재={}, 거부={}", 
+                accountId, event.getEventName(), event.getId(), queuedCount, rejectedCount);
     }
 
     /**
      * 여러 사용자에게 동시 메시지 전송 (그룹 브로드캐스트)
+     * 클러스터 모드에서는 다른 노드에 연결된 세션에도 전달된다.
      */
     public void sendToUsers(Set<Long> accountIds, String eventName, Object data) {
         if (accountIds == null || accountIds.isEmpty()) {
@@ -120,48 +220,89 @@ public class SseService {
             return;
         }
 
+        SseOutboundEvent event = createEvent(eventName, data);
+        for (Long accountId : accountIds) {
+            sseReplayBuffer.record(accountId, event);
+        }
+        deliverToUsers(accountIds, event);
+        sseClusterPublisher.publish(accountIds, event);
+    }
+
+    /**
+     * 이 노드에 연결된 사용자들의 모든 세션 큐에 적재
+     */
+    private void deliverToUsers(Set<Long> accountIds, SseOutboundEvent event) {
+
         int totalUsers = accountIds.size();
         int connectedUsers = 0;
         int totalSessions = 0;
-        int successCount = 0;
-        int failCount = 0;
+        int queuedCount = 0;
+        int rejectedCount = 0;
 
+        // 모든 세션이 같은 이벤트 인스턴스를 공유
         for (Long accountId : accountIds) {
             Set<String> sessions = userSessions.get(accountId);
             if (sessions != null && !sessions.isEmpty()) {
                 connectedUsers++;
                 totalSessions += sessions.size();
                 
-                // 각 사용자의 모든 세션에 전송
+                // 각 사용자의 모든 세션 큐에 적재
                 for (String sessionId : Set.copyOf(sessions)) {
-                    SseEmitter emitter = emitters.get(sessionId);
-                    if (emitter != null) {
-                        try {
-                            emitter.send(SseEmitter.event()
-                                    .name(eventName)
-                                    .data(data));
-                            successCount++;
-                        } catch (IOException e) {
-                            removeSession(accountId, sessionId);
-                            failCount++;
-                            log.warn("⚠️ 그룹 전송 실패 (세션 제거): accountId={}, sessionId={}", 
-                                    accountId, sessionId, e);
+                    SseConnection connection = connections.get(sessionId);
+                    if (connection != null) {
+                        if (sseDispatcher.enqueue(connection, event)) {
+                            queuedCount++;
+                        } else {
+                            rejectedCount++;
                         }
                     }
                 }
             }
         }
 
-        log.info("📡 그룹 브로드캐스트 완료: 대상={}명, 연결={}명, 총세션={}, 성공={}, 실패={}, 이벤트={}", 
-                totalUsers, connectedUsers, totalSessions, successCount, failCount, eventName);
+        log.info("📡 그룹 브로드캐스트 적재: 대상={}명, 연결={}명, 총세션={}, 적재={}, 거부={}, 이벤트={}", 
+                totalUsers, connectedUsers, totalSessions, queuedCount, rejectedCount, event.getEventName());
     }
 
     /**
      * 전체 연결된 사용자에게 브로드캐스트 (공지 등)
      */
     public void broadcastToAll(String eventName, Object data) {
+        SseOutboundEvent event = createEvent(eventName, data);
+        sseReplayBuffer.recordBroadcast(event);
         Set<Long> allUsers = new ConcurrentHashMap<>(userSessions).keySet();
-        sendToUsers(allUsers, eventName, data);
+        if (!allUsers.isEmpty()) {
+            deliverToUsers(allUsers, event);
+        }
+        sseClusterPublisher.publishToAll(event);
+    }
+
+    /**
+     * 다른 노드에서 발행된 이벤트를 이 노드에 연결된 세션에 전달
+     * 데이터는 발행 노드에서 이미 직렬화되어 있으므로 바이트로 한 번만 변환해 그대로 내려보낸다.
+     * 대상 사용자가 다른 노드로 재연결할 수 있으므로 연결 여부와 무관하게 재전송 버퍼에 기록한다.
+     */
+    public void deliverClusterMessage(SseClusterMessage message) {
+        SseOutboundEvent event = message.isJsonPayload() && message.getPayload() != null
+                ? new SseOutboundEvent(message.getEventId(), message.getEventName(),
+                        message.getPayload().getBytes(StandardCharsets.UTF_8), MediaType.APPLICATION_JSON)
+                : new SseOutboundEvent(message.getEventId(), message.getEventName(), message.getPayload(), null);
+
+        Set<Long> targets;
+        if (message.isBroadcastAll()) {
+            sseReplayBuffer.recordBroadcast(event);
+            targets = new ConcurrentHashMap<>(userSessions).keySet();
+        } else {
+            targets = message.getAccountIds();
+            if (targets != null) {
+                targets.forEach(accountId -> sseReplayBuffer.record(accountId, event));
+            }
+        }
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+
+        deliverToUsers(targets, event);
     }
 
     /**
@@ -180,9 +321,9 @@ public class SseService {
         if (sessions != null) {
             int disconnectedCount = 0;
             for (String sessionId : sessions) {
-                SseEmitter emitter = emitters.remove(sessionId);
-                if (emitter != null) {
-                    emitter.complete();
+                SseConnection connection = connections.remove(sessionId);
+                if (connection != null) {
+                    connection.close();
                     disconnectedCount++;
                 }
             }
@@ -195,7 +336,7 @@ public class SseService {
      */
     public Map<String, Object> getConnectionStatus() {
         Map<String, Object> status = new ConcurrentHashMap<>();
-        status.put("totalEmitters", emitters.size());
+        status.put("totalEmitters", connections.size());
         status.put("totalUsers", userSessions.size());
         
         Map<Long, Integer> userSessionCounts = new ConcurrentHashMap<>();
@@ -213,7 +354,7 @@ public class SseService {
         Map<String, Object> status = new ConcurrentHashMap<>();
         
         // 기본 통계
-        status.put("totalEmitters", emitters.size());
+        status.put("totalEmitters", connections.size());
         status.put("totalUsers", userSessions.size());
         
         // 사용자별 세션 수 분포
@@ -234,6 +375,19 @@ public class SseService {
         status.put("totalActiveSessions", totalActiveSessions);
         status.put("avgSessionsPerUser", userSessions.isEmpty() ? 0 : 
                 (double) totalActiveSessions / userSessions.size());
+
+        // 전송 큐 적재량 및 전송 지연
+        int totalQueuedEvents = 0;
+        int maxQueueDepth = 0;
+        for (SseConnection connection : connections.values()) {
+            int depth = connection.getQueueDepth();
+            totalQueuedEvents += depth;
+            maxQueueDepth = Math.max(maxQueueDepth, depth);
+        }
+        status.put("totalQueuedEvents", totalQueuedEvents);
+        status.put("maxQueueDepth", maxQueueDepth);
+        status.put("dispatch", sseDispatcher.getStats());
+        status.put("replay", sseReplayBuffer.getStats());
         
         // 리소스 사용량 경고
         if (totalActiveSessions > 1000) {
@@ -246,6 +400,67 @@ public class SseService {
         return status;
     }
 
+    /**
+     * 하트비트 전송
+     * 일정 시간 전송이 없던 연결에만 주석 프레임을 적재한다. 끊긴 소켓은 디스패처의 전송 실패로 정리된다.
+     * 대기 이벤트가 있는 연결은 그 이벤트가 하트비트 역할을 하므로 건너뛴다 (DROP_OLDEST로 실제 이벤트가 밀리지 않도록).
+     *
+     * @return 적재한 하트비트 수
+     */
+    public int sendHeartbeats() {
+        SseConfig.Heartbeat heartbeat = sseConfig.getHeartbeat();
+        long idleSince = System.currentTimeMillis() - heartbeat.getInterval().toMillis();
+        int sent = 0;
+
+        for (SseConnection connection : connections.values()) {
+            if (sent >= heartbeat.getBatchSize()) {
+                break; // 남은 연결은 다음 점검에서 처리
+            }
+            if (connection.isClosed() || connection.getQueueDepth() > 0
+                    || connection.getLastSentAtMillis() > idleSince) {
+                continue;
+            }
+            if (sseDispatcher.enqueue(connection, SseOutboundEvent.comment("heartbeat"))) {
+                sent++;
+            }
+        }
+        return sent;
+    }
+
+    /**
+     * 정체된 연결 정리
+     * 대기 이벤트가 있는데도 staleTimeout 동안 전송에 성공하지 못한 연결(half-open 소켓 등)을 끊는다.
+     *
+     * @return 정리한 연결 수
+     */
+    public int evictStaleConnections() {
+        long staleSince = System.currentTimeMillis() - sseConfig.getHeartbeat().getStaleTimeout().toMillis();
+        int evicted = 0;
+
+        for (SseConnection connection : connections.values()) {
+            if (connection.getQueueDepth() > 0 && connection.getLastSentAtMillis() < staleSince) {
+                sseDispatcher.recordEviction();
+                connection.close();
+                evicted++;
+                log.warn("🪦 정체된 SSE 연결 정리: accountId={}, sessionId={}, 대기 이벤트={}",
+                        connection.getAccountId(), connection.getSessionId(), connection.getQueueDepth());
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * 인스턴스 규모 산정용 연결 지표
+     */
+    public Map<String, Object> getConnectionGauges() {
+        Map<String, Object> gauges = new ConcurrentHashMap<>();
+        gauges.put("activeEmitters", connections.size());
+        gauges.put("activeUsers", userSessions.size());
+        gauges.put("evictionsLastMinute", sseDispatcher.getEvictionsLastMinute());
+        gauges.put("timestamp", System.currentTimeMillis());
+        return gauges;
+    }
+
     /**
      * 리소스 정리 (비활성 세션 제거)
      */
@@ -257,8 +472,8 @@ public class SseService {
             Set<String> sessions = entry.getValue();
             
             for (String sessionId : Set.copyOf(sessions)) {
-                SseEmitter emitter = emitters.get(sessionId);
-                if (emitter == null) {
+                SseConnection connection = connections.get(sessionId);
+                if (connection == null) {
                     // emitter는 없는데 세션 맵에는 남아있는 경우
                     removeSession(accountId, sessionId);
                     cleanedCount++;
@@ -0,0 +1,135 @@
+package com.pickteam.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 칸반 정렬 키 (LexoRank 방식 문자열 순위)
+ * - 0-9a-z 36진 문자열을 사전순으로 비교하며, 두 키 사이에는 항상 새 키를 만들 수 있다
+ *   (끝자리가 '0'인 키를 만들지 않으므로 맨 앞에도 끼워 넣을 수 있다)
+ * - 카드 이동은 이웃 두 키 사이의 키 하나만 새로 쓰면 되므로 다른 카드의 순서를 바꾸지 않는다
+ * - 같은 자리에 계속 끼워 넣으면 키가 길어지므로, 길어진 목록은 evenlySpaced로 다시 배치한다
+ */
+public final class LexoRank {
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    private LexoRank() {
+    }
+
+    /**
+     * prev와 next 사이의 키
+     *
+     * @param prev 앞 키 (null이면 맨 앞)
+     * @param next 뒤 키 (null이면 맨 뒤)
+     * @throws IllegalArgumentException 키 형식이 잘못됐거나 prev >= next인 경우
+     */
+    public static String between(String prev, String next) {
+        validate(prev);
+        validate(next);
+        String a = prev == null ? "" : prev;
+        if (next != null && a.compareTo(next) >= 0) {
+            throw new IllegalArgumentException("정렬 키 순서가 올바르지 않습니다: " + prev + " >= " + next);
+        }
+        return midpoint(a, next);
+    }
+
+    /**
+     * 맨 뒤에 붙일 키
+     */
+    public static String after(String last) {
+        return between(last, null);
+    }
+
+    /**
+     * 맨 앞에 붙일 키
+     */
+    public static String before(String first) {
+        return between(null, first);
+    }
+
+    /**
+     * count개의 키를 전체 구간에 고르게 배치 (재배치용, 키 사이마다 36개 이상의 여유를 둔다)
+     */
+    public static List<String> evenlySpaced(int count) {
+        List<String> ranks = new ArrayList<>(count);
+        if (count <= 0) {
+            return ranks;
+        }
+        int width = 1;
+        long space = BASE;
+        while (space / (count + 1L) < BASE) {
+            width++;
+            space *= BASE;
+        }
+        long step = space / (count + 1L);
+        for (int i = 1; i <= count; i++) {
+            ranks.add(stripTrailingZeros(toDigits(step * i, width)));
+        }
+        return ranks;
+    }
+
+    public static boolean isValid(String rank) {
+        if (rank == null || rank.isEmpty() || rank.charAt(rank.length() - 1) == '0') {
+            return false;
+        }
+        for (int i = 0; i < rank.length(); i++) {
+            if (DIGITS.indexOf(rank.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // a < b (b == null이면 무한대), 결과는 끝자리가 '0'이 아니다
+    private static String midpoint(String a, String b) {
+        if (b != null) {
+            // 공통 접두사는 그대로 두고 나머지 구간에서 중간값을 찾는다 (a가 짧으면 '0'으로 채워 비교)
+            int n = 0;
+            while (n < b.length() && digitAt(a, n) == b.charAt(n)) {
+                n++;
+            }
+            if (n > 0) {
+                return b.substring(0, n) + midpoint(a.length() > n ? a.substring(n) : "", b.substring(n));
+            }
+        }
+        int low = a.isEmpty() ? 0 : DIGITS.indexOf(a.charAt(0));
+        int high = b == null ? BASE : DIGITS.indexOf(b.charAt(0));
+        if (high - low > 1) {
+            return String.valueOf(DIGITS.charAt((low + high) / 2));
+        }
+        // 첫 자리가 이웃한 경우
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(low) + midpoint(a.length() > 1 ? a.substring(1) : "", null);
+    }
+
+    private static char digitAt(String value, int index) {
+        return index < value.length() ? value.charAt(index) : '0';
+    }
+
+    private static String toDigits(long value, int width) {
+        char[] chars = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            chars[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        return new String(chars);
+    }
+
+    private static String stripTrailingZeros(String value) {
+        int end = value.length();
+        while (end > 1 && value.charAt(end - 1) == '0') {
+            end--;
+        }
+        return value.substring(0, end);
+    }
+
+    private static void validate(String rank) {
+        if (rank != null && !isValid(rank)) {
+            throw new IllegalArgumentException("잘못된 정렬 키입니다: " + rank);
+        }
+    }
+}
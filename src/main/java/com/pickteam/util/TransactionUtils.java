@@ -0,0 +1,31 @@
+package com.pickteam.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 관련 유틸리티
+ */
+public class TransactionUtils {
+
+    private TransactionUtils() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 실행 (롤백되면 실행하지 않음)
+     * - 캐시, Redis 카운터, 검색 색인처럼 DB 밖의 상태를 커밋된 데이터에만 맞추기 위해 사용
+     * - 트랜잭션 밖에서 호출하면 바로 실행한다
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.pickteam.config.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pickteam.config.WebSocketRelayConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * STOMP 브로커 Redis 중계 테스트
+ * 노드마다 실제 SimpleBroker와 brokerChannel을 구성하고, Redis Pub/Sub 대신 프로세스 내 메시지 버스로 두 노드를 연결해 검증
+ */
+class StompRedisRelayTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 프로세스 내 Redis 채널 대역: 발행된 메시지를 발행 노드를 포함한 모든 노드의 중계기에 전달
+    private final List<StompRedisRelay> bus = new CopyOnWriteArrayList<>();
+    private final List<Node> nodes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(node -> node.broker.stop());
+    }
+
+    @Test
+    @DisplayName("한 노드에서 보낸 /sub 메시지가 다른 노드의 구독자에게도 전달된다")
+    void convertAndSend_RemoteSubscriber_ReceivesMessage() {
+        // given
+        Node nodeA = createNode(true);
+        Node nodeB = createNode(true);
+        nodeA.subscribe("session-a", "/sub/video/1");
+        nodeB.subscribe("session-b", "/sub/video/1");
+        nodeB.subscribe("session-c", "/sub/video/2");
+
+        // when
+        nodeA.template.convertAndSend("/sub/video/1", Map.of("type", "GET_PARTICIPANTS_CONFIRMED"));
+
+        // then
+        assertThat(nodeA.deliveredTo("session-a")).containsExactly("{\"type\":\"GET_PARTICIPANTS_CONFIRMED\"}");
+        assertThat(nodeB.deliveredTo("session-b")).containsExactly("{\"type\":\"GET_PARTICIPANTS_CONFIRMED\"}");
+        assertThat(nodeB.deliveredTo("session-c")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("중계받은 메시지와 발행 노드 자신의 메시지는 다시 발행/전달되지 않는다")
+    void relay_DoesNotLoopOrDuplicate() {
+        // given
+        Node nodeA = createNode(true);
+        Node nodeB = createNode(true);
+        nodeA.subscribe("session-a", "/sub/chat/1");
+        nodeB.subscribe("session-b", "/sub/chat/1");
+
+        // when
+        nodeA.template.convertAndSend("/sub/chat/1", Map.of("message", "hi"));
+        nodeB.template.convertAndSend("/sub/chat/1", Map.of("message", "hello"));
+
+        // then - 각 세션은 두 메시지를 정확히 한 번씩 받는다
+        assertThat(nodeA.deliveredTo("session-a")).hasSize(2);
+        assertThat(nodeB.deliveredTo("session-b")).hasSize(2);
+        assertThat(nodeA.published).hasSize(1);
+        assertThat(nodeB.published).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("/user 목적지 메시지는 다른 노드의 brokerChannel로 중계되고, 세션별로 해석된 메시지는 중계하지 않는다")
+    void convertAndSendToUser_RelaysOriginalUserDestinationOnly() {
+        // given
+        Node nodeA = createNode(true);
+        Node nodeB = createNode(true);
+
+        // when
+        nodeA.template.convertAndSendToUser("member@pickteam.com", "/sub/video/1", Map.of("type", "SHOULD_OUT_CHANNEL"));
+        SimpMessageHeaderAccessor resolved = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        resolved.setDestination("/sub/video/1-usersession-a");
+        resolved.setHeader(SimpMessageHeaderAccessor.ORIGINAL_DESTINATION, "/user/sub/video/1");
+        nodeA.brokerChannel.send(MessageBuilder.createMessage(new byte[0], resolved.getMessageHeaders()));
+
+        // then
+        assertThat(nodeB.brokerDestinations).containsExactly("/user/member@pickteam.com/sub/video/1");
+        assertThat(nodeA.published).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("세션 ID가 지정된 /user 메시지는 다른 노드로 중계하지 않는다")
+    void convertAndSendToUser_SessionTargeted_NotRelayed() {
+        // given
+        Node nodeA = createNode(true);
+        Node nodeB = createNode(true);
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId("session-a");
+        headers.setLeaveMutable(true);
+
+        // when
+        nodeA.template.convertAndSendToUser("member@pickteam.com", "/sub/chat/1",
+                Map.of("type", "init"), headers.getMessageHeaders());
+
+        // then
+        assertThat(nodeA.published).isEmpty();
+        assertThat(nodeB.brokerDestinations).isEmpty();
+    }
+
+    @Test
+    @DisplayName("중계를 끄면 다른 노드 구독자에게 전달되지 않는다")
+    void disabled_DeliversLocallyOnly() {
+        // given
+        Node nodeA = createNode(false);
+        Node nodeB = createNode(false);
+        nodeA.subscribe("session-a", "/sub/video/1");
+        nodeB.subscribe("session-b", "/sub/video/1");
+
+        // when
+        nodeA.template.convertAndSend("/sub/video/1", Map.of("type", "GET_PARTICIPANTS_CONFIRMED"));
+
+        // then
+        assertThat(nodeA.deliveredTo("session-a")).hasSize(1);
+        assertThat(nodeB.deliveredTo("session-b")).isEmpty();
+        assertThat(nodeA.published).isEmpty();
+    }
+
+    /**
+     * WebSocketConfig와 같은 구성(SimpleBroker "/sub" + brokerChannel 인터셉터)의 노드 하나를 만든다
+     */
+    private Node createNode(boolean relayEnabled) {
+        WebSocketRelayConfig config = new WebSocketRelayConfig();
+        config.setEnabled(relayEnabled);
+
+        Node node = new Node();
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        doAnswer(invocation -> {
+            String body = invocation.getArgument(1);
+            node.published.add(body);
+            DefaultMessage message = new DefaultMessage(
+                    config.getChannel().getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+            bus.forEach(relay -> relay.onMessage(message, null));
+            return 1L;
+        }).when(redisTemplate).convertAndSend(anyString(), anyString());
+
+        StompRedisRelay relay = new StompRedisRelay(
+                redisTemplate, mock(RedisMessageListenerContainer.class), objectMapper, config, node.brokerChannel);
+        if (relay.isEnabled()) {
+            node.brokerChannel.addInterceptor(relay);
+            bus.add(relay);
+        }
+
+        node.broker.start();
+        nodes.add(node);
+        return node;
+    }
+
+    /**
+     * 테스트용 STOMP 노드 (SimpleBroker + 세션별 전달 기록)
+     */
+    private static class Node {
+        final ExecutorSubscribableChannel clientInboundChannel = new ExecutorSubscribableChannel();
+        final ExecutorSubscribableChannel clientOutboundChannel = new ExecutorSubscribableChannel();
+        final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        final SimpleBrokerMessageHandler broker = new SimpleBrokerMessageHandler(
+                clientInboundChannel, clientOutboundChannel, brokerChannel, List.of("/sub"));
+        final SimpMessagingTemplate template = new SimpMessagingTemplate(brokerChannel);
+
+        final List<Message<?>> outbound = new CopyOnWriteArrayList<>();
+        final List<String> brokerDestinations = new CopyOnWriteArrayList<>();
+        final List<String> published = new CopyOnWriteArrayList<>();
+
+        Node() {
+            template.setMessageConverter(new MappingJackson2MessageConverter());
+            clientOutboundChannel.subscribe(outbound::add);
+            brokerChannel.subscribe(message -> {
+                String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+                if (destination != null && destination.startsWith("/user/")) {
+                    brokerDestinations.add(destination);
+                }
+            });
+        }
+
+        void subscribe(String sessionId, String destination) {
+            SimpMessageHeaderAccessor connect = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+            connect.setSessionId(sessionId);
+            broker.handleMessage(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders()));
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+            accessor.setSessionId(sessionId);
+            accessor.setSubscriptionId("sub-" + sessionId);
+            accessor.setDestination(destination);
+            broker.handleMessage(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+        }
+
+        List<String> deliveredTo(String sessionId) {
+            return outbound.stream()
+                    .filter(message -> SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE)
+                    .filter(message -> sessionId.equals(SimpMessageHeaderAccessor.getSessionId(message.getHeaders())))
+                    .map(message -> new String((byte[]) message.getPayload(), StandardCharsets.UTF_8))
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.pickteam.config.websocket;
+
+import com.pickteam.config.WebSocketTransportConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * WebSocket 전송 설정 테스트
+ * - WebSocketConfig가 설정값대로 채널 스레드 풀과 세션별 송신 상한을 등록하는지 검증
+ * - 등록된 송신 상한으로 느린 구독자 세션이 끊기는지 검증
+ */
+class WebSocketConfigTest {
+
+    private WebSocketTransportConfig transportConfig;
+    private WebSocketConfig webSocketConfig;
+
+    @BeforeEach
+    void setUp() {
+        transportConfig = new WebSocketTransportConfig();
+        transportConfig.setOutbound(new WebSocketTransportConfig.ChannelExecutor(4, 16, 500));
+        transportConfig.setInbound(new WebSocketTransportConfig.ChannelExecutor(2, 8, 200));
+        transportConfig.setSendTimeLimit(Duration.ofSeconds(3));
+        transportConfig.setSendBufferSizeLimit(DataSize.ofKilobytes(32));
+        transportConfig.setMessageSizeLimit(DataSize.ofKilobytes(16));
+        transportConfig.setTimeToFirstMessage(Duration.ofSeconds(10));
+
+        webSocketConfig = new WebSocketConfig();
+        webSocketConfig.transportConfig = transportConfig;
+        webSocketConfig.authChannelInterceptor = mock(AuthChannelInterceptor.class);
+    }
+
+    @Test
+    @DisplayName("송신 채널 스레드 풀은 설정한 스레드 수와 대기 큐 상한으로 등록된다")
+    void configureClientOutboundChannel_AppliesExecutorLimits() {
+        // given
+        ChannelRegistration registration = new ChannelRegistration();
+
+        // when
+        webSocketConfig.configureClientOutboundChannel(registration);
+
+        // then
+        ThreadPoolTaskExecutor executor = registeredExecutor(registration);
+        assertThat(executor.getCorePoolSize()).isEqualTo(4);
+        assertThat(executor.getMaxPoolSize()).isEqualTo(16);
+        assertThat(executor.getQueueCapacity()).isEqualTo(500);
+        assertThat(executor.getKeepAliveSeconds()).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("수신 채널은 인증 인터셉터와 설정한 스레드 풀로 등록되고, 최대 스레드 수는 기본 스레드 수 이상이다")
+    void configureClientInboundChannel_AppliesExecutorLimits() {
+        // given
+        transportConfig.setInbound(new WebSocketTransportConfig.ChannelExecutor(6, 2, 200));
+        ChannelRegistration registration = new ChannelRegistration();
+
+        // when
+        webSocketConfig.configureClientInboundChannel(registration);
+
+        // then
+        ThreadPoolTaskExecutor executor = registeredExecutor(registration);
+        assertThat(executor.getCorePoolSize()).isEqualTo(6);
+        assertThat(executor.getMaxPoolSize()).isEqualTo(6);
+        assertThat(executor.getQueueCapacity()).isEqualTo(200);
+        assertThat((Boolean) ReflectionTestUtils.invokeMethod(registration, "hasInterceptors")).isTrue();
+    }
+
+    @Test
+    @DisplayName("세션별 송신 시간/버퍼 상한과 메시지 크기 상한이 설정값대로 등록된다")
+    void configureWebSocketTransport_AppliesSessionLimits() {
+        // given
+        WebSocketTransportRegistration registration = mock(WebSocketTransportRegistration.class, RETURNS_SELF);
+
+        // when
+        webSocketConfig.configureWebSocketTransport(registration);
+
+        // then
+        verify(registration).setSendTimeLimit(3_000);
+        verify(registration).setSendBufferSizeLimit(32 * 1024);
+        verify(registration).setMessageSizeLimit(16 * 1024);
+        verify(registration).setTimeToFirstMessage(10_000);
+    }
+
+    @Test
+    @DisplayName("등록된 송신 버퍼 상한을 넘도록 밀린 느린 구독자 세션은 끊긴다")
+    void registeredSendLimits_SlowSubscriberExceedingBuffer_IsTerminated() throws Exception {
+        // given - 설정이 등록한 상한으로 Spring과 같은 세션 데코레이터를 만든다
+        WebSocketTransportRegistration registration = mock(WebSocketTransportRegistration.class, RETURNS_SELF);
+        webSocketConfig.configureWebSocketTransport(registration);
+        ArgumentCaptor<Integer> sendTimeLimit = ArgumentCaptor.forClass(Integer.class);
+        ArgumentCaptor<Integer> bufferSizeLimit = ArgumentCaptor.forClass(Integer.class);
+        verify(registration).setSendTimeLimit(sendTimeLimit.capture());
+        verify(registration).setSendBufferSizeLimit(bufferSizeLimit.capture());
+
+        // 첫 송신에서 소켓 쓰기가 멈춘 세션
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("slow-session");
+        when(session.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return null;
+        }).when(session).sendMessage(any());
+        ConcurrentWebSocketSessionDecorator decorated = new ConcurrentWebSocketSessionDecorator(
+                session, sendTimeLimit.getValue(), bufferSizeLimit.getValue());
+
+        Thread writer = new Thread(() -> {
+            try {
+                decorated.sendMessage(new TextMessage("first"));
+            } catch (Exception ignored) {
+                // 테스트 종료 시 세션 정리
+            }
+        });
+        writer.start();
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then - 쓰기가 멈춘 동안 버퍼 상한을 넘기면 세션이 끊긴다
+        TextMessage frame = new TextMessage("x".repeat(1024));
+        assertThatThrownBy(() -> {
+            for (int i = 0; i <= 32; i++) {
+                decorated.sendMessage(frame);
+            }
+        }).isInstanceOf(SessionLimitExceededException.class)
+                .extracting(e -> ((SessionLimitExceededException) e).getStatus())
+                .isEqualTo(CloseStatus.SESSION_NOT_RELIABLE);
+
+        release.countDown();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private ThreadPoolTaskExecutor registeredExecutor(ChannelRegistration registration) {
+        // taskExecutor()는 이미 등록된 설정을 그대로 돌려준다
+        return (ThreadPoolTaskExecutor) ReflectionTestUtils.invokeMethod(registration.taskExecutor(), "getTaskExecutor");
+    }
+}
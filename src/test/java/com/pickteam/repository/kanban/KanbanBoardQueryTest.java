@@ -0,0 +1,239 @@
+package com.pickteam.repository.kanban;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pickteam.config.KanbanConfig;
+import com.pickteam.config.TestQueryDslConfig;
+import com.pickteam.domain.common.FileInfo;
+import com.pickteam.domain.kanban.*;
+import com.pickteam.domain.user.Account;
+import com.pickteam.dto.kanban.KanbanDto;
+import com.pickteam.dto.kanban.KanbanListDto;
+import com.pickteam.dto.kanban.KanbanListMoveRequest;
+import com.pickteam.dto.kanban.KanbanListSummaryDto;
+import com.pickteam.dto.kanban.KanbanSummaryDto;
+import com.pickteam.dto.kanban.KanbanTaskDto;
+import com.pickteam.dto.kanban.KanbanTaskMoveRequest;
+import com.pickteam.dto.kanban.KanbanTaskSummaryDto;
+import com.pickteam.service.kanban.KanbanAssigneeWriter;
+import com.pickteam.service.kanban.KanbanRankRebalancer;
+import com.pickteam.service.kanban.KanbanRankService;
+import com.pickteam.service.kanban.KanbanServiceHelper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 칸반 보드 조립 쿼리 수 테스트
+ * - 리스트/작업/댓글/담당자/첨부파일을 ID 묶음 조회로 가져오므로 보드 크기와 무관하게 쿼리 수가 일정한지 검증
+ * - 보드 요약은 카드 표시용 컬럼과 개수만 조회하는지 검증
+ * - 정렬 키만 바뀌는 이동 후에도 응답의 순번이 정렬 키 순서를 따르는지 검증
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TestQueryDslConfig.class, KanbanConfig.class, KanbanServiceHelper.class, KanbanRankService.class, KanbanRankRebalancer.class, KanbanAssigneeWriter.class})
+@ActiveProfiles("test")
+class KanbanBoardQueryTest {
+
+    // 리스트 1 + 작업 1 + 댓글 1 + 담당자 1 + 첨부파일 1
+    private static final long BOARD_STATEMENTS = 5;
+    // 리스트 1 + 카드 요약(댓글/첨부파일 개수 포함) 1 + 담당자 ID 1
+    private static final long SUMMARY_STATEMENTS = 3;
+
+    private static final String TASK_CONTENT = "작업 설명입니다. ".repeat(20);
+    private static final String COMMENT = "진행 상황 공유드립니다. ".repeat(5);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Autowired
+    private KanbanServiceHelper kanbanServiceHelper;
+
+    @Autowired
+    private KanbanRankService kanbanRankService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private KanbanTestFixture fixture;
+    private Statistics statistics;
+    private Account owner;
+    private Account member;
+    private Kanban kanban;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new KanbanTestFixture(entityManager.getEntityManager());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        owner = fixture.account("owner");
+        member = fixture.account("member");
+        kanban = fixture.kanban(owner);
+    }
+
+    @Test
+    @DisplayName("보드 조립 시 리스트/작업 수와 무관하게 쿼리 5회로 끝난다")
+    void convertToDto_Board_UsesConstantStatements() {
+        // given
+        seedBoard(3, 4);
+        Kanban loaded = reload();
+
+        // when
+        statistics.clear();
+        KanbanDto board = kanbanServiceHelper.convertToDto(loaded);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(BOARD_STATEMENTS);
+        assertThat(board.getKanbanLists()).hasSize(3);
+        assertThat(board.getKanbanLists()).extracting(KanbanListDto::getOrder).containsExactly(0, 1, 2);
+
+        KanbanListDto first = board.getKanbanLists().get(0);
+        assertThat(first.getTasks()).extracting(KanbanTaskDto::getOrder).containsExactly(0, 1, 2, 3);
+        KanbanTaskDto task = first.getTasks().get(0);
+        assertThat(task.getComments()).hasSize(2);
+        assertThat(task.getComments().get(0).getAuthorName()).isEqualTo("owner");
+        assertThat(task.getMembers()).extracting(m -> m.getMemberName()).containsExactly("member");
+        assertThat(task.getAttachments()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("삭제된 작업과 댓글은 보드에 포함하지 않는다")
+    void convertToDto_DeletedChildren_Excluded() {
+        // given
+        KanbanList list = fixture.seedLists(kanban, 1).get(0);
+        List<KanbanTask> tasks = fixture.seedTasks(list, 2);
+        KanbanTask kept = tasks.get(0);
+        tasks.get(1).markDeleted();
+        KanbanTaskComment deletedComment = KanbanTaskComment.builder().comment("deleted").kanbanTask(kept).account(owner).build();
+        deletedComment.markDeleted();
+        fixture.persist(deletedComment);
+        Kanban loaded = reload();
+
+        // when
+        KanbanDto board = kanbanServiceHelper.convertToDto(loaded);
+
+        // then
+        assertThat(board.getKanbanLists().get(0).getTasks()).extracting(KanbanTaskDto::getSubject).containsExactly("list0-0");
+        assertThat(board.getKanbanLists().get(0).getTasks().get(0).getComments()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대형 보드도 쿼리 수가 늘지 않는다")
+    void convertToDto_LargeBoard_UsesConstantStatements() {
+        // given
+        int lists = 10;
+        int tasksPerList = 50;
+        seedBoard(lists, tasksPerList);
+        Kanban loaded = reload();
+
+        // when
+        statistics.clear();
+        KanbanDto board = kanbanServiceHelper.convertToDto(loaded);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(BOARD_STATEMENTS);
+        assertThat(board.getKanbanLists()).allSatisfy(list -> assertThat(list.getTasks()).hasSize(tasksPerList));
+    }
+
+    @Test
+    @DisplayName("보드 요약은 카드 표시용 컬럼, 담당자 ID, 댓글/첨부파일 개수만 쿼리 3회로 조회한다")
+    void convertToSummaryDto_Board_CountsWithoutDetails() {
+        // given
+        seedBoard(2, 3);
+        Kanban loaded = reload();
+
+        // when
+        statistics.clear();
+        KanbanSummaryDto summary = kanbanServiceHelper.convertToSummaryDto(loaded);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(SUMMARY_STATEMENTS);
+        assertThat(summary.getKanbanLists()).hasSize(2);
+        assertThat(summary.getKanbanLists().get(1).getTasks()).extracting(KanbanTaskSummaryDto::getSubject)
+                .containsExactly("list1-0", "list1-1", "list1-2");
+        KanbanTaskSummaryDto card = summary.getKanbanLists().get(0).getTasks().get(0);
+        assertThat(card.getCommentCount()).isEqualTo(2L);
+        assertThat(card.getAttachmentCount()).isEqualTo(1L);
+        assertThat(card.getAssigneeIds()).containsExactly(member.getId());
+    }
+
+    @Test
+    @DisplayName("대형 보드의 요약 응답은 전체 보드 응답의 1/3보다 작다")
+    void convertToSummaryDto_LargeBoard_SmallerThanFullBoard() throws Exception {
+        // given
+        int lists = 10;
+        int tasksPerList = 50;
+        seedBoard(lists, tasksPerList);
+        Kanban loaded = reload();
+
+        // when
+        byte[] full = objectMapper.writeValueAsBytes(kanbanServiceHelper.convertToDto(loaded));
+        byte[] summary = objectMapper.writeValueAsBytes(kanbanServiceHelper.convertToSummaryDto(loaded));
+
+        // then
+        assertThat(summary.length).isLessThan(full.length / 3);
+    }
+
+    @Test
+    @DisplayName("카드/리스트를 옮기면 보드, 요약, 단건 응답의 순번이 정렬 키 순서를 따른다")
+    void convertToDto_AfterRankMove_OrderFollowsRank() {
+        // given - 마지막 카드와 마지막 리스트를 맨 앞으로 옮긴다 (order 컬럼은 그대로)
+        List<KanbanList> lists = fixture.seedLists(kanban, 2);
+        List<KanbanTask> tasks = fixture.seedTasks(lists.get(0), 3);
+        fixture.flushAndClear();
+        kanbanRankService.moveTask(tasks.get(2).getId(), KanbanTaskMoveRequest.builder()
+                .kanbanListId(lists.get(0).getId()).nextTaskId(tasks.get(0).getId()).build());
+        kanbanRankService.moveList(lists.get(1).getId(), KanbanListMoveRequest.builder()
+                .nextListId(lists.get(0).getId()).build());
+        Kanban loaded = reload();
+
+        // when
+        KanbanDto board = kanbanServiceHelper.convertToDto(loaded);
+        KanbanSummaryDto summary = kanbanServiceHelper.convertToSummaryDto(loaded);
+        KanbanTaskDto moved = kanbanServiceHelper.convertToDto(entityManager.find(KanbanTask.class, tasks.get(2).getId()));
+
+        // then
+        assertThat(board.getKanbanLists()).extracting(KanbanListDto::getId)
+                .containsExactly(lists.get(1).getId(), lists.get(0).getId());
+        assertThat(board.getKanbanLists()).extracting(KanbanListDto::getOrder).containsExactly(0, 1);
+        assertThat(board.getKanbanLists().get(1).getTasks()).extracting(KanbanTaskDto::getId)
+                .containsExactly(tasks.get(2).getId(), tasks.get(0).getId(), tasks.get(1).getId());
+        assertThat(board.getKanbanLists().get(1).getTasks()).extracting(KanbanTaskDto::getOrder).containsExactly(0, 1, 2);
+
+        assertThat(summary.getKanbanLists()).extracting(KanbanListSummaryDto::getOrder).containsExactly(0, 1);
+        assertThat(summary.getKanbanLists().get(1).getTasks()).extracting(KanbanTaskSummaryDto::getOrder).containsExactly(0, 1, 2);
+
+        assertThat(moved.getOrder()).isEqualTo(0);
+    }
+
+    private void seedBoard(int lists, int tasksPerList) {
+        for (KanbanList list : fixture.seedLists(kanban, lists)) {
+            for (KanbanTask task : fixture.seedTasks(list, tasksPerList)) {
+                task.setContent(TASK_CONTENT);
+                fixture.persist(KanbanTaskComment.builder().comment(COMMENT).kanbanTask(task).account(owner).build());
+                fixture.persist(KanbanTaskComment.builder().comment(COMMENT).kanbanTask(task).account(member).build());
+                fixture.persist(KanbanTaskMember.builder().kanbanTask(task).account(member).build());
+                FileInfo fileInfo = fixture.persist(FileInfo.builder().nameOrigin("a.txt").nameHashed("hash-" + task.getSubject()).size(10L).build());
+                fixture.persist(KanbanTaskAttach.builder().kanbanTask(task).fileInfo(fileInfo).build());
+            }
+        }
+    }
+
+    private Kanban reload() {
+        fixture.flushAndClear();
+        return entityManager.find(Kanban.class, kanban.getId());
+    }
+}
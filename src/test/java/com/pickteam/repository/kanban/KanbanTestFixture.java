@@ -0,0 +1,90 @@
+package com.pickteam.repository.kanban;
+
+import com.pickteam.domain.kanban.Kanban;
+import com.pickteam.domain.kanban.KanbanList;
+import com.pickteam.domain.kanban.KanbanTask;
+import com.pickteam.domain.team.Team;
+import com.pickteam.domain.user.Account;
+import com.pickteam.domain.workspace.Workspace;
+import com.pickteam.util.LexoRank;
+import jakarta.persistence.EntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 칸반 테스트 데이터 준비
+ * - 계정/워크스페이스/팀/칸반 보드와 정렬 키가 채워진 리스트/작업을 저장한다
+ * - 트랜잭션은 호출하는 테스트가 관리한다 (@DataJpaTest 기본 트랜잭션 또는 TransactionTemplate)
+ */
+public class KanbanTestFixture {
+
+    private final EntityManager entityManager;
+
+    public KanbanTestFixture(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    public <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    /**
+     * 계정 저장 (이메일은 {name}@test.com)
+     */
+    public Account account(String name) {
+        return persist(Account.builder().email(name + "@test.com").name(name).password("password").build());
+    }
+
+    /**
+     * 계정 count개 저장 (user0, user1, ...)
+     */
+    public List<Account> accounts(int count) {
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            accounts.add(account("user" + i));
+        }
+        return accounts;
+    }
+
+    /**
+     * owner의 워크스페이스/팀과 칸반 보드 저장
+     */
+    public Kanban kanban(Account owner) {
+        Workspace workspace = persist(Workspace.builder().name("워크스페이스").account(owner).url("invite").build());
+        Team team = persist(Team.builder().name("팀").workspace(workspace).build());
+        return persist(Kanban.builder().name("칸반").team(team).workspace(workspace).build());
+    }
+
+    /**
+     * 리스트 count개 저장 (list0, list1, ... 순서대로 정렬 키를 채운다)
+     */
+    public List<KanbanList> seedLists(Kanban kanban, int count) {
+        List<String> ranks = LexoRank.evenlySpaced(count);
+        List<KanbanList> lists = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            lists.add(persist(KanbanList.builder()
+                    .kanbanListName("list" + i).kanban(kanban).order(i).rank(ranks.get(i)).build()));
+        }
+        return lists;
+    }
+
+    /**
+     * 작업 count개 저장 ({리스트 이름}-0, {리스트 이름}-1, ... 순서대로 정렬 키를 채운다)
+     */
+    public List<KanbanTask> seedTasks(KanbanList list, int count) {
+        List<String> ranks = LexoRank.evenlySpaced(count);
+        List<KanbanTask> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(persist(KanbanTask.builder()
+                    .subject(list.getKanbanListName() + "-" + i).kanbanList(list).order(i).rank(ranks.get(i)).build()));
+        }
+        return tasks;
+    }
+
+    public void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
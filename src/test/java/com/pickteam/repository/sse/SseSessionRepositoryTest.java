@@ -0,0 +1,144 @@
+package com.pickteam.repository.sse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * SSE 구독 티켓 레포지토리 테스트
+ * Redis 문자열 연산을 ConcurrentHashMap으로 대체해 동시 등록/구독을 검증
+ */
+class SseSessionRepositoryTest {
+
+    private final Map<String, String> store = new ConcurrentHashMap<>();
+    private StringRedisTemplate redisTemplate;
+    private SseSessionRepository repository;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        doAnswer(invocation -> {
+            store.put(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        // GETDEL: 원자적 조회 후 삭제
+        when(valueOperations.getAndDelete(anyString()))
+                .thenAnswer(invocation -> store.remove(invocation.<String>getArgument(0)));
+
+        repository = new SseSessionRepository(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("발급된 티켓은 발급받은 사용자로 한 번만 회수된다")
+    void redeemTicket_ValidTicket_ReturnsOwnerOnce() {
+        // given
+        String ticket = repository.issueTicket(7L);
+
+        // when
+        Optional<Long> first = repository.redeemTicket(ticket);
+        Optional<Long> second = repository.redeemTicket(ticket);
+
+        // then
+        assertThat(first).contains(7L);
+        assertThat(second).isEmpty();
+        verify(redisTemplate, never()).keys(anyString());
+    }
+
+    @Test
+    @DisplayName("존재하지 않거나 비어 있는 티켓은 회수되지 않는다")
+    void redeemTicket_UnknownTicket_ReturnsEmpty() {
+        assertThat(repository.redeemTicket("unknown")).isEmpty();
+        assertThat(repository.redeemTicket(" ")).isEmpty();
+        assertThat(repository.redeemTicket(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수천 건의 동시 등록/구독에서도 각 사용자는 자신의 스트림에만 연결된다")
+    void issueAndRedeem_ConcurrentPairs_NeverCrossAttach() throws Exception {
+        // given
+        int pairs = 5000;
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger mismatches = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (long accountId = 1; accountId <= pairs; accountId++) {
+            long owner = accountId;
+            futures.add(executor.submit(() -> {
+                start.await();
+                String ticket = repository.issueTicket(owner);
+                Optional<Long> resolved = repository.redeemTicket(ticket);
+                if (resolved.isEmpty() || resolved.get() != owner) {
+                    mismatches.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(mismatches.get()).isZero();
+        assertThat(store).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 티켓을 동시에 회수하면 하나의 요청만 성공한다")
+    void redeemTicket_ConcurrentRedeem_OnlyOneSucceeds() throws Exception {
+        // given
+        String ticket = repository.issueTicket(1L);
+        int attempts = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger successes = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < attempts; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                repository.redeemTicket(ticket).ifPresent(id -> successes.incrementAndGet());
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(successes.get()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,157 @@
+package com.pickteam.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pickteam.config.VideoConferenceConfig;
+import com.pickteam.domain.user.Account;
+import com.pickteam.domain.videochat.VideoMember;
+import com.pickteam.dto.VideoConferenceMsgDTO;
+import com.pickteam.dto.VideoMemberDTO;
+import com.pickteam.repository.VideoMemberRepository;
+import com.pickteam.repository.VideoParticipantStateRepository;
+import com.pickteam.util.VideoConferenceControlMsg;
+import io.livekit.server.AccessToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.modelmapper.ModelMapper;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * LiveKit 웹훅 처리 테스트
+ * - 실제 LiveKit 서버 대신 녹화된 웹훅 순서(livekit/webhook-replay.json)를 서명해 재생한다
+ * - 재전송/지연 도착 이벤트가 걸러지고 접속자 증분만 전송되는지 검증
+ * - 접속자 정보는 채널 참여 정보(VideoMember)의 id, userId, 프로필로 채워지는지 검증
+ */
+class LiveKitWebhookHandlerTest {
+
+    private static final String API_KEY = "test-key";
+    private static final String API_SECRET = "test-secret-test-secret-test-secret";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SimpMessagingTemplate messagingTemplate;
+    private VideoParticipantRegistry registry;
+    private VideoParticipantReconciler reconciler;
+    private LiveKitWebhookHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        VideoMember kim = member(100L, 1L, "kim@test.com", "kim");
+        VideoMember lee = member(200L, 2L, "lee@test.com", "lee");
+        VideoMemberRepository videoMemberRepository = mock(VideoMemberRepository.class);
+        when(videoMemberRepository.findByAccountEmailAndVideoChannelId("kim@test.com", 10L)).thenReturn(kim);
+        when(videoMemberRepository.findByAccountEmailAndVideoChannelId("lee@test.com", 10L)).thenReturn(lee);
+        when(videoMemberRepository.selectAccountsByChannelId(10L)).thenReturn(List.of(kim, lee));
+        registry = new VideoParticipantRegistry(new VideoConferenceConfig(), mock(VideoParticipantStateRepository.class),
+                videoMemberRepository, new ModelMapper(), messagingTemplate);
+        reconciler = mock(VideoParticipantReconciler.class);
+        handler = new LiveKitWebhookHandler(API_KEY, API_SECRET, new VideoConferenceConfig(), registry, reconciler);
+    }
+
+    @Test
+    @DisplayName("웹훅 재생 시 재전송/지연 이벤트를 걸러내고 접속자 증분만 전송한다")
+    void handle_ReplayFixture_MaintainsParticipantsAndSendsDeltas() throws Exception {
+        // when
+        for (String body : loadFixture()) {
+            handler.handle(sign(body), body);
+        }
+
+        // then
+        List<VideoMemberDTO> participants = registry.snapshot(10L);
+        assertThat(participants).extracting(VideoMemberDTO::getEmail).containsExactly("lee@test.com");
+        assertThat(participants.get(0).getName()).isEqualTo("lee");
+        assertThat(participants.get(0).getId()).isEqualTo(200L);
+        assertThat(participants.get(0).getUserId()).isEqualTo(2L);
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, atLeast(1)).convertAndSend(eq("/sub/video/10"), captor.capture());
+        assertThat(captor.getAllValues()).extracting(m -> ((VideoConferenceMsgDTO) m).getType()).containsExactly(
+                VideoConferenceControlMsg.PARTICIPANT_JOINED,
+                VideoConferenceControlMsg.PARTICIPANT_JOINED,
+                VideoConferenceControlMsg.PARTICIPANT_LEFT);
+        VideoMemberDTO joined = ((VideoConferenceMsgDTO) captor.getAllValues().get(0)).getParticipants().get(0);
+        assertThat(joined.getId()).isEqualTo(100L);
+        assertThat(joined.getUserId()).isEqualTo(1L);
+        verifyNoMoreInteractions(messagingTemplate);
+
+        verify(reconciler).scheduleLeave(10L, "kim@test.com");
+        assertThat(handler.getStats().get("duplicateEvents")).isEqualTo(1L);
+        assertThat(handler.getStats().get("staleEvents")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("회의방이 종료되면 목록을 비우고 남은 접속자를 정리 대상으로 넘긴다")
+    void handle_RoomFinished_ClearsChannel() throws Exception {
+        // given
+        for (String body : loadFixture()) {
+            handler.handle(sign(body), body);
+        }
+        String finished = "{\"event\":\"room_finished\",\"id\":\"EV_finished\",\"createdAt\":\"1700000010\",\"room\":{\"name\":\"10\"}}";
+
+        // when
+        handler.handle(sign(finished), finished);
+
+        // then
+        assertThat(registry.snapshot(10L)).isEmpty();
+        verify(reconciler).scheduleLeave(10L, "lee@test.com");
+        verify(messagingTemplate).convertAndSend(eq("/sub/video/10"),
+                argThat((Object m) -> ((VideoConferenceMsgDTO) m).getType() == VideoConferenceControlMsg.ROOM_FINISHED));
+    }
+
+    @Test
+    @DisplayName("본문 해시가 맞지 않는 웹훅은 거부한다")
+    void handle_TamperedBody_Rejected() throws Exception {
+        // given
+        String body = loadFixture().get(0);
+        String tampered = body.replace("kim@test.com", "attacker@test.com");
+
+        // when & then
+        assertThatThrownBy(() -> handler.handle(sign(body), tampered)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(registry.snapshot(10L)).isEmpty();
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    private VideoMember member(Long memberId, Long accountId, String email, String name) {
+        Account account = Account.builder().id(accountId).email(email).name(name).build();
+        return VideoMember.builder().id(memberId).account(account).build();
+    }
+
+    private List<String> loadFixture() throws Exception {
+        try (InputStream in = getClass().getResourceAsStream("/livekit/webhook-replay.json")) {
+            JsonNode events = objectMapper.readTree(in);
+            return StreamSupport.stream(events.spliterator(), false)
+                    .map(JsonNode::toString)
+                    .toList();
+        }
+    }
+
+    private String sign(String body) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8));
+        AccessToken token = new AccessToken(API_KEY, API_SECRET);
+        token.setSha256(Base64.getEncoder().encodeToString(digest));
+        return token.toJwt();
+    }
+}
@@ -0,0 +1,152 @@
+package com.pickteam.service;
+
+import com.pickteam.config.VideoConferenceConfig;
+import com.pickteam.dto.VideoConferenceMsgDTO;
+import com.pickteam.repository.ScreenShareStateRepository;
+import com.pickteam.util.VideoConferenceControlMsg;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 화면 공유 중재 테스트 (단일 인스턴스 모드)
+ * - 동시 요청 시 발표자가 한 명만 승인되는지, 대기열 순서와 중단 확인 시간 초과가 지켜지는지 검증
+ */
+class ScreenShareArbiterTest {
+
+    private static final Long CHANNEL_ID = 1L;
+
+    private SimpMessagingTemplate messagingTemplate;
+    private ScreenShareArbiter arbiter;
+
+    @BeforeEach
+    void setUp() {
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        arbiter = new ScreenShareArbiter(new VideoConferenceConfig(), mock(ScreenShareStateRepository.class), messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("발표자가 있으면 중단을 한 번만 요청하고, 대기자는 요청 순서대로 발표자가 된다")
+    void requestShare_Waiting_PromotedInFifoOrder() {
+        // given
+        arbiter.requestShare(CHANNEL_ID, "a", 0);
+
+        // when
+        arbiter.requestShare(CHANNEL_ID, "b", 0);
+        arbiter.requestShare(CHANNEL_ID, "c", 0);
+        arbiter.release(CHANNEL_ID, "a", 100);
+
+        // then
+        assertThat(arbiter.currentHolder(CHANNEL_ID)).isEqualTo("b");
+        assertThat(sentToUser("a")).containsExactly(
+                VideoConferenceControlMsg.START_SCREEN_SHARING_CONFIRMED,
+                VideoConferenceControlMsg.STOP_SCREEN_SHARING);
+
+        // when - b도 중단하면 c 차례
+        arbiter.release(CHANNEL_ID, "b", 200);
+
+        // then
+        assertThat(arbiter.currentHolder(CHANNEL_ID)).isEqualTo("c");
+        List<VideoConferenceControlMsg> toB = sentToUser("b");
+        assertThat(toB).containsExactly(
+                VideoConferenceControlMsg.START_SCREEN_SHARING_CONFIRMED,
+                VideoConferenceControlMsg.STOP_SCREEN_SHARING);
+    }
+
+    @Test
+    @DisplayName("발표자가 아닌 사용자의 중단 확인은 발표자를 바꾸지 않고 대기열에서만 빠진다")
+    void release_NonHolder_OnlyLeavesQueue() {
+        // given
+        arbiter.requestShare(CHANNEL_ID, "a", 0);
+        arbiter.requestShare(CHANNEL_ID, "b", 0);
+
+        // when
+        arbiter.release(CHANNEL_ID, "b", 100);
+        arbiter.release(CHANNEL_ID, "a", 200);
+
+        // then
+        assertThat(arbiter.currentHolder(CHANNEL_ID)).isNull();
+        assertThat(arbiter.getStats().get("activeRooms")).isEqualTo(0);
+        verify(messagingTemplate, never()).convertAndSendToUser(eq("b"), anyString(), any(Object.class));
+    }
+
+    @Test
+    @DisplayName("중단 확인 기한이 지나면 발표자를 강제로 중단하고 다음 대기자에게 넘긴다")
+    void expireOverdueHolders_StopTimeout_PromotesNext() {
+        // given
+        long timeout = new VideoConferenceConfig().getScreenShare().getStopTimeout().toMillis();
+        arbiter.requestShare(CHANNEL_ID, "a", 0);
+        arbiter.requestShare(CHANNEL_ID, "b", 0);
+
+        // when
+        arbiter.expireOverdueHolders(timeout - 1);
+        String beforeDeadline = arbiter.currentHolder(CHANNEL_ID);
+        arbiter.expireOverdueHolders(timeout);
+
+        // then
+        assertThat(beforeDeadline).isEqualTo("a");
+        assertThat(arbiter.currentHolder(CHANNEL_ID)).isEqualTo("b");
+        assertThat(arbiter.getStats().get("forcedStops")).isEqualTo(1L);
+        assertThat(sentToUser("b")).containsExactly(VideoConferenceControlMsg.START_SCREEN_SHARING_CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 요청해도 발표자는 한 명만 승인된다")
+    void requestShare_Concurrent_GrantsSingleHolder() throws Exception {
+        // given
+        int users = 32;
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(users);
+        for (int i = 0; i < users; i++) {
+            String user = "user-" + i;
+            pool.execute(() -> {
+                try {
+                    start.await();
+                    arbiter.requestShare(CHANNEL_ID, user);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when
+        start.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        pool.shutdown();
+
+        // then
+        assertThat(arbiter.getStats().get("grants")).isEqualTo(1L);
+        assertThat(arbiter.getStats().get("stopRequests")).isEqualTo(1L);
+    }
+
+    private List<VideoConferenceControlMsg> sentToUser(String user) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate, atLeast(0)).convertAndSendToUser(eq(user), anyString(), captor.capture());
+        List<VideoConferenceControlMsg> types = new ArrayList<>();
+        for (Object payload : captor.getAllValues()) {
+            types.add(((VideoConferenceMsgDTO) payload).getType());
+        }
+        return types;
+    }
+}
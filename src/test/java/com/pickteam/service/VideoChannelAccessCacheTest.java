@@ -0,0 +1,162 @@
+package com.pickteam.service;
+
+import com.pickteam.config.WebSocketAuthConfig;
+import com.pickteam.domain.videochat.VideoMember;
+import com.pickteam.repository.VideoMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 화상회의 채널 접근 권한 캐시 테스트
+ * - 세션/공용 캐시 적중 시 DB를 조회하지 않는지, 참여자 변경 시 무효화되는지 검증
+ */
+class VideoChannelAccessCacheTest {
+
+    private VideoMemberRepository videoMemberRepository;
+    private StringRedisTemplate redisTemplate;
+    private WebSocketAuthConfig authConfig;
+    private VideoChannelAccessCache cache;
+
+    @BeforeEach
+    void setUp() {
+        videoMemberRepository = mock(VideoMemberRepository.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        authConfig = new WebSocketAuthConfig();
+        cache = new VideoChannelAccessCache(videoMemberRepository, redisTemplate,
+                mock(RedisMessageListenerContainer.class), authConfig);
+    }
+
+    @Test
+    @DisplayName("한 번 허가된 채널은 같은 세션에서 DB를 다시 조회하지 않는다")
+    void authorize_SameSession_UsesSessionSet() {
+        // given
+        when(videoMemberRepository.findByAccountIdAndVideoChannelId(1L, 10L)).thenReturn(member(100L));
+
+        // when
+        Long memberId = cache.authorize("s1", 1L, 10L);
+        boolean first = cache.isAuthorizedInSession("s1", 10L);
+        boolean second = cache.isAuthorizedInSession("s1", 10L);
+
+        // then
+        assertThat(memberId).isEqualTo(100L);
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(cache.isAuthorizedInSession("s1", 11L)).isFalse();
+        verify(videoMemberRepository, times(1)).findByAccountIdAndVideoChannelId(1L, 10L);
+        assertThat(cache.getStats().get("sessionHits")).isEqualTo(2L);
+        assertThat(cache.getStats().get("cacheMisses")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("같은 계정의 다른 세션은 공용 캐시를 사용하고, 미참여 결과도 캐시한다")
+    void authorize_OtherSession_UsesSharedCache() {
+        // given
+        when(videoMemberRepository.findByAccountIdAndVideoChannelId(1L, 10L)).thenReturn(member(100L));
+
+        // when
+        cache.authorize("s1", 1L, 10L);
+        Long otherSession = cache.authorize("s2", 1L, 10L);
+        Long notMember1 = cache.authorize("s3", 2L, 10L);
+        Long notMember2 = cache.authorize("s3", 2L, 10L);
+
+        // then
+        assertThat(otherSession).isEqualTo(100L);
+        assertThat(notMember1).isNull();
+        assertThat(notMember2).isNull();
+        assertThat(cache.isAuthorizedInSession("s3", 10L)).isFalse();
+        verify(videoMemberRepository, times(1)).findByAccountIdAndVideoChannelId(1L, 10L);
+        verify(videoMemberRepository, times(1)).findByAccountIdAndVideoChannelId(2L, 10L);
+        assertThat(cache.getStats().get("cacheHits")).isEqualTo(2L);
+        assertThat(cache.getStats().get("cacheMisses")).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("참여자가 변경되면 세션 허가와 공용 캐시가 모두 무효화된다")
+    void memberChanged_EvictsSessionAndSharedCache() {
+        // given
+        when(videoMemberRepository.findByAccountIdAndVideoChannelId(1L, 10L)).thenReturn(member(100L));
+        cache.authorize("s1", 1L, 10L);
+        when(videoMemberRepository.findByAccountIdAndVideoChannelId(1L, 10L)).thenReturn(null);
+
+        // when
+        cache.memberChanged(1L, 10L);
+
+        // then
+        assertThat(cache.isAuthorizedInSession("s1", 10L)).isFalse();
+        assertThat(cache.authorize("s1", 1L, 10L)).isNull();
+        verify(videoMemberRepository, times(2)).findByAccountIdAndVideoChannelId(1L, 10L);
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("채널이 삭제되면 모든 계정의 해당 채널 권한이 제거된다")
+    void channelDeleted_EvictsAllAccounts() {
+        // given
+        when(videoMemberRepository.findByAccountIdAndVideoChannelId(1L, 10L)).thenReturn(member(100L));
+        when(videoMemberRepository.findByAccountIdAndVideoChannelId(2L, 10L)).thenReturn(member(200L));
+        when(videoMemberRepository.findByAccountIdAndVideoChannelId(1L, 20L)).thenReturn(member(300L));
+        cache.authorize("s1", 1L, 10L);
+        cache.authorize("s2", 2L, 10L);
+        cache.authorize("s1", 1L, 20L);
+
+        // when
+        cache.channelDeleted(10L);
+
+        // then
+        assertThat(cache.isAuthorizedInSession("s1", 10L)).isFalse();
+        assertThat(cache.isAuthorizedInSession("s2", 10L)).isFalse();
+        assertThat(cache.isAuthorizedInSession("s1", 20L)).isTrue();
+        assertThat(cache.getStats().get("cachedEntries")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지는 반영하고, 노드 간 무효화가 켜져 있으면 발행한다")
+    void onMessage_RemoteInvalidation_EvictsLocalCache() {
+        // given
+        authConfig.setInvalidationEnabled(true);
+        when(videoMemberRepository.findByAccountIdAndVideoChannelId(1L, 10L)).thenReturn(member(100L));
+        cache.authorize("s1", 1L, 10L);
+
+        // when
+        cache.onMessage(new DefaultMessage("ws:auth:invalidate".getBytes(StandardCharsets.UTF_8),
+                "other-node:1:10".getBytes(StandardCharsets.UTF_8)), null);
+        cache.memberChanged(2L, 10L);
+
+        // then
+        assertThat(cache.isAuthorizedInSession("s1", 10L)).isFalse();
+        verify(redisTemplate).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("세션이 종료되면 세션 허가 정보가 제거된다")
+    void sessionClosed_RemovesSession() {
+        // given
+        when(videoMemberRepository.findByAccountIdAndVideoChannelId(1L, 10L)).thenReturn(member(100L));
+        cache.authorize("s1", 1L, 10L);
+
+        // when
+        cache.sessionClosed("s1");
+
+        // then
+        assertThat(cache.isAuthorizedInSession("s1", 10L)).isFalse();
+        assertThat(cache.getStats().get("sessions")).isEqualTo(0);
+    }
+
+    private VideoMember member(Long id) {
+        return VideoMember.builder().id(id).build();
+    }
+}
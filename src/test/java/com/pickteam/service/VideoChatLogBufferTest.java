@@ -0,0 +1,146 @@
+package com.pickteam.service;
+
+import com.pickteam.config.ChatConfig;
+import com.pickteam.dto.WebSocketChatDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 화상회의 채팅 기록 버퍼 테스트
+ * - 동시 전송에서도 채널당 용량 이상 보관하지 않는지, 커서로 이전 기록을 넘길 수 있는지 검증
+ */
+class VideoChatLogBufferTest {
+
+    private ChatConfig chatConfig;
+    private VideoChatLogBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        chatConfig = new ChatConfig();
+        chatConfig.getVideoChatLog().setCapacityPerRoom(100);
+        chatConfig.getVideoChatLog().setDefaultPageSize(30);
+        buffer = new VideoChatLogBuffer(chatConfig);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 전송해도 채널당 용량만 보관하고 최신 기록은 순번 순으로 연속된다")
+    void append_ConcurrentSenders_KeepsBoundedContiguousLog() throws Exception {
+        // given
+        int threads = 8;
+        int messagesPerThread = 20_000;
+        long[] rooms = {1L, 2L, 3L, 4L};
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int sender = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < messagesPerThread; i++) {
+                    buffer.append(rooms[i % rooms.length], chat("user" + sender, "message-" + i));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        long perRoom = (long) threads * messagesPerThread / rooms.length;
+        assertThat(buffer.getStats().get("retainedMessages")).isEqualTo(100L * rooms.length);
+        for (long room : rooms) {
+            List<WebSocketChatDTO> logs = buffer.page(room, null, 100).getLogs();
+            assertThat(logs).hasSize(100);
+            for (int i = 0; i < logs.size(); i++) {
+                assertThat(logs.get(i).getSeq()).isEqualTo(perRoom - 100 + i);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("용량을 넘겨 전송하면 가장 오래된 기록부터 밀려나고 보관 수는 용량으로 고정된다")
+    void append_BeyondCapacity_EvictsOldest() {
+        // given
+        chatConfig.getVideoChatLog().setCapacityPerRoom(5);
+        buffer = new VideoChatLogBuffer(chatConfig);
+
+        // when
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 5; i++) {
+                buffer.append(1L, chat("user", "round-" + round + "-" + i));
+            }
+            // then - 매 라운드 보관량은 용량으로 고정
+            assertThat(buffer.getStats().get("retainedMessages")).isEqualTo(5L);
+        }
+        buffer.append(1L, chat("user", "last"));
+
+        // then - 마지막 5건만 남고 더 이전 기록은 없다
+        WebSocketChatDTO page = buffer.page(1L, null, 100);
+        assertThat(page.getLogs()).extracting(WebSocketChatDTO::getMessage)
+                .containsExactly("round-2-1", "round-2-2", "round-2-3", "round-2-4", "last");
+        assertThat(page.getLogs()).extracting(WebSocketChatDTO::getSeq).containsExactly(11L, 12L, 13L, 14L, 15L);
+        assertThat(page.getHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("init은 최신 기록부터 내려주고 before 커서로 이전 기록을 넘길 수 있다")
+    void page_WithBeforeCursor_WalksBackwards() {
+        // given
+        for (int i = 0; i < 70; i++) {
+            buffer.append(1L, chat("user", "message-" + i));
+        }
+
+        // when
+        WebSocketChatDTO latest = buffer.page(1L, null, null);
+        WebSocketChatDTO older = buffer.page(1L, latest.getBefore(), null);
+        WebSocketChatDTO oldest = buffer.page(1L, older.getBefore(), null);
+
+        // then
+        assertThat(latest.getType()).isEqualTo("init");
+        assertThat(latest.getLogs()).extracting(WebSocketChatDTO::getMessage).startsWith("message-40").endsWith("message-69");
+        assertThat(latest.getHasMore()).isTrue();
+        assertThat(older.getLogs()).extracting(WebSocketChatDTO::getSeq).startsWith(10L).endsWith(39L);
+        assertThat(oldest.getLogs()).hasSize(10);
+        assertThat(oldest.getHasMore()).isFalse();
+    }
+
+    @Test
+    @DisplayName("idle-ttl 동안 대화가 없는 채널 기록은 제거된다")
+    void evictIdleRooms_RemovesIdleRooms() {
+        // given
+        chatConfig.getVideoChatLog().setIdleTtl(Duration.ofMinutes(30));
+        buffer.append(1L, chat("user", "hello"));
+        buffer.append(2L, chat("user", "hello"));
+
+        // when
+        int evictedNow = buffer.evictIdleRooms(System.currentTimeMillis());
+        int evictedLater = buffer.evictIdleRooms(System.currentTimeMillis() + Duration.ofMinutes(31).toMillis());
+
+        // then
+        assertThat(evictedNow).isZero();
+        assertThat(evictedLater).isEqualTo(2);
+        assertThat(buffer.page(1L, null, null).getLogs()).isEmpty();
+        assertThat(buffer.page(1L, null, null).getHasMore()).isFalse();
+    }
+
+    private WebSocketChatDTO chat(String sender, String message) {
+        return new WebSocketChatDTO(sender + "@pickteam.com", sender, message, "chat");
+    }
+}
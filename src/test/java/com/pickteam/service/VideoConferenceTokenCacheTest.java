@@ -0,0 +1,72 @@
+package com.pickteam.service;
+
+import com.pickteam.config.VideoConferenceConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LiveKit 입장 토큰 캐시 테스트
+ * - 재입장 시 서명을 반복하지 않는지, 이름 변경/참여자 변경 시 다시 서명하는지 검증
+ */
+class VideoConferenceTokenCacheTest {
+
+    private VideoConferenceTokenCache cache;
+    private AtomicInteger signCount;
+    private Supplier<String> signer;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VideoConferenceTokenCache(new VideoConferenceConfig());
+        signCount = new AtomicInteger();
+        signer = () -> "token-" + signCount.incrementAndGet();
+    }
+
+    @Test
+    @DisplayName("같은 계정/채널의 재입장은 캐시된 토큰을 재사용한다")
+    void getOrSign_Rejoin_ReusesToken() {
+        // when
+        String first = cache.getOrSign(1L, 10L, "kim", "kim@test.com", signer);
+        String second = cache.getOrSign(1L, 10L, "kim", "kim@test.com", signer);
+        String otherChannel = cache.getOrSign(1L, 20L, "kim", "kim@test.com", signer);
+
+        // then
+        assertThat(second).isEqualTo(first);
+        assertThat(otherChannel).isNotEqualTo(first);
+        assertThat(signCount.get()).isEqualTo(2);
+        assertThat(cache.getStats().get("hits")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("이름이 바뀌면 토큰을 다시 서명한다")
+    void getOrSign_UsernameChanged_SignsAgain() {
+        // when
+        cache.getOrSign(1L, 10L, "kim", "kim@test.com", signer);
+        String renamed = cache.getOrSign(1L, 10L, "lee", "kim@test.com", signer);
+
+        // then
+        assertThat(renamed).isEqualTo("token-2");
+    }
+
+    @Test
+    @DisplayName("참여자 변경과 채널 삭제 시 토큰이 제거된다")
+    void invalidate_RemovesTokens() {
+        // given
+        cache.getOrSign(1L, 10L, "kim", "kim@test.com", signer);
+        cache.getOrSign(2L, 10L, "lee", "lee@test.com", signer);
+        cache.getOrSign(1L, 20L, "kim", "kim@test.com", signer);
+
+        // when
+        cache.invalidate(1L, 20L);
+        cache.invalidateChannel(10L);
+
+        // then
+        assertThat(cache.getStats().get("cachedTokens")).isEqualTo(0L);
+        assertThat(cache.getOrSign(1L, 10L, "kim", "kim@test.com", signer)).isEqualTo("token-4");
+    }
+}
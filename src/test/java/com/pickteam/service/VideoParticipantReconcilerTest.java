@@ -0,0 +1,79 @@
+package com.pickteam.service;
+
+import com.pickteam.config.VideoConferenceConfig;
+import com.pickteam.repository.VideoMemberRepository;
+import com.pickteam.repository.VideoParticipantStateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * LiveKit 퇴장 후 접속 상태 정리 테스트
+ * - 정리 기한이 지나면 화면 공유 차례와 이벤트 순서 기록만 정리하고 채널 참여 정보는 건드리지 않는지 검증
+ * - 정리 기한 전에 다시 접속한 사용자는 정리하지 않는지 검증
+ */
+class VideoParticipantReconcilerTest {
+
+    private static final long DELAY = new VideoConferenceConfig().getParticipants().getReconcileDelay().toMillis();
+
+    private VideoParticipantRegistry registry;
+    private VideoMemberRepository videoMemberRepository;
+    private ScreenShareArbiter screenShareArbiter;
+    private VideoParticipantReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        VideoConferenceConfig config = new VideoConferenceConfig();
+        videoMemberRepository = mock(VideoMemberRepository.class);
+        registry = new VideoParticipantRegistry(config, mock(VideoParticipantStateRepository.class),
+                videoMemberRepository, new ModelMapper(), mock(SimpMessagingTemplate.class));
+        screenShareArbiter = mock(ScreenShareArbiter.class);
+        reconciler = new VideoParticipantReconciler(config, registry, screenShareArbiter);
+    }
+
+    @Test
+    @DisplayName("기한이 지나도 다시 접속하지 않으면 화면 공유 차례를 넘기고 채널 참여 정보는 유지한다")
+    void reconcile_NotRejoined_ReleasesPresenceOnly() {
+        // given
+        registry.joined(10L, "kim@test.com", "kim", 1_000, 1_000);
+        registry.left(10L, "kim@test.com", 2_000);
+        reconciler.scheduleLeave(10L, "kim@test.com", 0);
+
+        // when
+        reconciler.reconcile(DELAY - 1);
+        verify(screenShareArbiter, never()).leave(any(), any());
+        reconciler.reconcile(DELAY);
+
+        // then
+        verify(screenShareArbiter).leave(10L, "kim@test.com");
+        verify(videoMemberRepository, never()).delete(any());
+        verify(videoMemberRepository, never()).deleteById(any());
+        assertThat(registry.getStats().get("channels")).isEqualTo(0);
+        assertThat(reconciler.getStats().get("pendingLeaves")).isEqualTo(0);
+        assertThat(reconciler.getStats().get("releasedParticipants")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("기한 전에 다시 접속하면 접속 상태를 정리하지 않는다")
+    void reconcile_Rejoined_KeepsPresence() {
+        // given
+        reconciler.scheduleLeave(10L, "kim@test.com", 0);
+        registry.joined(10L, "kim@test.com", "kim", 1_000, 1_000);
+
+        // when
+        reconciler.reconcile(DELAY);
+
+        // then
+        verify(screenShareArbiter, never()).leave(any(), any());
+        assertThat(registry.contains(10L, "kim@test.com")).isTrue();
+        assertThat(reconciler.getStats().get("skippedRejoined")).isEqualTo(1L);
+    }
+}
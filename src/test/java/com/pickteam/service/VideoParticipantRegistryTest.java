@@ -0,0 +1,91 @@
+package com.pickteam.service;
+
+import com.pickteam.config.VideoConferenceConfig;
+import com.pickteam.domain.user.Account;
+import com.pickteam.domain.videochat.VideoMember;
+import com.pickteam.dto.VideoMemberDTO;
+import com.pickteam.repository.VideoMemberRepository;
+import com.pickteam.repository.VideoParticipantStateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 다중 인스턴스 접속자 레지스트리 테스트
+ * - 접속자 목록을 Redis 공유 상태에서 읽어, 웹훅을 받지 않은 노드도 같은 목록을 돌려주는지 검증
+ */
+class VideoParticipantRegistryTest {
+
+    private VideoParticipantStateRepository stateRepository;
+    private VideoMemberRepository videoMemberRepository;
+    private SimpMessagingTemplate messagingTemplate;
+    private VideoParticipantRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        VideoConferenceConfig config = new VideoConferenceConfig();
+        config.getParticipants().setClusterEnabled(true);
+        stateRepository = mock(VideoParticipantStateRepository.class);
+        videoMemberRepository = mock(VideoMemberRepository.class);
+        messagingTemplate = mock(SimpMessagingTemplate.class);
+        registry = new VideoParticipantRegistry(config, stateRepository, videoMemberRepository, new ModelMapper(), messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("공유 상태의 접속자를 입장 순으로 채널 참여 정보와 합쳐 돌려준다")
+    void snapshot_ClusterEnabled_ReadsSharedState() {
+        // given - 다른 노드가 반영한 접속자
+        Map<String, Long> participants = new LinkedHashMap<>();
+        participants.put("lee@test.com", 2_000L);
+        participants.put("kim@test.com", 1_000L);
+        when(stateRepository.findParticipants(10L)).thenReturn(participants);
+        when(videoMemberRepository.selectAccountsByChannelId(10L)).thenReturn(List.of(
+                member(100L, 1L, "kim@test.com", "kim"),
+                member(200L, 2L, "lee@test.com", "lee"),
+                member(300L, 3L, "park@test.com", "park")));
+
+        // when
+        List<VideoMemberDTO> snapshot = registry.snapshot(10L);
+
+        // then
+        assertThat(snapshot).extracting(VideoMemberDTO::getEmail).containsExactly("kim@test.com", "lee@test.com");
+        assertThat(snapshot).extracting(VideoMemberDTO::getId).containsExactly(100L, 200L);
+        assertThat(snapshot).extracting(VideoMemberDTO::getUserId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("공유 상태가 이전 이벤트로 판단하면 입장 증분을 보내지 않는다")
+    void joined_ClusterStaleEvent_NotSent() {
+        // given
+        when(stateRepository.join(eq(10L), eq("kim@test.com"), anyLong(), anyLong(), anyLong())).thenReturn(-1L);
+
+        // when
+        boolean joined = registry.joined(10L, "kim@test.com", "kim", 1_000, 1_000);
+
+        // then
+        assertThat(joined).isFalse();
+        assertThat(registry.getStats().get("staleEvents")).isEqualTo(1L);
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+
+    private VideoMember member(Long memberId, Long accountId, String email, String name) {
+        Account account = Account.builder().id(accountId).email(email).name(name).build();
+        return VideoMember.builder().id(memberId).account(account).build();
+    }
+}
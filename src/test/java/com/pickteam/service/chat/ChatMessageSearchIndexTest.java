@@ -0,0 +1,156 @@
+package com.pickteam.service.chat;
+
+import com.pickteam.config.ChatConfig;
+import com.pickteam.dto.chat.ChatMessageResponse;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅 메시지 검색 색인 단위 테스트
+ * - 한글 부분 일치, 채팅방 범위 제한, 삭제 반영, 정렬/페이지를 메모리 색인으로 검증
+ */
+class ChatMessageSearchIndexTest {
+
+    private ChatMessageSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new ChatMessageSearchIndex(new ChatConfig(), new ByteBuffersDirectory());
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchIndex.close();
+    }
+
+    @Test
+    @DisplayName("띄어쓰기나 조사와 붙은 한글도 부분 일치로 검색된다")
+    void search_KoreanPartialMatch() {
+        // given
+        searchIndex.index(message(1L, 10L, 100L, "내일 회의실 예약했습니다"));
+        searchIndex.index(message(2L, 10L, 101L, "회의는 오후 3시로 변경"));
+        searchIndex.index(message(3L, 10L, 100L, "점심 메뉴 추천 부탁해요"));
+        searchIndex.refresh();
+
+        // when
+        ChatMessageSearchIndex.SearchResult result = searchIndex.search(List.of(10L), null, "회의", false, 0, 10);
+
+        // then
+        assertThat(result.getTotalHits()).isEqualTo(2);
+        assertThat(result.getMessages()).extracting(ChatMessageResponse::getId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(result.getMessages().get(0).getContent()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("검색 범위 밖 채팅방의 메시지와 다른 사용자가 보낸 메시지는 제외된다")
+    void search_ScopedByChatRoomAndSender() {
+        // given
+        searchIndex.index(message(1L, 10L, 100L, "배포 일정 공유"));
+        searchIndex.index(message(2L, 20L, 100L, "배포 완료"));
+        searchIndex.index(message(3L, 10L, 101L, "배포 확인했습니다"));
+        searchIndex.refresh();
+
+        // when
+        ChatMessageSearchIndex.SearchResult byRoom = searchIndex.search(List.of(10L), null, "배포", false, 0, 10);
+        ChatMessageSearchIndex.SearchResult bySender = searchIndex.search(List.of(10L, 20L), 100L, "배포", false, 0, 10);
+
+        // then
+        assertThat(byRoom.getMessages()).extracting(ChatMessageResponse::getId).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(bySender.getMessages()).extracting(ChatMessageResponse::getId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("삭제된 메시지는 refresh 이후 검색되지 않는다")
+    void delete_RemovesFromResults() {
+        // given
+        searchIndex.index(message(1L, 10L, 100L, "비밀번호 공유합니다"));
+        searchIndex.refresh();
+
+        // when
+        searchIndex.delete(1L);
+        searchIndex.refresh();
+
+        // then
+        assertThat(searchIndex.search(List.of(10L), null, "비밀번호", false, 0, 10).getTotalHits()).isZero();
+    }
+
+    @Test
+    @DisplayName("최신순 정렬은 메시지 ID 내림차순으로 페이지를 나눈다")
+    void search_RecentFirstWithPaging() {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            searchIndex.index(message(id, 10L, 100L, "status report " + id));
+        }
+        searchIndex.refresh();
+
+        // when
+        ChatMessageSearchIndex.SearchResult first = searchIndex.search(List.of(10L), null, "Report", true, 0, 2);
+        ChatMessageSearchIndex.SearchResult second = searchIndex.search(List.of(10L), null, "Report", true, 2, 2);
+
+        // then
+        assertThat(first.getTotalHits()).isEqualTo(5);
+        assertThat(first.getMessages()).extracting(ChatMessageResponse::getId).containsExactly(5L, 4L);
+        assertThat(second.getMessages()).extracting(ChatMessageResponse::getId).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("재색인 중에는 기존 색인으로 검색하고, 완료 시 새 색인으로 한 번에 교체한다")
+    void rebuild_SwapsInCompletedIndex() {
+        // given
+        searchIndex.index(message(1L, 10L, 100L, "release note draft"));
+        searchIndex.index(message(2L, 10L, 100L, "release checklist"));
+        searchIndex.refresh();
+
+        // when - 재색인 스캔은 1번만 읽었고, 그 사이 3번이 전송되고 2번이 삭제됨
+        searchIndex.beginRebuild();
+        searchIndex.indexForRebuild(message(1L, 10L, 100L, "release note draft"));
+        searchIndex.index(message(3L, 10L, 101L, "release done"));
+        searchIndex.delete(2L);
+        searchIndex.refresh();
+
+        // then - 재색인 중에도 기존 색인의 결과가 그대로 검색된다
+        assertThat(searchIndex.search(List.of(10L), null, "release", false, 0, 10).getMessages())
+                .extracting(ChatMessageResponse::getId).containsExactlyInAnyOrder(1L, 3L);
+
+        // when
+        searchIndex.completeRebuild();
+
+        // then
+        assertThat(searchIndex.search(List.of(10L), null, "release", false, 0, 10).getMessages())
+                .extracting(ChatMessageResponse::getId).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(searchIndex.getDocumentCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재색인을 중단하면 기존 색인을 계속 사용한다")
+    void abortRebuild_KeepsLiveIndex() {
+        // given
+        searchIndex.index(message(1L, 10L, 100L, "배포 일정"));
+        searchIndex.refresh();
+        searchIndex.beginRebuild();
+
+        // when
+        searchIndex.abortRebuild();
+
+        // then
+        assertThat(searchIndex.search(List.of(10L), null, "배포", false, 0, 10).getTotalHits()).isEqualTo(1);
+    }
+
+    private ChatMessageResponse message(Long id, Long chatRoomId, Long senderId, String content) {
+        return ChatMessageResponse.builder()
+                .id(id)
+                .chatRoomId(chatRoomId)
+                .senderId(senderId)
+                .content(content)
+                .sentAt(LocalDateTime.of(2025, 1, 1, 9, 0).plusMinutes(id))
+                .build();
+    }
+}
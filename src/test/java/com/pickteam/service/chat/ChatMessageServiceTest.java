@@ -0,0 +1,106 @@
+package com.pickteam.service.chat;
+
+import com.pickteam.domain.chat.ChatMessage;
+import com.pickteam.domain.chat.ChatRoom;
+import com.pickteam.domain.user.Account;
+import com.pickteam.dto.chat.ChatMessageCursorResponse;
+import com.pickteam.dto.chat.ChatMessageResponse;
+import com.pickteam.repository.chat.ChatMessageRepository;
+import com.pickteam.repository.chat.ChatRoomRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 채팅 메시지 서비스 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatMessageServiceTest {
+
+    @InjectMocks
+    private ChatMessageServiceImpl chatMessageService;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Test
+    @DisplayName("최신 메시지 커서 조회는 오름차순으로 뒤집어 반환하고 이전 커서를 제공한다")
+    void getMessagesByCursor_Latest_ReturnsAscendingWithPrevCursor() {
+        // Given
+        ChatRoom chatRoom = createTestChatRoom();
+        given(chatRoomRepository.findById(1L)).willReturn(Optional.of(chatRoom));
+        given(chatMessageRepository.findByChatRoomIdOrderByIdDesc(1L, PageRequest.of(0, 3)))
+                .willReturn(new SliceImpl<>(List.of(
+                        createTestMessage(30L, chatRoom),
+                        createTestMessage(29L, chatRoom),
+                        createTestMessage(28L, chatRoom)), PageRequest.of(0, 3), true));
+
+        // When
+        ChatMessageCursorResponse result = chatMessageService.getMessagesByCursor(1L, null, null, 3);
+
+        // Then
+        assertThat(result.getMessages()).extracting(ChatMessageResponse::getId).containsExactly(28L, 29L, 30L);
+        assertThat(result.getPrevCursor()).isEqualTo(28L);
+        assertThat(result.getNextCursor()).isEqualTo(30L);
+        assertThat(result.isHasPrevious()).isTrue();
+        assertThat(result.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("after 커서 조회는 더 최신 메시지가 남았는지 알려준다")
+    void getMessagesByCursor_After_ReturnsNewerMessages() {
+        // Given
+        ChatRoom chatRoom = createTestChatRoom();
+        given(chatRoomRepository.findById(1L)).willReturn(Optional.of(chatRoom));
+        given(chatMessageRepository.findByChatRoomIdAndIdGreaterThanOrderByIdAsc(1L, 10L, PageRequest.of(0, 2)))
+                .willReturn(new SliceImpl<>(List.of(
+                        createTestMessage(11L, chatRoom),
+                        createTestMessage(12L, chatRoom)), PageRequest.of(0, 2), false));
+
+        // When
+        ChatMessageCursorResponse result = chatMessageService.getMessagesByCursor(1L, null, 10L, 2);
+
+        // Then
+        assertThat(result.getMessages()).extracting(ChatMessageResponse::getId).containsExactly(11L, 12L);
+        assertThat(result.isHasPrevious()).isTrue();
+        assertThat(result.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("before와 after를 함께 지정하면 예외가 발생한다")
+    void getMessagesByCursor_BeforeAndAfter_ThrowsException() {
+        assertThatThrownBy(() -> chatMessageService.getMessagesByCursor(1L, 5L, 3L, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ChatRoom createTestChatRoom() {
+        return ChatRoom.builder()
+                .id(1L)
+                .name("테스트 채팅방")
+                .build();
+    }
+
+    private ChatMessage createTestMessage(Long id, ChatRoom chatRoom) {
+        return ChatMessage.builder()
+                .id(id)
+                .content("메시지 " + id)
+                .chatRoom(chatRoom)
+                .account(Account.builder().id(1L).name("테스트 사용자").build())
+                .build();
+    }
+}
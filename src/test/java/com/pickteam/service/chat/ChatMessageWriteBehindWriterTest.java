@@ -0,0 +1,234 @@
+package com.pickteam.service.chat;
+
+import com.pickteam.config.ChatConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 채팅 메시지 지연 저장기 단위 테스트
+ * - ID 발급, 배치 저장, 재시도, 대기열 초과 시 거절을 검증
+ * - ID 충돌 시 저장 중단, 저장할 수 없는 메시지의 dead-letter 보관을 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatMessageWriteBehindWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    private ChatConfig chatConfig;
+
+    @BeforeEach
+    void setUp() {
+        chatConfig = new ChatConfig();
+        chatConfig.getWriteBehind().setMode(ChatConfig.WriteMode.MEMORY);
+        chatConfig.getWriteBehind().setBatchSize(3);
+        chatConfig.getWriteBehind().setOfferTimeout(Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("발급한 메시지 ID는 유일하고 단조 증가한다")
+    void nextId_IsUniqueAndIncreasing() {
+        // Given
+        ChatMessageIdGenerator generator = new ChatMessageIdGenerator(chatConfig);
+        Set<Long> ids = new HashSet<>();
+        long previous = 0;
+
+        // When & Then
+        for (int i = 0; i < 20_000; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous);
+            ids.add(id);
+            previous = id;
+        }
+        assertThat(ids).hasSize(20_000);
+    }
+
+    @Test
+    @DisplayName("적재된 메시지는 batchSize 단위 JDBC 배치 insert로 저장된다")
+    void flushAll_PersistsInBatches() {
+        // Given
+        ChatMessageWriteBehindWriter writer = createWriter();
+        List<Integer> batchSizes = recordBatchSizes();
+        for (int i = 0; i < 7; i++) {
+            writer.submit(1L, 2L, "message-" + i);
+        }
+
+        // When
+        writer.flushAll();
+
+        // Then
+        assertThat(batchSizes).containsExactly(3, 3, 1);
+        assertThat(writer.getStats().get("persistedMessages")).isEqualTo(7L);
+        assertThat(writer.getStats().get("bufferedMessages")).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("DB 저장에 실패한 배치는 버리지 않고 다음 주기에 다시 저장한다")
+    void flushAll_DatabaseFailure_RetriesSameBatch() {
+        // Given
+        ChatMessageWriteBehindWriter writer = createWriter();
+        PendingChatMessage first = writer.submit(1L, 2L, "hello");
+        List<Long> insertedIds = new ArrayList<>();
+        given(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .willThrow(new DataAccessResourceFailureException("connection refused"))
+                .willAnswer(invocation -> {
+                    Collection<?> batch = invocation.getArgument(1);
+                    batch.forEach(message -> insertedIds.add(((PendingChatMessage) message).getId()));
+                    return new int[0][];
+                });
+
+        // When
+        writer.flushAll();
+        writer.flushAll();
+
+        // Then
+        assertThat(insertedIds).containsExactly(first.getId());
+        assertThat(writer.getStats().get("failedBatches")).isEqualTo(1L);
+        assertThat(writer.getStats().get("persistedMessages")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("저장 대기열이 가득 차면 전송 요청을 거절한다")
+    void submit_BufferFull_ThrowsException() {
+        // Given
+        chatConfig.getWriteBehind().setBufferCapacity(2);
+        ChatMessageWriteBehindWriter writer = createWriter();
+        writer.submit(1L, 2L, "first");
+        writer.submit(1L, 2L, "second");
+
+        // When & Then
+        assertThatThrownBy(() -> writer.submit(1L, 2L, "third"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(writer.getStats().get("rejectedMessages")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("다중 인스턴스에서 노드 번호 없이 지연 저장을 켜면 기동을 거부한다")
+    void idGenerator_ClusteredWithoutNodeId_FailsFast() {
+        // Given
+        chatConfig.getWriteBehind().setClustered(true);
+
+        // When & Then
+        assertThatThrownBy(() -> new ChatMessageIdGenerator(chatConfig))
+                .isInstanceOf(IllegalStateException.class);
+
+        chatConfig.getWriteBehind().setNodeId(7);
+        assertThat(new ChatMessageIdGenerator(chatConfig).getNodeId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("다른 메시지와 기본키가 겹치면 ID를 바꾸지 않고 저장을 멈춘 뒤 새 전송을 거절한다")
+    void flushAll_PrimaryKeyCollision_HaltsWithoutRemapping() {
+        // Given
+        ChatMessageWriteBehindWriter writer = createWriter();
+        PendingChatMessage message = writer.submit(1L, 2L, "hello");
+        given(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .willThrow(new DuplicateKeyException("Duplicate entry for key 'PRIMARY'"));
+        given(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), any(Object[].class))).willReturn(0);
+        List<Long> insertedIds = new ArrayList<>();
+        willAnswer(invocation -> {
+            long id = invocation.getArgument(1);
+            if (id == message.getId()) {
+                throw new DuplicateKeyException("Duplicate entry for key 'PRIMARY'");
+            }
+            insertedIds.add(id);
+            return 1;
+        }).given(jdbcTemplate).update(anyString(), any(Object[].class));
+
+        // When
+        writer.flushAll();
+        writer.flushAll();
+
+        // Then - 다른 ID로 저장하지 않고, 메시지는 버퍼에 남는다
+        assertThat(insertedIds).isEmpty();
+        assertThat(writer.isHalted()).isTrue();
+        assertThat(writer.getStats().get("idCollisions")).isEqualTo(1L);
+        assertThat(writer.getStats().get("persistedMessages")).isEqualTo(0L);
+        assertThat(writer.getStats().get("bufferedMessages")).isEqualTo(1);
+        assertThatThrownBy(() -> writer.submit(1L, 2L, "next"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("기본키 외 무결성 위반으로 저장할 수 없는 메시지는 dead-letter 스트림에 보관한다")
+    void flushAll_IntegrityViolation_MovesToDeadLetter() {
+        // Given
+        ChatMessageWriteBehindWriter writer = createWriter();
+        PendingChatMessage orphan = writer.submit(1L, 99L, "deleted account");
+        writer.submit(1L, 2L, "hello");
+        given(redisTemplate.opsForStream()).willReturn(streamOperations);
+        given(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .willThrow(new DataIntegrityViolationException("foreign key"));
+        willAnswer(invocation -> {
+            long accountId = invocation.getArgument(4);
+            if (accountId == 99L) {
+                throw new DataIntegrityViolationException("foreign key");
+            }
+            return 1;
+        }).given(jdbcTemplate).update(anyString(), any(Object[].class));
+
+        // When
+        writer.flushAll();
+
+        // Then
+        ArgumentCaptor<MapRecord<String, String, String>> captor = ArgumentCaptor.forClass(MapRecord.class);
+        verify(streamOperations).add(captor.capture());
+        assertThat(captor.getValue().getStream()).isEqualTo("chat:message-dead-letter:0");
+        assertThat(captor.getValue().getValue()).containsEntry("id", String.valueOf(orphan.getId()));
+        assertThat(captor.getValue().getValue()).containsKey("error");
+        assertThat(writer.getStats().get("deadLetteredMessages")).isEqualTo(1L);
+        assertThat(writer.getStats().get("persistedMessages")).isEqualTo(1L);
+    }
+
+    private ChatMessageWriteBehindWriter createWriter() {
+        return new ChatMessageWriteBehindWriter(
+                jdbcTemplate, redisTemplate, new ChatMessageIdGenerator(chatConfig), chatConfig);
+    }
+
+    private List<Integer> recordBatchSizes() {
+        List<Integer> sizes = new ArrayList<>();
+        willAnswer(invocation -> {
+            sizes.add(((Collection<?>) invocation.getArgument(1)).size());
+            return new int[0][];
+        }).given(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        return sizes;
+    }
+}
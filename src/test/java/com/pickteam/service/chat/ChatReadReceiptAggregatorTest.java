@@ -0,0 +1,164 @@
+package com.pickteam.service.chat;
+
+import com.pickteam.config.ChatConfig;
+import com.pickteam.service.sse.SseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 읽음 위치 집계기 단위 테스트
+ * - 반복된 읽음 요청이 한 행 갱신으로 합쳐지는지, 실패 시 재시도되는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatReadReceiptAggregatorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ChatRoomMembershipCache membershipCache;
+
+    @Mock
+    private ChatUnreadCountService unreadCountService;
+
+    @Mock
+    private SseService sseService;
+
+    private ChatReadReceiptAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new ChatReadReceiptAggregator(
+                jdbcTemplate, new ChatConfig(), membershipCache, unreadCountService, sseService);
+    }
+
+    @Test
+    @DisplayName("같은 채팅방/사용자의 읽음 요청은 가장 큰 메시지 ID 한 행으로 저장된다")
+    void flush_CoalescesReceiptsPerMember() {
+        // Given
+        List<Long> writtenMessageIds = recordWrittenMessageIds(1);
+        for (long messageId = 1; messageId <= 100; messageId++) {
+            aggregator.record(10L, 1L, messageId);
+        }
+        aggregator.record(10L, 1L, 50L);
+
+        // When
+        int rows = aggregator.flush();
+
+        // Then
+        assertThat(rows).isEqualTo(1);
+        assertThat(writtenMessageIds).containsExactly(100L);
+        assertThat(aggregator.getStats().get("recordedReceipts")).isEqualTo(101L);
+        assertThat(aggregator.getStats().get("writtenRows")).isEqualTo(1L);
+        verify(unreadCountService).messageRead(1L, 10L, 100L);
+        verify(unreadCountService, never()).invalidate(anyLong(), anySet());
+        verifyNoInteractions(sseService);
+    }
+
+    @Test
+    @DisplayName("이미 더 뒤의 읽음 위치가 저장돼 UPDATE가 적용되지 않으면 카운터를 건드리지 않는다")
+    void flush_PositionNotAdvanced_LeavesCounter() {
+        // Given
+        recordWrittenMessageIds(0);
+        aggregator.record(10L, 1L, 5L);
+
+        // When
+        aggregator.flush();
+
+        // Then
+        verifyNoInteractions(unreadCountService);
+    }
+
+    @Test
+    @DisplayName("드라이버가 행별 결과를 주지 않으면 해당 사용자의 카운터를 무효화한다")
+    void flush_NoRowInfo_InvalidatesCounter() {
+        // Given
+        recordWrittenMessageIds(Statement.SUCCESS_NO_INFO);
+        aggregator.record(10L, 1L, 5L);
+
+        // When
+        aggregator.flush();
+
+        // Then
+        verify(unreadCountService).invalidate(10L, Set.of(1L));
+        verify(unreadCountService, never()).messageRead(anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 읽음 위치는 다음 주기에 다시 저장된다")
+    void flush_DatabaseFailure_RetriesNextTime() {
+        // Given
+        aggregator.record(10L, 1L, 5L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .willThrow(new DataAccessResourceFailureException("connection refused"))
+                .willReturn(new int[][]{{1}});
+
+        // When
+        int failed = aggregator.flush();
+        aggregator.record(10L, 1L, 3L);
+        int retried = aggregator.flush();
+
+        // Then
+        assertThat(failed).isZero();
+        assertThat(retried).isEqualTo(1);
+        assertThat(aggregator.getStats()).containsEntry("failedFlushes", 1L).containsEntry("pendingReceipts", 0);
+    }
+
+    @Test
+    @DisplayName("broadcast 설정 시 저장된 읽음 위치를 채팅방 멤버에게 알린다")
+    void flush_BroadcastEnabled_SendsReadPosition() {
+        // Given
+        ChatConfig chatConfig = new ChatConfig();
+        chatConfig.getReadReceipt().setBroadcast(true);
+        aggregator = new ChatReadReceiptAggregator(
+                jdbcTemplate, chatConfig, membershipCache, unreadCountService, sseService);
+        given(membershipCache.getMemberIdSet(10L)).willReturn(Set.of(1L, 2L));
+        aggregator.record(10L, 1L, 7L);
+
+        // When
+        aggregator.flush();
+
+        // Then
+        verify(sseService).sendToUsers(any(), any(), any());
+    }
+
+    private List<Long> recordWrittenMessageIds(int rowCount) {
+        List<Long> messageIds = new ArrayList<>();
+        willAnswer(invocation -> {
+            Collection<?> rows = invocation.getArgument(1);
+            rows.forEach(row -> messageIds.add((Long) ((Map.Entry<?, ?>) row).getValue()));
+            int[] counts = new int[rows.size()];
+            Arrays.fill(counts, rowCount);
+            return new int[][]{counts};
+        }).given(jdbcTemplate).batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        return messageIds;
+    }
+}
@@ -0,0 +1,110 @@
+package com.pickteam.service.chat;
+
+import com.pickteam.config.ChatConfig;
+import com.pickteam.repository.chat.ChatMemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 채팅방 멤버십 캐시 단위 테스트
+ * - 최초 적재 이후에는 멤버 조회에 DB를 사용하지 않는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatRoomMembershipCacheTest {
+
+    @Mock
+    private ChatMemberRepository chatMemberRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private ChatRoomMembershipCache membershipCache;
+
+    @BeforeEach
+    void setUp() {
+        membershipCache = new ChatRoomMembershipCache(
+                chatMemberRepository, redisTemplate, listenerContainer, new ChatConfig());
+    }
+
+    @Test
+    @DisplayName("최초 적재 이후 멤버 조회는 DB를 다시 조회하지 않는다")
+    void getMemberIds_AfterFirstLoad_DoesNotQueryRepository() {
+        // Given
+        given(chatMemberRepository.findActiveAccountIdsByChatRoomId(1L)).willReturn(List.of(3L, 1L, 2L));
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            membershipCache.getMemberIdSet(1L);
+            membershipCache.isMember(1L, 2L);
+        }
+
+        // Then
+        assertThat(membershipCache.getMemberIds(1L)).containsExactly(1L, 2L, 3L);
+        assertThat(membershipCache.isMember(1L, 4L)).isFalse();
+        verify(chatMemberRepository, times(1)).findActiveAccountIdsByChatRoomId(1L);
+    }
+
+    @Test
+    @DisplayName("입장/퇴장은 DB 조회 없이 캐시에 반영된다")
+    void memberJoinedAndLeft_UpdatesCachedMembers() {
+        // Given
+        given(chatMemberRepository.findActiveAccountIdsByChatRoomId(1L)).willReturn(List.of(1L, 2L));
+        membershipCache.getMemberIds(1L);
+
+        // When
+        membershipCache.memberJoined(1L, 5L);
+        membershipCache.memberLeft(1L, 1L);
+
+        // Then
+        assertThat(membershipCache.getMemberIdSet(1L)).containsExactlyInAnyOrder(2L, 5L);
+        verify(chatMemberRepository, times(1)).findActiveAccountIdsByChatRoomId(1L);
+    }
+
+    @Test
+    @DisplayName("채팅방 생성 시 등록한 멤버는 DB 조회 없이 사용된다")
+    void roomCreated_PopulatesCacheWithoutQuery() {
+        // When
+        membershipCache.roomCreated(7L, List.of(10L, 11L));
+
+        // Then
+        assertThat(membershipCache.isMember(7L, 11L)).isTrue();
+        verify(chatMemberRepository, times(0)).findActiveAccountIdsByChatRoomId(7L);
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 다음 조회 시 다시 적재한다")
+    void onMessage_FromOtherNode_EvictsRoom() {
+        // Given
+        given(chatMemberRepository.findActiveAccountIdsByChatRoomId(1L))
+                .willReturn(List.of(1L))
+                .willReturn(List.of(1L, 9L));
+        membershipCache.getMemberIds(1L);
+
+        // When
+        membershipCache.onMessage(new DefaultMessage(
+                "chat:membership:invalidate".getBytes(StandardCharsets.UTF_8),
+                "other-node:1".getBytes(StandardCharsets.UTF_8)), null);
+
+        // Then
+        assertThat(membershipCache.isMember(1L, 9L)).isTrue();
+        verify(chatMemberRepository, times(2)).findActiveAccountIdsByChatRoomId(1L);
+    }
+}
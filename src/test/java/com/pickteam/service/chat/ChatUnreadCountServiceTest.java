@@ -0,0 +1,120 @@
+package com.pickteam.service.chat;
+
+import com.pickteam.dto.chat.ChatRoomUnreadCount;
+import com.pickteam.repository.chat.ChatMemberRepository;
+import com.pickteam.repository.chat.ChatMessageRepository;
+import com.pickteam.repository.chat.ChatUnreadCountRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 채팅방 안 읽은 메시지 수 서비스 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatUnreadCountServiceTest {
+
+    @InjectMocks
+    private ChatUnreadCountService unreadCountService;
+
+    @Mock
+    private ChatUnreadCountRepository unreadCountRepository;
+
+    @Mock
+    private ChatMemberRepository chatMemberRepository;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Test
+    @DisplayName("카운터가 모두 있으면 DB를 조회하지 않는다")
+    void getUnreadCounts_AllCached_DoesNotQueryDatabase() {
+        // Given
+        given(unreadCountRepository.findCounts(1L, List.of(10L, 20L))).willReturn(Map.of(10L, 3L, 20L, 0L));
+
+        // When
+        Map<Long, Long> result = unreadCountService.getUnreadCounts(1L, List.of(10L, 20L));
+
+        // Then
+        assertThat(result).containsEntry(10L, 3L).containsEntry(20L, 0L);
+        verify(chatMemberRepository, never()).countUnreadMessages(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("카운터가 없는 채팅방만 한 번의 집계 쿼리로 계산해 저장한다")
+    void getUnreadCounts_MissingRooms_LoadsOnceAndCaches() {
+        // Given
+        given(unreadCountRepository.findCounts(1L, List.of(10L, 20L, 30L))).willReturn(Map.of(10L, 3L));
+        given(chatMemberRepository.countUnreadMessages(1L, List.of(20L, 30L)))
+                .willReturn(List.of(new ChatRoomUnreadCount(20L, 5L)));
+
+        // When
+        Map<Long, Long> result = unreadCountService.getUnreadCounts(1L, List.of(10L, 20L, 30L));
+
+        // Then
+        assertThat(result).containsEntry(10L, 3L).containsEntry(20L, 5L).containsEntry(30L, 0L);
+        verify(unreadCountRepository).saveCounts(1L, Map.of(20L, 5L, 30L, 0L));
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 DB 집계 결과를 반환한다")
+    void getUnreadCounts_RedisFailure_FallsBackToDatabase() {
+        // Given
+        given(unreadCountRepository.findCounts(anyLong(), anyList()))
+                .willThrow(new RedisConnectionFailureException("down"));
+        given(chatMemberRepository.countUnreadMessages(1L, List.of(10L)))
+                .willReturn(List.of(new ChatRoomUnreadCount(10L, 2L)));
+
+        // When
+        Map<Long, Long> result = unreadCountService.getUnreadCounts(1L, List.of(10L));
+
+        // Then
+        assertThat(result).containsEntry(10L, 2L);
+    }
+
+    @Test
+    @DisplayName("메시지 전송 시 보낸 사람을 제외한 멤버의 카운터만 증가한다")
+    void messageSent_ExcludesSender() {
+        // When
+        unreadCountService.messageSent(10L, 1L, Set.of(1L, 2L));
+
+        // Then
+        verify(unreadCountRepository).increment(10L, List.of(2L));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 전송하면 커밋된 뒤에만 카운터를 증가시킨다")
+    void messageSent_InTransaction_IncrementsAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            unreadCountService.messageSent(10L, 1L, Set.of(1L, 2L));
+
+            // Then - 커밋 전(또는 롤백 시)에는 증가하지 않는다
+            verify(unreadCountRepository, never()).increment(any(), any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(unreadCountRepository).increment(10L, List.of(2L));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
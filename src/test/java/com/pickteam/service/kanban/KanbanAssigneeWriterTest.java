@@ -0,0 +1,140 @@
+package com.pickteam.service.kanban;
+
+import com.pickteam.config.TestQueryDslConfig;
+import com.pickteam.domain.kanban.Kanban;
+import com.pickteam.domain.kanban.KanbanList;
+import com.pickteam.domain.kanban.KanbanTask;
+import com.pickteam.domain.kanban.KanbanTaskMember;
+import com.pickteam.domain.user.Account;
+import com.pickteam.repository.kanban.KanbanTaskMemberRepository;
+import com.pickteam.repository.kanban.KanbanTestFixture;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 칸반 담당자 교체 테스트
+ * - 담당자 수와 무관하게 조회/계정 확인/삭제 표시가 쿼리 1회씩으로 끝나는지 검증 (추가는 JDBC 배치 insert)
+ * - 계속 담당인 계정의 행은 유지되는지 검증
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TestQueryDslConfig.class, KanbanAssigneeWriter.class})
+@ActiveProfiles("test")
+class KanbanAssigneeWriterTest {
+
+    // 현재 담당자 조회 1 + 새 계정 확인 1 + 삭제 표시 1
+    private static final long REPLACE_STATEMENTS = 3;
+
+    @Autowired
+    private KanbanAssigneeWriter assigneeWriter;
+
+    @Autowired
+    private KanbanTaskMemberRepository kanbanTaskMemberRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private KanbanTestFixture fixture;
+    private Statistics statistics;
+    private KanbanTask task;
+    private List<Account> accounts;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new KanbanTestFixture(entityManager.getEntityManager());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        accounts = fixture.accounts(20);
+        Kanban kanban = fixture.kanban(accounts.get(0));
+        KanbanList list = fixture.seedLists(kanban, 1).get(0);
+        task = fixture.seedTasks(list, 1).get(0);
+    }
+
+    @Test
+    @DisplayName("담당자 10명을 모두 바꿔도 쿼리 3회로 끝난다")
+    void replace_TenAssignees_ConstantStatements() {
+        // given
+        for (Account account : accounts.subList(0, 10)) {
+            fixture.persist(KanbanTaskMember.builder().kanbanTask(task).account(account).build());
+        }
+        fixture.flushAndClear();
+
+        // when
+        statistics.clear();
+        assigneeWriter.replace(Map.of(task.getId(), ids(accounts.subList(10, 20))));
+        long statements = statistics.getPrepareStatementCount();
+        fixture.flushAndClear();
+
+        // then
+        assertThat(statements).isEqualTo(REPLACE_STATEMENTS);
+        assertThat(kanbanTaskMemberRepository.findByKanbanTaskId(task.getId()))
+                .extracting(member -> member.getAccount().getId())
+                .containsExactlyInAnyOrderElementsOf(ids(accounts.subList(10, 20)));
+    }
+
+    @Test
+    @DisplayName("계속 담당인 계정의 행은 유지하고 바뀐 담당자만 삭제/추가한다")
+    void replace_PartialChange_KeepsUnchangedRows() {
+        // given
+        KanbanTaskMember kept = fixture.persist(KanbanTaskMember.builder().kanbanTask(task).account(accounts.get(1)).build());
+        KanbanTaskMember removed = fixture.persist(KanbanTaskMember.builder().kanbanTask(task).account(accounts.get(2)).build());
+        fixture.flushAndClear();
+
+        // when
+        Map<Long, List<Long>> result = assigneeWriter.replace(Map.of(task.getId(),
+                List.of(accounts.get(1).getId(), accounts.get(3).getId(), accounts.get(3).getId())));
+        fixture.flushAndClear();
+
+        // then
+        assertThat(result.get(task.getId())).containsExactly(accounts.get(1).getId(), accounts.get(3).getId());
+        List<KanbanTaskMember> members = kanbanTaskMemberRepository.findByKanbanTaskId(task.getId());
+        assertThat(members).extracting(member -> member.getAccount().getId())
+                .containsExactlyInAnyOrder(accounts.get(1).getId(), accounts.get(3).getId());
+        assertThat(members).extracting(KanbanTaskMember::getId).contains(kept.getId()).doesNotContain(removed.getId());
+        assertThat(entityManager.find(KanbanTaskMember.class, removed.getId()).getIsDeleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("담당자가 그대로면 조회 1회 외에는 쓰지 않는다")
+    void replace_Unchanged_NoWrites() {
+        // given
+        fixture.persist(KanbanTaskMember.builder().kanbanTask(task).account(accounts.get(1)).build());
+        fixture.flushAndClear();
+
+        // when
+        statistics.clear();
+        assigneeWriter.replace(Map.of(task.getId(), List.of(accounts.get(1).getId())));
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 계정이 있으면 거부한다")
+    void replace_UnknownAccount_Rejected() {
+        assertThatThrownBy(() -> assigneeWriter.replace(Map.of(task.getId(), List.of(accounts.get(1).getId(), -1L))))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Account not found");
+    }
+
+    private List<Long> ids(List<Account> accounts) {
+        return accounts.stream().map(Account::getId).toList();
+    }
+}
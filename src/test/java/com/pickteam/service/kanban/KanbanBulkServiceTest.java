@@ -0,0 +1,246 @@
+package com.pickteam.service.kanban;
+
+import com.pickteam.config.KanbanConfig;
+import com.pickteam.config.TestQueryDslConfig;
+import com.pickteam.domain.kanban.Kanban;
+import com.pickteam.domain.kanban.KanbanList;
+import com.pickteam.domain.kanban.KanbanTask;
+import com.pickteam.domain.kanban.KanbanTaskMember;
+import com.pickteam.domain.user.Account;
+import com.pickteam.dto.kanban.KanbanBulkRequest;
+import com.pickteam.dto.kanban.KanbanBulkResultDto;
+import com.pickteam.repository.kanban.KanbanListRepository;
+import com.pickteam.repository.kanban.KanbanTaskMemberRepository;
+import com.pickteam.repository.kanban.KanbanTaskRepository;
+import com.pickteam.repository.kanban.KanbanTestFixture;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 칸반 일괄 변경 테스트
+ * - 작업 수와 무관하게 묶음 조회 + 배치 UPDATE로 끝나는지 검증
+ * - 같은 요청에서 비운 자리로 다른 카드를 옮겨도 정렬 키 유니크 제약에 걸리지 않는지 검증
+ * - 한 리스트에 작업이 몰려 키가 길어져도 요청 안에서 재배치되는지 검증
+ * - 담당자는 바뀐 만큼만 삭제/추가되는지 검증
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TestQueryDslConfig.class, KanbanConfig.class, KanbanBulkService.class, KanbanRankRebalancer.class, KanbanAssigneeWriter.class})
+@ActiveProfiles("test")
+class KanbanBulkServiceTest {
+
+    @Autowired
+    private KanbanBulkService kanbanBulkService;
+
+    @Autowired
+    private KanbanConfig kanbanConfig;
+
+    @Autowired
+    private KanbanTaskRepository kanbanTaskRepository;
+
+    @Autowired
+    private KanbanListRepository kanbanListRepository;
+
+    @Autowired
+    private KanbanTaskMemberRepository kanbanTaskMemberRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private KanbanTestFixture fixture;
+    private Statistics statistics;
+    private Kanban kanban;
+    private List<Account> accounts;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new KanbanTestFixture(entityManager.getEntityManager());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        accounts = fixture.accounts(4);
+        kanban = fixture.kanban(accounts.get(0));
+    }
+
+    @Test
+    @DisplayName("작업 수가 늘어도 실행되는 쿼리 수는 같다")
+    void apply_MoreOperations_SameStatements() {
+        // given
+        List<KanbanList> lists = fixture.seedLists(kanban, 3);
+        List<List<KanbanTask>> tasks = new ArrayList<>();
+        for (KanbanList list : lists) {
+            tasks.add(fixture.seedTasks(list, 20));
+        }
+        fixture.flushAndClear();
+
+        List<KanbanBulkRequest.Operation> few = operations(lists, tasks, 0, 2);
+        List<KanbanBulkRequest.Operation> many = operations(lists, tasks, 2, 10);
+
+        // when
+        long small = measure(few);
+        long large = measure(many);
+
+        // then
+        assertThat(large).isEqualTo(small);
+
+        List<KanbanTask> done = kanbanTaskRepository.findByKanbanListIdOrderByRank(lists.get(1).getId());
+        assertThat(done).hasSize(20 + 12);
+        assertThat(done).extracting(KanbanTask::getRank).doesNotHaveDuplicates().isSorted();
+        assertThat(kanbanListRepository.findByKanbanIdOrderByRank(kanban.getId()))
+                .extracting(KanbanList::getId)
+                .containsExactly(lists.get(0).getId(), lists.get(2).getId(), lists.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("같은 요청에서 비운 자리로 다른 카드를 옮겨도 키가 겹치지 않는다")
+    void apply_MoveIntoVacatedGap_NoRankCollision() {
+        // given - 옮겨 올 카드를 먼저 만들어 ID 순 UPDATE에서 먼저 실행되게 한다
+        List<KanbanList> lists = fixture.seedLists(kanban, 2);
+        KanbanTask incoming = fixture.seedTasks(lists.get(1), 1).get(0);
+        List<KanbanTask> column = fixture.seedTasks(lists.get(0), 3);
+        String vacated = column.get(1).getRank();
+        fixture.flushAndClear();
+
+        // when
+        KanbanBulkResultDto result = kanbanBulkService.apply(kanban.getId(), request(
+                moveTask(column.get(1), lists.get(1), null),
+                moveTask(incoming, lists.get(0), column.get(0))));
+        fixture.flushAndClear();
+
+        // then
+        assertThat(kanbanTaskRepository.findByKanbanListIdOrderByRank(lists.get(0).getId()))
+                .extracting(KanbanTask::getId)
+                .containsExactly(column.get(0).getId(), incoming.getId(), column.get(2).getId());
+        assertThat(result.getTasks()).extracting(KanbanBulkResultDto.TaskChange::getRank).doesNotContain(vacated);
+    }
+
+    @Test
+    @DisplayName("한 리스트 맨 뒤에 최대 작업 수만큼 붙여도 키가 max-length를 넘지 않고 순서를 유지한다")
+    void apply_MaxAppendsToOneColumn_RebalancesInMemory() {
+        // given
+        int count = kanbanConfig.getBulk().getMaxOperations();
+        List<KanbanList> lists = fixture.seedLists(kanban, 2);
+        KanbanTask first = fixture.seedTasks(lists.get(0), 1).get(0);
+        List<KanbanTask> moving = fixture.seedTasks(lists.get(1), count);
+        fixture.flushAndClear();
+
+        List<KanbanBulkRequest.Operation> operations = new ArrayList<>();
+        for (KanbanTask task : moving) {
+            operations.add(moveTask(task, lists.get(0), null));
+        }
+
+        // when
+        KanbanBulkResultDto result = kanbanBulkService.apply(kanban.getId(),
+                request(operations.toArray(KanbanBulkRequest.Operation[]::new)));
+        fixture.flushAndClear();
+
+        // then
+        List<Long> expected = new ArrayList<>();
+        expected.add(first.getId());
+        moving.forEach(task -> expected.add(task.getId()));
+        List<KanbanTask> column = kanbanTaskRepository.findByKanbanListIdOrderByRank(lists.get(0).getId());
+        assertThat(column).extracting(KanbanTask::getId).containsExactlyElementsOf(expected);
+        assertThat(column).allMatch(task -> task.getRank().length() <= kanbanConfig.getRank().getMaxLength());
+        assertThat(result.getTasks()).extracting(KanbanBulkResultDto.TaskChange::getRank)
+                .containsExactlyInAnyOrderElementsOf(column.stream().map(KanbanTask::getRank).toList());
+    }
+
+    @Test
+    @DisplayName("담당자는 빠진 사람만 삭제하고 새로 추가된 사람만 넣는다")
+    void apply_SetAssignees_AppliesDiff() {
+        // given
+        KanbanTask task = fixture.seedTasks(fixture.seedLists(kanban, 1).get(0), 1).get(0);
+        KanbanTaskMember kept = fixture.persist(KanbanTaskMember.builder().kanbanTask(task).account(accounts.get(1)).build());
+        KanbanTaskMember removed = fixture.persist(KanbanTaskMember.builder().kanbanTask(task).account(accounts.get(2)).build());
+        fixture.flushAndClear();
+
+        // when
+        KanbanBulkResultDto result = kanbanBulkService.apply(kanban.getId(), request(KanbanBulkRequest.Operation.builder()
+                .type(KanbanBulkRequest.OperationType.SET_ASSIGNEES)
+                .taskId(task.getId())
+                .assigneeIds(List.of(accounts.get(1).getId(), accounts.get(3).getId()))
+                .build()));
+        fixture.flushAndClear();
+
+        // then
+        List<KanbanTaskMember> members = kanbanTaskMemberRepository.findByKanbanTaskId(task.getId());
+        assertThat(members).extracting(member -> member.getAccount().getId())
+                .containsExactlyInAnyOrder(accounts.get(1).getId(), accounts.get(3).getId());
+        assertThat(members).extracting(KanbanTaskMember::getId).contains(kept.getId()).doesNotContain(removed.getId());
+        assertThat(result.getTasks().get(0).getAssigneeIds()).containsExactly(accounts.get(1).getId(), accounts.get(3).getId());
+        assertThat(result.getTasks().get(0).getRank()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 보드의 카드가 포함되면 거부한다")
+    void apply_TaskOfOtherBoard_Rejected() {
+        // given
+        KanbanList list = fixture.seedLists(kanban, 1).get(0);
+        Kanban other = fixture.persist(Kanban.builder().name("다른 칸반").team(kanban.getTeam()).workspace(kanban.getWorkspace()).build());
+        KanbanTask foreign = fixture.seedTasks(fixture.seedLists(other, 1).get(0), 1).get(0);
+        fixture.flushAndClear();
+
+        // when & then
+        assertThatThrownBy(() -> kanbanBulkService.apply(kanban.getId(), request(moveTask(foreign, list, null))))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("KanbanTask not found");
+    }
+
+    // 리스트0의 카드 count개를 리스트1 맨 앞 카드 뒤로 옮기고, 리스트2의 카드 count개의 담당자를 바꾸고, 리스트1을 맨 뒤로 옮긴다
+    private List<KanbanBulkRequest.Operation> operations(List<KanbanList> lists, List<List<KanbanTask>> tasks, int from, int count) {
+        List<KanbanBulkRequest.Operation> operations = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            operations.add(moveTask(tasks.get(0).get(i), lists.get(1), tasks.get(1).get(0)));
+        }
+        for (int i = from; i < from + count; i++) {
+            operations.add(KanbanBulkRequest.Operation.builder()
+                    .type(KanbanBulkRequest.OperationType.SET_ASSIGNEES)
+                    .taskId(tasks.get(2).get(i).getId())
+                    .assigneeIds(List.of(accounts.get(i % accounts.size()).getId()))
+                    .build());
+        }
+        operations.add(KanbanBulkRequest.Operation.builder()
+                .type(KanbanBulkRequest.OperationType.MOVE_LIST)
+                .listId(lists.get(1).getId())
+                .build());
+        return operations;
+    }
+
+    private long measure(List<KanbanBulkRequest.Operation> operations) {
+        statistics.clear();
+        kanbanBulkService.apply(kanban.getId(), request(operations.toArray(KanbanBulkRequest.Operation[]::new)));
+        entityManager.flush();
+        long statements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        return statements;
+    }
+
+    private KanbanBulkRequest.Operation moveTask(KanbanTask task, KanbanList target, KanbanTask prev) {
+        return KanbanBulkRequest.Operation.builder()
+                .type(KanbanBulkRequest.OperationType.MOVE_TASK)
+                .taskId(task.getId())
+                .kanbanListId(target.getId())
+                .prevId(prev != null ? prev.getId() : null)
+                .build();
+    }
+
+    private KanbanBulkRequest request(KanbanBulkRequest.Operation... operations) {
+        return KanbanBulkRequest.builder().operations(List.of(operations)).build();
+    }
+}
@@ -0,0 +1,245 @@
+package com.pickteam.service.kanban;
+
+import com.pickteam.config.KanbanConfig;
+import com.pickteam.config.TestQueryDslConfig;
+import com.pickteam.domain.kanban.Kanban;
+import com.pickteam.domain.kanban.KanbanList;
+import com.pickteam.domain.kanban.KanbanTask;
+import com.pickteam.dto.kanban.KanbanTaskMoveRequest;
+import com.pickteam.repository.kanban.KanbanListRepository;
+import com.pickteam.repository.kanban.KanbanRepository;
+import com.pickteam.repository.kanban.KanbanTaskRepository;
+import com.pickteam.repository.kanban.KanbanTestFixture;
+import com.pickteam.repository.team.TeamRepository;
+import com.pickteam.repository.user.AccountRepository;
+import com.pickteam.repository.workspace.WorkspaceRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 칸반 정렬 키 동시 이동 테스트
+ * - 같은 리스트의 같은 자리로 동시에 옮겨도 키가 겹치지 않고 모두 그 자리에 들어가는지 검증
+ * - 키가 길어지면 이동 요청 안에서 재배치되고, 정렬 키가 없는 기존 카드의 키 채우기와 함께 순서를 유지하는지 검증
+ * - 범위를 벗어난 기존 순번 요청은 맨 뒤로 처리되는지 검증
+ */
+@DataJpaTest
+@Import({TestQueryDslConfig.class, KanbanConfig.class, KanbanRankService.class, KanbanRankRebalancer.class})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class KanbanRankConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private KanbanRankService kanbanRankService;
+
+    @Autowired
+    private KanbanConfig kanbanConfig;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private KanbanRepository kanbanRepository;
+
+    @Autowired
+    private KanbanListRepository kanbanListRepository;
+
+    @Autowired
+    private KanbanTaskRepository kanbanTaskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private KanbanTestFixture fixture;
+    private Kanban kanban;
+    private KanbanList source;
+    private KanbanList target;
+
+    @BeforeEach
+    void setUp() {
+        // 동시 이동은 각자 트랜잭션에서 실행되므로 준비 데이터도 커밋해 둔다
+        fixture = new KanbanTestFixture(entityManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            kanban = fixture.kanban(fixture.account("owner"));
+            List<KanbanList> lists = fixture.seedLists(kanban, 2);
+            source = lists.get(0);
+            target = lists.get(1);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        kanbanTaskRepository.deleteAllInBatch();
+        kanbanListRepository.deleteAllInBatch();
+        kanbanRepository.deleteAllInBatch();
+        teamRepository.deleteAllInBatch();
+        workspaceRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("같은 자리로 동시에 옮긴 카드는 모두 앞/뒤 카드 사이에 서로 다른 키로 들어간다")
+    void moveTask_SameGapConcurrently_DistinctRanksBetweenNeighbours() throws Exception {
+        // given
+        List<KanbanTask> targetTasks = seedTasks(target, 2);
+        KanbanTask prev = targetTasks.get(0);
+        KanbanTask next = targetTasks.get(1);
+        List<KanbanTask> moving = seedTasks(source, THREADS);
+
+        // when
+        runConcurrently(moving.size(), i -> kanbanRankService.moveTask(moving.get(i).getId(),
+                KanbanTaskMoveRequest.builder().kanbanListId(target.getId()).prevTaskId(prev.getId()).build()));
+
+        // then
+        List<KanbanTask> result = kanbanTaskRepository.findByKanbanListIdOrderByRank(target.getId());
+        assertThat(result).hasSize(THREADS + 2);
+        assertThat(result.get(0).getId()).isEqualTo(prev.getId());
+        assertThat(result.get(result.size() - 1).getId()).isEqualTo(next.getId());
+        assertThat(result).extracting(KanbanTask::getRank).doesNotContainNull().doesNotHaveDuplicates().isSorted();
+        assertThat(kanbanTaskRepository.findByKanbanListIdOrderByRank(source.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 리스트 안에서 동시에 카드를 옮겨도 카드가 사라지거나 키가 겹치지 않는다")
+    void moveTask_RandomMovesConcurrently_KeepsAllTasks() throws Exception {
+        // given
+        List<KanbanTask> tasks = seedTasks(target, 10);
+        List<Long> taskIds = tasks.stream().map(KanbanTask::getId).toList();
+
+        // when
+        runConcurrently(THREADS, i -> {
+            Random random = new Random(i);
+            for (int n = 0; n < 20; n++) {
+                Long taskId = taskIds.get(random.nextInt(taskIds.size()));
+                Long prevId = taskIds.get(random.nextInt(taskIds.size()));
+                KanbanTaskMoveRequest.KanbanTaskMoveRequestBuilder request = KanbanTaskMoveRequest.builder().kanbanListId(target.getId());
+                kanbanRankService.moveTask(taskId, prevId.equals(taskId) ? request.build() : request.prevTaskId(prevId).build());
+            }
+        });
+
+        // then
+        List<KanbanTask> result = kanbanTaskRepository.findByKanbanListIdOrderByRank(target.getId());
+        assertThat(result).extracting(KanbanTask::getId).containsExactlyInAnyOrderElementsOf(taskIds);
+        assertThat(result).extracting(KanbanTask::getRank).doesNotContainNull().doesNotHaveDuplicates().isSorted();
+    }
+
+    @Test
+    @DisplayName("같은 자리에 계속 끼워 넣어도 키가 max-length를 넘기 전에 그 요청에서 재배치되어 순서를 유지한다")
+    void moveTask_SameGapRepeatedly_RebalancesInline() {
+        // given
+        List<KanbanTask> tasks = seedTasks(target, 2);
+        List<KanbanTask> moving = seedTasks(source, 100);
+
+        // when - 매번 첫 카드 바로 뒤로 옮긴다
+        for (KanbanTask task : moving) {
+            kanbanRankService.moveTask(task.getId(),
+                    KanbanTaskMoveRequest.builder().kanbanListId(target.getId()).prevTaskId(tasks.get(0).getId()).build());
+        }
+
+        // then - 첫 카드, 나중에 옮긴 카드부터, 마지막 카드 순서
+        List<Long> expected = new ArrayList<>();
+        expected.add(tasks.get(0).getId());
+        for (int i = moving.size() - 1; i >= 0; i--) {
+            expected.add(moving.get(i).getId());
+        }
+        expected.add(tasks.get(1).getId());
+        List<KanbanTask> result = kanbanTaskRepository.findByKanbanListIdOrderByRank(target.getId());
+        assertThat(result).extracting(KanbanTask::getId).containsExactlyElementsOf(expected);
+        assertThat(result).allMatch(task -> task.getRank().length() <= kanbanConfig.getRank().getMaxLength());
+    }
+
+    @Test
+    @DisplayName("정렬 키가 없는 기존 리스트는 기존 순번 순서대로 키를 채운 뒤 옮긴다")
+    void moveTask_UnrankedList_FillsRanksInOrder() {
+        // given
+        KanbanTask second = kanbanTaskRepository.save(KanbanTask.builder().subject("second").kanbanList(target).order(1).build());
+        KanbanTask first = kanbanTaskRepository.save(KanbanTask.builder().subject("first").kanbanList(target).order(0).build());
+        KanbanTask third = kanbanTaskRepository.save(KanbanTask.builder().subject("third").kanbanList(target).order(2).build());
+
+        // when
+        kanbanRankService.moveTask(third.getId(),
+                KanbanTaskMoveRequest.builder().kanbanListId(target.getId()).prevTaskId(first.getId()).build());
+
+        // then
+        assertThat(kanbanTaskRepository.findByKanbanListIdOrderByRank(target.getId()))
+                .extracting(KanbanTask::getId)
+                .containsExactly(first.getId(), third.getId(), second.getId());
+    }
+
+    @Test
+    @DisplayName("기존 순번 요청이 리스트 크기를 넘으면 맨 뒤 자리의 키를 돌려준다")
+    void rankAt_OrderBeyondSize_Appends() {
+        // given
+        List<KanbanTask> tasks = seedTasks(target, 3);
+
+        // when
+        String taskRank = kanbanRankService.taskRankAt(target.getId(), null, Integer.MAX_VALUE);
+        String listRank = kanbanRankService.listRankAt(kanban.getId(), null, Integer.MAX_VALUE);
+
+        // then
+        assertThat(taskRank).isGreaterThan(tasks.get(2).getRank());
+        assertThat(listRank).isGreaterThan(target.getRank());
+    }
+
+    private List<KanbanTask> seedTasks(KanbanList list, int count) {
+        return transactionTemplate.execute(status -> fixture.seedTasks(list, count));
+    }
+
+    private void runConcurrently(int tasks, Worker worker) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < tasks; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    worker.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Worker {
+        void run(int index);
+    }
+}
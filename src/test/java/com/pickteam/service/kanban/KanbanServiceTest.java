@@ -434,7 +434,7 @@
 //                .order(1)
 //                .build();
 //
-//        given(kanbanTaskRepository.findByKanbanListIdOrderByOrder(listId)).willReturn(kanbanTasks);
+//        given(kanbanTaskRepository.findByKanbanListIdOrderByRank(listId)).willReturn(kanbanTasks);
 //        given(helper.convertToDto(kanbanTask1)).willReturn(taskDto1);
 //        given(helper.convertToDto(kanbanTask2)).willReturn(taskDto2);
 //
@@ -448,7 +448,7 @@
 //        assertThat(result.get(1).getId()).isEqualTo(2L);
 //        assertThat(result.get(1).getSubject()).isEqualTo("태스크 2");
 //
-//        verify(kanbanTaskRepository).findByKanbanListIdOrderByOrder(listId);
+//        verify(kanbanTaskRepository).findByKanbanListIdOrderByRank(listId);
 //        verify(helper).convertToDto(kanbanTask1);
 //        verify(helper).convertToDto(kanbanTask2);
 //    }
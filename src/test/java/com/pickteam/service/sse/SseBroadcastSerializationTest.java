@@ -0,0 +1,145 @@
+package com.pickteam.service.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pickteam.config.SseConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * SSE 브로드캐스트 1회 직렬화 테스트
+ * - 수신자 수와 무관하게 데이터가 한 번만 직렬화되고 같은 버퍼가 공유되는지 검증
+ */
+class SseBroadcastSerializationTest {
+
+    private static final int ROOM_SIZE = 300;
+
+    @Test
+    @DisplayName("300명 채팅방 브로드캐스트에서 데이터는 한 번만 직렬화되고 같은 버퍼가 전송된다")
+    void sendToUsers_LargeRoom_SerializesOnce() throws Exception {
+        // given
+        ObjectMapper objectMapper = spy(new ObjectMapper());
+        SseConfig config = new SseConfig();
+        SseService service = createService(config, objectMapper);
+        List<CapturingEmitter> emitters = new ArrayList<>();
+        Set<Long> members = new HashSet<>();
+        for (long accountId = 1; accountId <= ROOM_SIZE; accountId++) {
+            CapturingEmitter emitter = new CapturingEmitter();
+            service.register(accountId, emitter);
+            emitters.add(emitter);
+            members.add(accountId);
+        }
+
+        // when
+        service.sendToUsers(members, "NEW_CHAT_MESSAGE", sampleNotification());
+
+        // then
+        verify(objectMapper, times(1)).writeValueAsBytes(any());
+        Map<Object, Boolean> distinctBuffers = new IdentityHashMap<>();
+        for (CapturingEmitter emitter : emitters) {
+            assertThat(emitter.payloads).hasSize(1);
+            distinctBuffers.put(emitter.payloads.get(0), true);
+        }
+        assertThat(distinctBuffers).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("클러스터 발행 시에도 이벤트 데이터를 다시 직렬화하지 않는다")
+    void sendToUsers_ClusterEnabled_ReusesSerializedPayload() throws Exception {
+        // given
+        ObjectMapper objectMapper = spy(new ObjectMapper());
+        SseConfig config = new SseConfig();
+        config.getCluster().setEnabled(true);
+        SseService service = createService(config, objectMapper);
+        service.register(1L, new CapturingEmitter());
+
+        // when
+        service.sendToUsers(Set.of(1L, 2L), "NEW_CHAT_MESSAGE", sampleNotification());
+
+        // then - 데이터 1회(bytes) + 클러스터 메시지 봉투 1회(string)
+        verify(objectMapper, times(1)).writeValueAsBytes(any());
+        verify(objectMapper, times(1)).writeValueAsString(any());
+    }
+
+    @Test
+    @DisplayName("브로드캐스트당 할당량: 1회 직렬화가 수신자별 직렬화보다 적다")
+    void serializeOnce_AllocatesLessThanPerRecipient() throws Exception {
+        // given
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeThat(bean).isInstanceOf(com.sun.management.ThreadMXBean.class);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        assumeThat(threadBean.isThreadAllocatedMemorySupported()).isTrue();
+        ObjectMapper objectMapper = new ObjectMapper();
+        Map<String, Object> notification = sampleNotification();
+        objectMapper.writeValueAsBytes(notification); // 워밍업
+        long threadId = Thread.currentThread().getId();
+
+        // when - 기존 방식: 수신자마다 직렬화
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ROOM_SIZE; i++) {
+            objectMapper.writeValueAsBytes(notification);
+        }
+        long perRecipient = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        // when - 변경 방식: 한 번 직렬화 후 버퍼 공유
+        before = threadBean.getThreadAllocatedBytes(threadId);
+        byte[] shared = objectMapper.writeValueAsBytes(notification);
+        List<byte[]> recipients = new ArrayList<>(ROOM_SIZE);
+        for (int i = 0; i < ROOM_SIZE; i++) {
+            recipients.add(shared);
+        }
+        long serializeOnce = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        // then
+        assertThat(recipients).hasSize(ROOM_SIZE);
+        assertThat(serializeOnce).isLessThan(perRecipient / 10);
+    }
+
+    private Map<String, Object> sampleNotification() {
+        return Map.of(
+                "chatRoomId", 10L,
+                "messageId", 12345L,
+                "senderName", "홍길동",
+                "content", "회의는 오후 3시에 시작합니다. 자료 미리 확인 부탁드려요.",
+                "createdAt", "2025-07-01T15:00:00");
+    }
+
+    private SseService createService(SseConfig config, ObjectMapper objectMapper) {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        return new SseService(new SseClusterPublisher(redisTemplate, objectMapper, config),
+                new SseDispatcher(config, Runnable::run), config,
+                new SseEventIdGenerator(redisTemplate, config), new SseReplayBuffer(config), objectMapper);
+    }
+
+    /**
+     * 전송된 데이터 객체를 그대로 보관하는 테스트용 emitter
+     */
+    static class CapturingEmitter extends SseEmitter {
+        final List<Object> payloads = new ArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(data -> data instanceof byte[])
+                    .forEach(payloads::add);
+        }
+    }
+}
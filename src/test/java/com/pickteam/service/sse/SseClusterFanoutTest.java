@@ -0,0 +1,146 @@
+package com.pickteam.service.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pickteam.config.SseConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * SSE 클러스터 팬아웃 테스트
+ * Redis Pub/Sub 대신 프로세스 내 메시지 버스로 두 노드를 연결해 검증
+ */
+class SseClusterFanoutTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 프로세스 내 Redis 채널 대역: 발행된 메시지를 모든 노드의 구독자에게 전달
+    private final List<SseClusterSubscriber> bus = new CopyOnWriteArrayList<>();
+
+    @Test
+    @DisplayName("다른 노드에 연결된 사용자에게도 이벤트가 전달된다")
+    void sendToUsers_RemoteNodeSession_ReceivesEvent() {
+        // given
+        SseService nodeA = createNode(true);
+        SseService nodeB = createNode(true);
+        RecordingEmitter localEmitter = new RecordingEmitter();
+        RecordingEmitter remoteEmitter = new RecordingEmitter();
+        nodeA.register(1L, localEmitter);
+        nodeB.register(2L, remoteEmitter);
+
+        // when
+        nodeA.sendToUsers(Set.of(1L, 2L), "NEW_CHAT_MESSAGE", Map.of("content", "안녕하세요"));
+
+        // then
+        assertThat(localEmitter.frames).hasSize(1);
+        assertThat(remoteEmitter.frames).hasSize(1);
+        assertThat(remoteEmitter.frames.get(0))
+                .contains("event:NEW_CHAT_MESSAGE")
+                .contains("\"content\":\"안녕하세요\"");
+    }
+
+    @Test
+    @DisplayName("발행 노드는 자기 메시지를 다시 전달하지 않는다")
+    void sendToUser_OriginNode_DeliversOnlyOnce() {
+        // given
+        SseService nodeA = createNode(true);
+        createNode(true);
+        RecordingEmitter emitter = new RecordingEmitter();
+        nodeA.register(1L, emitter);
+
+        // when
+        nodeA.sendToUser(1L, "CHAT_MESSAGE_DELETED", Map.of("messageId", 10));
+
+        // then
+        assertThat(emitter.frames).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("전체 브로드캐스트는 모든 노드의 연결된 사용자에게 전달된다")
+    void broadcastToAll_ReachesEveryNode() {
+        // given
+        SseService nodeA = createNode(true);
+        SseService nodeB = createNode(true);
+        RecordingEmitter remoteEmitter = new RecordingEmitter();
+        nodeB.register(5L, remoteEmitter);
+
+        // when
+        nodeA.broadcastToAll("SYSTEM_ANNOUNCEMENT", Map.of("message", "점검 안내"));
+
+        // then
+        assertThat(remoteEmitter.frames).hasSize(1);
+        assertThat(remoteEmitter.frames.get(0)).contains("점검 안내");
+    }
+
+    @Test
+    @DisplayName("클러스터 모드가 꺼져 있으면 Redis로 발행하지 않는다")
+    void sendToUser_ClusterDisabled_DoesNotPublish() {
+        // given
+        SseConfig config = new SseConfig();
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        SseService service = new SseService(new SseClusterPublisher(redisTemplate, objectMapper, config),
+                new SseDispatcher(config, Runnable::run), config,
+                new SseEventIdGenerator(redisTemplate, config), new SseReplayBuffer(config), objectMapper);
+
+        // when
+        service.sendToUser(1L, "NEW_CHAT_MESSAGE", Map.of("content", "hi"));
+
+        // then
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    private SseService createNode(boolean clusterEnabled) {
+        SseConfig config = new SseConfig();
+        config.getCluster().setEnabled(clusterEnabled);
+
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        doAnswer(invocation -> {
+            String channel = invocation.getArgument(0);
+            String body = invocation.getArgument(1);
+            DefaultMessage message = new DefaultMessage(
+                    channel.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+            bus.forEach(subscriber -> subscriber.onMessage(message, null));
+            return 1L;
+        }).when(redisTemplate).convertAndSend(anyString(), anyString());
+
+        SseClusterPublisher publisher = new SseClusterPublisher(redisTemplate, objectMapper, config);
+        // 디스패처는 호출 스레드에서 바로 실행해 전송 결과를 즉시 검증
+        SseService service = new SseService(publisher, new SseDispatcher(config, Runnable::run), config,
+                new SseEventIdGenerator(redisTemplate, config), new SseReplayBuffer(config), objectMapper);
+        bus.add(new SseClusterSubscriber(service, publisher,
+                mock(RedisMessageListenerContainer.class), objectMapper, config));
+        return service;
+    }
+
+    /**
+     * 전송된 SSE 프레임을 문자열로 기록하는 테스트용 emitter
+     */
+    static class RecordingEmitter extends SseEmitter {
+        final List<String> frames = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            frames.add(builder.build().stream()
+                    .map(part -> part.getData() instanceof byte[] bytes
+                            ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.pickteam.service.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pickteam.config.SseConfig;
+import com.pickteam.dto.sse.SseClusterMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * SSE 이벤트 묶음 전송 테스트
+ */
+class SseCoalescingTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("window 안에 모인 이벤트는 하나의 batch 이벤트로 전송된다")
+    void coalesce_Burst_SendsSingleBatchFrame() {
+        // given
+        SseConfig config = coalescingConfig(Duration.ZERO);
+        PausedExecutor executor = new PausedExecutor();
+        SseDispatcher dispatcher = new SseDispatcher(config, executor);
+        SseService service = createService(config, dispatcher);
+        RecordingEmitter emitter = new RecordingEmitter();
+        service.register(1L, emitter);
+
+        // when
+        for (int i = 1; i <= 5; i++) {
+            service.sendToUser(1L, "NEW_CHAT_MESSAGE", Map.of("content", "m" + i));
+        }
+        executor.runAll();
+
+        // then
+        assertThat(emitter.frames).hasSize(1);
+        String frame = emitter.frames.get(0);
+        assertThat(frame).contains("event:batch");
+        assertThat(frame.indexOf("m1")).isLessThan(frame.indexOf("m5"));
+        assertThat(frame.split("\"event\":\"NEW_CHAT_MESSAGE\"", -1)).hasSize(6);
+        assertThat(dispatcher.getStats().get("framesSent")).isEqualTo(1L);
+        assertThat(dispatcher.getStats().get("deliveredEvents")).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 받은 JSON 데이터는 batch 안에서 다시 인코딩되지 않는다")
+    void coalesce_ClusterPayload_IsEmbeddedAsRawJson() {
+        // given
+        SseConfig config = coalescingConfig(Duration.ZERO);
+        PausedExecutor executor = new PausedExecutor();
+        SseService service = createService(config, new SseDispatcher(config, executor));
+        RecordingEmitter emitter = new RecordingEmitter();
+        service.register(1L, emitter);
+
+        // when
+        for (long id = 1; id <= 2; id++) {
+            service.deliverClusterMessage(SseClusterMessage.builder()
+                    .eventId(id)
+                    .accountIds(Set.of(1L))
+                    .eventName("NEW_CHAT_MESSAGE")
+                    .payload("{\"messageId\":" + id + "}")
+                    .jsonPayload(true)
+                    .build());
+        }
+        executor.runAll();
+
+        // then
+        assertThat(emitter.frames).hasSize(1);
+        assertThat(emitter.frames.get(0))
+                .contains("id:2")
+                .contains("\"data\":{\"messageId\":1}")
+                .contains("\"data\":{\"messageId\":2}");
+    }
+
+    @Test
+    @DisplayName("단건 이벤트와 묶음 모드 비활성 시에는 기존처럼 이벤트별로 전송된다")
+    void coalesce_Disabled_SendsFramePerEvent() {
+        // given
+        SseConfig config = new SseConfig();
+        PausedExecutor executor = new PausedExecutor();
+        SseDispatcher dispatcher = new SseDispatcher(config, executor);
+        SseService service = createService(config, dispatcher);
+        RecordingEmitter emitter = new RecordingEmitter();
+        service.register(1L, emitter);
+
+        // when
+        for (int i = 1; i <= 3; i++) {
+            service.sendToUser(1L, "NEW_CHAT_MESSAGE", "m" + i);
+        }
+        executor.runAll();
+
+        // then
+        assertThat(emitter.frames).hasSize(3);
+        assertThat(emitter.frames).noneMatch(frame -> frame.contains("event:batch"));
+    }
+
+    @Test
+    @DisplayName("폭주 상황에서 메시지당 프레임 수가 줄어든다")
+    void coalesce_BurstWithRealDispatcher_ReducesFramesPerMessage() throws Exception {
+        // given
+        int burst = 200;
+        SseConfig config = coalescingConfig(Duration.ofMillis(50));
+        SseDispatcher dispatcher = new SseDispatcher(config);
+        SseService service = createService(config, dispatcher);
+        service.register(1L, new RecordingEmitter());
+
+        try {
+            // when
+            for (int i = 0; i < burst; i++) {
+                service.sendToUser(1L, "NEW_CHAT_MESSAGE", Map.of("seq", i));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while ((long) dispatcher.getStats().get("deliveredEvents") < burst && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            // then
+            long frames = (long) dispatcher.getStats().get("framesSent");
+            assertThat(dispatcher.getStats().get("deliveredEvents")).isEqualTo((long) burst);
+            assertThat((double) frames / burst).isLessThan(0.5);
+        } finally {
+            dispatcher.shutdown();
+        }
+    }
+
+    private SseConfig coalescingConfig(Duration window) {
+        SseConfig config = new SseConfig();
+        config.getCoalesce().setEnabled(true);
+        config.getCoalesce().setWindow(window);
+        return config;
+    }
+
+    private SseService createService(SseConfig config, SseDispatcher dispatcher) {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        return new SseService(new SseClusterPublisher(redisTemplate, objectMapper, config),
+                dispatcher, config,
+                new SseEventIdGenerator(redisTemplate, config), new SseReplayBuffer(config), objectMapper);
+    }
+
+    /**
+     * 제출된 작업을 보관했다가 runAll() 호출 시 실행하는 테스트용 executor
+     */
+    static class PausedExecutor implements Executor {
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.remove(0).run();
+            }
+        }
+    }
+
+    /**
+     * 전송된 SSE 프레임을 기록하는 테스트용 emitter (객체 데이터는 JSON으로 직렬화해 기록)
+     */
+    class RecordingEmitter extends SseEmitter {
+        final List<String> frames = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            StringBuilder frame = new StringBuilder();
+            for (var part : builder.build()) {
+                Object data = part.getData();
+                if (data instanceof String text) {
+                    frame.append(text);
+                } else if (data instanceof byte[] bytes) {
+                    frame.append(new String(bytes, StandardCharsets.UTF_8));
+                } else {
+                    frame.append(toJson(data));
+                }
+            }
+            frames.add(frame.toString());
+        }
+
+        private String toJson(Object data) {
+            try {
+                return objectMapper.writeValueAsString(data);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
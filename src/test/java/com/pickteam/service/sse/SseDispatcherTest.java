@@ -0,0 +1,202 @@
+package com.pickteam.service.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pickteam.config.SseConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * SSE 비동기 디스패처 테스트
+ * - 요청 스레드는 적재만 하는지, 큐 초과 정책이 동작하는지 검증
+ */
+class SseDispatcherTest {
+
+    @Test
+    @DisplayName("느린 클라이언트가 있어도 호출 스레드는 블로킹되지 않고 다른 세션은 전송받는다")
+    void sendToUsers_SlowClient_DoesNotBlockCaller() throws Exception {
+        // given
+        SseConfig config = new SseConfig();
+        SseDispatcher dispatcher = new SseDispatcher(config);
+        SseService service = createService(config, dispatcher);
+
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch fastReceived = new CountDownLatch(1);
+        service.register(1L, new BlockingEmitter(release));
+        RecordingEmitter fastEmitter = new RecordingEmitter(fastReceived);
+        service.register(2L, fastEmitter);
+
+        try {
+            // when
+            long start = System.nanoTime();
+            service.sendToUsers(Set.of(1L, 2L), "NEW_CHAT_MESSAGE", Map.of("content", "hi"));
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // then
+            assertThat(elapsedMs).isLessThan(500);
+            assertThat(fastReceived.await(2, TimeUnit.SECONDS)).isTrue();
+            assertThat(fastEmitter.frames).hasSize(1);
+        } finally {
+            release.countDown();
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST 정책은 큐가 가득 차면 가장 오래된 이벤트를 버린다")
+    void enqueue_DropOldest_KeepsLatestEvents() {
+        // given
+        SseConfig config = new SseConfig();
+        config.getDispatch().setQueueCapacity(3);
+        PausedExecutor executor = new PausedExecutor();
+        SseDispatcher dispatcher = new SseDispatcher(config, executor);
+        SseService service = createService(config, dispatcher);
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        service.register(1L, emitter);
+
+        // when
+        for (int i = 1; i <= 5; i++) {
+            service.sendToUser(1L, "alert", "message-" + i);
+        }
+        executor.runAll();
+
+        // then
+        assertThat(emitter.frames).hasSize(3);
+        assertThat(emitter.frames.get(0)).contains("message-3");
+        assertThat(emitter.frames.get(2)).contains("message-5");
+        assertThat(dispatcher.getStats().get("droppedEvents")).isEqualTo(2L);
+        assertThat(dispatcher.getStats().get("deliveredEvents")).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("DISCONNECT 정책은 큐가 가득 차면 해당 세션 연결을 끊는다")
+    void enqueue_Disconnect_ClosesSlowSession() {
+        // given
+        SseConfig config = new SseConfig();
+        config.getDispatch().setQueueCapacity(2);
+        config.getDispatch().setOverflowPolicy(SseConfig.OverflowPolicy.DISCONNECT);
+        PausedExecutor executor = new PausedExecutor();
+        SseDispatcher dispatcher = new SseDispatcher(config, executor);
+        SseService service = createService(config, dispatcher);
+        service.register(1L, new RecordingEmitter(null));
+
+        // when
+        for (int i = 1; i <= 3; i++) {
+            service.sendToUser(1L, "alert", "message-" + i);
+        }
+
+        // then
+        assertThat(service.getConnectionStatus().get("totalEmitters")).isEqualTo(0);
+        assertThat(dispatcher.getStats().get("overflowDisconnects")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("전송 지연 및 큐 적재량 지표가 상세 상태에 포함된다")
+    void getDetailedConnectionStatus_IncludesDispatchMetrics() {
+        // given
+        SseConfig config = new SseConfig();
+        PausedExecutor executor = new PausedExecutor();
+        SseDispatcher dispatcher = new SseDispatcher(config, executor);
+        SseService service = createService(config, dispatcher);
+        service.register(1L, new RecordingEmitter(null));
+        service.sendToUser(1L, "alert", "first");
+        service.sendToUser(1L, "alert", "second");
+
+        // when
+        Map<String, Object> pending = service.getDetailedConnectionStatus();
+        executor.runAll();
+        Map<String, Object> drained = service.getDetailedConnectionStatus();
+
+        // then
+        assertThat(pending.get("totalQueuedEvents")).isEqualTo(2);
+        assertThat(pending.get("maxQueueDepth")).isEqualTo(2);
+        assertThat(drained.get("totalQueuedEvents")).isEqualTo(0);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> dispatch = (Map<String, Object>) drained.get("dispatch");
+        assertThat(dispatch.get("deliveredEvents")).isEqualTo(2L);
+        assertThat(dispatch).containsKeys("avgDeliveryLatencyMs", "maxDeliveryLatencyMs");
+    }
+
+    private SseService createService(SseConfig config, SseDispatcher dispatcher) {
+        SseClusterPublisher publisher = new SseClusterPublisher(
+                mock(StringRedisTemplate.class), new ObjectMapper(), config);
+        return new SseService(publisher, dispatcher, config,
+                new SseEventIdGenerator(mock(StringRedisTemplate.class), config), new SseReplayBuffer(config), new ObjectMapper());
+    }
+
+    /**
+     * 제출된 작업을 보관했다가 runAll() 호출 시 실행하는 테스트용 executor
+     */
+    static class PausedExecutor implements Executor {
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.remove(0).run();
+            }
+        }
+    }
+
+    /**
+     * 전송된 SSE 프레임을 기록하는 테스트용 emitter
+     */
+    static class RecordingEmitter extends SseEmitter {
+        final List<String> frames = new CopyOnWriteArrayList<>();
+        private final CountDownLatch received;
+
+        RecordingEmitter(CountDownLatch received) {
+            this.received = received;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            frames.add(builder.build().stream()
+                    .map(part -> part.getData() instanceof byte[] bytes
+                            ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+            if (received != null) {
+                received.countDown();
+            }
+        }
+    }
+
+    /**
+     * 소켓 쓰기가 멈춘 느린 클라이언트를 흉내 내는 emitter
+     */
+    static class BlockingEmitter extends SseEmitter {
+        private final CountDownLatch release;
+
+        BlockingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.pickteam.service.sse;
+
+import com.pickteam.config.SseConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * SSE 이벤트 ID 발급기 테스트
+ * Redis 스크립트는 같은 규칙(저장값과 하한 중 큰 값 + 1)을 흉내 내는 스텁으로 대신한다
+ */
+class SseEventIdGeneratorTest {
+
+    @Test
+    @DisplayName("Redis 장애 전후로 발급된 ID가 계속 증가한다")
+    void nextId_RedisOutageAndRecovery_StaysMonotonic() {
+        // given
+        SseConfig config = new SseConfig();
+        config.getCluster().setEnabled(true);
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        AtomicLong stored = new AtomicLong();
+        AtomicBoolean redisDown = new AtomicBoolean(false);
+        doAnswer(invocation -> {
+            if (redisDown.get()) {
+                throw new RedisConnectionFailureException("down");
+            }
+            long floor = Long.parseLong((String) invocation.getArgument(2));
+            return stored.updateAndGet(current -> Math.max(current, floor) + 1);
+        }).when(redisTemplate).execute(any(RedisScript.class), anyList(), any());
+        SseEventIdGenerator generator = new SseEventIdGenerator(redisTemplate, config);
+
+        // when
+        long beforeOutage = generator.nextId();
+        redisDown.set(true);
+        long duringOutage1 = generator.nextId();
+        long duringOutage2 = generator.nextId();
+        redisDown.set(false);
+        long afterRecovery = generator.nextId();
+
+        // then
+        assertThat(List.of(beforeOutage, duringOutage1, duringOutage2, afterRecovery)).isSorted();
+        assertThat(duringOutage1).isGreaterThan(beforeOutage);
+        assertThat(afterRecovery).isGreaterThan(duringOutage2);
+        assertThat(stored.get()).isEqualTo(afterRecovery);
+    }
+
+    @Test
+    @DisplayName("Redis 순번은 시각 기반 하한에서 시작한다")
+    void nextId_EmptyRedisKey_StartsFromTimeBase() {
+        // given
+        SseConfig config = new SseConfig();
+        config.getCluster().setEnabled(true);
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        AtomicLong stored = new AtomicLong();
+        doAnswer(invocation -> {
+            long floor = Long.parseLong((String) invocation.getArgument(2));
+            return stored.updateAndGet(current -> Math.max(current, floor) + 1);
+        }).when(redisTemplate).execute(any(RedisScript.class), anyList(), any());
+        long startMillis = System.currentTimeMillis();
+
+        // when
+        long id = new SseEventIdGenerator(redisTemplate, config).nextId();
+
+        // then
+        assertThat(id).isGreaterThan(startMillis * 1000);
+    }
+}
@@ -0,0 +1,166 @@
+package com.pickteam.service.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pickteam.config.SseConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * SSE 하트비트 및 연결 정리 테스트
+ */
+class SseHeartbeatTest {
+
+    @Test
+    @DisplayName("유휴 연결에는 주석 프레임 하트비트를 보낸다")
+    void sendHeartbeats_IdleConnection_SendsCommentFrame() {
+        // given
+        SseConfig config = new SseConfig();
+        config.getHeartbeat().setInterval(Duration.ZERO);
+        SseService service = createService(config, new SseDispatcher(config, Runnable::run));
+        RecordingEmitter emitter = new RecordingEmitter();
+        service.register(1L, emitter);
+
+        // when
+        int sent = service.sendHeartbeats();
+
+        // then
+        assertThat(sent).isEqualTo(1);
+        assertThat(emitter.frames).containsExactly(":heartbeat\n\n");
+    }
+
+    @Test
+    @DisplayName("최근 전송이 있었던 연결에는 하트비트를 보내지 않는다")
+    void sendHeartbeats_RecentlyActive_Skips() {
+        // given
+        SseConfig config = new SseConfig();
+        config.getHeartbeat().setInterval(Duration.ofHours(1));
+        SseService service = createService(config, new SseDispatcher(config, Runnable::run));
+        RecordingEmitter emitter = new RecordingEmitter();
+        service.register(1L, emitter);
+
+        // when
+        int sent = service.sendHeartbeats();
+
+        // then
+        assertThat(sent).isZero();
+        assertThat(emitter.frames).isEmpty();
+    }
+
+    @Test
+    @DisplayName("하트비트 전송에 실패한 끊긴 소켓은 정리되고 정리 수가 집계된다")
+    void sendHeartbeats_DeadSocket_IsEvicted() {
+        // given
+        SseConfig config = new SseConfig();
+        config.getHeartbeat().setInterval(Duration.ZERO);
+        SseService service = createService(config, new SseDispatcher(config, Runnable::run));
+        service.register(1L, new DeadEmitter());
+        service.register(2L, new RecordingEmitter());
+
+        // when
+        service.sendHeartbeats();
+
+        // then
+        Map<String, Object> gauges = service.getConnectionGauges();
+        assertThat(gauges.get("activeEmitters")).isEqualTo(1);
+        assertThat(gauges.get("activeUsers")).isEqualTo(1);
+        assertThat(gauges.get("evictionsLastMinute")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("한 번의 점검에서는 batchSize만큼만 하트비트를 보낸다")
+    void sendHeartbeats_RespectsBatchSize() {
+        // given
+        SseConfig config = new SseConfig();
+        config.getHeartbeat().setInterval(Duration.ZERO);
+        config.getHeartbeat().setBatchSize(2);
+        SseService service = createService(config, new SseDispatcher(config, new PausedExecutor()));
+        for (long accountId = 1; accountId <= 5; accountId++) {
+            service.register(accountId, new RecordingEmitter());
+        }
+
+        // when
+        int first = service.sendHeartbeats();
+
+        // then
+        assertThat(first).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대기 이벤트가 오래 전송되지 않는 정체 연결은 정리된다")
+    void evictStaleConnections_StalledQueue_IsEvicted() {
+        // given
+        SseConfig config = new SseConfig();
+        config.getHeartbeat().setStaleTimeout(Duration.ofMillis(-1));
+        PausedExecutor executor = new PausedExecutor();
+        SseService service = createService(config, new SseDispatcher(config, executor));
+        service.register(1L, new RecordingEmitter());
+        service.register(2L, new RecordingEmitter());
+        service.sendToUser(1L, "alert", "stuck");
+
+        // when
+        int evicted = service.evictStaleConnections();
+
+        // then
+        assertThat(evicted).isEqualTo(1);
+        assertThat(service.getConnectionGauges().get("activeEmitters")).isEqualTo(1);
+    }
+
+    private SseService createService(SseConfig config, SseDispatcher dispatcher) {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        return new SseService(new SseClusterPublisher(redisTemplate, new ObjectMapper(), config),
+                dispatcher, config,
+                new SseEventIdGenerator(redisTemplate, config), new SseReplayBuffer(config), new ObjectMapper());
+    }
+
+    /**
+     * 제출된 작업을 실행하지 않고 보관만 하는 테스트용 executor
+     */
+    static class PausedExecutor implements Executor {
+        private final List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+    }
+
+    /**
+     * 전송된 SSE 프레임을 문자열로 기록하는 테스트용 emitter
+     */
+    static class RecordingEmitter extends SseEmitter {
+        final List<String> frames = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            frames.add(builder.build().stream()
+                    .map(part -> part.getData() instanceof byte[] bytes
+                            ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+    }
+
+    /**
+     * 이미 끊긴 소켓처럼 항상 전송에 실패하는 emitter
+     */
+    static class DeadEmitter extends SseEmitter {
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            throw new IOException("Broken pipe");
+        }
+    }
+}
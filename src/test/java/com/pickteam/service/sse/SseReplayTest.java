@@ -0,0 +1,201 @@
+package com.pickteam.service.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pickteam.config.SseConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * SSE 재연결 재전송 테스트
+ * - Last-Event-ID 이후 누락 구간만 다시 보내는지, 범위를 벗어나면 RESYNC를 요청하는지 검증
+ * - 보관 시간이 지난 사용자 링이 정리되는지 검증
+ */
+class SseReplayTest {
+
+    private static final Pattern EVENT_ID = Pattern.compile("id:(\\d+)");
+
+    @Test
+    @DisplayName("재연결 시 Last-Event-ID 이후에 발생한 이벤트만 재전송된다")
+    void connect_WithLastEventId_ReplaysOnlyGap() {
+        // given
+        SseConfig config = new SseConfig();
+        SseService service = createService(config);
+        RecordingEmitter first = new RecordingEmitter();
+        service.register(1L, first);
+        service.sendToUser(1L, "NEW_CHAT_MESSAGE", "m1");
+        service.sendToUser(1L, "NEW_CHAT_MESSAGE", "m2");
+        long lastEventId = eventIdOf(first.frames.get(1));
+        service.disconnect(1L);
+
+        // 연결이 끊긴 동안 발생한 이벤트
+        service.sendToUser(1L, "NEW_CHAT_MESSAGE", "m3");
+        service.sendToUser(1L, "CHAT_MESSAGE_DELETED", "m4");
+
+        // when
+        RecordingEmitter resumed = new RecordingEmitter();
+        service.register(1L, resumed, lastEventId);
+
+        // then
+        assertThat(resumed.frames).hasSize(2);
+        assertThat(resumed.frames.get(0)).contains("m3");
+        assertThat(resumed.frames.get(1)).contains("m4").contains("event:CHAT_MESSAGE_DELETED");
+        assertThat(eventIdOf(resumed.frames.get(0))).isGreaterThan(lastEventId);
+    }
+
+    @Test
+    @DisplayName("다른 사용자 이벤트와 전체 브로드캐스트를 구분해 재전송한다")
+    void connect_WithLastEventId_IncludesBroadcastButNotOthers() {
+        // given
+        SseConfig config = new SseConfig();
+        SseService service = createService(config);
+        RecordingEmitter first = new RecordingEmitter();
+        service.register(1L, first);
+        service.sendToUser(1L, "NEW_CHAT_MESSAGE", "mine");
+        long lastEventId = eventIdOf(first.frames.get(0));
+        service.disconnect(1L);
+
+        service.sendToUser(2L, "NEW_CHAT_MESSAGE", "others");
+        service.broadcastToAll("SYSTEM_ANNOUNCEMENT", "notice");
+        service.sendToUsers(Set.of(1L, 2L), "NEW_CHAT_MESSAGE", "group");
+
+        // when
+        RecordingEmitter resumed = new RecordingEmitter();
+        service.register(1L, resumed, lastEventId);
+
+        // then
+        assertThat(resumed.frames).hasSize(2);
+        assertThat(resumed.frames.get(0)).contains("notice");
+        assertThat(resumed.frames.get(1)).contains("group");
+    }
+
+    @Test
+    @DisplayName("누락 구간이 보관 범위를 벗어나면 RESYNC_REQUIRED 이벤트를 보낸다")
+    void connect_GapEvicted_SendsResyncRequired() {
+        // given
+        SseConfig config = new SseConfig();
+        config.getReplay().setCapacityPerAccount(2);
+        SseService service = createService(config);
+        RecordingEmitter first = new RecordingEmitter();
+        service.register(1L, first);
+        service.sendToUser(1L, "NEW_CHAT_MESSAGE", "m1");
+        long lastEventId = eventIdOf(first.frames.get(0));
+        service.disconnect(1L);
+
+        for (int i = 0; i < 5; i++) {
+            service.sendToUser(1L, "NEW_CHAT_MESSAGE", "missed-" + i);
+        }
+
+        // when
+        RecordingEmitter resumed = new RecordingEmitter();
+        service.register(1L, resumed, lastEventId);
+
+        // then
+        assertThat(resumed.frames).hasSize(1);
+        assertThat(resumed.frames.get(0)).contains("event:RESYNC_REQUIRED");
+    }
+
+    @Test
+    @DisplayName("이 노드가 알지 못하는 Last-Event-ID로 재연결하면 RESYNC_REQUIRED 이벤트를 보낸다")
+    void connect_UnknownLastEventId_SendsResyncRequired() {
+        // given
+        SseService service = createService(new SseConfig());
+
+        // when
+        RecordingEmitter resumed = new RecordingEmitter();
+        service.register(1L, resumed, 42L);
+
+        // then
+        assertThat(resumed.frames).hasSize(1);
+        assertThat(resumed.frames.get(0)).contains("event:RESYNC_REQUIRED");
+    }
+
+    @Test
+    @DisplayName("재전송 중 보류된 실시간 이벤트는 재전송분과 중복되지 않게 이어서 적재된다")
+    void finishReplay_SkipsEventsAlreadyReplayed() {
+        // given
+        SseConnection connection = new SseConnection(1L, "session", new RecordingEmitter(), 10, () -> { });
+        connection.beginReplay();
+        SseOutboundEvent duplicated = new SseOutboundEvent(5L, "alert", "dup", null);
+        SseOutboundEvent fresh = new SseOutboundEvent(6L, "alert", "fresh", null);
+
+        // when
+        boolean heldDuplicated = connection.holdIfReplaying(duplicated);
+        boolean heldFresh = connection.holdIfReplaying(fresh);
+        List<SseOutboundEvent> flushed = new ArrayList<>();
+        connection.finishReplay(Set.of(5L), flushed::add);
+
+        // then
+        assertThat(heldDuplicated).isTrue();
+        assertThat(heldFresh).isTrue();
+        assertThat(flushed).containsExactly(fresh);
+        assertThat(connection.holdIfReplaying(new SseOutboundEvent(7L, "alert", "live", null))).isFalse();
+    }
+
+    @Test
+    @DisplayName("보관 시간이 지난 사용자 링은 정리되고, 밀려난 구간은 재전송 불가로 남는다")
+    void evictExpiredRings_RemovesExpiredRingsAndRaisesFloor() {
+        // given
+        SseConfig config = new SseConfig();
+        SseReplayBuffer buffer = new SseReplayBuffer(config);
+        buffer.record(1L, new SseOutboundEvent(1L, "alert", "a", null));
+        buffer.record(2L, new SseOutboundEvent(2L, "alert", "b", null));
+        long now = System.currentTimeMillis();
+
+        // when
+        int kept = buffer.evictExpiredRings(now);
+        int evicted = buffer.evictExpiredRings(now + config.getReplay().getTtl().toMillis() + 1_000);
+
+        // then
+        assertThat(kept).isZero();
+        assertThat(evicted).isEqualTo(2);
+        assertThat(buffer.getStats().get("trackedAccounts")).isEqualTo(0);
+        assertThat(buffer.eventsAfter(1L, 1L).isComplete()).isFalse();
+
+        buffer.record(1L, new SseOutboundEvent(3L, "alert", "c", null));
+        SseReplayBuffer.ReplayResult resumed = buffer.eventsAfter(1L, 2L);
+        assertThat(resumed.isComplete()).isTrue();
+        assertThat(resumed.getEvents()).extracting(SseOutboundEvent::getId).containsExactly(3L);
+    }
+
+    private SseService createService(SseConfig config) {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        return new SseService(new SseClusterPublisher(redisTemplate, new ObjectMapper(), config),
+                new SseDispatcher(config, Runnable::run), config,
+                new SseEventIdGenerator(redisTemplate, config), new SseReplayBuffer(config), new ObjectMapper());
+    }
+
+    private long eventIdOf(String frame) {
+        Matcher matcher = EVENT_ID.matcher(frame);
+        assertThat(matcher.find()).isTrue();
+        return Long.parseLong(matcher.group(1));
+    }
+
+    /**
+     * 전송된 SSE 프레임을 문자열로 기록하는 테스트용 emitter
+     */
+    static class RecordingEmitter extends SseEmitter {
+        final List<String> frames = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            frames.add(builder.build().stream()
+                    .map(part -> part.getData() instanceof byte[] bytes
+                            ? new String(bytes, StandardCharsets.UTF_8) : String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.pickteam.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 칸반 정렬 키 테스트
+ */
+class LexoRankTest {
+
+    @Test
+    @DisplayName("임의의 위치에 계속 끼워 넣어도 항상 두 키 사이의 유효한 키를 만든다")
+    void between_RandomInserts_KeepsOrder() {
+        // given
+        Random random = new Random(42);
+        List<String> ranks = new ArrayList<>(LexoRank.evenlySpaced(3));
+
+        // when
+        for (int i = 0; i < 2_000; i++) {
+            int index = random.nextInt(ranks.size() + 1);
+            String prev = index == 0 ? null : ranks.get(index - 1);
+            String next = index == ranks.size() ? null : ranks.get(index);
+            String rank = LexoRank.between(prev, next);
+
+            // then
+            assertThat(LexoRank.isValid(rank)).isTrue();
+            if (prev != null) {
+                assertThat(rank).isGreaterThan(prev);
+            }
+            if (next != null) {
+                assertThat(rank).isLessThan(next);
+            }
+            ranks.add(index, rank);
+        }
+        assertThat(ranks).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("맨 앞/맨 뒤에 반복해서 추가해도 키가 유효하다")
+    void beforeAndAfter_Repeated_KeepsOrder() {
+        String first = "i";
+        String last = "i";
+        for (int i = 0; i < 200; i++) {
+            String before = LexoRank.before(first);
+            String after = LexoRank.after(last);
+            assertThat(before).isLessThan(first);
+            assertThat(after).isGreaterThan(last);
+            first = before;
+            last = after;
+        }
+        assertThat(LexoRank.isValid(first)).isTrue();
+        assertThat(LexoRank.isValid(last)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재배치 키는 정렬되어 있고 서로 다르며 사이에 여유가 있다")
+    void evenlySpaced_SortedDistinctWithRoom() {
+        for (int count : new int[]{1, 3, 35, 36, 1_000, 50_000}) {
+            List<String> ranks = LexoRank.evenlySpaced(count);
+
+            assertThat(ranks).hasSize(count).isSorted().doesNotHaveDuplicates();
+            assertThat(ranks).allMatch(LexoRank::isValid);
+            int width = ranks.stream().mapToInt(String::length).max().orElse(0);
+            for (int i = 1; i < ranks.size(); i++) {
+                String mid = LexoRank.between(ranks.get(i - 1), ranks.get(i));
+                assertThat(mid.length()).isLessThanOrEqualTo(width + 1);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("순서가 뒤집힌 키나 형식이 잘못된 키는 거부한다")
+    void between_InvalidInput_Rejected() {
+        assertThatThrownBy(() -> LexoRank.between("b", "a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LexoRank.between("a", "a")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LexoRank.between("a0", null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LexoRank.between("A", null)).isInstanceOf(IllegalArgumentException.class);
+    }
+}